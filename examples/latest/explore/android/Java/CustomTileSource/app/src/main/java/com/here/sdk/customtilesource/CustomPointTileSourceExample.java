@@ -33,11 +33,23 @@ import com.here.sdk.mapview.MapCameraLimits;
  import com.here.sdk.mapview.MapView;
  import com.here.sdk.mapview.Style;
  import com.here.sdk.mapview.datasource.PointTileDataSource;
+ import com.here.sdk.mapview.datasource.PointTileSource;
+
+ import java.util.ArrayList;
+ import java.util.List;
+ import java.util.Random;
 
  public class CustomPointTileSourceExample {
 
      private static final float DEFAULT_DISTANCE_TO_EARTH_IN_METERS = 60 * 1000;
 
+     // Set to false to show the points generated per tile by LocalPointTileSource instead of a static data set.
+     private static final boolean USE_POINT_DATA_SET = true;
+     // The size of the static point data set, and how many of its points are shown at most per tile.
+     private static final int POINT_DATA_SET_SIZE = 20000;
+     private static final int MAX_POINTS_PER_TILE = 16;
+     private static final GeoCoordinates POINT_DATA_SET_CENTER = new GeoCoordinates(52.530932, 13.384915);
+
      // Style for layer with 'technique' equal to 'icon-text', 'layer' field equal to name of
      // map layer constructed later in code and 'text' attribute govern by 'pointText' data
      // attribute to be able to customize/modify the text of points.
@@ -69,7 +81,7 @@ import com.here.sdk.mapview.MapCameraLimits;
 
          MapCamera camera = mapView.getCamera();
          MapMeasure mapMeasureZoom = new MapMeasure(MapMeasure.Kind.DISTANCE_IN_METERS, DEFAULT_DISTANCE_TO_EARTH_IN_METERS);
-         camera.lookAt(new GeoCoordinates(52.530932, 13.384915), mapMeasureZoom);
+         camera.lookAt(POINT_DATA_SET_CENTER, mapMeasureZoom);
 
          String dataSourceName = "MyPointTileDataSource";
          pointDataSource = createPointDataSource(dataSourceName);
@@ -87,7 +99,24 @@ import com.here.sdk.mapview.MapCameraLimits;
      private PointTileDataSource createPointDataSource(String dataSourceName) {
          // Create a PointTileDataSource using a local point tile source.
          // Note that this will make the point source already known to the passed map view.
-         return PointTileDataSource.create(mapView.getMapContext(), dataSourceName, new LocalPointTileSource());
+         PointTileSource pointTileSource = USE_POINT_DATA_SET
+                 ? new QuadtreePointTileSource(createPointDataSet(), MAX_POINTS_PER_TILE)
+                 : new LocalPointTileSource();
+         return PointTileDataSource.create(mapView.getMapContext(), dataSourceName, pointTileSource);
+     }
+
+     // Creates a static point data set around the initial camera target. In a real app, the points would be
+     // read from a local file, for example.
+     private static List<QuadtreePointTileSource.LocalPoint> createPointDataSet() {
+         Random random = new Random(42);
+         List<QuadtreePointTileSource.LocalPoint> points = new ArrayList<>(POINT_DATA_SET_SIZE);
+         for (int i = 0; i < POINT_DATA_SET_SIZE; i++) {
+             // Denser towards the center, up to about 50 km away from it.
+             double latitude = POINT_DATA_SET_CENTER.latitude + 0.2 * random.nextGaussian();
+             double longitude = POINT_DATA_SET_CENTER.longitude + 0.3 * random.nextGaussian();
+             points.add(new QuadtreePointTileSource.LocalPoint(new GeoCoordinates(latitude, longitude), "#" + i));
+         }
+         return points;
      }
 
      // Creates a MapLayer for displaying custom point tiles.
@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.sdk.mapview.datasource.TileKey;
+import com.here.sdk.mapview.datasource.TileSource;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Collects metrics about the `loadTile()` calls of one or more tile sources, for example to see how
+ * a tile source behaves while the camera moves.
+ *
+ * The tracer is fed by the tracing wrappers `TracingRasterTileSource`, `TracingLineTileSource` and
+ * `TracingPointTileSource`, which only report the results of their requests, see `Request`. It records the request rate, the number of failed and cancelled requests,
+ * duplicate requests for tiles that are still loading, and the latency from `loadTile()` to the result
+ * per storage level. All counters and histograms are lock-free. Tracing is disabled by default, in which
+ * case the wrappers forward all calls without recording anything.
+ *
+ * Call `toJson()` to dump the collected metrics, for example to the log.
+ */
+public class TileRequestTracer {
+
+    // Tile levels are in the range [0, MAX_LEVEL].
+    private static final int MAX_LEVEL = 31;
+
+    private volatile boolean mEnabled;
+
+    private final AtomicLong mFirstRequestNanos = new AtomicLong();
+    private final AtomicLong mLastRequestNanos = new AtomicLong();
+    private final AtomicLong mRequests = new AtomicLong();
+    private final AtomicLong mLoaded = new AtomicLong();
+    private final AtomicLong mFailed = new AtomicLong();
+    private final AtomicLong mCancelled = new AtomicLong();
+    private final AtomicLong mDuplicates = new AtomicLong();
+    private final AtomicLongArray mRequestsPerLevel = new AtomicLongArray(MAX_LEVEL + 1);
+    private final LatencyHistogram[] mLatencyPerLevel = new LatencyHistogram[MAX_LEVEL + 1];
+
+    // The tiles which are currently loading per tile source, used to detect duplicate requests.
+    // Each entry is owned by the request that added it.
+    private final ConcurrentHashMap<PendingTile, Request> mPendingTiles = new ConcurrentHashMap<>();
+
+    public TileRequestTracer() {
+        for (int i = 0; i <= MAX_LEVEL; i++) {
+            mLatencyPerLevel[i] = new LatencyHistogram();
+        }
+    }
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    // Identifies a tile of a specific tile source. Tile sources are compared by identity.
+    private static final class PendingTile {
+        private final Object mTileSource;
+        private final TileKey mTileKey;
+
+        PendingTile(@NonNull Object tileSource, @NonNull TileKey tileKey) {
+            mTileSource = tileSource;
+            mTileKey = tileKey;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof PendingTile)) {
+                return false;
+            }
+            PendingTile pendingTile = (PendingTile) other;
+            return mTileSource == pendingTile.mTileSource && mTileKey.equals(pendingTile.mTileKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(mTileSource) + mTileKey.hashCode();
+        }
+    }
+
+    /**
+     * A single traced tile request. Only the first of its completions - loaded, failed or cancelled - is recorded.
+     */
+    class Request {
+        private final PendingTile mPendingTile;
+        private final TileKey mTileKey;
+        private final long mRequestNanos;
+        private final AtomicBoolean mCompleted = new AtomicBoolean();
+
+        private Request(@NonNull PendingTile pendingTile, long requestNanos) {
+            mPendingTile = pendingTile;
+            mTileKey = pendingTile.mTileKey;
+            mRequestNanos = requestNanos;
+        }
+
+        void loaded() {
+            if (complete()) {
+                mLoaded.incrementAndGet();
+                mLatencyPerLevel[clampLevel(mTileKey.level)].record(System.nanoTime() - mRequestNanos);
+            }
+        }
+
+        void failed() {
+            if (complete()) {
+                mFailed.incrementAndGet();
+                mLatencyPerLevel[clampLevel(mTileKey.level)].record(System.nanoTime() - mRequestNanos);
+            }
+        }
+
+        void cancelled() {
+            if (complete()) {
+                mCancelled.incrementAndGet();
+            }
+        }
+
+        /**
+         * Wraps the handle returned by the traced tile source, so that cancelling the request is recorded.
+         */
+        @Nullable
+        TileSource.LoadTileRequestHandle trace(@Nullable final TileSource.LoadTileRequestHandle handle) {
+            if (handle == null) {
+                return null;
+            }
+            return new TileSource.LoadTileRequestHandle() {
+                @Override
+                public void cancel() {
+                    cancelled();
+                    handle.cancel();
+                }
+            };
+        }
+
+        private boolean complete() {
+            if (!mCompleted.compareAndSet(false, true)) {
+                return false;
+            }
+            // Only removes the entry if this request added it, so that completing a duplicate request
+            // doesn't hide the request that is still loading.
+            mPendingTiles.remove(mPendingTile, this);
+            return true;
+        }
+    }
+
+    /**
+     * Records a new tile request of the given tile source.
+     */
+    @NonNull
+    Request onRequest(@NonNull Object tileSource, @NonNull TileKey tileKey) {
+        final long now = System.nanoTime();
+        mFirstRequestNanos.compareAndSet(0, now);
+        mLastRequestNanos.set(now);
+        mRequests.incrementAndGet();
+        mRequestsPerLevel.incrementAndGet(clampLevel(tileKey.level));
+        final Request request = new Request(new PendingTile(tileSource, tileKey), now);
+        if (mPendingTiles.putIfAbsent(request.mPendingTile, request) != null) {
+            mDuplicates.incrementAndGet();
+        }
+        return request;
+    }
+
+    public long getRequestCount() {
+        return mRequests.get();
+    }
+
+    public long getCancelledCount() {
+        return mCancelled.get();
+    }
+
+    public long getDuplicateCount() {
+        return mDuplicates.get();
+    }
+
+    public void reset() {
+        mFirstRequestNanos.set(0);
+        mLastRequestNanos.set(0);
+        mRequests.set(0);
+        mLoaded.set(0);
+        mFailed.set(0);
+        mCancelled.set(0);
+        mDuplicates.set(0);
+        for (int i = 0; i <= MAX_LEVEL; i++) {
+            mRequestsPerLevel.set(i, 0);
+            mLatencyPerLevel[i].reset();
+        }
+        mPendingTiles.clear();
+    }
+
+    /**
+     * Returns the collected metrics as JSON. Levels without requests are omitted.
+     */
+    @NonNull
+    public String toJson() {
+        final long requests = mRequests.get();
+        final long elapsedNanos = mLastRequestNanos.get() - mFirstRequestNanos.get();
+        final double requestsPerSecond = elapsedNanos > 0 ? requests * 1e9 / elapsedNanos : 0;
+
+        StringBuilder json = new StringBuilder(512);
+        json.append("{\"requests\":").append(requests)
+            .append(",\"requestsPerSecond\":").append(Math.round(requestsPerSecond * 10) / 10.0)
+            .append(",\"loaded\":").append(mLoaded.get())
+            .append(",\"failed\":").append(mFailed.get())
+            .append(",\"cancelled\":").append(mCancelled.get())
+            .append(",\"duplicates\":").append(mDuplicates.get())
+            .append(",\"pending\":").append(mPendingTiles.size())
+            .append(",\"levels\":{");
+        boolean first = true;
+        for (int level = 0; level <= MAX_LEVEL; level++) {
+            final long levelRequests = mRequestsPerLevel.get(level);
+            if (levelRequests == 0) {
+                continue;
+            }
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append('"').append(level).append("\":{\"requests\":").append(levelRequests)
+                .append(",\"latency\":");
+            mLatencyPerLevel[level].appendJson(json);
+            json.append('}');
+        }
+        json.append("}}");
+        return json.toString();
+    }
+
+    private static int clampLevel(int level) {
+        return Math.max(0, Math.min(MAX_LEVEL, level));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.sdk.mapview.datasource.PointData;
+import com.here.sdk.mapview.datasource.PointTileSource;
+import com.here.sdk.mapview.datasource.TileKey;
+
+import java.util.List;
+
+/**
+ * Wraps a `PointTileSource` and records its tile requests in a `TileRequestTracer`.
+ * While the tracer is disabled, all calls are forwarded to the wrapped tile source unchanged.
+ */
+public class TracingPointTileSource extends TracingTileSource<PointTileSource> implements PointTileSource {
+
+    public TracingPointTileSource(@NonNull PointTileSource tileSource, @NonNull TileRequestTracer tracer) {
+        super(tileSource, tracer);
+    }
+
+    @Nullable
+    @Override
+    public LoadTileRequestHandle loadTile(@NonNull TileKey tileKey,
+                                          @NonNull final LoadResultHandler loadResultHandler) {
+        final TileRequestTracer.Request request = startRequest(tileKey);
+        if (request == null) {
+            return mTileSource.loadTile(tileKey, loadResultHandler);
+        }
+
+        return request.trace(mTileSource.loadTile(tileKey, new LoadResultHandler() {
+            @Override
+            public void loaded(@NonNull TileKey key, @NonNull List<PointData> data, @NonNull TileMetadata metadata) {
+                request.loaded();
+                loadResultHandler.loaded(key, data, metadata);
+            }
+
+            @Override
+            public void failed(@NonNull TileKey key) {
+                request.failed();
+                loadResultHandler.failed(key);
+            }
+        }));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import androidx.annotation.NonNull;
+
+import com.here.sdk.core.GeoBox;
+
+/**
+ * Normalized Web Mercator projection helpers shared by the data-backed tile sources.
+ *
+ * Projected coordinates are in the range [0, 1], x growing from west to east and y from north to south.
+ * The tiles of `TilingScheme.QUAD_TREE_MERCATOR` at level L are the cells of a 2^L x 2^L grid in this space.
+ */
+final class WebMercator {
+
+    // Web Mercator is only defined up to this latitude, coordinates beyond are clamped.
+    static final double MAX_LATITUDE = 85.05112877980659;
+
+    private WebMercator() {
+    }
+
+    static double x(double longitude) {
+        return (longitude + 180.0) / 360.0;
+    }
+
+    static double y(double latitude) {
+        final double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+        final double sinLatitude = Math.sin(Math.toRadians(clamped));
+        return 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+    }
+
+    static double longitude(double x) {
+        return x * 360.0 - 180.0;
+    }
+
+    static double latitude(double y) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+    }
+
+    /**
+     * Returns the grid cell {x, y} of a tile at the given level, counted from the north-west corner.
+     * The tile bounds are mapped back to the grid, so the result does not depend on the y-axis
+     * orientation of the tile keys.
+     */
+    @NonNull
+    static int[] cellOf(@NonNull GeoBox tileBounds, int level) {
+        final int cellsPerAxis = 1 << level;
+        final int cellX = (int) Math.round(x(tileBounds.southWestCorner.longitude) * cellsPerAxis) & (cellsPerAxis - 1);
+        final int cellY = (int) Math.min(Math.round(y(tileBounds.northEastCorner.latitude) * cellsPerAxis), cellsPerAxis - 1);
+        return new int[] {cellX, cellY};
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.sdk.customtilesource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.here.sdk.core.GeoCoordinates;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+// Clips random tiles at levels 13 to 16 out of a data set of large parcels with holes, as the tile source does
+// for each loaded tile. The simplified polygons of these four levels are computed in the warmup rounds and then
+// kept, so the measured round shows the steady state of a user panning the map. The tiles per second are printed.
+public class ClippedPolygonTileSourceBenchmark {
+
+    private static final int POLYGON_COUNT = 1000;
+    private static final int VERTEX_COUNT = 500;
+    private static final int TILE_COUNT = 2000;
+    private static final int WARMUP_ROUND_COUNT = 5;
+
+    @Test
+    public void clipTileBenchmark() {
+        Random random = new Random(1);
+        List<ClippedPolygonTileSource.LocalPolygon> polygons = new ArrayList<>(POLYGON_COUNT);
+        double[][] centers = new double[POLYGON_COUNT][];
+        for (int i = 0; i < POLYGON_COUNT; i++) {
+            double latitude = 52.5 + random.nextGaussian() * 0.2;
+            double longitude = 13.4 + random.nextGaussian() * 0.3;
+            // Between about 100 m and 2 km across.
+            double radius = 0.001 + random.nextDouble() * 0.01;
+            polygons.add(new ClippedPolygonTileSource.LocalPolygon(
+                    circle(random, latitude, longitude, radius, VERTEX_COUNT),
+                    Collections.singletonList(circle(random, latitude, longitude, radius / 4, VERTEX_COUNT / 4))));
+            centers[i] = new double[] {WebMercator.x(longitude), WebMercator.y(latitude)};
+        }
+        ClippedPolygonTileSource tileSource = new ClippedPolygonTileSource(polygons);
+
+        int[][] tiles = new int[TILE_COUNT][];
+        for (int i = 0; i < TILE_COUNT; i++) {
+            int level = 13 + random.nextInt(4);
+            double[] center = centers[random.nextInt(POLYGON_COUNT)];
+            tiles[i] = new int[] {(int) (center[0] * (1 << level)), (int) (center[1] * (1 << level)), level};
+        }
+
+        long nanos = 0;
+        // Consumes the results, so that the clipping is not optimized away. All rounds produce the same vertices.
+        long firstVertexCount = -1;
+        long vertexCount = 0;
+        for (int round = 0; round <= WARMUP_ROUND_COUNT; round++) {
+            vertexCount = 0;
+            long startNanos = System.nanoTime();
+            for (int[] tile : tiles) {
+                for (double[] ring : tileSource.clipTile(tile[0], tile[1], tile[2])) {
+                    vertexCount += ring.length / 2;
+                }
+            }
+            nanos = System.nanoTime() - startNanos;
+            if (firstVertexCount < 0) {
+                firstVertexCount = vertexCount;
+            }
+        }
+
+        assertTrue(vertexCount > 0);
+        assertEquals(firstVertexCount, vertexCount);
+        System.out.println("ClippedPolygonTileSource.clipTile(), average in nanoseconds per tile: "
+                + nanos / TILE_COUNT + ", tiles per second: " + TILE_COUNT * 1000000000L / nanos
+                + ", vertices per tile: " + vertexCount / TILE_COUNT);
+    }
+
+    private static List<GeoCoordinates> circle(Random random, double latitude, double longitude, double radius,
+                                               int vertexCount) {
+        List<GeoCoordinates> ring = new ArrayList<>(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            double angle = 2 * Math.PI * i / vertexCount;
+            double distance = radius * (0.9 + 0.1 * random.nextDouble());
+            ring.add(new GeoCoordinates(latitude + distance * Math.sin(angle),
+                    longitude + 1.6 * distance * Math.cos(angle)));
+        }
+        return ring;
+    }
+}
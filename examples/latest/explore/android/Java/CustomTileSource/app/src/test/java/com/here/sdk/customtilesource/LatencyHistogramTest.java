@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.sdk.customtilesource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LatencyHistogramTest {
+
+    // Returns the bucket counts from the JSON of the histogram.
+    private static long[] buckets(LatencyHistogram histogram) {
+        StringBuilder json = new StringBuilder();
+        histogram.appendJson(json);
+        String buckets = json.substring(json.indexOf("\"buckets\":[") + 11, json.lastIndexOf("]"));
+        String[] values = buckets.split(",");
+        long[] counts = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            counts[i] = Long.parseLong(values[i]);
+        }
+        return counts;
+    }
+
+    @Test
+    public void valuesAreCountedInPowerOfTwoBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(999);          // Below 1 microsecond.
+        histogram.record(-5000);        // Negative values, e.g. from a clock change, count as 0.
+        histogram.record(1000);         // [1, 2)
+        histogram.record(3999);         // [2, 4)
+        histogram.record(4000);         // [4, 8)
+        histogram.record(1023999);      // [512, 1024)
+        histogram.record(1024000);      // [1024, 2048)
+        histogram.record(Long.MAX_VALUE);
+
+        long[] buckets = buckets(histogram);
+        assertEquals(32, buckets.length);
+        assertEquals(2, buckets[0]);
+        assertEquals(1, buckets[1]);
+        assertEquals(1, buckets[2]);
+        assertEquals(1, buckets[3]);
+        assertEquals(1, buckets[10]);
+        assertEquals(1, buckets[11]);
+        // Values beyond the last bucket are counted in it.
+        assertEquals(1, buckets[31]);
+        assertEquals(8, histogram.getCount());
+    }
+
+    @Test
+    public void percentilesAreTheUpperBoundsOfTheirBucketsLimitedByTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileMicros(50));
+
+        for (int i = 0; i < 90; i++) {
+            histogram.record(10000);    // 10 microseconds, in [8, 16).
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(1000000);  // 1000 microseconds, in [512, 1024).
+        }
+        assertEquals(16, histogram.getPercentileMicros(0));
+        assertEquals(16, histogram.getPercentileMicros(50));
+        assertEquals(16, histogram.getPercentileMicros(90));
+        assertEquals(1000, histogram.getPercentileMicros(91));
+        assertEquals(1000, histogram.getPercentileMicros(100));
+    }
+
+    @Test
+    public void jsonContainsTheSummary() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(2000);
+        histogram.record(6000);
+        StringBuilder json = new StringBuilder();
+        histogram.appendJson(json);
+        assertTrue(json.toString(), json.toString().startsWith(
+                "{\"count\":2,\"meanMicros\":4,\"p50Micros\":4,\"p90Micros\":6,\"p99Micros\":6,\"maxMicros\":6,"));
+    }
+
+    @Test
+    public void resetClearsAllValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5000);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMicros(100));
+        for (long count : buckets(histogram)) {
+            assertEquals(0, count);
+        }
+    }
+
+    @Test
+    public void concurrentRecordingDoesNotLoseValues() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final int recordsPerThread = 100000;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int thread = t;
+            threads.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        histogram.record((i % 100) * 1000L + thread);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4 * recordsPerThread, histogram.getCount());
+        long total = 0;
+        for (long count : buckets(histogram)) {
+            total += count;
+        }
+        assertEquals(4 * recordsPerThread, total);
+        assertEquals(99, histogram.getPercentileMicros(100));
+    }
+}
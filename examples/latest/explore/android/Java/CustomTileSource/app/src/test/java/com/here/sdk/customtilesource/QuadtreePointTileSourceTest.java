@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.here.sdk.core.GeoCoordinates;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class QuadtreePointTileSourceTest {
+
+    private static List<QuadtreePointTileSource.LocalPoint> createPoints(int count, long seed) {
+        Random random = new Random(seed);
+        List<QuadtreePointTileSource.LocalPoint> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Half of the points spread over the world, the other half clustered, so that some tiles are dense.
+            double latitude = i % 2 == 0 ? random.nextDouble() * 170 - 85 : 52.5 + random.nextGaussian() * 0.1;
+            double longitude = i % 2 == 0 ? random.nextDouble() * 360 - 180 : 13.4 + random.nextGaussian() * 0.1;
+            points.add(new QuadtreePointTileSource.LocalPoint(new GeoCoordinates(latitude, longitude), "#" + i));
+        }
+        return points;
+    }
+
+    // The cell {x, y} of a point at the given level, computed directly from its projected coordinates.
+    private static int[] cellOf(QuadtreePointTileSource.LocalPoint point, int level) {
+        int cellsPerAxis = 1 << level;
+        int x = (int) Math.min(cellsPerAxis - 1, Math.floor(WebMercator.x(point.coordinates.longitude) * cellsPerAxis));
+        int y = (int) Math.min(cellsPerAxis - 1, Math.floor(WebMercator.y(point.coordinates.latitude) * cellsPerAxis));
+        return new int[] {x, y};
+    }
+
+    @Test
+    public void interleaveAlternatesBitsOfXAndY() {
+        assertEquals(0, MortonCode.interleave(0, 0));
+        assertEquals(1, MortonCode.interleave(1, 0));
+        assertEquals(2, MortonCode.interleave(0, 1));
+        assertEquals(3, MortonCode.interleave(1, 1));
+        assertEquals(4, MortonCode.interleave(2, 0));
+        // x = 011, y = 101 results in 10 01 11.
+        assertEquals(0b100111, MortonCode.interleave(3, 5));
+        int maxCell = (1 << QuadtreePointTileSource.INDEX_LEVEL) - 1;
+        assertEquals((1L << (2 * QuadtreePointTileSource.INDEX_LEVEL)) - 1, MortonCode.interleave(maxCell, maxCell));
+    }
+
+    @Test
+    public void cellCodesOfChildrenStartWithCodeOfParent() {
+        Random random = new Random(1);
+        int indexLevel = QuadtreePointTileSource.INDEX_LEVEL;
+        for (int i = 0; i < 1000; i++) {
+            int level = 1 + random.nextInt(indexLevel - 1);
+            int x = random.nextInt(1 << level);
+            int y = random.nextInt(1 << level);
+            long parentCode = MortonCode.cellCode(x, y, level, indexLevel);
+            long rangeSize = 1L << (2 * (indexLevel - level));
+            for (int child = 0; child < 4; child++) {
+                long childCode = MortonCode.cellCode(2 * x + (child & 1), 2 * y + (child >> 1), level + 1, indexLevel);
+                assertTrue(childCode >= parentCode && childCode < parentCode + rangeSize);
+            }
+        }
+    }
+
+    @Test
+    public void lowerBoundFindsFirstCodeNotLower() {
+        long[] codes = {2, 4, 4, 4, 9};
+        assertEquals(0, MortonCode.lowerBound(codes, 0));
+        assertEquals(0, MortonCode.lowerBound(codes, 2));
+        assertEquals(1, MortonCode.lowerBound(codes, 3));
+        assertEquals(1, MortonCode.lowerBound(codes, 4));
+        assertEquals(4, MortonCode.lowerBound(codes, 5));
+        assertEquals(5, MortonCode.lowerBound(codes, 10));
+        assertEquals(0, MortonCode.lowerBound(new long[0], 1));
+    }
+
+    @Test
+    public void tilesOfEachLevelAreCompleteAndDisjoint() {
+        List<QuadtreePointTileSource.LocalPoint> points = createPoints(5000, 2);
+        QuadtreePointTileSource tileSource = new QuadtreePointTileSource(points, Integer.MAX_VALUE);
+        for (int level = 1; level <= 8; level++) {
+            Map<QuadtreePointTileSource.LocalPoint, Integer> occurrences = new IdentityHashMap<>();
+            int cellsPerAxis = 1 << level;
+            for (int x = 0; x < cellsPerAxis; x++) {
+                for (int y = 0; y < cellsPerAxis; y++) {
+                    for (QuadtreePointTileSource.LocalPoint point : tileSource.queryCell(x, y, level)) {
+                        assertTrue(Arrays.equals(new int[] {x, y}, cellOf(point, level)));
+                        Integer count = occurrences.get(point);
+                        occurrences.put(point, count == null ? 1 : count + 1);
+                    }
+                }
+            }
+            assertEquals("Level " + level, points.size(), occurrences.size());
+            for (int count : occurrences.values()) {
+                assertEquals("Level " + level, 1, count);
+            }
+        }
+    }
+
+    @Test
+    public void rangeQueryMatchesLinearScan() {
+        List<QuadtreePointTileSource.LocalPoint> points = createPoints(20000, 3);
+        QuadtreePointTileSource tileSource = new QuadtreePointTileSource(points, Integer.MAX_VALUE);
+        Random random = new Random(4);
+        for (int i = 0; i < 200; i++) {
+            // Pick the tile of a random point, so that most queried tiles are not empty.
+            int level = 9 + random.nextInt(8);
+            int[] cell = cellOf(points.get(random.nextInt(points.size())), level);
+
+            Set<QuadtreePointTileSource.LocalPoint> expected = new HashSet<>();
+            for (QuadtreePointTileSource.LocalPoint point : points) {
+                if (Arrays.equals(cell, cellOf(point, level))) {
+                    expected.add(point);
+                }
+            }
+            List<QuadtreePointTileSource.LocalPoint> actual = tileSource.queryCell(cell[0], cell[1], level);
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, new HashSet<>(actual));
+        }
+    }
+
+    @Test
+    public void denseTilesAreThinnedToSubset() {
+        List<QuadtreePointTileSource.LocalPoint> points = createPoints(20000, 5);
+        QuadtreePointTileSource fullTileSource = new QuadtreePointTileSource(points, Integer.MAX_VALUE);
+        QuadtreePointTileSource thinnedTileSource = new QuadtreePointTileSource(points, 16);
+        for (int level = 1; level <= 16; level++) {
+            int[] cell = cellOf(points.get(1), level);
+            List<QuadtreePointTileSource.LocalPoint> all = fullTileSource.queryCell(cell[0], cell[1], level);
+            List<QuadtreePointTileSource.LocalPoint> thinned = thinnedTileSource.queryCell(cell[0], cell[1], level);
+            assertEquals(Math.min(16, all.size()), thinned.size());
+            assertEquals(thinned.size(), new HashSet<>(thinned).size());
+            assertTrue(new HashSet<>(all).containsAll(thinned));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxPointsPerTileMustBePositive() {
+        new QuadtreePointTileSource(createPoints(1, 6), 0);
+    }
+}
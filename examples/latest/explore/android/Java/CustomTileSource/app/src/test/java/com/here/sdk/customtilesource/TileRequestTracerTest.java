@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.sdk.customtilesource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+
+import com.here.sdk.mapview.datasource.RasterTileSource;
+import com.here.sdk.mapview.datasource.TileKey;
+import com.here.sdk.mapview.datasource.TileSource;
+import com.here.sdk.mapview.datasource.TilingScheme;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class TileRequestTracerTest {
+
+    // Keeps the requests pending until the test completes them.
+    private static class PendingRasterTileSource implements RasterTileSource {
+        final List<LoadResultHandler> handlers = new ArrayList<>();
+        final List<TileKey> tileKeys = new ArrayList<>();
+        int cancelCount = 0;
+        boolean returnHandle = true;
+
+        @Override
+        public LoadTileRequestHandle loadTile(@NonNull TileKey tileKey, @NonNull LoadResultHandler handler) {
+            handlers.add(handler);
+            tileKeys.add(tileKey);
+            if (!returnHandle) {
+                return null;
+            }
+            return new LoadTileRequestHandle() {
+                @Override
+                public void cancel() {
+                    cancelCount++;
+                }
+            };
+        }
+
+        void load(int request) {
+            handlers.get(request).loaded(tileKeys.get(request), new byte[0], null);
+        }
+
+        void fail(int request) {
+            handlers.get(request).failed(tileKeys.get(request));
+        }
+
+        @Override
+        public DataVersion getDataVersion(@NonNull TileKey tileKey) {
+            return null;
+        }
+
+        @Override
+        public void addListener(@NonNull Listener listener) {
+        }
+
+        @Override
+        public void removeListener(@NonNull Listener listener) {
+        }
+
+        @Override
+        public TilingScheme getTilingScheme() {
+            return TilingScheme.QUAD_TREE_MERCATOR;
+        }
+
+        @Override
+        public List<Integer> getStorageLevels() {
+            return Collections.singletonList(12);
+        }
+    }
+
+    // Counts the results forwarded by the tracing wrapper.
+    private static class CountingHandler implements RasterTileSource.LoadResultHandler {
+        int loaded = 0;
+        int failed = 0;
+
+        @Override
+        public void loaded(@NonNull TileKey tileKey, @NonNull byte[] data, @NonNull TileSource.TileMetadata metadata) {
+            loaded++;
+        }
+
+        @Override
+        public void failed(@NonNull TileKey tileKey) {
+            failed++;
+        }
+    }
+
+    @Test
+    public void disabledTracerOnlyForwards() {
+        PendingRasterTileSource tileSource = new PendingRasterTileSource();
+        TileRequestTracer tracer = new TileRequestTracer();
+        TracingRasterTileSource tracingTileSource = new TracingRasterTileSource(tileSource, tracer);
+        CountingHandler handler = new CountingHandler();
+
+        tracingTileSource.loadTile(new TileKey(1, 2, 3), handler);
+        // The handler is passed on unchanged, without a wrapper.
+        assertSame(handler, tileSource.handlers.get(0));
+        assertEquals(0, tracer.getRequestCount());
+        assertEquals(Collections.singletonList(12), tracingTileSource.getStorageLevels());
+    }
+
+    @Test
+    public void resultsAreRecordedAndForwarded() {
+        PendingRasterTileSource tileSource = new PendingRasterTileSource();
+        TileRequestTracer tracer = new TileRequestTracer();
+        tracer.setEnabled(true);
+        TracingRasterTileSource tracingTileSource = new TracingRasterTileSource(tileSource, tracer);
+        CountingHandler handler = new CountingHandler();
+
+        tracingTileSource.loadTile(new TileKey(1, 2, 3), handler);
+        tracingTileSource.loadTile(new TileKey(2, 2, 3), handler);
+        tracingTileSource.loadTile(new TileKey(3, 2, 5), handler);
+        tileSource.load(0);
+        tileSource.fail(1);
+        tileSource.load(2);
+        // Results after the first one are forwarded, but not recorded.
+        tileSource.load(0);
+
+        assertEquals(3, handler.loaded);
+        assertEquals(1, handler.failed);
+        assertEquals(3, tracer.getRequestCount());
+        String json = tracer.toJson();
+        assertTrue(json, json.contains("\"loaded\":2,\"failed\":1,\"cancelled\":0,\"duplicates\":0,\"pending\":0"));
+        assertTrue(json, json.contains("\"3\":{\"requests\":2,\"latency\":{\"count\":2,"));
+        assertTrue(json, json.contains("\"5\":{\"requests\":1,\"latency\":{\"count\":1,"));
+    }
+
+    @Test
+    public void requestsForTilesThatAreStillLoadingAreDuplicates() {
+        PendingRasterTileSource tileSource = new PendingRasterTileSource();
+        TileRequestTracer tracer = new TileRequestTracer();
+        tracer.setEnabled(true);
+        TracingRasterTileSource tracingTileSource = new TracingRasterTileSource(tileSource, tracer);
+        // The same tile of another tile source is no duplicate.
+        TracingRasterTileSource otherTracingTileSource =
+                new TracingRasterTileSource(new PendingRasterTileSource(), tracer);
+        CountingHandler handler = new CountingHandler();
+
+        tracingTileSource.loadTile(new TileKey(1, 2, 3), handler);
+        tracingTileSource.loadTile(new TileKey(1, 2, 3), handler);
+        otherTracingTileSource.loadTile(new TileKey(1, 2, 3), handler);
+        assertEquals(1, tracer.getDuplicateCount());
+
+        // Completing the duplicate keeps the first request pending.
+        tileSource.load(1);
+        tracingTileSource.loadTile(new TileKey(1, 2, 3), handler);
+        assertEquals(2, tracer.getDuplicateCount());
+
+        tileSource.load(0);
+        tracingTileSource.loadTile(new TileKey(1, 2, 3), handler);
+        assertEquals(2, tracer.getDuplicateCount());
+    }
+
+    @Test
+    public void onlyCancellingPendingRequestsIsRecorded() {
+        PendingRasterTileSource tileSource = new PendingRasterTileSource();
+        TileRequestTracer tracer = new TileRequestTracer();
+        tracer.setEnabled(true);
+        TracingRasterTileSource tracingTileSource = new TracingRasterTileSource(tileSource, tracer);
+        CountingHandler handler = new CountingHandler();
+
+        TileSource.LoadTileRequestHandle first = tracingTileSource.loadTile(new TileKey(1, 2, 3), handler);
+        TileSource.LoadTileRequestHandle second = tracingTileSource.loadTile(new TileKey(2, 2, 3), handler);
+        first.cancel();
+        tileSource.load(1);
+        second.cancel();
+
+        assertEquals(2, tileSource.cancelCount);
+        assertEquals(1, tracer.getCancelledCount());
+
+        // Synchronous tile sources return no handle, and neither does the wrapper.
+        tileSource.returnHandle = false;
+        assertNull(tracingTileSource.loadTile(new TileKey(3, 2, 3), handler));
+    }
+
+    @Test
+    public void resetClearsAllMetrics() {
+        PendingRasterTileSource tileSource = new PendingRasterTileSource();
+        TileRequestTracer tracer = new TileRequestTracer();
+        tracer.setEnabled(true);
+        TracingRasterTileSource tracingTileSource = new TracingRasterTileSource(tileSource, tracer);
+        tracingTileSource.loadTile(new TileKey(1, 2, 3), new CountingHandler());
+        tracingTileSource.loadTile(new TileKey(1, 2, 3), new CountingHandler());
+
+        tracer.reset();
+        assertEquals(0, tracer.getRequestCount());
+        assertEquals(0, tracer.getDuplicateCount());
+        assertEquals("{\"requests\":0,\"requestsPerSecond\":0.0,\"loaded\":0,\"failed\":0,\"cancelled\":0,"
+                + "\"duplicates\":0,\"pending\":0,\"levels\":{}}", tracer.toJson());
+    }
+}
@@ -0,0 +1,761 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.sdk.core.GeoBox;
+import com.here.sdk.core.GeoCoordinates;
+import com.here.sdk.core.GeoPolygon;
+import com.here.sdk.core.errors.InstantiationErrorException;
+import com.here.sdk.mapview.datasource.DataAttributesBuilder;
+import com.here.sdk.mapview.datasource.PolygonData;
+import com.here.sdk.mapview.datasource.PolygonDataBuilder;
+import com.here.sdk.mapview.datasource.PolygonTileSource;
+import com.here.sdk.mapview.datasource.TileGeoBoundsCalculator;
+import com.here.sdk.mapview.datasource.TileKey;
+import com.here.sdk.mapview.datasource.TileSource;
+import com.here.sdk.mapview.datasource.TilingScheme;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * ClippedPolygonTileSource serves a local polygon data set, for example parcels or zones with thousands
+ * of vertices each, through the `PolygonTileSource` interface.
+ *
+ * For each requested tile, only the polygons overlapping the tile are provided, clipped to the tile bounds.
+ * The polygons are found through a linear quadtree of their bounding boxes, using the same Morton codes as
+ * `QuadtreePointTileSource`, so a tile does not need to scan the whole data set. Clipping happens in Web Mercator
+ * space against the exact tile grid, so neighboring tiles share identical cut edges and no cracks appear between them.
+ *
+ * Per zoom level, the polygons are simplified by snapping their vertices to a pixel grid
+ * at that level and dropping the vertices that collapse. Since snapping depends on nothing but the vertex itself,
+ * a border shared by two polygons is simplified identically for both of them, which keeps the topology
+ * between neighboring polygons intact. The tile bounds are grid lines of every level, so simplification
+ * and clipping do not interfere with each other. Simplified polygons are computed on first use and only kept
+ * for the most recently used levels.
+ *
+ * All polygons are provided with counter-clockwise exterior rings. Holes are clipped like the exterior ring
+ * and then joined to it by a zero-width bridge, since a `GeoPolygon` consists of a single ring.
+ */
+public class ClippedPolygonTileSource implements PolygonTileSource {
+
+    private static final String TAG = ClippedPolygonTileSource.class.getSimpleName();
+
+    // The size of a tile in pixels, used to derive the simplification grid for a level.
+    private static final int TILE_SIZE_PIXELS_LOG2 = 8;
+
+    // Vertices closer than this number of pixels at a level may be merged by simplification, as power of two.
+    private static final int SIMPLIFICATION_PIXELS_LOG2 = 0;
+
+    // The depth of the bounding box index. It must not be lower than the highest supported storage level.
+    static final int INDEX_LEVEL = 24;
+
+    // The number of levels for which simplified polygons are kept. Older levels are computed again when needed.
+    private static final int MAX_SIMPLIFIED_LEVELS = 4;
+
+    // Marks polygons that degenerate at a level, to tell them apart from polygons that were not simplified yet.
+    private static final double[][] DEGENERATED = new double[0][];
+
+    /**
+     * A single polygon of the local data set: an exterior ring and any number of holes.
+     */
+    public static class LocalPolygon {
+        public final List<GeoCoordinates> exterior;
+        public final List<List<GeoCoordinates>> holes;
+
+        public LocalPolygon(@NonNull List<GeoCoordinates> exterior, @NonNull List<List<GeoCoordinates>> holes) {
+            this.exterior = exterior;
+            this.holes = holes;
+        }
+
+        public LocalPolygon(@NonNull List<GeoCoordinates> exterior) {
+            this(exterior, new ArrayList<List<GeoCoordinates>>());
+        }
+    }
+
+    // Supported data levels.
+    final List<Integer> mSupportedLevels = new ArrayList<>(
+            Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16));
+
+    // Supported tiling scheme.
+    final TilingScheme mSupportedTilingScheme = TilingScheme.QUAD_TREE_MERCATOR;
+
+    // Tile geo-bounds calculator.
+    final TileGeoBoundsCalculator mTileBoundsCalculator = new TileGeoBoundsCalculator(mSupportedTilingScheme);
+
+    // Data versions of the tiles, bumped whenever tiles are invalidated.
+    final TileDataVersions mDataVersions = new TileDataVersions(mTileBoundsCalculator);
+
+    // The current polygon data set. It is replaced as a whole when the polygons are updated.
+    private volatile PolygonSet mPolygonSet;
+
+    // The projected source polygons, their bounding box index and their simplified versions per level.
+    private static class PolygonSet {
+        // The rings of each polygon, the exterior ring first and counter-clockwise, the holes clockwise.
+        // Each ring is stored as {x0, y0, x1, y1, ...} without closing vertex.
+        final List<double[][]> polygons = new ArrayList<>();
+
+        // The index entries, sorted by code: each polygon is stored in the up to four cells of the deepest level
+        // whose cells are not smaller than its bounding box.
+        final long[] codes;
+        final byte[] levels;
+        final int[] polygonIndices;
+
+        // The simplified polygons of the most recently used levels, in access order.
+        final LinkedHashMap<Integer, AtomicReferenceArray<double[][]>> simplifiedLevels =
+                new LinkedHashMap<Integer, AtomicReferenceArray<double[][]>>(MAX_SIMPLIFIED_LEVELS + 1, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Integer, AtomicReferenceArray<double[][]>> eldest) {
+                        return size() > MAX_SIMPLIFIED_LEVELS;
+                    }
+                };
+
+        PolygonSet(@NonNull List<LocalPolygon> localPolygons) {
+            for (LocalPolygon localPolygon : localPolygons) {
+                double[][] polygon = project(localPolygon);
+                if (polygon != null) {
+                    polygons.add(polygon);
+                }
+            }
+
+            List<long[]> entries = new ArrayList<>();
+            for (int i = 0; i < polygons.size(); i++) {
+                addIndexEntries(boundsOf(polygons.get(i)[0]), i, entries);
+            }
+            Collections.sort(entries, new Comparator<long[]>() {
+                @Override
+                public int compare(long[] a, long[] b) {
+                    return Long.compare(a[0], b[0]);
+                }
+            });
+            codes = new long[entries.size()];
+            levels = new byte[entries.size()];
+            polygonIndices = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                codes[i] = entries.get(i)[0];
+                levels[i] = (byte) entries.get(i)[1];
+                polygonIndices[i] = (int) entries.get(i)[2];
+            }
+        }
+
+        // Adds {code, level, polygon index} entries for the cells covering the given bounds.
+        private static void addIndexEntries(@NonNull double[] bounds, int polygonIndex, @NonNull List<long[]> entries) {
+            final double extent = Math.max(bounds[2] - bounds[0], bounds[3] - bounds[1]);
+            int level = INDEX_LEVEL;
+            while (level > 0 && Math.scalb(1.0, -level) < extent) {
+                level--;
+            }
+            final int cellsPerAxis = 1 << level;
+            final int minX = toCell(bounds[0], cellsPerAxis);
+            final int maxX = toCell(bounds[2], cellsPerAxis);
+            final int minY = toCell(bounds[1], cellsPerAxis);
+            final int maxY = toCell(bounds[3], cellsPerAxis);
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    entries.add(new long[] {MortonCode.cellCode(x, y, level, INDEX_LEVEL), level, polygonIndex});
+                }
+            }
+        }
+
+        // Returns the indices of the polygons whose bounding boxes may overlap the given cell, in ascending order.
+        @NonNull
+        int[] query(int cellX, int cellY, int level) {
+            int[] result = new int[8];
+            int size = 0;
+
+            // Polygons stored in the cell itself or in one of its ancestors.
+            for (int ancestorLevel = 0; ancestorLevel <= level; ancestorLevel++) {
+                final int shift = level - ancestorLevel;
+                final long code = MortonCode.cellCode(cellX >> shift, cellY >> shift, ancestorLevel, INDEX_LEVEL);
+                for (int i = MortonCode.lowerBound(codes, code); i < codes.length && codes[i] == code; i++) {
+                    if (levels[i] == ancestorLevel) {
+                        if (size == result.length) {
+                            result = Arrays.copyOf(result, size * 2);
+                        }
+                        result[size++] = polygonIndices[i];
+                    }
+                }
+            }
+
+            // Polygons stored in the cells below this cell share its code as prefix.
+            final long first = MortonCode.cellCode(cellX, cellY, level, INDEX_LEVEL);
+            final int to = MortonCode.lowerBound(codes, first + (1L << (2 * (INDEX_LEVEL - level))));
+            for (int i = MortonCode.lowerBound(codes, first); i < to; i++) {
+                if (levels[i] > level) {
+                    if (size == result.length) {
+                        result = Arrays.copyOf(result, size * 2);
+                    }
+                    result[size++] = polygonIndices[i];
+                }
+            }
+
+            // A polygon can be stored in more than one cell below this cell. Sorting also keeps the drawing
+            // order of the data set across all tiles.
+            Arrays.sort(result, 0, size);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (unique == 0 || result[unique - 1] != result[i]) {
+                    result[unique++] = result[i];
+                }
+            }
+            return Arrays.copyOf(result, unique);
+        }
+
+        // Returns the simplified rings of a polygon at the given level, or DEGENERATED.
+        @NonNull
+        double[][] getSimplifiedPolygon(int polygonIndex, int level) {
+            AtomicReferenceArray<double[][]> simplifiedLevel;
+            synchronized (simplifiedLevels) {
+                simplifiedLevel = simplifiedLevels.get(level);
+                if (simplifiedLevel == null) {
+                    simplifiedLevel = new AtomicReferenceArray<>(polygons.size());
+                    simplifiedLevels.put(level, simplifiedLevel);
+                }
+            }
+            double[][] simplified = simplifiedLevel.get(polygonIndex);
+            if (simplified == null) {
+                final double gridSize = Math.scalb(1.0, SIMPLIFICATION_PIXELS_LOG2 - TILE_SIZE_PIXELS_LOG2 - level);
+                simplified = simplifyPolygon(polygons.get(polygonIndex), gridSize);
+                simplifiedLevel.set(polygonIndex, simplified);
+            }
+            return simplified;
+        }
+    }
+
+    public ClippedPolygonTileSource(@NonNull List<LocalPolygon> polygons) {
+        mPolygonSet = new PolygonSet(polygons);
+    }
+
+    /**
+     * Replaces the polygon data set. Only the tiles intersecting `changedArea`, which must cover
+     * all added, changed and removed polygons, are reloaded.
+     */
+    public void setPolygons(@NonNull List<LocalPolygon> polygons, @NonNull GeoBox changedArea) {
+        mPolygonSet = new PolygonSet(polygons);
+        // The new data must be visible before the versions are bumped, see loadTile().
+        mDataVersions.invalidate(changedArea);
+    }
+
+    /**
+     * Reads all `Polygon` and `MultiPolygon` features of a GeoJSON `FeatureCollection`, including their holes.
+     */
+    @NonNull
+    public static ClippedPolygonTileSource fromGeoJson(@NonNull InputStream inputStream)
+            throws IOException, JSONException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            content.write(buffer, 0, read);
+        }
+
+        List<LocalPolygon> polygons = new ArrayList<>();
+        JSONArray features = new JSONObject(content.toString("UTF-8")).getJSONArray("features");
+        for (int i = 0; i < features.length(); i++) {
+            JSONObject geometry = features.getJSONObject(i).optJSONObject("geometry");
+            if (geometry == null) {
+                continue;
+            }
+            String type = geometry.getString("type");
+            JSONArray coordinates = geometry.getJSONArray("coordinates");
+            if ("Polygon".equals(type)) {
+                polygons.add(readPolygon(coordinates));
+            } else if ("MultiPolygon".equals(type)) {
+                for (int j = 0; j < coordinates.length(); j++) {
+                    polygons.add(readPolygon(coordinates.getJSONArray(j)));
+                }
+            }
+        }
+        return new ClippedPolygonTileSource(polygons);
+    }
+
+    @Nullable
+    @Override
+    public LoadTileRequestHandle loadTile(@NonNull TileKey tileKey, @NonNull LoadResultHandler loadResultHandler) {
+        // Read the version before the data: if setPolygons() runs in between, the new data is reported
+        // with the old version and the tile is reloaded again after the change notification.
+        final DataVersion dataVersion = mDataVersions.getDataVersion(tileKey);
+        List<PolygonData> tileData = new ArrayList<>();
+        try {
+            for (List<GeoCoordinates> polygon : getTilePolygons(tileKey)) {
+                tileData.add(new PolygonDataBuilder()
+                        .withGeometry(new GeoPolygon(polygon))
+                        .withAttributes(new DataAttributesBuilder().build())
+                        .build());
+            }
+        } catch (InstantiationErrorException e) {
+            Log.e(TAG, "Failed to create PolygonData", e);
+            loadResultHandler.failed(tileKey);
+            return null;
+        }
+        loadResultHandler.loaded(tileKey, tileData, new TileSource.TileMetadata(dataVersion, new Date(0)));
+
+        // No request handle is returned here since there is no asynchronous loading happening.
+        return null;
+    }
+
+    /**
+     * Returns the simplified polygons of a tile, clipped to the tile bounds.
+     */
+    @NonNull
+    List<List<GeoCoordinates>> getTilePolygons(@NonNull TileKey tileKey) {
+        final int[] cell = WebMercator.cellOf(mTileBoundsCalculator.boundsOf(tileKey), tileKey.level);
+        List<List<GeoCoordinates>> polygons = new ArrayList<>();
+        for (double[] ring : clipTile(cell[0], cell[1], tileKey.level)) {
+            polygons.add(unproject(ring));
+        }
+        return polygons;
+    }
+
+    /**
+     * Returns the projected, simplified polygons of a grid cell, clipped to the cell bounds.
+     * Each polygon is a single counter-clockwise ring, holes are bridged into it.
+     */
+    @NonNull
+    List<double[]> clipTile(int cellX, int cellY, int level) {
+        final double tileSize = 1.0 / (1 << level);
+        final double minX = cellX * tileSize;
+        final double minY = cellY * tileSize;
+        final double maxX = minX + tileSize;
+        final double maxY = minY + tileSize;
+
+        final PolygonSet polygonSet = mPolygonSet;
+        List<double[]> clippedPolygons = new ArrayList<>();
+        for (int polygonIndex : polygonSet.query(cellX, cellY, level)) {
+            double[][] polygon = polygonSet.getSimplifiedPolygon(polygonIndex, level);
+            if (polygon == DEGENERATED) {
+                continue;
+            }
+            double[] bounds = boundsOf(polygon[0]);
+            if (bounds[0] >= maxX || bounds[2] <= minX || bounds[1] >= maxY || bounds[3] <= minY) {
+                continue;
+            }
+            double[] exterior = clip(polygon[0], minX, minY, maxX, maxY);
+            if (exterior == null) {
+                continue;
+            }
+            final double exteriorArea = signedArea(exterior, exterior.length);
+            double remainingArea = exteriorArea;
+            List<double[]> holes = new ArrayList<>();
+            for (int i = 1; i < polygon.length; i++) {
+                // Holes are clockwise, so they are clipped reversed and reversed back.
+                double[] hole = clip(reverse(polygon[i]), minX, minY, maxX, maxY);
+                if (hole != null) {
+                    remainingArea -= signedArea(hole, hole.length);
+                    holes.add(reverse(hole));
+                }
+            }
+            // A tile inside a hole would otherwise get a ring without area, running around the tile twice.
+            if (remainingArea <= exteriorArea * 1e-9) {
+                continue;
+            }
+            clippedPolygons.add(holes.isEmpty() ? exterior : bridgeHoles(exterior, holes));
+        }
+        return clippedPolygons;
+    }
+
+    // Simplifies all rings of a polygon. Returns DEGENERATED, when the exterior ring degenerates.
+    @NonNull
+    private static double[][] simplifyPolygon(@NonNull double[][] polygon, double gridSize) {
+        double[] exterior = simplify(polygon[0], gridSize);
+        if (exterior == null || signedArea(exterior, exterior.length) <= 0) {
+            return DEGENERATED;
+        }
+        List<double[]> rings = new ArrayList<>(polygon.length);
+        rings.add(exterior);
+        for (int i = 1; i < polygon.length; i++) {
+            double[] hole = simplify(polygon[i], gridSize);
+            // Snapping may collapse a small hole or turn it inside out, such holes are dropped.
+            if (hole != null && signedArea(hole, hole.length) < 0) {
+                rings.add(hole);
+            }
+        }
+        return rings.toArray(new double[0][]);
+    }
+
+    // Snaps all vertices to the grid and removes the ones that collapse onto their predecessor.
+    // Returns null, when the ring degenerates.
+    @Nullable
+    static double[] simplify(@NonNull double[] ring, double gridSize) {
+        final int count = ring.length / 2;
+        double[] simplified = new double[ring.length];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            double x = Math.rint(ring[2 * i] / gridSize) * gridSize;
+            double y = Math.rint(ring[2 * i + 1] / gridSize) * gridSize;
+            if (size > 0 && simplified[size - 2] == x && simplified[size - 1] == y) {
+                continue;
+            }
+            simplified[size++] = x;
+            simplified[size++] = y;
+        }
+        if (size > 2 && simplified[0] == simplified[size - 2] && simplified[1] == simplified[size - 1]) {
+            size -= 2;
+        }
+        if (size < 6 || signedArea(simplified, size) == 0) {
+            return null;
+        }
+        return Arrays.copyOf(simplified, size);
+    }
+
+    // Clips a counter-clockwise ring against an axis-aligned rectangle (Sutherland-Hodgman).
+    // Returns null, when nothing of the ring remains.
+    @Nullable
+    static double[] clip(@NonNull double[] ring, double minX, double minY, double maxX, double maxY) {
+        double[] clipped = clipEdge(ring, true, minX, true);
+        if (clipped != null) {
+            clipped = clipEdge(clipped, false, minY, true);
+        }
+        if (clipped != null) {
+            clipped = clipEdge(clipped, true, maxX, false);
+        }
+        if (clipped != null) {
+            clipped = clipEdge(clipped, false, maxY, false);
+        }
+        // Polygons that only touch the tile leave a ring without area, which is not worth rendering.
+        if (clipped != null && signedArea(clipped, clipped.length) <= 0) {
+            return null;
+        }
+        return clipped;
+    }
+
+    // Clips a ring against the half plane on one side of a vertical (x = limit) or horizontal (y = limit) edge.
+    @Nullable
+    private static double[] clipEdge(@NonNull double[] ring, boolean vertical, double limit, boolean keepGreater) {
+        final int count = ring.length / 2;
+
+        double[] output = new double[(count + count / 2 + 2) * 2];
+        int size = 0;
+        double previousX = ring[2 * (count - 1)];
+        double previousY = ring[2 * (count - 1) + 1];
+        boolean previousInside = isInside(vertical ? previousX : previousY, limit, keepGreater);
+        for (int i = 0; i < count; i++) {
+            final double x = ring[2 * i];
+            final double y = ring[2 * i + 1];
+            final boolean inside = isInside(vertical ? x : y, limit, keepGreater);
+            if (inside != previousInside) {
+                if (size + 2 > output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                // The intersection lies exactly on the tile edge, so both neighboring tiles get the same vertex.
+                if (vertical) {
+                    output[size++] = limit;
+                    output[size++] = previousY + (y - previousY) * (limit - previousX) / (x - previousX);
+                } else {
+                    output[size++] = previousX + (x - previousX) * (limit - previousY) / (y - previousY);
+                    output[size++] = limit;
+                }
+            }
+            if (inside) {
+                if (size + 2 > output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                output[size++] = x;
+                output[size++] = y;
+            }
+            previousX = x;
+            previousY = y;
+            previousInside = inside;
+        }
+        return size < 6 ? null : Arrays.copyOf(output, size);
+    }
+
+    private static boolean isInside(double value, double limit, boolean keepGreater) {
+        return keepGreater ? value >= limit : value <= limit;
+    }
+
+    /**
+     * Joins the holes into the exterior ring, each by a zero-width bridge from its rightmost vertex to a visible
+     * vertex of the ring on its right. Holes are joined from right to left, so that a bridge never crosses
+     * a hole that is not joined yet.
+     */
+    @NonNull
+    static double[] bridgeHoles(@NonNull double[] exterior, @NonNull List<double[]> holes) {
+        List<double[]> sortedHoles = new ArrayList<>(holes);
+        Collections.sort(sortedHoles, new Comparator<double[]>() {
+            @Override
+            public int compare(double[] a, double[] b) {
+                return Double.compare(b[rightmostVertex(b)], a[rightmostVertex(a)]);
+            }
+        });
+        double[] ring = exterior;
+        for (double[] hole : sortedHoles) {
+            ring = bridgeHole(ring, hole);
+        }
+        return ring;
+    }
+
+    @NonNull
+    private static double[] bridgeHole(@NonNull double[] ring, @NonNull double[] hole) {
+        final int holeVertex = rightmostVertex(hole);
+        final double hx = hole[holeVertex];
+        final double hy = hole[holeVertex + 1];
+        final int count = ring.length / 2;
+
+        // Find the nearest edge of the ring crossed by a ray from the hole vertex to the right.
+        double nearestX = Double.POSITIVE_INFINITY;
+        int bridgeVertex = -1;
+        for (int i = 0, j = count - 1; i < count; j = i++) {
+            final double ax = ring[2 * j];
+            final double ay = ring[2 * j + 1];
+            final double bx = ring[2 * i];
+            final double by = ring[2 * i + 1];
+            if (ay == by || hy < Math.min(ay, by) || hy > Math.max(ay, by)) {
+                continue;
+            }
+            final double x = ax + (hy - ay) * (bx - ax) / (by - ay);
+            if (x >= hx && x < nearestX) {
+                nearestX = x;
+                // The edge end point to the right is a candidate for the bridge.
+                bridgeVertex = ax > bx ? 2 * j : 2 * i;
+            }
+        }
+        if (bridgeVertex < 0) {
+            // The hole is not inside the ring, which only happens for invalid input.
+            return ring;
+        }
+
+        // Ring vertices inside the triangle of hole vertex, crossing point and candidate may block the bridge.
+        // The one with the smallest angle to the ray is visible from the hole vertex.
+        final double px = ring[bridgeVertex];
+        final double py = ring[bridgeVertex + 1];
+        double bestTangent = Double.POSITIVE_INFINITY;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < ring.length; i += 2) {
+            final double x = ring[i];
+            final double y = ring[i + 1];
+            if (i == bridgeVertex || x <= hx || !isInTriangle(hx, hy, nearestX, hy, px, py, x, y)) {
+                continue;
+            }
+            final double tangent = Math.abs(y - hy) / (x - hx);
+            final double distance = x - hx;
+            if (tangent < bestTangent || (tangent == bestTangent && distance < bestDistance)) {
+                bestTangent = tangent;
+                bestDistance = distance;
+                bridgeVertex = i;
+            }
+        }
+
+        // The ring continues at the bridge vertex into the hole, around the hole and back to the bridge vertex.
+        double[] bridged = new double[ring.length + hole.length + 4];
+        int size = 0;
+        System.arraycopy(ring, 0, bridged, size, bridgeVertex + 2);
+        size += bridgeVertex + 2;
+        System.arraycopy(hole, holeVertex, bridged, size, hole.length - holeVertex);
+        size += hole.length - holeVertex;
+        System.arraycopy(hole, 0, bridged, size, holeVertex + 2);
+        size += holeVertex + 2;
+        System.arraycopy(ring, bridgeVertex, bridged, size, ring.length - bridgeVertex);
+        return bridged;
+    }
+
+    // Returns the array index of the x coordinate of the vertex with the largest x.
+    private static int rightmostVertex(@NonNull double[] ring) {
+        int rightmost = 0;
+        for (int i = 2; i < ring.length; i += 2) {
+            if (ring[i] > ring[rightmost]) {
+                rightmost = i;
+            }
+        }
+        return rightmost;
+    }
+
+    private static boolean isInTriangle(double ax, double ay, double bx, double by, double cx, double cy,
+                                        double x, double y) {
+        final double d1 = (bx - ax) * (y - ay) - (by - ay) * (x - ax);
+        final double d2 = (cx - bx) * (y - by) - (cy - by) * (x - bx);
+        final double d3 = (ax - cx) * (y - cy) - (ay - cy) * (x - cx);
+        final boolean hasNegative = d1 < 0 || d2 < 0 || d3 < 0;
+        final boolean hasPositive = d1 > 0 || d2 > 0 || d3 > 0;
+        return !(hasNegative && hasPositive);
+    }
+
+    // Signed area in projected space. As y grows to the south, a positive value means counter-clockwise on the map.
+    static double signedArea(@NonNull double[] ring, int size) {
+        double area = 0;
+        for (int i = 0, j = size - 2; i < size; j = i, i += 2) {
+            area += (ring[j] - ring[i]) * (ring[j + 1] + ring[i + 1]);
+        }
+        return -area / 2;
+    }
+
+    // Projects a polygon to Web Mercator, normalizing the exterior ring to counter-clockwise and the holes to
+    // clockwise order. Returns null, when the exterior ring degenerates.
+    @Nullable
+    private static double[][] project(@NonNull LocalPolygon polygon) {
+        double[] exterior = projectRing(polygon.exterior, true);
+        if (exterior == null) {
+            return null;
+        }
+        List<double[]> rings = new ArrayList<>(polygon.holes.size() + 1);
+        rings.add(exterior);
+        for (List<GeoCoordinates> hole : polygon.holes) {
+            double[] ring = projectRing(hole, false);
+            if (ring != null) {
+                rings.add(ring);
+            }
+        }
+        return rings.toArray(new double[0][]);
+    }
+
+    // Projects a ring to Web Mercator in the given orientation. Returns null for degenerated rings.
+    @Nullable
+    private static double[] projectRing(@NonNull List<GeoCoordinates> coordinates, boolean counterClockwise) {
+        int count = coordinates.size();
+        if (count > 1 && coordinates.get(0).latitude == coordinates.get(count - 1).latitude
+                && coordinates.get(0).longitude == coordinates.get(count - 1).longitude) {
+            // GeoJSON rings repeat the first vertex at the end.
+            count--;
+        }
+        if (count < 3) {
+            return null;
+        }
+
+        double[] ring = new double[count * 2];
+        for (int i = 0; i < count; i++) {
+            ring[2 * i] = WebMercator.x(coordinates.get(i).longitude);
+            ring[2 * i + 1] = WebMercator.y(coordinates.get(i).latitude);
+        }
+        double area = signedArea(ring, ring.length);
+        if (area == 0) {
+            return null;
+        }
+        return (area > 0) == counterClockwise ? ring : reverse(ring);
+    }
+
+    @NonNull
+    private static double[] reverse(@NonNull double[] ring) {
+        final int count = ring.length / 2;
+        double[] reversed = new double[ring.length];
+        for (int i = 0; i < count; i++) {
+            reversed[2 * i] = ring[2 * (count - 1 - i)];
+            reversed[2 * i + 1] = ring[2 * (count - 1 - i) + 1];
+        }
+        return reversed;
+    }
+
+    @NonNull
+    private static List<GeoCoordinates> unproject(@NonNull double[] ring) {
+        List<GeoCoordinates> coordinates = new ArrayList<>(ring.length / 2);
+        for (int i = 0; i < ring.length; i += 2) {
+            coordinates.add(new GeoCoordinates(WebMercator.latitude(ring[i + 1]), WebMercator.longitude(ring[i])));
+        }
+        return coordinates;
+    }
+
+    @NonNull
+    private static double[] boundsOf(@NonNull double[] ring) {
+        double[] bounds = {Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (int i = 0; i < ring.length; i += 2) {
+            bounds[0] = Math.min(bounds[0], ring[i]);
+            bounds[1] = Math.min(bounds[1], ring[i + 1]);
+            bounds[2] = Math.max(bounds[2], ring[i]);
+            bounds[3] = Math.max(bounds[3], ring[i + 1]);
+        }
+        return bounds;
+    }
+
+    private static int toCell(double projected, int cellsPerAxis) {
+        return (int) Math.max(0, Math.min(cellsPerAxis - 1, Math.floor(projected * cellsPerAxis)));
+    }
+
+    // Reads the rings of a GeoJSON polygon, the first one being the exterior ring.
+    @NonNull
+    private static LocalPolygon readPolygon(@NonNull JSONArray rings) throws JSONException {
+        List<List<GeoCoordinates>> holes = new ArrayList<>();
+        for (int i = 1; i < rings.length(); i++) {
+            holes.add(readRing(rings.getJSONArray(i)));
+        }
+        return new LocalPolygon(readRing(rings.getJSONArray(0)), holes);
+    }
+
+    @NonNull
+    private static List<GeoCoordinates> readRing(@NonNull JSONArray positions) throws JSONException {
+        List<GeoCoordinates> ring = new ArrayList<>(positions.length());
+        for (int i = 0; i < positions.length(); i++) {
+            JSONArray position = positions.getJSONArray(i);
+            // GeoJSON positions are given as [longitude, latitude].
+            ring.add(new GeoCoordinates(position.getDouble(1), position.getDouble(0)));
+        }
+        return ring;
+    }
+
+    @NonNull
+    @Override
+    public DataVersion getDataVersion(@NonNull TileKey tileKey) {
+        return mDataVersions.getDataVersion(tileKey);
+    }
+
+    @Override
+    public void addListener(@NonNull Listener listener) {
+        // Listeners are notified about the tiles that are invalidated.
+        mDataVersions.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(@NonNull Listener listener) {
+        mDataVersions.removeListener(listener);
+    }
+
+    /**
+     * Marks the given tiles as changed, so that only these tiles are reloaded.
+     */
+    public void invalidateTiles(@NonNull List<TileKey> tileKeys) {
+        mDataVersions.invalidate(tileKeys);
+    }
+
+    /**
+     * Marks all tiles intersecting the given area as changed, so that only these tiles are reloaded.
+     */
+    public void invalidateArea(@NonNull GeoBox area) {
+        mDataVersions.invalidate(area);
+    }
+
+    @NonNull
+    @Override
+    public TilingScheme getTilingScheme() {
+        return mSupportedTilingScheme;
+    }
+
+    @NonNull
+    @Override
+    public List<Integer> getStorageLevels() {
+        return mSupportedLevels;
+    }
+}
@@ -36,6 +36,12 @@
  import com.here.sdk.mapview.MapView;
  import com.here.sdk.mapview.Style;
  import com.here.sdk.mapview.datasource.PolygonTileDataSource;
+ import com.here.sdk.mapview.datasource.PolygonTileSource;
+
+ import java.util.ArrayList;
+ import java.util.Collections;
+ import java.util.List;
+ import java.util.Random;
 
  /**
  * This example app demonstrates how to load custom polygon layers, implement polygon rendering using a custom polygon tile source, 
@@ -52,6 +58,14 @@
  public class CustomPolygonTileSourceExample {
      private static final String TAG = "CustomPolygonTileSource";
 
+     // When true, a static polygon data set is served through `ClippedPolygonTileSource`, which provides each tile
+     // with the polygons clipped to it. When false, `LocalPolygonTileSource` generates a polygon per tile.
+     private static final boolean USE_POLYGON_DATA_SET = true;
+     // The number of polygons in the static data set and the number of vertices of each exterior ring.
+     private static final int POLYGON_DATA_SET_SIZE = 500;
+     private static final int POLYGON_VERTEX_COUNT = 1000;
+     private static final GeoCoordinates POLYGON_DATA_SET_CENTER = new GeoCoordinates(52.530932, 13.384915);
+
      private final static String LAYER_STYLE =
             "{\n" + 
             "  \"styles\": [\n" + 
@@ -76,7 +90,7 @@
 
          MapCamera camera = mapView.getCamera();
          MapMeasure mapMeasureZoom = new MapMeasure(MapMeasure.Kind.ZOOM_LEVEL, 9);
-         camera.lookAt(new GeoCoordinates(52.530932, 13.384915), mapMeasureZoom);
+         camera.lookAt(POLYGON_DATA_SET_CENTER, mapMeasureZoom);
 
          String dataSourceName = "MyPolygonDataSource";
          polygonDataSource = createPolygonDataSource(dataSourceName);
@@ -104,7 +118,40 @@
 
      private PolygonTileDataSource createPolygonDataSource(String dataSourceName) {
          Log.d(TAG, "Creating polygon data source: " + dataSourceName);
-         return PolygonTileDataSource.create(mapView.getMapContext(), dataSourceName, new LocalPolygonTileSource());
+         PolygonTileSource polygonTileSource = USE_POLYGON_DATA_SET
+                 ? new ClippedPolygonTileSource(createPolygonDataSet())
+                 : new LocalPolygonTileSource();
+         return PolygonTileDataSource.create(mapView.getMapContext(), dataSourceName, polygonTileSource);
+     }
+
+     // Creates round zones with a jagged border and a hole each, scattered around the center.
+     // Their detailed rings make them a good fit for clipping and simplification per tile.
+     private static List<ClippedPolygonTileSource.LocalPolygon> createPolygonDataSet() {
+         Random random = new Random(42);
+         List<ClippedPolygonTileSource.LocalPolygon> polygons = new ArrayList<>(POLYGON_DATA_SET_SIZE);
+         for (int i = 0; i < POLYGON_DATA_SET_SIZE; i++) {
+             double latitude = POLYGON_DATA_SET_CENTER.latitude + 0.2 * random.nextGaussian();
+             double longitude = POLYGON_DATA_SET_CENTER.longitude + 0.3 * random.nextGaussian();
+             // Between about 200 m and 2 km across.
+             double radius = 0.001 + 0.009 * random.nextDouble();
+             List<GeoCoordinates> exterior = createRing(random, latitude, longitude, radius, POLYGON_VERTEX_COUNT);
+             List<GeoCoordinates> hole = createRing(random, latitude, longitude, radius / 3, POLYGON_VERTEX_COUNT / 4);
+             polygons.add(new ClippedPolygonTileSource.LocalPolygon(exterior, Collections.singletonList(hole)));
+         }
+         return polygons;
+     }
+
+     private static List<GeoCoordinates> createRing(Random random, double latitude, double longitude,
+                                                    double radius, int vertexCount) {
+         List<GeoCoordinates> ring = new ArrayList<>(vertexCount);
+         for (int i = 0; i < vertexCount; i++) {
+             double angle = 2 * Math.PI * i / vertexCount;
+             double distance = radius * (0.9 + 0.1 * random.nextDouble());
+             // Longitude degrees are shorter than latitude degrees at this latitude.
+             ring.add(new GeoCoordinates(latitude + distance * Math.sin(angle),
+                     longitude + 1.6 * distance * Math.cos(angle)));
+         }
+         return ring;
      }
 
      private MapLayer createMapLayer(String dataSourceName) {
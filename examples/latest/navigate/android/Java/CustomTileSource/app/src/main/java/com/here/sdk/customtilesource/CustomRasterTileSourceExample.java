@@ -20,6 +20,7 @@
  package com.here.sdk.customtilesource;
 
  import android.content.Context;
+ import android.util.Log;
 
  import com.here.sdk.mapview.MapCameraLimits;
  import com.here.sdk.core.Anchor2D;
@@ -37,15 +38,21 @@
  import com.here.sdk.mapview.MapMeasure;
  import com.here.sdk.mapview.MapView;
  import com.here.sdk.mapview.datasource.RasterDataSource;
+ import com.here.sdk.mapview.datasource.RasterTileSource;
 
  public class CustomRasterTileSourceExample {
 
+     private static final String TAG = "CustomRasterTileSource";
      private static final float DEFAULT_DISTANCE_TO_EARTH_IN_METERS = 60 * 1000;
+     // When true, the tile requests of the raster layer are traced and the metrics are logged
+     // each time the layer is disabled.
+     private static final boolean TRACE_TILE_REQUESTS = true;
 
      private final MapView mapView;
      private final MapLayer rasterMapLayerStyle;
      private final RasterDataSource rasterDataSourceStyle;
      private final Context context;
+     private final TileRequestTracer tileRequestTracer = new TileRequestTracer();
 
      CustomRasterTileSourceExample(MapView mapView, Context context) {
          this.mapView = mapView;
@@ -64,17 +71,25 @@
      }
 
      public void enableLayer() {
+         tileRequestTracer.setEnabled(TRACE_TILE_REQUESTS);
          rasterMapLayerStyle.setEnabled(true);
      }
 
      public void disableLayer() {
          rasterMapLayerStyle.setEnabled(false);
+         if (tileRequestTracer.isEnabled()) {
+             tileRequestTracer.setEnabled(false);
+             Log.d(TAG, "Raster tile requests: " + tileRequestTracer.toJson());
+             tileRequestTracer.reset();
+         }
      }
 
      private RasterDataSource createRasterDataSource(String dataSourceName) {
          // Create a RasterDataSource over a local raster tile source.
          // Note that this will make the raster source already known to the passed map view.
-         return new RasterDataSource(mapView.getMapContext(), dataSourceName, new LocalRasterTileSource());
+         // The tracing wrapper forwards all calls and only records them while the tracer is enabled.
+         RasterTileSource rasterTileSource = new TracingRasterTileSource(new LocalRasterTileSource(), tileRequestTracer);
+         return new RasterDataSource(mapView.getMapContext(), dataSourceName, rasterTileSource);
      }
 
      private MapLayer createMapLayer(String dataSourceName) {
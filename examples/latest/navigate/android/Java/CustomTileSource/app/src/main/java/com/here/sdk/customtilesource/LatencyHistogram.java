@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free latency histogram with power-of-two buckets in microseconds.
+ *
+ * Bucket i counts the values in [2^(i-1), 2^i) microseconds, bucket 0 counts values below 1 microsecond.
+ * Recording only performs atomic increments, so it can be called from any thread without blocking.
+ */
+class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 32;
+
+    private final AtomicLongArray mBuckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong mCount = new AtomicLong();
+    private final AtomicLong mSumMicros = new AtomicLong();
+    private final AtomicLong mMaxMicros = new AtomicLong();
+
+    void record(long latencyNanos) {
+        final long micros = Math.max(0, latencyNanos / 1000);
+        final int bucket = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+        mBuckets.incrementAndGet(bucket);
+        mCount.incrementAndGet();
+        mSumMicros.addAndGet(micros);
+
+        long max = mMaxMicros.get();
+        while (micros > max && !mMaxMicros.compareAndSet(max, micros)) {
+            max = mMaxMicros.get();
+        }
+    }
+
+    long getCount() {
+        return mCount.get();
+    }
+
+    /**
+     * Returns the upper bound in microseconds of the bucket containing the given percentile (0-100),
+     * limited by the maximum recorded value.
+     */
+    long getPercentileMicros(double percentile) {
+        final long count = mCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += mBuckets.get(i);
+            if (seen >= rank) {
+                return Math.min(1L << i, mMaxMicros.get());
+            }
+        }
+        return mMaxMicros.get();
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            mBuckets.set(i, 0);
+        }
+        mCount.set(0);
+        mSumMicros.set(0);
+        mMaxMicros.set(0);
+    }
+
+    void appendJson(@NonNull StringBuilder json) {
+        final long count = mCount.get();
+        json.append("{\"count\":").append(count)
+            .append(",\"meanMicros\":").append(count == 0 ? 0 : mSumMicros.get() / count)
+            .append(",\"p50Micros\":").append(getPercentileMicros(50))
+            .append(",\"p90Micros\":").append(getPercentileMicros(90))
+            .append(",\"p99Micros\":").append(getPercentileMicros(99))
+            .append(",\"maxMicros\":").append(mMaxMicros.get())
+            .append(",\"buckets\":[");
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(mBuckets.get(i));
+        }
+        json.append("]}");
+    }
+}
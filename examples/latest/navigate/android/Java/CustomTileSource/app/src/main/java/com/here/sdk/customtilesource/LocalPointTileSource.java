@@ -43,9 +43,6 @@
 
  public class LocalPointTileSource implements PointTileSource {
 
-     // Tile source data version. A single version is supported for this example.
-     final DataVersion mDataVersion = new DataVersion(1, 0);
-
      // Tile source supported data levels.
      final List<Integer> mSupportedLevels = new ArrayList<Integer>(
              Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16));
@@ -56,6 +53,9 @@
      // Tile geo-bounds calculator for supported tiling scheme.
      final TileGeoBoundsCalculator mTileBoundsCalculator = new TileGeoBoundsCalculator(mSupportedTilingScheme);
 
+     // Data versions of the tiles, bumped whenever tiles are invalidated.
+     final TileDataVersions mDataVersions = new TileDataVersions(mTileBoundsCalculator);
+
      @Nullable
      @Override
      public LoadTileRequestHandle loadTile(@NonNull TileKey tileKey,
@@ -68,7 +68,7 @@
          PointData tileData = new PointDataBuilder().withCoordinates(getTileCenter(tileKey))
                                                     .withAttributes(pointAttributes)
                                                     .build();
-         loadResultHandler.loaded(tileKey, Arrays.asList(tileData), new TileMetadata(mDataVersion, new Date(0)));
+         loadResultHandler.loaded(tileKey, Arrays.asList(tileData), new TileMetadata(mDataVersions.getDataVersion(tileKey), new Date(0)));
 
          // No request handle is returned here since there is no asynchronous loading happening.
          return null;
@@ -78,18 +78,32 @@
      @Override
      public DataVersion getDataVersion(@NonNull TileKey tileKey) {
          // Latest version of the tile data.
-         return mDataVersion;
+         return mDataVersions.getDataVersion(tileKey);
      }
 
      @Override
      public void addListener(@NonNull Listener listener) {
-         // Not needed by this implementation.
-         // Listener can be used to signal the data source the update of data version.
+         // Listeners are notified about the tiles that are invalidated.
+         mDataVersions.addListener(listener);
      }
 
      @Override
      public void removeListener(@NonNull Listener listener) {
-         // Not used by this implementation.
+         mDataVersions.removeListener(listener);
+     }
+
+     /**
+      * Marks the given tiles as changed, so that only these tiles are reloaded.
+      */
+     public void invalidateTiles(@NonNull List<TileKey> tileKeys) {
+         mDataVersions.invalidate(tileKeys);
+     }
+
+     /**
+      * Marks all tiles intersecting the given area as changed, so that only these tiles are reloaded.
+      */
+     public void invalidateArea(@NonNull GeoBox area) {
+         mDataVersions.invalidate(area);
      }
 
      @NonNull
@@ -46,9 +46,6 @@ import com.here.sdk.mapview.datasource.DataAttributesBuilder;
 
 public class LocalPolygonTileSource implements PolygonTileSource {
 
-    // Tile source data version.
-    final DataVersion mDataVersion = new DataVersion(1, 0);
-
     // Supported data levels.
     final List<Integer> mSupportedLevels = new ArrayList<>(
             Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16));
@@ -59,6 +56,9 @@ public class LocalPolygonTileSource implements PolygonTileSource {
     // Tile geo-bounds calculator.
     final TileGeoBoundsCalculator mTileBoundsCalculator = new TileGeoBoundsCalculator(mSupportedTilingScheme);
 
+    // Data versions of the tiles, bumped whenever tiles are invalidated.
+    final TileDataVersions mDataVersions = new TileDataVersions(mTileBoundsCalculator);
+
     @Nullable
     @Override
     public LoadTileRequestHandle loadTile(@NonNull TileKey tileKey, @NonNull LoadResultHandler loadResultHandler) {
@@ -70,7 +70,7 @@ public class LocalPolygonTileSource implements PolygonTileSource {
                     .withAttributes(new DataAttributesBuilder().build())
                     .build();
             Log.d("LocalPolygonTileSource", "Tile loaded successfully");
-            loadResultHandler.loaded(tileKey, Collections.singletonList(tileData), new TileSource.TileMetadata(mDataVersion, new Date(0)));
+            loadResultHandler.loaded(tileKey, Collections.singletonList(tileData), new TileSource.TileMetadata(mDataVersions.getDataVersion(tileKey), new Date(0)));
         } catch (InstantiationErrorException e) {
             Log.e("LocalPolygonTileSource", "Failed to create PolygonData", e);
             loadResultHandler.failed(tileKey);
@@ -82,18 +82,32 @@ public class LocalPolygonTileSource implements PolygonTileSource {
     @NonNull
     @Override
     public DataVersion getDataVersion(@NonNull TileKey tileKey) {
-        return mDataVersion;
+        return mDataVersions.getDataVersion(tileKey);
     }
 
     @Override
     public void addListener(@NonNull Listener listener) {
-        // Not needed by this implementation.
-        // Listener can be used to signal the data source the update of data version.
+        // Listeners are notified about the tiles that are invalidated.
+        mDataVersions.addListener(listener);
     }
 
     @Override
     public void removeListener(@NonNull Listener listener) {
-        // Not used by this implementation.
+        mDataVersions.removeListener(listener);
+    }
+
+    /**
+     * Marks the given tiles as changed, so that only these tiles are reloaded.
+     */
+    public void invalidateTiles(@NonNull List<TileKey> tileKeys) {
+        mDataVersions.invalidate(tileKeys);
+    }
+
+    /**
+     * Marks all tiles intersecting the given area as changed, so that only these tiles are reloaded.
+     */
+    public void invalidateArea(@NonNull GeoBox area) {
+        mDataVersions.invalidate(area);
     }
 
     @NonNull
@@ -26,7 +26,9 @@
  import androidx.annotation.NonNull;
  import androidx.annotation.Nullable;
 
+ import com.here.sdk.core.GeoBox;
  import com.here.sdk.mapview.datasource.RasterTileSource;
+ import com.here.sdk.mapview.datasource.TileGeoBoundsCalculator;
  import com.here.sdk.mapview.datasource.TileKey;
  import com.here.sdk.mapview.datasource.TilingScheme;
 
@@ -38,9 +40,6 @@
 
  public class LocalRasterTileSource implements RasterTileSource {
 
-     // Tile source data version. A single version is supported for this example.
-     final DataVersion mDataVersion = new DataVersion(1, 0);
-
      // Tile source supported data levels.
      final List<Integer> mSupportedLevels = new ArrayList<Integer>(
              Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16));
@@ -48,6 +47,12 @@
      // Tile source supported tiling scheme.
      final TilingScheme mSupportedTilingScheme = TilingScheme.QUAD_TREE_MERCATOR;
 
+     // Tile geo-bounds calculator for supported tiling scheme.
+     final TileGeoBoundsCalculator mTileBoundsCalculator = new TileGeoBoundsCalculator(mSupportedTilingScheme);
+
+     // Data versions of the tiles, bumped whenever tiles are invalidated.
+     final TileDataVersions mDataVersions = new TileDataVersions(mTileBoundsCalculator);
+
      // Local tile data (auto-generated).
      final List<byte[]> mTileData = new ArrayList<>();
 
@@ -79,7 +84,7 @@
                                            @NonNull LoadResultHandler loadResultHandler) {
          // Pick one of the local tile images, based on the tile key x component.
          loadResultHandler.loaded(tileKey, mTileData.get(tileKey.x % mTileData.size()),
-                 new TileMetadata(mDataVersion, new Date(0)));
+                 new TileMetadata(mDataVersions.getDataVersion(tileKey), new Date(0)));
 
          // No request handle is returned here since there is no asynchronous loading happening.
          return null;
@@ -89,18 +94,32 @@
      @Override
      public DataVersion getDataVersion(@NonNull TileKey tileKey) {
          // Latest version of the tile data.
-         return mDataVersion;
+         return mDataVersions.getDataVersion(tileKey);
      }
 
      @Override
      public void addListener(@NonNull Listener listener) {
-         // Not needed by this implementation.
-         // Listener can be used to signal the data source the update of data version.
+         // Listeners are notified about the tiles that are invalidated.
+         mDataVersions.addListener(listener);
      }
 
      @Override
      public void removeListener(@NonNull Listener listener) {
-         // Not used by this implementation.
+         mDataVersions.removeListener(listener);
+     }
+
+     /**
+      * Marks the given tiles as changed, so that only these tiles are reloaded.
+      */
+     public void invalidateTiles(@NonNull List<TileKey> tileKeys) {
+         mDataVersions.invalidate(tileKeys);
+     }
+
+     /**
+      * Marks all tiles intersecting the given area as changed, so that only these tiles are reloaded.
+      */
+     public void invalidateArea(@NonNull GeoBox area) {
+         mDataVersions.invalidate(area);
      }
 
      @NonNull
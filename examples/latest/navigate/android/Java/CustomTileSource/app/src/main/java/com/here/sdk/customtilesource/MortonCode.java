@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Morton (Z-order) code helpers for linear quadtrees aligned with `TilingScheme.QUAD_TREE_MERCATOR`.
+ *
+ * A cell of level L is encoded at the index level by interleaving its grid coordinates and shifting the result
+ * by 2 * (indexLevel - L) bits. All cells below a cell then share its code as prefix, so the descendants of a cell
+ * form the half-open code range [code, code + 4^(indexLevel - L)) of a sorted code array.
+ */
+final class MortonCode {
+
+    private MortonCode() {
+    }
+
+    // Interleaves the bits of x and y into a Morton code, y taking the higher bit of each pair.
+    static long interleave(int x, int y) {
+        return spreadBits(x) | (spreadBits(y) << 1);
+    }
+
+    // Returns the code of a cell of the given level, encoded at the index level.
+    static long cellCode(int cellX, int cellY, int level, int indexLevel) {
+        return interleave(cellX, cellY) << (2 * (indexLevel - level));
+    }
+
+    // Returns the index of the first code that is not lower than the given code.
+    static int lowerBound(@NonNull long[] codes, long code) {
+        int low = 0;
+        int high = codes.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (codes[middle] < code) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static long spreadBits(int value) {
+        long v = value & 0xFFFFFFFFL;
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        v = (v | (v << 1)) & 0x5555555555555555L;
+        return v;
+    }
+}
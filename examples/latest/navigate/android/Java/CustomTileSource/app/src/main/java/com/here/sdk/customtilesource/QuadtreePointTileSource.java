@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.sdk.core.GeoBox;
+import com.here.sdk.core.GeoCoordinates;
+import com.here.sdk.mapview.datasource.DataAttributes;
+import com.here.sdk.mapview.datasource.DataAttributesBuilder;
+import com.here.sdk.mapview.datasource.PointData;
+import com.here.sdk.mapview.datasource.PointDataBuilder;
+import com.here.sdk.mapview.datasource.PointTileSource;
+import com.here.sdk.mapview.datasource.TileGeoBoundsCalculator;
+import com.here.sdk.mapview.datasource.TileKey;
+import com.here.sdk.mapview.datasource.TilingScheme;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * QuadtreePointTileSource serves a static, local point data set through the `PointTileSource` interface.
+ *
+ * Unlike `LocalPointTileSource`, which generates one point per requested tile, this tile source is backed by
+ * real data. All points are indexed once in a linear quadtree that is aligned with `TilingScheme.QUAD_TREE_MERCATOR`:
+ * each point gets a Morton (Z-order) code of its Web Mercator cell at `INDEX_LEVEL` and the points are kept sorted
+ * by that code. Since all points of a tile share the same code prefix, a tile is a contiguous range of the
+ * sorted array and `loadTile()` only needs two binary searches - O(log n + k) per tile.
+ *
+ * Each point belongs to exactly one tile per level, so the tile contents of a level are complete and disjoint.
+ * To keep dense tiles at low zoom levels bounded, the tile content is thinned to at most `maxPointsPerTile`
+ * points, picked evenly along the Z-order curve so that the remaining points stay spread over the whole tile.
+ */
+public class QuadtreePointTileSource implements PointTileSource {
+
+    /**
+     * A single entry of the local point data set.
+     */
+    public static class LocalPoint {
+        public final GeoCoordinates coordinates;
+        public final String text;
+
+        public LocalPoint(@NonNull GeoCoordinates coordinates, @NonNull String text) {
+            this.coordinates = coordinates;
+            this.text = text;
+        }
+    }
+
+    // The depth of the quadtree index. It must not be lower than the highest supported storage level.
+    static final int INDEX_LEVEL = 24;
+
+    // Tile source supported data levels.
+    final List<Integer> mSupportedLevels = new ArrayList<>(
+            Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16));
+
+    // Tile source supported tiling scheme.
+    final TilingScheme mSupportedTilingScheme = TilingScheme.QUAD_TREE_MERCATOR;
+
+    // Tile geo-bounds calculator for supported tiling scheme.
+    final TileGeoBoundsCalculator mTileBoundsCalculator = new TileGeoBoundsCalculator(mSupportedTilingScheme);
+
+    // Data versions of the tiles, bumped whenever tiles are invalidated.
+    final TileDataVersions mDataVersions = new TileDataVersions(mTileBoundsCalculator);
+
+    // The maximum number of points provided for a single tile.
+    private final int mMaxPointsPerTile;
+
+    // The current point index. It is replaced as a whole when the points are updated.
+    private volatile PointIndex mIndex;
+
+    // The points and their Morton codes, both sorted by Morton code.
+    private static class PointIndex {
+        final LocalPoint[] points;
+        final long[] codes;
+
+        PointIndex(@NonNull List<LocalPoint> unsortedPoints) {
+            // Build the linear quadtree: sort all points once by the Morton code of their deepest cell.
+            final int count = unsortedPoints.size();
+            final long[] unsortedCodes = new long[count];
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                unsortedCodes[i] = mortonCodeOf(unsortedPoints.get(i).coordinates);
+                order[i] = i;
+            }
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return Long.compare(unsortedCodes[a], unsortedCodes[b]);
+                }
+            });
+
+            points = new LocalPoint[count];
+            codes = new long[count];
+            for (int i = 0; i < count; i++) {
+                points[i] = unsortedPoints.get(order[i]);
+                codes[i] = unsortedCodes[order[i]];
+            }
+        }
+
+        // Returns the index of the first code that is not lower than the given code.
+        int lowerBound(long code) {
+            return MortonCode.lowerBound(codes, code);
+        }
+    }
+
+    public QuadtreePointTileSource(@NonNull List<LocalPoint> points, int maxPointsPerTile) {
+        if (maxPointsPerTile <= 0) {
+            throw new IllegalArgumentException("maxPointsPerTile must be positive.");
+        }
+        mMaxPointsPerTile = maxPointsPerTile;
+        mIndex = new PointIndex(points);
+    }
+
+    /**
+     * Replaces the point data set. Only the tiles intersecting `changedArea`, which must cover
+     * all added, moved and removed points, are reloaded.
+     */
+    public void setPoints(@NonNull List<LocalPoint> points, @NonNull GeoBox changedArea) {
+        mIndex = new PointIndex(points);
+        // The new data must be visible before the versions are bumped, see loadTile().
+        mDataVersions.invalidate(changedArea);
+    }
+
+    @Nullable
+    @Override
+    public LoadTileRequestHandle loadTile(@NonNull TileKey tileKey,
+                                          @NonNull LoadResultHandler loadResultHandler) {
+        // Read the version before the data: if setPoints() runs in between, the new data is reported
+        // with the old version and the tile is reloaded again after the change notification.
+        final DataVersion dataVersion = mDataVersions.getDataVersion(tileKey);
+        List<PointData> tileData = new ArrayList<>();
+        for (LocalPoint point : queryTile(tileKey)) {
+            DataAttributes pointAttributes = new DataAttributesBuilder().with("pointText", point.text).build();
+            tileData.add(new PointDataBuilder().withCoordinates(point.coordinates)
+                                               .withAttributes(pointAttributes)
+                                               .build());
+        }
+        loadResultHandler.loaded(tileKey, tileData, new TileMetadata(dataVersion, new Date(0)));
+
+        // No request handle is returned here since there is no asynchronous loading happening.
+        return null;
+    }
+
+    /**
+     * Returns the points of a tile, thinned to at most `maxPointsPerTile` points.
+     */
+    @NonNull
+    List<LocalPoint> queryTile(@NonNull TileKey tileKey) {
+        final int[] cell = WebMercator.cellOf(mTileBoundsCalculator.boundsOf(tileKey), tileKey.level);
+        return queryCell(cell[0], cell[1], tileKey.level);
+    }
+
+    @NonNull
+    List<LocalPoint> queryCell(int cellX, int cellY, int level) {
+        // Points of a tile form the half-open range [from, to), as all cells below this tile
+        // share the tile's Morton code as prefix.
+        final PointIndex index = mIndex;
+        final int shift = 2 * (INDEX_LEVEL - level);
+        final long first = MortonCode.cellCode(cellX, cellY, level, INDEX_LEVEL);
+        final int from = index.lowerBound(first);
+        final int to = index.lowerBound(first + (1L << shift));
+
+        final int count = to - from;
+        if (count <= mMaxPointsPerTile) {
+            return count == 0 ? Collections.<LocalPoint>emptyList() : Arrays.asList(index.points).subList(from, to);
+        }
+
+        // Pick points evenly along the Z-order curve, which keeps them spread over the tile.
+        List<LocalPoint> thinned = new ArrayList<>(mMaxPointsPerTile);
+        for (int i = 0; i < mMaxPointsPerTile; i++) {
+            thinned.add(index.points[from + (int) ((long) i * count / mMaxPointsPerTile)]);
+        }
+        return thinned;
+    }
+
+    @NonNull
+    @Override
+    public DataVersion getDataVersion(@NonNull TileKey tileKey) {
+        // Latest version of the tile data.
+        return mDataVersions.getDataVersion(tileKey);
+    }
+
+    @Override
+    public void addListener(@NonNull Listener listener) {
+        // Listeners are notified about the tiles that are invalidated.
+        mDataVersions.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(@NonNull Listener listener) {
+        mDataVersions.removeListener(listener);
+    }
+
+    /**
+     * Marks the given tiles as changed, so that only these tiles are reloaded.
+     */
+    public void invalidateTiles(@NonNull List<TileKey> tileKeys) {
+        mDataVersions.invalidate(tileKeys);
+    }
+
+    /**
+     * Marks all tiles intersecting the given area as changed, so that only these tiles are reloaded.
+     */
+    public void invalidateArea(@NonNull GeoBox area) {
+        mDataVersions.invalidate(area);
+    }
+
+    @NonNull
+    @Override
+    public TilingScheme getTilingScheme() {
+        // The tiling scheme supported by this tile source.
+        return mSupportedTilingScheme;
+    }
+
+    @NonNull
+    @Override
+    public List<Integer> getStorageLevels() {
+        // The storage levels supported by this tile source.
+        return mSupportedLevels;
+    }
+
+    static long mortonCodeOf(@NonNull GeoCoordinates coordinates) {
+        final int cellsPerAxis = 1 << INDEX_LEVEL;
+        final int cellX = clampCell((long) Math.floor(WebMercator.x(coordinates.longitude) * cellsPerAxis), cellsPerAxis);
+        final int cellY = clampCell((long) Math.floor(WebMercator.y(coordinates.latitude) * cellsPerAxis), cellsPerAxis);
+        return MortonCode.interleave(cellX, cellY);
+    }
+
+    private static int clampCell(long cell, int cellsPerAxis) {
+        return (int) Math.max(0, Math.min(cellsPerAxis - 1, cell));
+    }
+}
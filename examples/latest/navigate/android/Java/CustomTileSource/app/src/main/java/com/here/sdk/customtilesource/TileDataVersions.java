@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import androidx.annotation.NonNull;
+
+import com.here.sdk.core.GeoBox;
+import com.here.sdk.mapview.datasource.TileGeoBoundsCalculator;
+import com.here.sdk.mapview.datasource.TileKey;
+import com.here.sdk.mapview.datasource.TileSource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps track of the data versions of a tile source and notifies the registered `TileSource.Listener`s
+ * when tiles change.
+ *
+ * All tiles start with the same initial version. Invalidating tiles or a geographic area records the changed
+ * region together with a new, higher version. The version of a tile is the highest version of all regions
+ * overlapping it, so a single region covers the affected tiles of all levels at once and the bookkeeping does
+ * not grow with the number of tiles. When there are too many regions, the two regions whose bounding box is the
+ * smallest are merged into it, which may bump the version of a few unchanged tiles between them but never misses
+ * a changed one.
+ *
+ * Tiles and regions cover the half-open ranges [min, max) of the projected coordinates, like the tile grid itself,
+ * so a change never bumps the tiles that only share an edge with it.
+ *
+ * Listeners are only notified about the tiles that the HERE SDK asked for recently, since tiles that were
+ * never requested are loaded with their new version anyway.
+ */
+class TileDataVersions {
+
+    private static final int MAJOR_VERSION = 1;
+
+    // The maximum number of changed regions kept before the closest ones are merged.
+    private static final int MAX_REGIONS = 32;
+
+    // The maximum number of recently requested tiles, which are the candidates for change notifications.
+    private static final int MAX_REQUESTED_TILES = 4096;
+
+    private final TileSource.DataVersion mInitialVersion = new TileSource.DataVersion(MAJOR_VERSION, 0);
+    private final CopyOnWriteArrayList<TileSource.Listener> mListeners = new CopyOnWriteArrayList<>();
+    private final TileGeoBoundsCalculator mTileBoundsCalculator;
+
+    // A changed region in normalized Web Mercator coordinates, see `WebMercator`. The maximum coordinates are
+    // exclusive.
+    private static class Region {
+        final double minX;
+        final double minY;
+        final double maxX;
+        final double maxY;
+        final int minorVersion;
+
+        Region(double minX, double minY, double maxX, double maxY, int minorVersion) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.minorVersion = minorVersion;
+        }
+
+        boolean intersects(@NonNull double[] bounds) {
+            return minX < bounds[2] && maxX > bounds[0] && minY < bounds[3] && maxY > bounds[1];
+        }
+
+        // The area of the bounding box of both regions.
+        double unionArea(@NonNull Region other) {
+            return (Math.max(maxX, other.maxX) - Math.min(minX, other.minX))
+                    * (Math.max(maxY, other.maxY) - Math.min(minY, other.minY));
+        }
+    }
+
+    // All members below are guarded by this.
+    private final List<Region> mRegions = new ArrayList<>();
+    private int mLastMinorVersion = 0;
+
+    // The recently requested tiles with their projected bounds, in access order.
+    private final LinkedHashMap<TileKey, double[]> mRequestedTiles =
+            new LinkedHashMap<TileKey, double[]>(MAX_REQUESTED_TILES + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<TileKey, double[]> eldest) {
+                    return size() > MAX_REQUESTED_TILES;
+                }
+            };
+
+    TileDataVersions(@NonNull TileGeoBoundsCalculator tileBoundsCalculator) {
+        mTileBoundsCalculator = tileBoundsCalculator;
+    }
+
+    /**
+     * Returns the current data version of a tile. Tile sources must call this before they read
+     * the tile data, so that data that changes in between is reported with the older version
+     * and reloaded after the change notification.
+     */
+    @NonNull
+    TileSource.DataVersion getDataVersion(@NonNull TileKey tileKey) {
+        double[] bounds;
+        synchronized (this) {
+            bounds = mRequestedTiles.get(tileKey);
+        }
+        if (bounds == null) {
+            bounds = boundsOf(tileKey);
+        }
+
+        int minorVersion = 0;
+        synchronized (this) {
+            mRequestedTiles.put(tileKey, bounds);
+            for (Region region : mRegions) {
+                if (region.minorVersion > minorVersion && region.intersects(bounds)) {
+                    minorVersion = region.minorVersion;
+                }
+            }
+        }
+        return minorVersion == 0 ? mInitialVersion : new TileSource.DataVersion(MAJOR_VERSION, minorVersion);
+    }
+
+    void addListener(@NonNull TileSource.Listener listener) {
+        mListeners.addIfAbsent(listener);
+    }
+
+    void removeListener(@NonNull TileSource.Listener listener) {
+        mListeners.remove(listener);
+    }
+
+    /**
+     * Bumps the data version of the given tiles and notifies the listeners about each of them.
+     * Tiles of other levels overlapping them get the new version as well.
+     */
+    void invalidate(@NonNull List<TileKey> tileKeys) {
+        synchronized (this) {
+            final int minorVersion = ++mLastMinorVersion;
+            for (TileKey tileKey : tileKeys) {
+                double[] bounds = boundsOf(tileKey);
+                addRegion(new Region(bounds[0], bounds[1], bounds[2], bounds[3], minorVersion));
+            }
+        }
+        notifyListeners(tileKeys);
+    }
+
+    /**
+     * Bumps the data version of all tiles that intersect the given area and notifies the listeners
+     * about the recently requested ones.
+     */
+    void invalidate(@NonNull GeoBox area) {
+        // The area includes its eastern and southern edges, which belong to the next tiles, so the exclusive
+        // maximum lies just beyond them. Points on these edges are thus part of the area, but the tiles that
+        // only share an edge with it are not.
+        final double west = WebMercator.x(area.southWestCorner.longitude);
+        final double east = Math.nextUp(WebMercator.x(area.northEastCorner.longitude));
+        final double north = WebMercator.y(area.northEastCorner.latitude);
+        final double south = Math.nextUp(WebMercator.y(area.southWestCorner.latitude));
+
+        List<TileKey> changedTiles = new ArrayList<>();
+        synchronized (this) {
+            final int minorVersion = ++mLastMinorVersion;
+            List<Region> changedRegions = new ArrayList<>(2);
+            if (west <= east) {
+                changedRegions.add(new Region(west, north, east, south, minorVersion));
+            } else {
+                // Areas crossing the antimeridian are split into a western and an eastern part.
+                changedRegions.add(new Region(west, north, 1, south, minorVersion));
+                changedRegions.add(new Region(0, north, east, south, minorVersion));
+            }
+            for (Region region : changedRegions) {
+                addRegion(region);
+            }
+            for (Map.Entry<TileKey, double[]> requestedTile : mRequestedTiles.entrySet()) {
+                for (Region region : changedRegions) {
+                    if (region.intersects(requestedTile.getValue())) {
+                        changedTiles.add(requestedTile.getKey());
+                        break;
+                    }
+                }
+            }
+        }
+        notifyListeners(changedTiles);
+    }
+
+    // Must be called with the lock held.
+    private void addRegion(@NonNull Region region) {
+        mRegions.add(region);
+        if (mRegions.size() > MAX_REGIONS) {
+            // Merge the two regions with the smallest bounding box, which covers the least unchanged area.
+            // Merging the oldest regions instead could span the whole map between two distant changes.
+            int firstIndex = 0;
+            int secondIndex = 1;
+            double smallestArea = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < mRegions.size(); i++) {
+                for (int j = i + 1; j < mRegions.size(); j++) {
+                    double area = mRegions.get(i).unionArea(mRegions.get(j));
+                    if (area < smallestArea) {
+                        smallestArea = area;
+                        firstIndex = i;
+                        secondIndex = j;
+                    }
+                }
+            }
+            // The merged region keeps the newer version of both.
+            Region second = mRegions.remove(secondIndex);
+            Region first = mRegions.remove(firstIndex);
+            mRegions.add(new Region(Math.min(first.minX, second.minX), Math.min(first.minY, second.minY),
+                    Math.max(first.maxX, second.maxX), Math.max(first.maxY, second.maxY),
+                    Math.max(first.minorVersion, second.minorVersion)));
+        }
+    }
+
+    private void notifyListeners(@NonNull List<TileKey> tileKeys) {
+        for (TileSource.Listener listener : mListeners) {
+            for (TileKey tileKey : tileKeys) {
+                listener.onDataVersionChanged(tileKey);
+            }
+        }
+    }
+
+    // Returns the projected bounds {minX, minY, maxX, maxY} of a tile.
+    @NonNull
+    double[] boundsOf(@NonNull TileKey tileKey) {
+        final int[] cell = WebMercator.cellOf(mTileBoundsCalculator.boundsOf(tileKey), tileKey.level);
+        final double tileSize = Math.scalb(1.0, -tileKey.level);
+        return new double[] {cell[0] * tileSize, cell[1] * tileSize, (cell[0] + 1) * tileSize, (cell[1] + 1) * tileSize};
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.sdk.mapview.datasource.TileKey;
+import com.here.sdk.mapview.datasource.TileSource;
+import com.here.sdk.mapview.datasource.TilingScheme;
+
+import java.util.List;
+
+/**
+ * The common part of the tracing wrappers: forwards everything but `loadTile()` to the wrapped tile source
+ * and starts the traced requests. The wrappers only adapt the `LoadResultHandler` of their tile source type.
+ */
+abstract class TracingTileSource<T extends TileSource> implements TileSource {
+
+    final T mTileSource;
+    private final TileRequestTracer mTracer;
+
+    TracingTileSource(@NonNull T tileSource, @NonNull TileRequestTracer tracer) {
+        mTileSource = tileSource;
+        mTracer = tracer;
+    }
+
+    /**
+     * Records a new request of the wrapped tile source, or returns null while the tracer is disabled.
+     */
+    @Nullable
+    TileRequestTracer.Request startRequest(@NonNull TileKey tileKey) {
+        return mTracer.isEnabled() ? mTracer.onRequest(mTileSource, tileKey) : null;
+    }
+
+    @NonNull
+    @Override
+    public DataVersion getDataVersion(@NonNull TileKey tileKey) {
+        return mTileSource.getDataVersion(tileKey);
+    }
+
+    @Override
+    public void addListener(@NonNull Listener listener) {
+        mTileSource.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(@NonNull Listener listener) {
+        mTileSource.removeListener(listener);
+    }
+
+    @NonNull
+    @Override
+    public TilingScheme getTilingScheme() {
+        return mTileSource.getTilingScheme();
+    }
+
+    @NonNull
+    @Override
+    public List<Integer> getStorageLevels() {
+        return mTileSource.getStorageLevels();
+    }
+}
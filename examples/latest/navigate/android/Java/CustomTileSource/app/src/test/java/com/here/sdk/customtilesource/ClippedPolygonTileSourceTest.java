@@ -0,0 +1,292 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.sdk.customtilesource;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.here.sdk.core.GeoCoordinates;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class ClippedPolygonTileSourceTest {
+
+    private static final double EPSILON = 1e-9;
+
+    // Creates a ring from projected coordinates {x0, y0, x1, y1, ...}.
+    private static List<GeoCoordinates> ring(double... projected) {
+        List<GeoCoordinates> coordinates = new ArrayList<>(projected.length / 2);
+        for (int i = 0; i < projected.length; i += 2) {
+            coordinates.add(new GeoCoordinates(WebMercator.latitude(projected[i + 1]),
+                    WebMercator.longitude(projected[i])));
+        }
+        return coordinates;
+    }
+
+    // Projects a ring the same way as the tile source does.
+    private static double[] project(List<GeoCoordinates> ring) {
+        double[] projected = new double[ring.size() * 2];
+        for (int i = 0; i < ring.size(); i++) {
+            projected[2 * i] = WebMercator.x(ring.get(i).longitude);
+            projected[2 * i + 1] = WebMercator.y(ring.get(i).latitude);
+        }
+        return projected;
+    }
+
+    private static double[] square(double minX, double minY, double maxX, double maxY) {
+        // Counter-clockwise on the map, where y grows to the south.
+        return new double[] {minX, minY, minX, maxY, maxX, maxY, maxX, minY};
+    }
+
+    // A non-convex polygon with many vertices around a center, counter-clockwise on the map.
+    private static double[] star(Random random, double centerX, double centerY, double radius, int vertexCount) {
+        double[] ring = new double[vertexCount * 2];
+        for (int i = 0; i < vertexCount; i++) {
+            double angle = -2 * Math.PI * i / vertexCount;
+            double distance = radius * (0.5 + 0.5 * random.nextDouble());
+            ring[2 * i] = centerX + distance * Math.cos(angle);
+            ring[2 * i + 1] = centerY + distance * Math.sin(angle);
+        }
+        return ring;
+    }
+
+    private static double gridSize(int level) {
+        return Math.scalb(1.0, -8 - level);
+    }
+
+    // The area of a polygon after simplification at the given level, holes subtracted.
+    private static double simplifiedArea(ClippedPolygonTileSource.LocalPolygon polygon, int level) {
+        double[] exterior = ClippedPolygonTileSource.simplify(project(polygon.exterior), gridSize(level));
+        double area = Math.abs(ClippedPolygonTileSource.signedArea(exterior, exterior.length));
+        for (List<GeoCoordinates> hole : polygon.holes) {
+            double[] simplified = ClippedPolygonTileSource.simplify(project(hole), gridSize(level));
+            if (simplified != null) {
+                area -= Math.abs(ClippedPolygonTileSource.signedArea(simplified, simplified.length));
+            }
+        }
+        return area;
+    }
+
+    // Clips all tiles of a level that may overlap the given bounds, checks each ring and returns the total area.
+    private static double clipAllTiles(ClippedPolygonTileSource tileSource, double[] bounds, int level) {
+        int cellsPerAxis = 1 << level;
+        double tileSize = 1.0 / cellsPerAxis;
+        double area = 0;
+        for (int x = (int) (bounds[0] * cellsPerAxis) - 1; x <= (int) (bounds[2] * cellsPerAxis) + 1; x++) {
+            for (int y = (int) (bounds[1] * cellsPerAxis) - 1; y <= (int) (bounds[3] * cellsPerAxis) + 1; y++) {
+                for (double[] ring : tileSource.clipTile(x, y, level)) {
+                    double ringArea = ClippedPolygonTileSource.signedArea(ring, ring.length);
+                    assertTrue("Rings must be counter-clockwise", ringArea > 0);
+                    for (int i = 0; i < ring.length; i += 2) {
+                        assertTrue(ring[i] >= x * tileSize && ring[i] <= (x + 1) * tileSize);
+                        assertTrue(ring[i + 1] >= y * tileSize && ring[i + 1] <= (y + 1) * tileSize);
+                    }
+                    area += ringArea;
+                }
+            }
+        }
+        return area;
+    }
+
+    private static double[] boundsOf(double[] ring) {
+        double[] bounds = {Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (int i = 0; i < ring.length; i += 2) {
+            bounds[0] = Math.min(bounds[0], ring[i]);
+            bounds[1] = Math.min(bounds[1], ring[i + 1]);
+            bounds[2] = Math.max(bounds[2], ring[i]);
+            bounds[3] = Math.max(bounds[3], ring[i + 1]);
+        }
+        return bounds;
+    }
+
+    @Test
+    public void clipKeepsThePartInsideTheRectangle() {
+        double[] clipped = ClippedPolygonTileSource.clip(square(0.2, 0.2, 0.6, 0.6), 0.5, 0.5, 1, 1);
+        assertEquals(0.01, ClippedPolygonTileSource.signedArea(clipped, clipped.length), EPSILON);
+        assertArrayEquals(new double[] {0.5, 0.5, 0.6, 0.6}, boundsOf(clipped), EPSILON);
+
+        // A rectangle inside the ring is covered completely.
+        double[] covered = ClippedPolygonTileSource.clip(square(0, 0, 1, 1), 0.25, 0.25, 0.5, 0.5);
+        assertEquals(0.0625, ClippedPolygonTileSource.signedArea(covered, covered.length), EPSILON);
+    }
+
+    @Test
+    public void clipDropsRingsOutsideOrOnlyTouchingTheRectangle() {
+        assertNull(ClippedPolygonTileSource.clip(square(0.1, 0.1, 0.2, 0.2), 0.5, 0.5, 1, 1));
+        // Shares only an edge with the rectangle.
+        assertNull(ClippedPolygonTileSource.clip(square(0.2, 0.5, 0.5, 0.7), 0.5, 0.5, 1, 1));
+        // Shares only a corner with the rectangle.
+        assertNull(ClippedPolygonTileSource.clip(square(0.2, 0.2, 0.5, 0.5), 0.5, 0.5, 1, 1));
+    }
+
+    @Test
+    public void polygonCrossingTileEdgesIsSplitWithoutGapsOrOverlaps() {
+        Random random = new Random(1);
+        for (int level = 10; level <= 14; level++) {
+            double tileSize = 1.0 / (1 << level);
+            // Spans about four tiles in each direction and is not aligned with the tile grid.
+            double[] projected = star(random, 0.5371 + random.nextDouble() * tileSize,
+                    0.3277 + random.nextDouble() * tileSize, 2 * tileSize, 500);
+            ClippedPolygonTileSource.LocalPolygon polygon = new ClippedPolygonTileSource.LocalPolygon(ring(projected));
+            ClippedPolygonTileSource tileSource = new ClippedPolygonTileSource(Collections.singletonList(polygon));
+
+            double expectedArea = simplifiedArea(polygon, level);
+            assertEquals(expectedArea, clipAllTiles(tileSource, boundsOf(projected), level), expectedArea * EPSILON);
+        }
+    }
+
+    @Test
+    public void clockwiseRingsAreProvidedCounterClockwise() {
+        double tileSize = 1.0 / (1 << 12);
+        double[] clockwise = {0.5, 0.5, 0.5 + 3 * tileSize, 0.5, 0.5 + 3 * tileSize, 0.5 + 3 * tileSize,
+                0.5, 0.5 + 3 * tileSize};
+        assertTrue(ClippedPolygonTileSource.signedArea(clockwise, clockwise.length) < 0);
+        ClippedPolygonTileSource tileSource = new ClippedPolygonTileSource(
+                Collections.singletonList(new ClippedPolygonTileSource.LocalPolygon(ring(clockwise))));
+
+        // clipAllTiles() checks the orientation of each ring.
+        assertEquals(9 * tileSize * tileSize, clipAllTiles(tileSource, boundsOf(clockwise), 12),
+                9 * tileSize * tileSize * EPSILON);
+    }
+
+    @Test
+    public void holesCrossingTileEdgesAreCutOut() {
+        int level = 12;
+        double tileSize = 1.0 / (1 << level);
+        double origin = 0.5;
+        double[] exterior = square(origin, origin, origin + 4 * tileSize, origin + 4 * tileSize);
+        // One hole crosses the edges of four tiles, the other one lies within a single tile.
+        List<GeoCoordinates> crossingHole = ring(square(origin + 0.5 * tileSize, origin + 0.5 * tileSize,
+                origin + 1.5 * tileSize, origin + 1.5 * tileSize));
+        List<GeoCoordinates> innerHole = ring(square(origin + 2.25 * tileSize, origin + 2.25 * tileSize,
+                origin + 2.75 * tileSize, origin + 2.75 * tileSize));
+        ClippedPolygonTileSource.LocalPolygon polygon = new ClippedPolygonTileSource.LocalPolygon(
+                ring(exterior), Arrays.asList(crossingHole, innerHole));
+        ClippedPolygonTileSource tileSource = new ClippedPolygonTileSource(Collections.singletonList(polygon));
+
+        double expectedArea = (16 - 1 - 0.25) * tileSize * tileSize;
+        assertEquals(expectedArea, simplifiedArea(polygon, level), expectedArea * EPSILON);
+        assertEquals(expectedArea, clipAllTiles(tileSource, boundsOf(exterior), level), expectedArea * EPSILON);
+
+        // Each tile is a single ring, the holes are bridged into it.
+        int cellX = (int) ((origin + 2.5 * tileSize) * (1 << level));
+        int cellY = (int) ((origin + 2.5 * tileSize) * (1 << level));
+        List<double[]> rings = tileSource.clipTile(cellX, cellY, level);
+        assertEquals(1, rings.size());
+        assertEquals(0.75 * tileSize * tileSize,
+                ClippedPolygonTileSource.signedArea(rings.get(0), rings.get(0).length), tileSize * tileSize * EPSILON);
+    }
+
+    @Test
+    public void tileInsideAHoleIsEmpty() {
+        int level = 12;
+        double tileSize = 1.0 / (1 << level);
+        double origin = 0.5;
+        double[] exterior = square(origin, origin, origin + 4 * tileSize, origin + 4 * tileSize);
+        // The hole covers the tile at (1, 1) completely and reaches into its neighbors.
+        List<GeoCoordinates> hole = ring(square(origin + 0.5 * tileSize, origin + 0.5 * tileSize,
+                origin + 2.5 * tileSize, origin + 2.5 * tileSize));
+        ClippedPolygonTileSource tileSource = new ClippedPolygonTileSource(Collections.singletonList(
+                new ClippedPolygonTileSource.LocalPolygon(ring(exterior), Collections.singletonList(hole))));
+
+        int cell = (int) (origin * (1 << level)) + 1;
+        assertTrue(tileSource.clipTile(cell, cell, level).isEmpty());
+        double expectedArea = 12 * tileSize * tileSize;
+        assertEquals(expectedArea, clipAllTiles(tileSource, boundsOf(exterior), level), expectedArea * EPSILON);
+    }
+
+    @Test
+    public void bridgeHolesJoinsAllHolesIntoOneRing() {
+        double[] exterior = square(0, 0, 10, 10);
+        List<double[]> holes = new ArrayList<>();
+        // Clockwise, as the holes of the tile source.
+        holes.add(new double[] {1, 1, 3, 1, 3, 3, 1, 3});
+        holes.add(new double[] {5, 6, 8, 6, 8, 8, 5, 8});
+        holes.add(new double[] {6, 1, 7, 1, 7, 2, 6, 2});
+
+        double[] bridged = ClippedPolygonTileSource.bridgeHoles(exterior, holes);
+        // Each bridge repeats the bridge vertex and the hole vertex it connects.
+        assertEquals((4 + 3 * (4 + 2)) * 2, bridged.length);
+        assertEquals(100 - 4 - 6 - 1, ClippedPolygonTileSource.signedArea(bridged, bridged.length), EPSILON);
+    }
+
+    @Test
+    public void degeneratedRingsAreDropped() {
+        double tileSize = 1.0 / (1 << 12);
+        double origin = 0.5;
+        List<ClippedPolygonTileSource.LocalPolygon> polygons = new ArrayList<>();
+        // Too few vertices, also when the closing vertex is repeated.
+        polygons.add(new ClippedPolygonTileSource.LocalPolygon(ring(origin, origin, origin + tileSize, origin)));
+        polygons.add(new ClippedPolygonTileSource.LocalPolygon(
+                ring(origin, origin, origin + tileSize, origin + tileSize, origin, origin)));
+        // All vertices on a line.
+        polygons.add(new ClippedPolygonTileSource.LocalPolygon(
+                ring(origin, origin, origin + tileSize, origin + tileSize, origin + 2 * tileSize, origin + 2 * tileSize)));
+        // Collapses to a point at levels up to 12, since it is smaller than half a pixel.
+        double pixel = tileSize / 256;
+        polygons.add(new ClippedPolygonTileSource.LocalPolygon(ring(square(origin + 0.3 * tileSize,
+                origin + 0.3 * tileSize, origin + 0.3 * tileSize + 0.2 * pixel, origin + 0.3 * tileSize + 0.2 * pixel))));
+        ClippedPolygonTileSource tileSource = new ClippedPolygonTileSource(polygons);
+
+        int cell = (int) (origin * (1 << 12));
+        for (int level = 1; level <= 12; level++) {
+            int shift = 12 - level;
+            assertTrue(tileSource.clipTile(cell >> shift, cell >> shift, level).isEmpty());
+        }
+        // The small square is visible again at a level at which it spans a few pixels.
+        int cellAt16 = (int) ((origin + 0.3 * tileSize) * (1 << 16));
+        assertEquals(1, tileSource.clipTile(cellAt16, cellAt16, 16).size());
+    }
+
+    @Test
+    public void collapsingHolesAreDroppedAndTheExteriorIsKept() {
+        int level = 12;
+        double tileSize = 1.0 / (1 << level);
+        double origin = 0.5;
+        double pixel = tileSize / 256;
+        double[] exterior = square(origin, origin, origin + tileSize, origin + tileSize);
+        List<GeoCoordinates> hole = ring(square(origin + 0.5 * tileSize, origin + 0.5 * tileSize,
+                origin + 0.5 * tileSize + 0.2 * pixel, origin + 0.5 * tileSize + 0.2 * pixel));
+        ClippedPolygonTileSource tileSource = new ClippedPolygonTileSource(Collections.singletonList(
+                new ClippedPolygonTileSource.LocalPolygon(ring(exterior), Collections.singletonList(hole))));
+
+        int cell = (int) (origin * (1 << level));
+        List<double[]> rings = tileSource.clipTile(cell, cell, level);
+        assertEquals(1, rings.size());
+        assertEquals(tileSize * tileSize, ClippedPolygonTileSource.signedArea(rings.get(0), rings.get(0).length),
+                tileSize * tileSize * EPSILON);
+    }
+
+    @Test
+    public void simplifyMergesVerticesSnappedToTheSameGridPoint() {
+        double[] ring = {0, 0, 0.1, 0.05, 0, 10, 10, 10, 10.2, 9.9, 10, 0};
+        assertArrayEquals(new double[] {0, 0, 0, 10, 10, 10, 10, 0}, ClippedPolygonTileSource.simplify(ring, 1), 0);
+        assertNull(ClippedPolygonTileSource.simplify(ring, 64));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.sdk.customtilesource;
+
+import static org.junit.Assert.assertEquals;
+
+import com.here.sdk.core.GeoCoordinates;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Compares the range query of QuadtreePointTileSource with a linear scan over all points, for random tiles
+// at levels 10 to 16 around a dense cluster. The average time per tile is printed.
+public class QuadtreePointTileSourceBenchmark {
+
+    private static final int POINT_COUNT = 100000;
+    private static final int TILE_COUNT = 2000;
+    private static final int WARMUP_ROUND_COUNT = 5;
+
+    @Test
+    public void queryBenchmark() {
+        Random random = new Random(1);
+        List<QuadtreePointTileSource.LocalPoint> points = new ArrayList<>(POINT_COUNT);
+        double[] xs = new double[POINT_COUNT];
+        double[] ys = new double[POINT_COUNT];
+        for (int i = 0; i < POINT_COUNT; i++) {
+            GeoCoordinates coordinates = new GeoCoordinates(52.5 + random.nextGaussian() * 0.2,
+                    13.4 + random.nextGaussian() * 0.3);
+            points.add(new QuadtreePointTileSource.LocalPoint(coordinates, "#" + i));
+            xs[i] = WebMercator.x(coordinates.longitude);
+            ys[i] = WebMercator.y(coordinates.latitude);
+        }
+        QuadtreePointTileSource tileSource = new QuadtreePointTileSource(points, Integer.MAX_VALUE);
+
+        int[][] tiles = new int[TILE_COUNT][];
+        for (int i = 0; i < TILE_COUNT; i++) {
+            int level = 10 + random.nextInt(7);
+            int index = random.nextInt(POINT_COUNT);
+            tiles[i] = new int[] {(int) (xs[index] * (1 << level)), (int) (ys[index] * (1 << level)), level};
+        }
+
+        long quadtreeNanos = 0;
+        long linearNanos = 0;
+        // Consumes the results, so that the queries are not optimized away.
+        long checksum = 0;
+        for (int round = 0; round <= WARMUP_ROUND_COUNT; round++) {
+            long startNanos = System.nanoTime();
+            for (int[] tile : tiles) {
+                checksum += tileSource.queryCell(tile[0], tile[1], tile[2]).size();
+            }
+            long quadtreeEndNanos = System.nanoTime();
+            for (int[] tile : tiles) {
+                checksum -= countLinear(xs, ys, tile[0], tile[1], tile[2]);
+            }
+            long linearEndNanos = System.nanoTime();
+            quadtreeNanos = quadtreeEndNanos - startNanos;
+            linearNanos = linearEndNanos - quadtreeEndNanos;
+        }
+
+        assertEquals(0, checksum);
+        System.out.println("QuadtreePointTileSource.queryCell(), average in nanoseconds per tile: "
+                + quadtreeNanos / TILE_COUNT + ", linear scan: " + linearNanos / TILE_COUNT);
+    }
+
+    private static int countLinear(double[] xs, double[] ys, int cellX, int cellY, int level) {
+        int cellsPerAxis = 1 << level;
+        int count = 0;
+        for (int i = 0; i < xs.length; i++) {
+            if ((int) (xs[i] * cellsPerAxis) == cellX && (int) (ys[i] * cellsPerAxis) == cellY) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2025-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.sdk.customtilesource;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.here.sdk.core.GeoBox;
+import com.here.sdk.core.GeoCoordinates;
+import com.here.sdk.mapview.datasource.TileKey;
+import com.here.sdk.mapview.datasource.TileSource;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class TileDataVersionsTest {
+
+    // Uses the tile grid of `WebMercator` directly, with y growing to the south, instead of
+    // the `TileGeoBoundsCalculator` of the HERE SDK.
+    private static TileDataVersions createDataVersions() {
+        return new TileDataVersions(null) {
+            @Override
+            double[] boundsOf(TileKey tileKey) {
+                final double tileSize = Math.scalb(1.0, -tileKey.level);
+                return new double[] {tileKey.x * tileSize, tileKey.y * tileSize,
+                        (tileKey.x + 1) * tileSize, (tileKey.y + 1) * tileSize};
+            }
+        };
+    }
+
+    // Creates a geographic area from projected coordinates.
+    private static GeoBox area(double minX, double minY, double maxX, double maxY) {
+        return new GeoBox(new GeoCoordinates(WebMercator.latitude(maxY), WebMercator.longitude(minX)),
+                new GeoCoordinates(WebMercator.latitude(minY), WebMercator.longitude(maxX)));
+    }
+
+    // Requests all tiles of a block of the given level, as the HERE SDK does for the visible tiles.
+    private static List<TileKey> requestTiles(TileDataVersions dataVersions, int minX, int minY, int size, int level) {
+        List<TileKey> tileKeys = new ArrayList<>();
+        for (int x = minX; x < minX + size; x++) {
+            for (int y = minY; y < minY + size; y++) {
+                TileKey tileKey = new TileKey(x, y, level);
+                dataVersions.getDataVersion(tileKey);
+                tileKeys.add(tileKey);
+            }
+        }
+        return tileKeys;
+    }
+
+    // Returns the tiles whose data version differs from the given one, which the HERE SDK would load again.
+    private static Set<TileKey> changedTiles(TileDataVersions dataVersions, List<TileKey> tileKeys,
+                                             TileSource.DataVersion version) {
+        Set<TileKey> changedTiles = new HashSet<>();
+        for (TileKey tileKey : tileKeys) {
+            if (!dataVersions.getDataVersion(tileKey).equals(version)) {
+                changedTiles.add(tileKey);
+            }
+        }
+        return changedTiles;
+    }
+
+    private static class RecordingListener implements TileSource.Listener {
+        final Set<TileKey> changedTiles = new HashSet<>();
+
+        @Override
+        public void onDataVersionChanged(TileKey tileKey) {
+            changedTiles.add(tileKey);
+        }
+    }
+
+    @Test
+    public void invalidatingTilesBumpsOverlappingTilesOfAllLevelsButNotTheNeighbors() {
+        TileDataVersions dataVersions = createDataVersions();
+        List<TileKey> tileKeys = new ArrayList<>();
+        for (int level = 8; level <= 10; level++) {
+            int scale = 1 << (level - 8);
+            tileKeys.addAll(requestTiles(dataVersions, 99 * scale, 99 * scale, 3 * scale, level));
+        }
+        TileSource.DataVersion initialVersion = dataVersions.getDataVersion(tileKeys.get(0));
+
+        RecordingListener listener = new RecordingListener();
+        dataVersions.addListener(listener);
+        dataVersions.invalidate(Collections.singletonList(new TileKey(200, 200, 9)));
+
+        assertEquals(Collections.singleton(new TileKey(200, 200, 9)), listener.changedTiles);
+        assertEquals(new HashSet<>(Arrays.asList(new TileKey(100, 100, 8), new TileKey(200, 200, 9),
+                        new TileKey(400, 400, 10), new TileKey(401, 400, 10), new TileKey(400, 401, 10),
+                        new TileKey(401, 401, 10))),
+                changedTiles(dataVersions, tileKeys, initialVersion));
+    }
+
+    @Test
+    public void invalidatingAnAreaOnlyBumpsAndNotifiesTheTilesItOverlaps() {
+        TileDataVersions dataVersions = createDataVersions();
+        List<TileKey> tileKeys = requestTiles(dataVersions, 500, 500, 6, 10);
+        TileSource.DataVersion initialVersion = dataVersions.getDataVersion(tileKeys.get(0));
+        RecordingListener listener = new RecordingListener();
+        dataVersions.addListener(listener);
+
+        // Exactly the tiles 501 to 502 in both directions. Their neighbors only share an edge with the area.
+        double tileSize = 1.0 / (1 << 10);
+        dataVersions.invalidate(area(501 * tileSize, 501 * tileSize, 503 * tileSize - tileSize / 1024,
+                503 * tileSize - tileSize / 1024));
+
+        Set<TileKey> expected = new HashSet<>(Arrays.asList(new TileKey(501, 501, 10), new TileKey(502, 501, 10),
+                new TileKey(501, 502, 10), new TileKey(502, 502, 10)));
+        assertEquals(expected, changedTiles(dataVersions, tileKeys, initialVersion));
+        assertEquals(expected, listener.changedTiles);
+    }
+
+    @Test
+    public void invalidatingAnAreaIncludesItsEdges() {
+        TileDataVersions dataVersions = createDataVersions();
+        List<TileKey> tileKeys = requestTiles(dataVersions, 500, 500, 4, 10);
+        TileSource.DataVersion initialVersion = dataVersions.getDataVersion(tileKeys.get(0));
+
+        // A single point on the western edge of tile 502, which belongs to this tile and not to tile 501.
+        double tileSize = 1.0 / (1 << 10);
+        GeoCoordinates point = new GeoCoordinates(WebMercator.latitude(501.5 * tileSize),
+                WebMercator.longitude(502 * tileSize));
+        dataVersions.invalidate(new GeoBox(point, point));
+
+        assertEquals(Collections.singleton(new TileKey(502, 501, 10)),
+                changedTiles(dataVersions, tileKeys, initialVersion));
+    }
+
+    @Test
+    public void mergingRegionsDoesNotBumpTheTilesBetweenDistantChanges() {
+        TileDataVersions dataVersions = createDataVersions();
+        // Level 4 tiles across most of the map.
+        List<TileKey> tileKeys = requestTiles(dataVersions, 2, 2, 12, 4);
+        TileSource.DataVersion initialVersion = dataVersions.getDataVersion(tileKeys.get(0));
+
+        // Far more changes than regions are kept, alternating between the tiles (3, 3) and (12, 12) of level 4.
+        // All changes lie within these tiles, the level 12 tiles of a level 4 tile range from 256 to 511.
+        for (int i = 0; i < 100; i++) {
+            int offset = 1 + (i * 37) % 254;
+            int cell = i % 2 == 0 ? 3 * 256 + offset : 12 * 256 + offset;
+            dataVersions.invalidate(Collections.singletonList(new TileKey(cell, 3 * 256 + 1 + (i * 53) % 254, 12)));
+        }
+
+        // Merging the oldest regions would have created a region from (3, 3) to (12, 3), bumping the tiles between.
+        Set<TileKey> expected = new HashSet<>(Arrays.asList(new TileKey(3, 3, 4), new TileKey(12, 3, 4)));
+        assertEquals(expected, changedTiles(dataVersions, tileKeys, initialVersion));
+    }
+
+    @Test
+    public void mergedRegionsKeepTheNewestVersion() {
+        TileDataVersions dataVersions = createDataVersions();
+        TileKey tileKey = new TileKey(10, 10, 8);
+        for (int i = 0; i < 100; i++) {
+            dataVersions.invalidate(Collections.singletonList(new TileKey(10 * 16 + i % 16, 10 * 16 + i / 16, 12)));
+        }
+        TileSource.DataVersion version = dataVersions.getDataVersion(tileKey);
+
+        dataVersions.invalidate(Collections.singletonList(new TileKey(10 * 16 + 15, 10 * 16 + 15, 12)));
+        assertTrue(!dataVersions.getDataVersion(tileKey).equals(version));
+        // The last change is reported again after more merges.
+        TileSource.DataVersion lastVersion = dataVersions.getDataVersion(tileKey);
+        for (int i = 0; i < 100; i++) {
+            dataVersions.invalidate(Collections.singletonList(new TileKey(100 + i, 100, 10)));
+        }
+        assertEquals(lastVersion, dataVersions.getDataVersion(tileKey));
+    }
+}
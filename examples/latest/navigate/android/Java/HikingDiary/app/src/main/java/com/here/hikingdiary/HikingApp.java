@@ -29,9 +29,11 @@ import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 
-import com.here.hikingdiary.locationfilter.DistanceAccuracyLocationFilter;
+import com.here.hikingdiary.locationfilter.KalmanLocationFilter;
 import com.here.hikingdiary.locationfilter.LocationFilterInterface;
 import com.here.hikingdiary.positioning.HEREPositioningVisualizer;
+import com.here.hikingdiary.rastertiles.RasterTileSeeder;
+import com.here.hikingdiary.tracksimplification.TrackSimplifier;
 import com.here.sdk.animation.Easing;
 import com.here.sdk.animation.EasingFunction;
 import com.here.sdk.core.Color;
@@ -64,6 +66,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class HikingApp {
+    // Recorded locations are only stored if they deviate more than this from the simplified track.
+    private static final double TRACK_TOLERANCE_IN_METERS = 5.0;
+    // Set to true to store all received locations also unfiltered and unsimplified, in a separate GPX document.
+    private static final boolean KEEP_RAW_TRACK = false;
+    // Set to true to download the outdoor raster tiles along a loaded diary entry for offline use, up to 256 MB.
+    // Seeding only starts while the outdoor layer is shown and the device is on an unmetered network like Wi-Fi.
+    private static final boolean SEED_TRAIL_TILES = false;
     public HEREBackgroundPositioningServiceProvider hereBackgroundPositioningServiceProvider;
     private MapView mapView;
     private Context context;
@@ -71,13 +80,20 @@ public class HikingApp {
     private boolean isHiking = false;
     private boolean isGPXTrackLoaded = false;
     private GPXTrackWriter gpxTrackWriter = new GPXTrackWriter();
+    private GPXTrackWriter rawGpxTrackWriter = new GPXTrackWriter();
+    private TrackSimplifier trackSimplifier = new TrackSimplifier(TRACK_TOLERANCE_IN_METERS);
     private GPXManager gpxManager;
+    private GPXManager rawGpxManager;
     private HEREPositioningVisualizer positioningVisualizer;
     private OutdoorRasterLayer outdoorRasterLayer;
+    private RasterTileSeeder.SeedJob seedJob;
     private TextView messageTextView;
     private LocationFilterInterface locationFilter;
     private Activity activity;
     private Location currentLocation;
+    // The length of the filtered track, which is longer than the simplified track that is stored.
+    private double hikeDistanceInMeters;
+    private Location lastFilteredLocation;
 
     private final LocationListener locationListener = location -> {
         currentLocation = location;
@@ -89,8 +105,11 @@ public class HikingApp {
         this.context = context;
         activity = (Activity) context;
 
-        locationFilter = new DistanceAccuracyLocationFilter();
+        locationFilter = new KalmanLocationFilter();
         gpxManager = new GPXManager("myGPXDocument.gpx", context);
+        if (KEEP_RAW_TRACK) {
+            rawGpxManager = new GPXManager("myRawGPXDocument.gpx", context);
+        }
         positioningVisualizer = new HEREPositioningVisualizer(mapView);
         outdoorRasterLayer = new OutdoorRasterLayer(mapView);
 
@@ -106,7 +125,15 @@ public class HikingApp {
         isGPXTrackLoaded = false;
         animateCameraToCurrentLocation();
         setMessage("Start Hike.");
+        // Don't compete with the hike for bandwidth and battery.
+        cancelSeeding();
+        // The filter keeps state between locations, so each hike starts with a fresh one.
+        locationFilter = new KalmanLocationFilter();
         gpxTrackWriter = new GPXTrackWriter();
+        rawGpxTrackWriter = new GPXTrackWriter();
+        trackSimplifier = new TrackSimplifier(TRACK_TOLERANCE_IN_METERS);
+        hikeDistanceInMeters = 0;
+        lastFilteredLocation = null;
     }
 
     public void onStopHikingButtonClicked() {
@@ -125,25 +152,46 @@ public class HikingApp {
 
     public void disableOutdoorRasterLayer() {
         outdoorRasterLayer.disable();
+        // The tiles are only seeded for the outdoor layer.
+        cancelSeeding();
+    }
+
+    public void onDestroy() {
+        outdoorRasterLayer.onDestroy();
     }
 
     public void onLocationUpdated(@NonNull Location location) {
         positioningVisualizer.updateLocationIndicator(location);
         if (isHiking) {
             positioningVisualizer.renderUnfilteredLocationSignals(location);
+            if (KEEP_RAW_TRACK) {
+                rawGpxTrackWriter.onLocationUpdated(location);
+            }
         }
         if (isHiking && locationFilter.checkIfLocationCanBeUsed(location)) {
-            gpxTrackWriter.onLocationUpdated(location);
-            MapPolyline mapPolyline = updateTravelledPath();
-            if (mapPolyline != null) {
-                int distanceTravelled = getLengthOfGeoPolylineInMeters(mapPolyline.getGeometry());
-                setMessage("Hike Distance: " + distanceTravelled + " m");
+            Location filteredLocation = locationFilter.getFilteredLocation(location);
+            if (lastFilteredLocation != null) {
+                hikeDistanceInMeters += lastFilteredLocation.coordinates.distanceTo(filteredLocation.coordinates);
+            }
+            lastFilteredLocation = filteredLocation;
+            // Only locations that are needed to keep the shape of the track are stored.
+            Location simplifiedLocation = trackSimplifier.addLocation(filteredLocation);
+            if (simplifiedLocation != null) {
+                gpxTrackWriter.onLocationUpdated(simplifiedLocation);
+            }
+            if (updateTravelledPath() != null) {
+                setMessage("Hike Distance: " + (int) hikeDistanceInMeters + " m");
             }
         }
     }
 
     private MapPolyline updateTravelledPath() {
         List<GeoCoordinates> geoCoordinatesList = gpxManager.getGeoCoordinatesList(gpxTrackWriter.getTrack());
+        // The newest location is not stored yet, but the path should reach up to the current position.
+        Location pendingLocation = trackSimplifier.getPendingLocation();
+        if (pendingLocation != null) {
+            geoCoordinatesList.add(pendingLocation.coordinates);
+        }
         if (geoCoordinatesList.size() < 2) {
             return null;
         }
@@ -196,6 +244,16 @@ public class HikingApp {
     }
 
     private void saveDiaryEntry() {
+        Location lastLocation = trackSimplifier.flush();
+        if (lastLocation != null) {
+            gpxTrackWriter.onLocationUpdated(lastLocation);
+        }
+        Log.d("HikingApp", "Simplified track: stored " + trackSimplifier.getOutputCount()
+                + " of " + trackSimplifier.getInputCount() + " locations.");
+        if (KEEP_RAW_TRACK) {
+            rawGpxManager.saveGPXTrack(rawGpxTrackWriter.getTrack());
+        }
+
         // Permanently store the trip on the device.
         boolean result = gpxManager.saveGPXTrack(gpxTrackWriter.getTrack());
         setMessage("Saved Hike: " + result + ".");
@@ -230,6 +288,37 @@ public class HikingApp {
 
         setMessage("Diary Entry from: " + gpxTrack.getDescription() + "\n" +
                 "Hike Distance: " + distanceTravelled + " m");
+
+        // Make the outdoor raster tiles along the trail available offline, so that it can be hiked again.
+        if (SEED_TRAIL_TILES) {
+            seedTrail(diaryGeoCoordinatesList);
+        }
+    }
+
+    private void seedTrail(List<GeoCoordinates> trail) {
+        cancelSeeding();
+        seedJob = outdoorRasterLayer.seedTrailCorridor(trail, new RasterTileSeeder.SeedListener() {
+            @Override
+            public void onProgress(int completedTiles, int totalTiles, long storedBytes) {
+                // Not needed for this example.
+            }
+
+            @Override
+            public void onCompleted(int storedTiles, int failedTiles, long storedBytes) {
+                Log.d("HikingApp", "Seeded " + storedTiles + " outdoor raster tiles (" + storedBytes / 1024 + " KB), "
+                        + failedTiles + " failed.");
+            }
+        });
+        if (seedJob == null) {
+            Log.d("HikingApp", "Outdoor raster tiles are only seeded while the outdoor layer is shown on an unmetered network.");
+        }
+    }
+
+    private void cancelSeeding() {
+        if (seedJob != null) {
+            seedJob.cancel();
+            seedJob = null;
+        }
     }
 
     public void deleteDiaryEntry(int index) {
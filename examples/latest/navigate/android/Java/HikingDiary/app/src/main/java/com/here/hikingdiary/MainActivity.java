@@ -354,6 +354,7 @@ public class MainActivity extends AppCompatActivity {
     protected void onDestroy() {
         if (hikingApp != null) {
             hikingApp.hereBackgroundPositioningServiceProvider.stopForegroundService();
+            hikingApp.onDestroy();
         }
         mapView.onDestroy();
         disposeHERESDK();
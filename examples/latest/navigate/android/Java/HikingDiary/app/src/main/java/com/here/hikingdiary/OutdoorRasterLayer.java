@@ -19,6 +19,17 @@
 
 package com.here.hikingdiary;
 
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.NetworkCapabilities;
+
+import androidx.annotation.Nullable;
+
+import com.here.hikingdiary.rastertiles.HttpRasterTileFetcher;
+import com.here.hikingdiary.rastertiles.RasterTileSeeder;
+import com.here.hikingdiary.rastertiles.RasterTileStore;
+import com.here.hikingdiary.rastertiles.XyzTile;
+import com.here.sdk.core.GeoCoordinates;
 import com.here.sdk.mapview.MapCameraLimits;
 import com.here.sdk.mapview.MapContentType;
 import com.here.sdk.mapview.MapLayer;
@@ -29,19 +40,34 @@ import com.here.sdk.mapview.MapLayerVisibilityRange;
 import com.here.sdk.mapview.MapView;
 import com.here.sdk.mapview.datasource.RasterDataSource;
 import com.here.sdk.mapview.datasource.RasterDataSourceConfiguration;
-import com.here.sdk.mapview.datasource.TileUrlProviderFactory;
+import com.here.sdk.mapview.datasource.TileGeoBoundsCalculator;
+import com.here.sdk.mapview.datasource.TileUrlProviderCallback;
 import com.here.sdk.mapview.datasource.TilingScheme;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.List;
 
 // A class to show a custom raster layer on top of the default map style.
 // This class has been taken and adapted for this app from the CustomerRasterLayers example app, you can find here:
 // https://github.com/heremaps/here-sdk-examples/tree/master/examples/latest/navigate/android/CustomRasterLayers
+//
+// The tiles of a trail corridor can be seeded into a local tile store with seedTrailCorridor() while the layer
+// is shown and the device is on an unmetered network like Wi-Fi, so that they are available offline on the trail.
+// Seeded tiles are loaded from the store, all other tiles from the tile server. Either way, the HERE SDK keeps
+// them in its cache.
 public class OutdoorRasterLayer {
+    // The levels that are seeded for a trail. Lower levels are covered by the cache after a few map views.
+    private static final List<Integer> SEEDED_LEVELS = Arrays.asList(10, 11, 12, 13, 14, 15, 16);
+    private static final double CORRIDOR_RADIUS_IN_METERS = 500;
+    private static final long MAX_SEEDED_SIZE_IN_BYTES = 1024L * 1024L * 256L; // 256 MB
+
     private MapView mapView;
     private MapLayer customRasterLayer;
     private RasterDataSource customRasterDataSourceStyle;
+    private RasterTileStore seededTileStore;
+    private RasterTileSeeder rasterTileSeeder;
+    private boolean isEnabled = false;
 
     public OutdoorRasterLayer(MapView mapView) {
         this.mapView = mapView;
@@ -56,10 +82,41 @@ public class OutdoorRasterLayer {
 
     public void enable() {
         customRasterLayer.setEnabled(true);
+        isEnabled = true;
     }
 
     public void disable() {
         customRasterLayer.setEnabled(false);
+        isEnabled = false;
+    }
+
+    // Downloads the missing tiles along a trail in the background. When the seeded tiles would exceed
+    // their maximum size, the tiles of the trails that were seeded first are removed.
+    // Returns null without downloading anything, when the layer is not shown or the network is metered.
+    @Nullable
+    public RasterTileSeeder.SeedJob seedTrailCorridor(List<GeoCoordinates> trail,
+                                                      RasterTileSeeder.SeedListener seedListener) {
+        if (!isEnabled || !isOnUnmeteredNetwork()) {
+            return null;
+        }
+        return rasterTileSeeder.seedCorridor(trail, CORRIDOR_RADIUS_IN_METERS, SEEDED_LEVELS,
+                MAX_SEEDED_SIZE_IN_BYTES, seedListener);
+    }
+
+    // Returns true for unmetered networks like most Wi-Fi networks, where a large download costs the user nothing.
+    private boolean isOnUnmeteredNetwork() {
+        ConnectivityManager connectivityManager =
+                (ConnectivityManager) mapView.getContext().getSystemService(Context.CONNECTIVITY_SERVICE);
+        NetworkCapabilities networkCapabilities =
+                connectivityManager.getNetworkCapabilities(connectivityManager.getActiveNetwork());
+        return networkCapabilities != null
+                && networkCapabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_METERED);
+    }
+
+    public void onDestroy() {
+        rasterTileSeeder.shutdown();
+        customRasterLayer.destroy();
+        customRasterDataSourceStyle.destroy();
     }
 
     private RasterDataSource createRasterDataSource(String dataSourceName) {
@@ -74,11 +131,26 @@ public class OutdoorRasterLayer {
         // Alternatively, choose another tile provider or use the (customizable) map styles provided by HERE.
         String templateUrl = "https://tile.thunderforest.com/outdoors/{z}/{x}/{y}.png";
 
+        // Seeded tiles are stored with the app's files as they must survive when the system frees up cache space.
+        seededTileStore = new RasterTileStore(new File(mapView.getContext().getFilesDir(), "raster/mycustomlayer"));
+        rasterTileSeeder = new RasterTileSeeder(seededTileStore, new HttpRasterTileFetcher(templateUrl));
+
         // The storage levels available for this data source. Supported range [0, 31].
         List<Integer> storageLevels = Arrays.asList(2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16);
 
+        // Seeded tiles are served from the local store, all other tiles from the tile server.
+        final TileGeoBoundsCalculator boundsCalculator = new TileGeoBoundsCalculator(TilingScheme.QUAD_TREE_MERCATOR);
+        TileUrlProviderCallback urlProvider = tileKey -> {
+            XyzTile tile = XyzTile.fromTileKey(tileKey, boundsCalculator);
+            File seededTileFile = seededTileStore.getTileFile(tile);
+            if (seededTileFile.isFile()) {
+                return "file://" + seededTileFile.getAbsolutePath();
+            }
+            return HttpRasterTileFetcher.getUrl(templateUrl, tile);
+        };
+
         RasterDataSourceConfiguration.Provider rasterProviderConfig = new RasterDataSourceConfiguration.Provider(
-                TileUrlProviderFactory.fromXyzUrlTemplate(templateUrl),
+                urlProvider,
                 TilingScheme.QUAD_TREE_MERCATOR,
                 storageLevels);
 
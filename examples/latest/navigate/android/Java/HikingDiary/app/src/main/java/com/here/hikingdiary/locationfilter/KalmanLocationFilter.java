@@ -0,0 +1,221 @@
+package com.here.hikingdiary.locationfilter;
+
+import com.here.sdk.core.GeoCoordinates;
+import com.here.sdk.core.Location;
+
+/*
+ * The KalmanLocationFilter class implements the LocationFilterInterface with a constant-velocity Kalman filter.
+ * Instead of dropping all locations above a fixed accuracy threshold, each location is weighted by its reported
+ * accuracy, so that less accurate signals, for example in forests, still contribute to the track. The filter
+ * estimates position and velocity in a local metric plane, independently for the east and north axes.
+ *
+ * Locations are rejected as outliers if
+ * - their reported accuracy or speed is implausible for a hike,
+ * - they are too far from the predicted position, given the uncertainty of the prediction and of the location.
+ * After several outliers in a row the filter is reset, as the user most likely is somewhere else by now.
+ *
+ * Accepted locations are replaced by the smoothed estimate, see getFilteredLocation(). While standing still,
+ * only the first estimate is accepted, so that the track does not collect jitter.
+ */
+public class KalmanLocationFilter implements LocationFilterInterface {
+    private static final double EARTH_RADIUS_IN_METERS = 6371000;
+
+    // Locations with a worse accuracy are not used at all.
+    private static final double MAX_ACCURACY_RADIUS_IN_METERS = 60.0;
+    // Used when a location has no accuracy.
+    private static final double DEFAULT_ACCURACY_RADIUS_IN_METERS = 30.0;
+    // Faster than running downhill, anything above is considered a faulty signal.
+    private static final double MAX_SPEED_IN_METERS_PER_SECOND = 8.0;
+    // How much the velocity may change, as the spectral density of the acceleration in m^2/s^3.
+    private static final double ACCELERATION_NOISE = 0.1;
+    // The squared normalized distance between the predicted and the measured position, above which a location
+    // is an outlier. This is the 99.9% quantile of the chi-squared distribution with two degrees of freedom.
+    private static final double OUTLIER_GATE = 13.8;
+    private static final int MAX_CONSECUTIVE_OUTLIERS = 5;
+    // A new location is only accepted if the estimate has moved at least this far from the last accepted one.
+    private static final double MIN_DISTANCE_IN_METERS = 3.0;
+    // The minimum distance is increased to this multiple of the standard deviation of the estimate.
+    private static final double UNCERTAINTY_FACTOR = 3.0;
+
+    // The origin of the local plane, in which x points east and y points north.
+    private double originLatitude;
+    private double originLongitude;
+    private double metersPerDegreeLongitude;
+
+    private boolean isInitialized;
+    private long lastTimeInMilliseconds;
+    private final Axis east = new Axis();
+    private final Axis north = new Axis();
+    // The state predicted for the location that is currently checked.
+    private final Axis predictedEast = new Axis();
+    private final Axis predictedNorth = new Axis();
+    private int consecutiveOutliers;
+
+    private double lastAcceptedX;
+    private double lastAcceptedY;
+    private boolean hasAcceptedLocation;
+
+    // One axis of the state, position and velocity with their 2x2 covariance.
+    private static class Axis {
+        double position;
+        double velocity;
+        double positionVariance;
+        double covariance;
+        double velocityVariance;
+
+        void reset(double position, double positionVariance) {
+            this.position = position;
+            velocity = 0;
+            this.positionVariance = positionVariance;
+            covariance = 0;
+            // Unknown velocity, up to the maximum speed.
+            velocityVariance = MAX_SPEED_IN_METERS_PER_SECOND * MAX_SPEED_IN_METERS_PER_SECOND;
+        }
+
+        void predict(double dt) {
+            position += velocity * dt;
+            double dt2 = dt * dt;
+            positionVariance += dt * (2 * covariance + dt * velocityVariance) + ACCELERATION_NOISE * dt2 * dt / 3;
+            covariance += dt * velocityVariance + ACCELERATION_NOISE * dt2 / 2;
+            velocityVariance += ACCELERATION_NOISE * dt;
+        }
+
+        // Returns the squared innovation normalized by its variance.
+        double normalizedInnovation(double measurement, double measurementVariance) {
+            double innovation = measurement - position;
+            return innovation * innovation / (positionVariance + measurementVariance);
+        }
+
+        void update(double measurement, double measurementVariance) {
+            double innovationVariance = positionVariance + measurementVariance;
+            double positionGain = positionVariance / innovationVariance;
+            double velocityGain = covariance / innovationVariance;
+            double innovation = measurement - position;
+            position += positionGain * innovation;
+            velocity += velocityGain * innovation;
+            velocityVariance -= velocityGain * covariance;
+            covariance -= positionGain * covariance;
+            positionVariance -= positionGain * positionVariance;
+        }
+
+        // Copy of the state, to evaluate a location before it is applied.
+        void copyFrom(Axis other) {
+            position = other.position;
+            velocity = other.velocity;
+            positionVariance = other.positionVariance;
+            covariance = other.covariance;
+            velocityVariance = other.velocityVariance;
+        }
+    }
+
+    @Override
+    public boolean checkIfLocationCanBeUsed(Location location) {
+        double accuracy = location.horizontalAccuracyInMeters != null
+                ? location.horizontalAccuracyInMeters
+                : DEFAULT_ACCURACY_RADIUS_IN_METERS;
+        if (accuracy > MAX_ACCURACY_RADIUS_IN_METERS) {
+            return false;
+        }
+        if (location.speedInMetersPerSecond != null && location.speedInMetersPerSecond > MAX_SPEED_IN_METERS_PER_SECOND) {
+            return false;
+        }
+        long timeInMilliseconds = location.time != null ? location.time.getTime() : System.currentTimeMillis();
+        double measurementVariance = accuracy * accuracy;
+
+        if (!isInitialized) {
+            reset(location.coordinates, timeInMilliseconds, measurementVariance);
+            return acceptEstimate();
+        }
+
+        double dt = (timeInMilliseconds - lastTimeInMilliseconds) / 1000.0;
+        if (dt < 0) {
+            // Older than the current estimate.
+            return false;
+        }
+
+        double x = toX(location.coordinates);
+        double y = toY(location.coordinates);
+        predictedEast.copyFrom(east);
+        predictedNorth.copyFrom(north);
+        predictedEast.predict(dt);
+        predictedNorth.predict(dt);
+
+        double normalizedInnovation = predictedEast.normalizedInnovation(x, measurementVariance)
+                + predictedNorth.normalizedInnovation(y, measurementVariance);
+        if (normalizedInnovation > OUTLIER_GATE) {
+            consecutiveOutliers++;
+            if (consecutiveOutliers < MAX_CONSECUTIVE_OUTLIERS) {
+                return false;
+            }
+            // The estimate has lost track of the user, start over from this location.
+            reset(location.coordinates, timeInMilliseconds, measurementVariance);
+            return acceptEstimate();
+        }
+
+        consecutiveOutliers = 0;
+        lastTimeInMilliseconds = timeInMilliseconds;
+        east.copyFrom(predictedEast);
+        north.copyFrom(predictedNorth);
+        east.update(x, measurementVariance);
+        north.update(y, measurementVariance);
+        return acceptEstimate();
+    }
+
+    // Returns a copy of the location with the coordinates replaced by the current estimate.
+    @Override
+    public Location getFilteredLocation(Location location) {
+        if (!isInitialized) {
+            return location;
+        }
+        double latitude = originLatitude + Math.toDegrees(north.position / EARTH_RADIUS_IN_METERS);
+        double longitude = originLongitude + east.position / metersPerDegreeLongitude;
+        GeoCoordinates coordinates = location.coordinates.altitude != null
+                ? new GeoCoordinates(latitude, longitude, location.coordinates.altitude)
+                : new GeoCoordinates(latitude, longitude);
+        Location filteredLocation = new Location(coordinates);
+        filteredLocation.time = location.time;
+        filteredLocation.horizontalAccuracyInMeters = Math.sqrt(Math.max(east.positionVariance, north.positionVariance));
+        filteredLocation.verticalAccuracyInMeters = location.verticalAccuracyInMeters;
+        filteredLocation.bearingInDegrees = location.bearingInDegrees;
+        filteredLocation.speedInMetersPerSecond = Math.hypot(east.velocity, north.velocity);
+        return filteredLocation;
+    }
+
+    private void reset(GeoCoordinates coordinates, long timeInMilliseconds, double measurementVariance) {
+        originLatitude = coordinates.latitude;
+        originLongitude = coordinates.longitude;
+        metersPerDegreeLongitude = Math.toRadians(1) * EARTH_RADIUS_IN_METERS * Math.cos(Math.toRadians(originLatitude));
+        east.reset(0, measurementVariance);
+        north.reset(0, measurementVariance);
+        lastTimeInMilliseconds = timeInMilliseconds;
+        consecutiveOutliers = 0;
+        hasAcceptedLocation = false;
+        isInitialized = true;
+    }
+
+    // Accepts the current estimate if it has moved far enough from the last accepted one.
+    private boolean acceptEstimate() {
+        // Movements within the uncertainty of the estimate are most likely noise and would add to the track length.
+        double minDistance = Math.max(MIN_DISTANCE_IN_METERS,
+                UNCERTAINTY_FACTOR * Math.sqrt(Math.max(east.positionVariance, north.positionVariance)));
+        if (hasAcceptedLocation
+                && Math.hypot(east.position - lastAcceptedX, north.position - lastAcceptedY) < minDistance) {
+            return false;
+        }
+        lastAcceptedX = east.position;
+        lastAcceptedY = north.position;
+        hasAcceptedLocation = true;
+        return true;
+    }
+
+    private double toX(GeoCoordinates coordinates) {
+        double deltaLongitude = coordinates.longitude - originLongitude;
+        // Keep the difference within [-180, 180] degrees, in case the antimeridian is crossed.
+        deltaLongitude -= 360 * Math.round(deltaLongitude / 360);
+        return deltaLongitude * metersPerDegreeLongitude;
+    }
+
+    private double toY(GeoCoordinates coordinates) {
+        return Math.toRadians(coordinates.latitude - originLatitude) * EARTH_RADIUS_IN_METERS;
+    }
+}
@@ -9,4 +9,10 @@ import com.here.sdk.core.Location;
  */
 public interface LocationFilterInterface {
     boolean checkIfLocationCanBeUsed(Location location);
+
+    // Returns the location to use for a location that was accepted by checkIfLocationCanBeUsed().
+    // Filters that smooth the signal return an adjusted copy, by default the location is used as it is.
+    default Location getFilteredLocation(Location location) {
+        return location;
+    }
 }
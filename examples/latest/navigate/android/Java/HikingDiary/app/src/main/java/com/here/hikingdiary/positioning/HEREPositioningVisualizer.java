@@ -8,22 +8,56 @@ import com.here.sdk.core.GeoCoordinates;
 import com.here.sdk.core.GeoPolygon;
 import com.here.sdk.core.Location;
 import com.here.sdk.mapview.LocationIndicator;
+import com.here.sdk.mapview.MapCamera;
+import com.here.sdk.mapview.MapCameraListener;
 import com.here.sdk.mapview.MapPolygon;
 import com.here.sdk.mapview.MapView;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 // A class to visualize the incoming raw location signals on the map during a trip.
+// Signals that are close to each other at the current zoom level are grouped into grid cells and rendered
+// as one circle per cell, so that the number of map items does not grow with the duration of a trip.
 public class HEREPositioningVisualizer {
+    // The size of a grid cell on screen. Zooming out merges the signals into fewer, larger cells.
+    private static final double CELL_SIZE_IN_PIXELS = 24;
+    private static final double EARTH_CIRCUMFERENCE_IN_METERS = 40075016.686;
+    // Signals are removed after this time, or when there are too many of them.
+    // Drawing too many items on the map view may slow down rendering, so the number of circles is limited as well.
+    // When zooming in results in more cells, only the circles of the most recent signals are shown.
+    private static final long MAX_SIGNAL_AGE_IN_MILLISECONDS = 30 * 60 * 1000;
+    private static final int MAX_SIGNAL_COUNT = 3600;
+    private static final int MAX_CIRCLE_COUNT = 300;
+
     private MapView mapView;
     private LocationIndicator locationIndicator = new LocationIndicator();
-    private List<MapPolygon> mapCircles = new ArrayList<>();
-    private List<GeoCoordinates> geoCoordinatesList = new ArrayList<>();
+    private LocationSignalGrid signalGrid;
+    // The rendered circle for each bucket of the signal grid.
+    private Map<Long, MapPolygon> mapCircles = new HashMap<>();
+    private int zoomLevel;
     private double accuracyRadiusThresholdInMeters = 10.0;
 
+    private final MapCameraListener cameraListener = new MapCameraListener() {
+        @Override
+        public void onMapCameraUpdated(MapCamera.State state) {
+            // Regroup the signals only when the zoom level has changed noticeably.
+            int newZoomLevel = (int) Math.round(state.zoomLevel);
+            if (newZoomLevel != zoomLevel) {
+                zoomLevel = newZoomLevel;
+                signalGrid.setCellSizeInMeters(getCellSizeInMeters(zoomLevel, state.targetCoordinates.latitude));
+                renderChangedBuckets();
+            }
+        }
+    };
+
     public HEREPositioningVisualizer(MapView mapView) {
         this.mapView = mapView;
+        MapCamera.State cameraState = mapView.getCamera().getState();
+        zoomLevel = (int) Math.round(cameraState.zoomLevel);
+        signalGrid = new LocationSignalGrid(getCellSizeInMeters(zoomLevel, cameraState.targetCoordinates.latitude),
+                MAX_SIGNAL_COUNT, MAX_CIRCLE_COUNT, MAX_SIGNAL_AGE_IN_MILLISECONDS);
+        mapView.getCamera().addListener(cameraListener);
         setupMyLocationIndicator();
     }
 
@@ -31,37 +65,32 @@ public class HEREPositioningVisualizer {
         locationIndicator.updateLocation(location);
     }
 
-    // Renders the last n location signals and connects them with a polyline.
-    // The accuracy of each location is indicated through a colored circle.
+    // Renders the location signals of the last minutes.
+    // The accuracy of the signals is indicated through the color of the circles.
     public void renderUnfilteredLocationSignals(Location location) {
         Log.d("Received accuracy ", String.valueOf(location.horizontalAccuracyInMeters));
 
-        // Black means that no accuracy information is available.
-        Color fillColor = Color.valueOf(android.graphics.Color.BLACK);
+        // Unknown quality means that no accuracy information is available.
+        int quality = LocationSignalGrid.QUALITY_UNKNOWN;
         if (location.horizontalAccuracyInMeters != null) {
             double accuracy = location.horizontalAccuracyInMeters;
             if (accuracy < accuracyRadiusThresholdInMeters / 2) {
-                // Green means that we have very good accuracy.
-                fillColor = Color.valueOf(android.graphics.Color.GREEN);
+                quality = LocationSignalGrid.QUALITY_GOOD;
             } else if (accuracy <= accuracyRadiusThresholdInMeters) {
-                // Orange means that we have acceptable accuracy.
-                fillColor = Color.valueOf(android.graphics.Color.rgb(255, 165, 0)); // Orange color
+                quality = LocationSignalGrid.QUALITY_ACCEPTABLE;
             } else {
-                // Red means, the accuracy is quite bad, ie > 50 m.
-                // The location will be ignored for our hiking diary.
-                fillColor = Color.valueOf(android.graphics.Color.RED);
+                quality = LocationSignalGrid.QUALITY_POOR;
             }
         }
 
-        addLocationCircle(location.coordinates, 1, fillColor);
+        signalGrid.addSignal(location.coordinates.latitude, location.coordinates.longitude, quality,
+                System.currentTimeMillis());
+        renderChangedBuckets();
     }
 
     public void clearMap() {
-        for (MapPolygon circle : mapCircles) {
-            mapView.getMapScene().removeMapPolygon(circle);
-        }
-
-        geoCoordinatesList.clear();
+        signalGrid.clear();
+        renderChangedBuckets();
     }
 
     private void setupMyLocationIndicator() {
@@ -70,17 +99,52 @@ public class HEREPositioningVisualizer {
         locationIndicator.enable(mapView);
     }
 
-    private void addLocationCircle(GeoCoordinates center, double radiusInMeters, Color fillColor) {
+    // Only the circles of buckets that changed are replaced, all others stay on the map.
+    private void renderChangedBuckets() {
+        // A quarter of the cell size keeps the circles of neighboring cells apart.
+        double radiusInMeters = Math.max(1, signalGrid.getCellSizeInMeters() / 4);
+        for (LocationSignalGrid.Bucket bucket : signalGrid.takeChangedBuckets()) {
+            MapPolygon oldCircle = mapCircles.remove(bucket.getKey());
+            if (oldCircle != null) {
+                mapView.getMapScene().removeMapPolygon(oldCircle);
+            }
+            if (bucket.isVisible()) {
+                GeoCoordinates center = new GeoCoordinates(bucket.getLatitude(), bucket.getLongitude());
+                mapCircles.put(bucket.getKey(), addLocationCircle(center, radiusInMeters, getColor(bucket.getQuality())));
+            }
+        }
+    }
+
+    private Color getColor(int quality) {
+        switch (quality) {
+            case LocationSignalGrid.QUALITY_GOOD:
+                // Green means that we have very good accuracy.
+                return Color.valueOf(android.graphics.Color.GREEN);
+            case LocationSignalGrid.QUALITY_ACCEPTABLE:
+                // Orange means that we have acceptable accuracy.
+                return Color.valueOf(android.graphics.Color.rgb(255, 165, 0)); // Orange color
+            case LocationSignalGrid.QUALITY_POOR:
+                // Red means, the accuracy is quite bad.
+                // The location will most likely be ignored for our hiking diary.
+                return Color.valueOf(android.graphics.Color.RED);
+            default:
+                // Black means that no accuracy information is available.
+                return Color.valueOf(android.graphics.Color.BLACK);
+        }
+    }
+
+    // Returns the cell size that corresponds to CELL_SIZE_IN_PIXELS at the given zoom level.
+    private static double getCellSizeInMeters(int zoomLevel, double latitude) {
+        double metersPerPixel = EARTH_CIRCUMFERENCE_IN_METERS * Math.cos(Math.toRadians(latitude))
+                / (256 * Math.pow(2, zoomLevel));
+        return CELL_SIZE_IN_PIXELS * metersPerPixel;
+    }
+
+    private MapPolygon addLocationCircle(GeoCoordinates center, double radiusInMeters, Color fillColor) {
         GeoCircle geoCircle = new GeoCircle(center, radiusInMeters);
         GeoPolygon geoPolygon = new GeoPolygon(geoCircle);
         MapPolygon mapPolygon = new MapPolygon(geoPolygon, fillColor);
         mapView.getMapScene().addMapPolygon(mapPolygon);
-        mapCircles.add(mapPolygon);
-
-        if (mapCircles.size() > 150) {
-            // Drawing too many items on the map view may slow down rendering, so we remove the oldest circle.
-            mapView.getMapScene().removeMapPolygon(mapCircles.get(0));
-            mapCircles.remove(0);
-        }
+        return mapPolygon;
     }
 }
@@ -0,0 +1,261 @@
+package com.here.hikingdiary.positioning;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// A class to group location signals into the cells of a square grid, so that signals close to each other
+// can be rendered as one map item. The cell size is set by the caller, usually depending on the zoom level.
+// Signals older than the maximum age are removed, as well as the oldest signals when the maximum number of signals
+// is reached. To bound the number of map items, also when zooming in, only the buckets with the most recent signals
+// are visible. The signals of the other buckets are kept, so that they are visible again when zooming out.
+// The grid keeps track of the buckets whose rendering changed since the last call of takeChangedBuckets(), so that
+// only these need to be rendered again.
+public class LocationSignalGrid {
+    private static final double EARTH_RADIUS_IN_METERS = 6371000;
+
+    // The quality of a signal, ordered from best to worst. A bucket has the worst quality of its signals.
+    public static final int QUALITY_GOOD = 0;
+    public static final int QUALITY_ACCEPTABLE = 1;
+    public static final int QUALITY_UNKNOWN = 2;
+    public static final int QUALITY_POOR = 3;
+    private static final int QUALITY_COUNT = 4;
+
+    private static class Signal {
+        final double latitude;
+        final double longitude;
+        final int quality;
+        final long timeInMilliseconds;
+        Bucket bucket;
+
+        Signal(double latitude, double longitude, int quality, long timeInMilliseconds) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.quality = quality;
+            this.timeInMilliseconds = timeInMilliseconds;
+        }
+    }
+
+    // A grid cell containing at least one signal. A bucket that is not visible, for example because it has no
+    // signals anymore, is reported once as changed by takeChangedBuckets() and can then be removed from the map.
+    public static class Bucket {
+        private final long key;
+        private double sumLatitude;
+        private double sumLongitude;
+        private int count;
+        private final int[] countPerQuality = new int[QUALITY_COUNT];
+        private boolean isVisible;
+
+        private Bucket(long key) {
+            this.key = key;
+        }
+
+        // Identifies the cell of the bucket. Keys are only unique for the same cell size.
+        public long getKey() {
+            return key;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        // Only visible buckets should be rendered.
+        public boolean isVisible() {
+            return isVisible;
+        }
+
+        // The center of the contained signals.
+        public double getLatitude() {
+            return sumLatitude / count;
+        }
+
+        public double getLongitude() {
+            return sumLongitude / count;
+        }
+
+        public int getQuality() {
+            for (int quality = QUALITY_COUNT - 1; quality > 0; quality--) {
+                if (countPerQuality[quality] > 0) {
+                    return quality;
+                }
+            }
+            return QUALITY_GOOD;
+        }
+
+        private void add(Signal signal) {
+            sumLatitude += signal.latitude;
+            sumLongitude += signal.longitude;
+            countPerQuality[signal.quality]++;
+            count++;
+        }
+
+        private void remove(Signal signal) {
+            count--;
+            countPerQuality[signal.quality]--;
+            if (count == 0) {
+                // Avoid accumulating rounding errors in buckets that are used again.
+                sumLatitude = 0;
+                sumLongitude = 0;
+            } else {
+                sumLatitude -= signal.latitude;
+                sumLongitude -= signal.longitude;
+            }
+        }
+    }
+
+    private final int maxSignalCount;
+    private final int maxVisibleBucketCount;
+    private final long maxAgeInMilliseconds;
+    private final ArrayDeque<Signal> signals = new ArrayDeque<>();
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+    // Ordered by the time of the newest signal in the bucket, from oldest to newest.
+    private final LinkedHashMap<Long, Bucket> visibleBuckets = new LinkedHashMap<>();
+    private final Map<Long, Bucket> changedBuckets = new LinkedHashMap<>();
+
+    private double cellSizeInMeters;
+    // The grid is aligned to the first signal, cells are measured in a local plane around it.
+    private boolean hasOrigin;
+    private double originLatitude;
+    private double originLongitude;
+    private double metersPerDegreeLongitude;
+
+    public LocationSignalGrid(double cellSizeInMeters, int maxSignalCount, int maxVisibleBucketCount,
+                              long maxAgeInMilliseconds) {
+        this.cellSizeInMeters = cellSizeInMeters;
+        this.maxSignalCount = maxSignalCount;
+        this.maxVisibleBucketCount = maxVisibleBucketCount;
+        this.maxAgeInMilliseconds = maxAgeInMilliseconds;
+    }
+
+    public double getCellSizeInMeters() {
+        return cellSizeInMeters;
+    }
+
+    // Changes the cell size and regroups all signals. All previous buckets are reported as empty.
+    // If the smaller cells result in too many buckets, only the buckets with the most recent signals are visible.
+    public void setCellSizeInMeters(double cellSizeInMeters) {
+        if (cellSizeInMeters == this.cellSizeInMeters) {
+            return;
+        }
+        this.cellSizeInMeters = cellSizeInMeters;
+
+        for (Bucket bucket : buckets.values()) {
+            Bucket emptyBucket = new Bucket(bucket.key);
+            changedBuckets.put(bucket.key, emptyBucket);
+        }
+        buckets.clear();
+        visibleBuckets.clear();
+        for (Signal signal : signals) {
+            addToBucket(signal);
+        }
+    }
+
+    public void addSignal(double latitude, double longitude, int quality, long timeInMilliseconds) {
+        if (!hasOrigin) {
+            originLatitude = latitude;
+            originLongitude = longitude;
+            metersPerDegreeLongitude = Math.toRadians(1) * EARTH_RADIUS_IN_METERS * Math.cos(Math.toRadians(latitude));
+            hasOrigin = true;
+        }
+
+        removeSignalsOlderThan(timeInMilliseconds - maxAgeInMilliseconds);
+        if (signals.size() == maxSignalCount) {
+            removeFromBucket(signals.removeFirst());
+        }
+
+        Signal signal = new Signal(latitude, longitude, quality, timeInMilliseconds);
+        signals.addLast(signal);
+        addToBucket(signal);
+    }
+
+    // Removes the signals that were added before the given time.
+    public void removeSignalsOlderThan(long timeInMilliseconds) {
+        while (!signals.isEmpty() && signals.peekFirst().timeInMilliseconds < timeInMilliseconds) {
+            removeFromBucket(signals.removeFirst());
+        }
+    }
+
+    public int getSignalCount() {
+        return signals.size();
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    public Collection<Bucket> getBuckets() {
+        return buckets.values();
+    }
+
+    public Collection<Bucket> getVisibleBuckets() {
+        return visibleBuckets.values();
+    }
+
+    // Returns the buckets that changed since the last call, including buckets that are now empty or not visible.
+    public List<Bucket> takeChangedBuckets() {
+        List<Bucket> result = new ArrayList<>(changedBuckets.values());
+        changedBuckets.clear();
+        return result;
+    }
+
+    // Removes all signals. All buckets are reported as empty.
+    public void clear() {
+        signals.clear();
+        for (Bucket bucket : buckets.values()) {
+            changedBuckets.put(bucket.key, new Bucket(bucket.key));
+        }
+        buckets.clear();
+        visibleBuckets.clear();
+        hasOrigin = false;
+    }
+
+    private void addToBucket(Signal signal) {
+        long key = getKey(signal.latitude, signal.longitude);
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = new Bucket(key);
+            buckets.put(key, bucket);
+        }
+        bucket.add(signal);
+        signal.bucket = bucket;
+        changedBuckets.put(key, bucket);
+
+        // The bucket of the newest signal is always visible. Move it to the end of the order.
+        visibleBuckets.remove(key);
+        visibleBuckets.put(key, bucket);
+        bucket.isVisible = true;
+        if (visibleBuckets.size() > maxVisibleBucketCount) {
+            Bucket oldestBucket = visibleBuckets.values().iterator().next();
+            visibleBuckets.remove(oldestBucket.key);
+            oldestBucket.isVisible = false;
+            changedBuckets.put(oldestBucket.key, oldestBucket);
+        }
+    }
+
+    private void removeFromBucket(Signal signal) {
+        Bucket bucket = signal.bucket;
+        bucket.remove(signal);
+        if (bucket.count == 0) {
+            // Only the oldest signals are removed, so this was the least recent bucket. If it was visible, there are
+            // no buckets that are not visible, and none needs to become visible instead.
+            buckets.remove(bucket.key);
+            visibleBuckets.remove(bucket.key);
+            bucket.isVisible = false;
+        }
+        changedBuckets.put(bucket.key, bucket);
+    }
+
+    private long getKey(double latitude, double longitude) {
+        double deltaLongitude = longitude - originLongitude;
+        deltaLongitude -= 360 * Math.round(deltaLongitude / 360);
+        double x = deltaLongitude * metersPerDegreeLongitude;
+        double y = Math.toRadians(latitude - originLatitude) * EARTH_RADIUS_IN_METERS;
+        long column = (long) Math.floor(x / cellSizeInMeters);
+        long row = (long) Math.floor(y / cellSizeInMeters);
+        return (column << 32) ^ (row & 0xffffffffL);
+    }
+}
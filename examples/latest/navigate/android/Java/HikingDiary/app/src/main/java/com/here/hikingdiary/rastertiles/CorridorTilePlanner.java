@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.hikingdiary.rastertiles;
+
+import androidx.annotation.NonNull;
+
+import com.here.sdk.core.GeoCoordinates;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Enumerates the XYZ raster tiles that are needed to show a corridor around a planned trail.
+// The trail is split into pieces that are shorter than a tile at the requested level and each piece
+// is widened by the corridor radius. This keeps the tile set tight also for long, diagonal segments.
+public class CorridorTilePlanner {
+    private static final double EARTH_CIRCUMFERENCE_IN_METERS = 40075016.686;
+    private static final double MAX_LATITUDE = 85.05112877980659;
+
+    private final double corridorRadiusInMeters;
+
+    public CorridorTilePlanner(double corridorRadiusInMeters) {
+        this.corridorRadiusInMeters = corridorRadiusInMeters;
+    }
+
+    // Returns the tiles of a level that intersect the corridor around the trail, without duplicates.
+    @NonNull
+    public List<XyzTile> getTiles(@NonNull List<GeoCoordinates> trail, int level) {
+        final int tilesPerAxis = 1 << level;
+        final double tileSize = 1.0 / tilesPerAxis;
+        Set<Long> cells = new LinkedHashSet<>();
+
+        for (int i = 0; i < trail.size(); i++) {
+            GeoCoordinates start = trail.get(i);
+            GeoCoordinates end = trail.get(Math.min(i + 1, trail.size() - 1));
+            double startX = XyzTile.x(start.longitude);
+            double startY = XyzTile.y(start.latitude);
+            double endX = XyzTile.x(end.longitude);
+            double endY = XyzTile.y(end.latitude);
+
+            // Web Mercator stretches distances by 1 / cos(latitude).
+            double latitude = Math.max(Math.abs(start.latitude), Math.abs(end.latitude));
+            double radius = corridorRadiusInMeters
+                    / (EARTH_CIRCUMFERENCE_IN_METERS * Math.cos(Math.toRadians(Math.min(latitude, MAX_LATITUDE))));
+
+            double length = Math.hypot(endX - startX, endY - startY);
+            int pieces = Math.max(1, (int) Math.ceil(length / tileSize));
+            for (int piece = 0; piece < pieces; piece++) {
+                double fromX = startX + (endX - startX) * piece / pieces;
+                double fromY = startY + (endY - startY) * piece / pieces;
+                double toX = startX + (endX - startX) * (piece + 1) / pieces;
+                double toY = startY + (endY - startY) * (piece + 1) / pieces;
+                addCells(cells, tilesPerAxis,
+                        Math.min(fromX, toX) - radius, Math.min(fromY, toY) - radius,
+                        Math.max(fromX, toX) + radius, Math.max(fromY, toY) + radius);
+            }
+        }
+
+        List<XyzTile> tiles = new ArrayList<>(cells.size());
+        for (long cell : cells) {
+            tiles.add(new XyzTile((int) (cell >>> 32), (int) cell, level));
+        }
+        return tiles;
+    }
+
+    private static void addCells(Set<Long> cells, int tilesPerAxis,
+                                 double minX, double minY, double maxX, double maxY) {
+        int fromColumn = XyzTile.toCell(minX, tilesPerAxis);
+        int toColumn = XyzTile.toCell(maxX, tilesPerAxis);
+        int fromRow = XyzTile.toCell(minY, tilesPerAxis);
+        int toRow = XyzTile.toCell(maxY, tilesPerAxis);
+        for (int column = fromColumn; column <= toColumn; column++) {
+            for (int row = fromRow; row <= toRow; row++) {
+                cells.add(((long) column << 32) | row);
+            }
+        }
+    }
+}
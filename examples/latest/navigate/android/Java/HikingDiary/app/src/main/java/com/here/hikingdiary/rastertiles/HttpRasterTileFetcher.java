@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.hikingdiary.rastertiles;
+
+import androidx.annotation.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+// Fetches raster tiles from a tile server with an XYZ URL template like "https://example.com/{z}/{x}/{y}.png".
+public class HttpRasterTileFetcher implements RasterTileFetcher {
+    private static final int TIMEOUT_IN_MILLISECONDS = 15000;
+
+    private final String templateUrl;
+
+    public HttpRasterTileFetcher(@NonNull String templateUrl) {
+        this.templateUrl = templateUrl;
+    }
+
+    // Returns the URL of a tile for the given XYZ URL template.
+    @NonNull
+    public static String getUrl(@NonNull String templateUrl, @NonNull XyzTile tile) {
+        return templateUrl
+                .replace("{z}", String.valueOf(tile.zoom))
+                .replace("{x}", String.valueOf(tile.x))
+                .replace("{y}", String.valueOf(tile.y));
+    }
+
+    @NonNull
+    @Override
+    public byte[] fetch(@NonNull XyzTile tile) throws IOException {
+        URL url = new URL(getUrl(templateUrl, tile));
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout(TIMEOUT_IN_MILLISECONDS);
+        connection.setReadTimeout(TIMEOUT_IN_MILLISECONDS);
+        try {
+            int responseCode = connection.getResponseCode();
+            if (responseCode != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Tile request failed with HTTP " + responseCode + ": " + url);
+            }
+            try (InputStream inputStream = connection.getInputStream()) {
+                ByteArrayOutputStream data = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    data.write(buffer, 0, read);
+                }
+                return data.toByteArray();
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.hikingdiary.rastertiles;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+
+// Loads the data of a single raster tile, for example from a tile server.
+public interface RasterTileFetcher {
+    @NonNull
+    byte[] fetch(@NonNull XyzTile tile) throws IOException;
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.hikingdiary.rastertiles;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.here.sdk.core.GeoCoordinates;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Pre-warms a raster tile store for a planned trail, for example while the device is connected to Wi-Fi.
+// seedCorridor() enumerates the missing tiles along the trail corridor per level and estimates their size,
+// trims the oldest tiles of the store to make room for them, and then downloads the tiles in the background.
+// The tiles of the corridor that are stored already are kept when trimming, as they are not seeded again.
+// All file operations run on the download threads.
+public class RasterTileSeeder {
+    private static final String TAG = RasterTileSeeder.class.getSimpleName();
+
+    // Assumed size of a tile for levels without any stored tiles yet.
+    private static final long DEFAULT_TILE_SIZE_IN_BYTES = 30 * 1024;
+    private static final int DOWNLOAD_THREAD_COUNT = 4;
+
+    private final RasterTileStore tileStore;
+    private final RasterTileFetcher tileFetcher;
+    private final ExecutorService executorService = Executors.newFixedThreadPool(DOWNLOAD_THREAD_COUNT);
+
+    // The tiles to seed, grouped by level, and their estimated size.
+    static class SeedPlan {
+        public final Map<Integer, List<XyzTile>> tilesPerLevel;
+        public final int tileCount;
+        public final long estimatedSizeInBytes;
+        // The tiles of the corridor that are stored already.
+        public final List<XyzTile> storedTiles;
+
+        SeedPlan(Map<Integer, List<XyzTile>> tilesPerLevel, int tileCount, long estimatedSizeInBytes,
+                 List<XyzTile> storedTiles) {
+            this.tilesPerLevel = Collections.unmodifiableMap(tilesPerLevel);
+            this.tileCount = tileCount;
+            this.estimatedSizeInBytes = estimatedSizeInBytes;
+            this.storedTiles = Collections.unmodifiableList(storedTiles);
+        }
+    }
+
+    // Notified on one of the download threads.
+    public interface SeedListener {
+        void onProgress(int completedTiles, int totalTiles, long storedBytes);
+        void onCompleted(int storedTiles, int failedTiles, long storedBytes);
+    }
+
+    // A running seed operation.
+    public static class SeedJob {
+        private final AtomicBoolean isCancelled = new AtomicBoolean();
+
+        public void cancel() {
+            isCancelled.set(true);
+        }
+
+        public boolean isCancelled() {
+            return isCancelled.get();
+        }
+    }
+
+    public RasterTileSeeder(@NonNull RasterTileStore tileStore, @NonNull RasterTileFetcher tileFetcher) {
+        this.tileStore = tileStore;
+        this.tileFetcher = tileFetcher;
+    }
+
+    // Seeds the tiles along the trail that are not stored yet. The store is kept below the given size.
+    @NonNull
+    public SeedJob seedCorridor(@NonNull final List<GeoCoordinates> trail, final double corridorRadiusInMeters,
+                                @NonNull final List<Integer> levels, final long maxStoreSizeInBytes,
+                                @NonNull final SeedListener listener) {
+        final SeedJob seedJob = new SeedJob();
+        executorService.execute(() -> {
+            SeedPlan plan = plan(trail, corridorRadiusInMeters, levels);
+            // The plan only contains the missing tiles, so trimming must not remove the stored ones.
+            tileStore.trimToSize(Math.max(0, maxStoreSizeInBytes - plan.estimatedSizeInBytes), plan.storedTiles);
+            seed(plan, listener, seedJob);
+        });
+        return seedJob;
+    }
+
+    // Enumerates the tiles along the trail that are not stored yet.
+    @NonNull
+    SeedPlan plan(@NonNull List<GeoCoordinates> trail, double corridorRadiusInMeters,
+                  @NonNull List<Integer> levels) {
+        CorridorTilePlanner planner = new CorridorTilePlanner(corridorRadiusInMeters);
+        Map<Integer, List<XyzTile>> tilesPerLevel = new LinkedHashMap<>();
+        List<XyzTile> storedTiles = new ArrayList<>();
+        int tileCount = 0;
+        long estimatedSizeInBytes = 0;
+        for (int level : levels) {
+            List<XyzTile> missingTiles = new ArrayList<>();
+            for (XyzTile tile : planner.getTiles(trail, level)) {
+                if (tileStore.contains(tile)) {
+                    storedTiles.add(tile);
+                } else {
+                    missingTiles.add(tile);
+                }
+            }
+            long averageTileSize = tileStore.getAverageTileSizeInBytes(level);
+            if (averageTileSize < 0) {
+                averageTileSize = DEFAULT_TILE_SIZE_IN_BYTES;
+            }
+            tilesPerLevel.put(level, missingTiles);
+            tileCount += missingTiles.size();
+            estimatedSizeInBytes += missingTiles.size() * averageTileSize;
+        }
+        return new SeedPlan(tilesPerLevel, tileCount, estimatedSizeInBytes, storedTiles);
+    }
+
+    // Downloads all tiles of the plan into the store.
+    void seed(@NonNull SeedPlan plan, @NonNull SeedListener listener, @NonNull SeedJob seedJob) {
+        final int totalTiles = plan.tileCount;
+        final AtomicInteger completedTiles = new AtomicInteger();
+        final AtomicInteger failedTiles = new AtomicInteger();
+        final AtomicLong storedBytes = new AtomicLong();
+
+        if (totalTiles == 0) {
+            listener.onCompleted(0, 0, 0);
+            return;
+        }
+
+        for (List<XyzTile> tiles : plan.tilesPerLevel.values()) {
+            for (final XyzTile tile : tiles) {
+                executorService.execute(() -> {
+                    if (seedJob.isCancelled()) {
+                        failedTiles.incrementAndGet();
+                    } else {
+                        try {
+                            byte[] data = tileFetcher.fetch(tile);
+                            tileStore.write(tile, data);
+                            storedBytes.addAndGet(data.length);
+                        } catch (IOException e) {
+                            Log.w(TAG, "Seeding tile failed: " + e.getMessage());
+                            failedTiles.incrementAndGet();
+                        }
+                    }
+
+                    int completed = completedTiles.incrementAndGet();
+                    if (completed == totalTiles) {
+                        listener.onCompleted(totalTiles - failedTiles.get(), failedTiles.get(), storedBytes.get());
+                    } else {
+                        listener.onProgress(completed, totalTiles, storedBytes.get());
+                    }
+                });
+            }
+        }
+    }
+
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.hikingdiary.rastertiles;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// A simple disk store for raster tiles, laid out as <root>/{z}/{x}/{y}.png.
+// The store can be trimmed. Trimming removes the tiles that were stored first, so that the
+// tiles of the most recently seeded trails are kept. Tiles are written to a temporary file first and then
+// renamed, so that an interrupted write never leaves a broken tile behind.
+public class RasterTileStore {
+    private static final String TILE_FILE_SUFFIX = ".png";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final File rootDirectory;
+
+    // The total size of all tiles, computed on first use and kept up-to-date afterwards.
+    private final AtomicLong sizeInBytes = new AtomicLong(-1);
+
+    public RasterTileStore(@NonNull File rootDirectory) {
+        this.rootDirectory = rootDirectory;
+    }
+
+    public boolean contains(@NonNull XyzTile tile) {
+        return getTileFile(tile).isFile();
+    }
+
+    public void write(@NonNull XyzTile tile, @NonNull byte[] data) throws IOException {
+        File tileFile = getTileFile(tile);
+        File directory = tileFile.getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("Cannot create tile directory: " + directory);
+        }
+
+        File tempFile = new File(directory, tileFile.getName() + TEMP_FILE_SUFFIX + Thread.currentThread().getId());
+        try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+            outputStream.write(data);
+            outputStream.getFD().sync();
+        }
+
+        long previousSize = tileFile.isFile() ? tileFile.length() : 0;
+        if (!tempFile.renameTo(tileFile)) {
+            tempFile.delete();
+            throw new IOException("Cannot store tile: " + tileFile);
+        }
+        if (sizeInBytes.get() >= 0) {
+            sizeInBytes.addAndGet(data.length - previousSize);
+        }
+    }
+
+    public long getSizeInBytes() {
+        long size = sizeInBytes.get();
+        if (size < 0) {
+            size = 0;
+            for (File tileFile : listTileFiles()) {
+                size += tileFile.length();
+            }
+            sizeInBytes.compareAndSet(-1, size);
+        }
+        return sizeInBytes.get();
+    }
+
+    // Returns the average size of the stored tiles of a level or -1, if there are none.
+    public long getAverageTileSizeInBytes(int level) {
+        File[] columns = new File(rootDirectory, String.valueOf(level)).listFiles();
+        if (columns == null) {
+            return -1;
+        }
+        long size = 0;
+        int count = 0;
+        for (File column : columns) {
+            File[] tileFiles = column.listFiles();
+            if (tileFiles == null) {
+                continue;
+            }
+            for (File tileFile : tileFiles) {
+                if (tileFile.getName().endsWith(TILE_FILE_SUFFIX)) {
+                    size += tileFile.length();
+                    count++;
+                }
+            }
+        }
+        return count == 0 ? -1 : size / count;
+    }
+
+    // Removes the oldest tiles until the store fits into the given size. This touches all stored files,
+    // so it should not be called on the main thread.
+    // Returns the number of bytes that were freed.
+    public long trimToSize(long maxSizeInBytes) {
+        return trimToSize(maxSizeInBytes, Collections.<XyzTile>emptyList());
+    }
+
+    // Like trimToSize(long), but never removes the given tiles. The store may stay larger than the given size,
+    // when the kept tiles alone exceed it.
+    public long trimToSize(long maxSizeInBytes, @NonNull Collection<XyzTile> keptTiles) {
+        if (getSizeInBytes() <= maxSizeInBytes) {
+            return 0;
+        }
+
+        Set<File> keptFiles = new HashSet<>();
+        for (XyzTile tile : keptTiles) {
+            keptFiles.add(getTileFile(tile));
+        }
+        List<File> tileFiles = new ArrayList<>();
+        for (File tileFile : listTileFiles()) {
+            if (!keptFiles.contains(tileFile)) {
+                tileFiles.add(tileFile);
+            }
+        }
+        final long[] lastModified = new long[tileFiles.size()];
+        Integer[] order = new Integer[tileFiles.size()];
+        for (int i = 0; i < order.length; i++) {
+            lastModified[i] = tileFiles.get(i).lastModified();
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Long.compare(lastModified[a], lastModified[b]);
+            }
+        });
+
+        long freed = 0;
+        for (int index : order) {
+            if (getSizeInBytes() <= maxSizeInBytes) {
+                break;
+            }
+            File tileFile = tileFiles.get(index);
+            long length = tileFile.length();
+            if (tileFile.delete()) {
+                sizeInBytes.addAndGet(-length);
+                freed += length;
+            }
+        }
+        return freed;
+    }
+
+    // Returns the file of a tile, which may not exist.
+    @NonNull
+    public File getTileFile(@NonNull XyzTile tile) {
+        return new File(rootDirectory, tile.zoom + File.separator + tile.x + File.separator
+                + tile.y + TILE_FILE_SUFFIX);
+    }
+
+    @NonNull
+    private List<File> listTileFiles() {
+        File[] levels = rootDirectory.listFiles();
+        if (levels == null) {
+            return Collections.emptyList();
+        }
+        List<File> tileFiles = new ArrayList<>();
+        for (File level : levels) {
+            File[] columns = level.listFiles();
+            if (columns == null) {
+                continue;
+            }
+            for (File column : columns) {
+                File[] files = column.listFiles();
+                if (files == null) {
+                    continue;
+                }
+                for (File file : files) {
+                    if (file.getName().endsWith(TILE_FILE_SUFFIX)) {
+                        tileFiles.add(file);
+                    }
+                }
+            }
+        }
+        return tileFiles;
+    }
+}
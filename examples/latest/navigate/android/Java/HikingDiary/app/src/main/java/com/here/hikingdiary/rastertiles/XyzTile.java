@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.hikingdiary.rastertiles;
+
+import androidx.annotation.NonNull;
+
+import com.here.sdk.core.GeoBox;
+import com.here.sdk.mapview.datasource.TileGeoBoundsCalculator;
+import com.here.sdk.mapview.datasource.TileKey;
+
+// The address of a raster tile as used by XYZ tile URLs like "https://example.com/{z}/{x}/{y}.png":
+// columns are counted from west to east and rows from north to south.
+// The HERE SDK does not guarantee that the rows of a TileKey are counted the same way, so TileKeys are
+// converted via their geographic bounds with fromTileKey().
+public final class XyzTile {
+    private static final double MAX_LATITUDE = 85.05112877980659;
+
+    public final int x;
+    public final int y;
+    public final int zoom;
+
+    public XyzTile(int x, int y, int zoom) {
+        this.x = x;
+        this.y = y;
+        this.zoom = zoom;
+    }
+
+    // Returns the XYZ tile that covers the same area as the given tile of the HERE SDK.
+    @NonNull
+    public static XyzTile fromTileKey(@NonNull TileKey tileKey, @NonNull TileGeoBoundsCalculator boundsCalculator) {
+        GeoBox bounds = boundsCalculator.boundsOf(tileKey);
+        // The center of the bounds lies inside the tile in any projection, so it identifies the tile unambiguously.
+        double latitude = (bounds.southWestCorner.latitude + bounds.northEastCorner.latitude) / 2;
+        double longitude = (bounds.southWestCorner.longitude + bounds.northEastCorner.longitude) / 2;
+        int tilesPerAxis = 1 << tileKey.level;
+        return new XyzTile(toCell(x(longitude), tilesPerAxis), toCell(y(latitude), tilesPerAxis), tileKey.level);
+    }
+
+    // Normalized Web Mercator x in [0, 1], from west to east.
+    static double x(double longitude) {
+        return (longitude + 180.0) / 360.0;
+    }
+
+    // Normalized Web Mercator y in [0, 1], from north to south.
+    static double y(double latitude) {
+        double clamped = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+        double sinLatitude = Math.sin(Math.toRadians(clamped));
+        return 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+    }
+
+    static int toCell(double projected, int tilesPerAxis) {
+        return (int) Math.max(0, Math.min(tilesPerAxis - 1, Math.floor(projected * tilesPerAxis)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof XyzTile)) {
+            return false;
+        }
+        XyzTile tile = (XyzTile) other;
+        return x == tile.x && y == tile.y && zoom == tile.zoom;
+    }
+
+    @Override
+    public int hashCode() {
+        return (zoom * 31 + x) * 31 + y;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return zoom + "/" + x + "/" + y;
+    }
+}
@@ -0,0 +1,128 @@
+package com.here.hikingdiary.tracksimplification;
+
+import com.here.sdk.core.Location;
+
+/*
+ * The TrackSimplifier class reduces the number of locations of a recorded track while the track is recorded.
+ * It implements the opening window algorithm: starting at the last stored location, the anchor, the window is
+ * extended as long as all skipped locations lie within the tolerance of the straight line from the anchor to
+ * the newest location. When a new location does not fit, the previous location is stored and becomes the new anchor.
+ *
+ * This guarantees that every skipped location is within the tolerance of the stored track, just like a
+ * Douglas-Peucker simplification would, but without the need to keep the whole track in memory.
+ */
+public class TrackSimplifier {
+    private static final double EARTH_RADIUS_IN_METERS = 6371000;
+    // Limits the work per location. When the window is full, its last location is stored.
+    private static final int MAX_WINDOW_SIZE = 256;
+
+    private final double toleranceInMeters;
+
+    private Location anchorLocation;
+    private double metersPerDegreeLongitude;
+    // The last location of the window, which is stored once the window cannot be extended any further.
+    private Location candidateLocation;
+    // The locations of the window in meters relative to the anchor, x points east and y points north.
+    private final double[] windowX = new double[MAX_WINDOW_SIZE];
+    private final double[] windowY = new double[MAX_WINDOW_SIZE];
+    private int windowSize;
+
+    private int inputCount;
+    private int outputCount;
+
+    public TrackSimplifier(double toleranceInMeters) {
+        this.toleranceInMeters = toleranceInMeters;
+    }
+
+    // Adds the next location of the track.
+    // Returns the location that needs to be stored now, or null if no location needs to be stored yet.
+    public Location addLocation(Location location) {
+        inputCount++;
+        if (anchorLocation == null) {
+            setAnchor(location);
+            outputCount++;
+            return location;
+        }
+
+        double x = toX(location);
+        double y = toY(location);
+        if (windowSize < MAX_WINDOW_SIZE && isWindowWithinTolerance(x, y)) {
+            addToWindow(location, x, y);
+            return null;
+        }
+
+        Location storedLocation = candidateLocation;
+        setAnchor(storedLocation);
+        addToWindow(location, toX(location), toY(location));
+        outputCount++;
+        return storedLocation;
+    }
+
+    // Returns the newest location that was not stored yet, or null if there is none.
+    // Use it to show the track up to the current position.
+    public Location getPendingLocation() {
+        return candidateLocation;
+    }
+
+    // Ends the track. Returns the last location that needs to be stored, or null if there is none.
+    public Location flush() {
+        Location storedLocation = candidateLocation;
+        if (storedLocation != null) {
+            setAnchor(storedLocation);
+            outputCount++;
+        }
+        return storedLocation;
+    }
+
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    public int getOutputCount() {
+        return outputCount;
+    }
+
+    private void setAnchor(Location location) {
+        anchorLocation = location;
+        metersPerDegreeLongitude = Math.toRadians(1) * EARTH_RADIUS_IN_METERS
+                * Math.cos(Math.toRadians(location.coordinates.latitude));
+        candidateLocation = null;
+        windowSize = 0;
+    }
+
+    private void addToWindow(Location location, double x, double y) {
+        windowX[windowSize] = x;
+        windowY[windowSize] = y;
+        windowSize++;
+        candidateLocation = location;
+    }
+
+    // Checks if all locations of the window are within the tolerance of the segment from the anchor to (x, y).
+    private boolean isWindowWithinTolerance(double x, double y) {
+        double squaredTolerance = toleranceInMeters * toleranceInMeters;
+        double squaredLength = x * x + y * y;
+        for (int i = 0; i < windowSize; i++) {
+            double px = windowX[i];
+            double py = windowY[i];
+            // Project onto the segment, not onto the infinite line, so that turning back on a trail is kept.
+            double t = squaredLength > 0 ? Math.max(0, Math.min(1, (px * x + py * y) / squaredLength)) : 0;
+            double dx = px - t * x;
+            double dy = py - t * y;
+            if (dx * dx + dy * dy > squaredTolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double toX(Location location) {
+        double deltaLongitude = location.coordinates.longitude - anchorLocation.coordinates.longitude;
+        // Keep the difference within [-180, 180] degrees, in case the antimeridian is crossed.
+        deltaLongitude -= 360 * Math.round(deltaLongitude / 360);
+        return deltaLongitude * metersPerDegreeLongitude;
+    }
+
+    private double toY(Location location) {
+        return Math.toRadians(location.coordinates.latitude - anchorLocation.coordinates.latitude) * EARTH_RADIUS_IN_METERS;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.hikingdiary.locationfilter;
+
+import static org.junit.Assert.assertTrue;
+
+import com.here.sdk.core.Location;
+
+import org.junit.Test;
+
+import java.util.List;
+
+// Prints the track-length error of the KalmanLocationFilter for synthetic one-hour walks with different
+// accuracies, compared to the unfiltered track, and the average time to filter a location.
+public class KalmanLocationFilterBenchmark {
+
+    private static final int ONE_HOUR_IN_SECONDS = 3600;
+    private static final int WARMUP_ROUND_COUNT = 5;
+    private static final int WALK_COUNT = 20;
+
+    @Test
+    public void trackLengthBenchmark() {
+        printTrackLengthError("5 m accuracy", new SyntheticWalk(11, ONE_HOUR_IN_SECONDS, 5, 0));
+        printTrackLengthError("5 m accuracy, 3% outliers", new SyntheticWalk(12, ONE_HOUR_IN_SECONDS, 5, 0.03));
+        printTrackLengthError("12 m accuracy", new SyntheticWalk(13, ONE_HOUR_IN_SECONDS, 12, 0));
+        printTrackLengthError("25 m accuracy", new SyntheticWalk(14, ONE_HOUR_IN_SECONDS, 25, 0));
+    }
+
+    @Test
+    public void throughputBenchmark() {
+        SyntheticWalk walk = new SyntheticWalk(15, ONE_HOUR_IN_SECONDS, 12, 0.01);
+        List<Location> locations = walk.locations;
+
+        long nanos = 0;
+        // Consumes the results, so that the filter is not optimized away.
+        int acceptedCount = 0;
+        for (int round = 0; round <= WARMUP_ROUND_COUNT; round++) {
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < WALK_COUNT; i++) {
+                KalmanLocationFilter locationFilter = new KalmanLocationFilter();
+                for (Location location : locations) {
+                    if (locationFilter.checkIfLocationCanBeUsed(location)) {
+                        acceptedCount++;
+                    }
+                }
+            }
+            nanos = System.nanoTime() - startNanos;
+        }
+
+        assertTrue(acceptedCount > 0);
+        long locationCount = (long) WALK_COUNT * locations.size();
+        System.out.println("KalmanLocationFilter.checkIfLocationCanBeUsed(), average in nanoseconds: "
+                + nanos / locationCount + ", locations per second: " + locationCount * 1000000000L / nanos);
+    }
+
+    private static void printTrackLengthError(String name, SyntheticWalk walk) {
+        double filteredLength = SyntheticWalk.getFilteredLengthInMeters(new KalmanLocationFilter(), walk.locations);
+        double unfilteredLength = SyntheticWalk.getFilteredLengthInMeters(new DefaultLocationFilter(), walk.locations);
+        System.out.println(String.format("Track-length error for %s, filtered: %+.1f%%, unfiltered: %+.1f%%", name,
+                getPercentage(filteredLength, walk.lengthInMeters), getPercentage(unfilteredLength, walk.lengthInMeters)));
+    }
+
+    private static double getPercentage(double length, double expectedLength) {
+        return 100 * (length - expectedLength) / expectedLength;
+    }
+}
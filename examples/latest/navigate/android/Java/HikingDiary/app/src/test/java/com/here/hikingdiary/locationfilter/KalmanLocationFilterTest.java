@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.hikingdiary.locationfilter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.here.sdk.core.GeoCoordinates;
+import com.here.sdk.core.Location;
+
+import org.junit.Test;
+
+import java.util.Date;
+import java.util.Random;
+
+public class KalmanLocationFilterTest {
+
+    private static final int ONE_HOUR_IN_SECONDS = 3600;
+
+    private static Location createLocation(double x, double y, long timeInMilliseconds, double accuracyInMeters) {
+        Location location = new Location(SyntheticWalk.toGeoCoordinates(x, y));
+        location.time = new Date(timeInMilliseconds);
+        location.horizontalAccuracyInMeters = accuracyInMeters;
+        return location;
+    }
+
+    private static double getLengthError(SyntheticWalk walk) {
+        double length = SyntheticWalk.getFilteredLengthInMeters(new KalmanLocationFilter(), walk.locations);
+        return (length - walk.lengthInMeters) / walk.lengthInMeters;
+    }
+
+    @Test
+    public void trackLengthOfAccurateWalk() {
+        SyntheticWalk walk = new SyntheticWalk(1, ONE_HOUR_IN_SECONDS, 5, 0);
+        assertEquals(0, getLengthError(walk), 0.10);
+    }
+
+    @Test
+    public void trackLengthOfWalkInForest() {
+        // The locations are too inaccurate for a fixed threshold of 10 m, but are still used.
+        SyntheticWalk walk = new SyntheticWalk(2, ONE_HOUR_IN_SECONDS, 12, 0);
+        assertEquals(0, getLengthError(walk), 0.10);
+
+        SyntheticWalk inaccurateWalk = new SyntheticWalk(3, ONE_HOUR_IN_SECONDS, 25, 0);
+        assertEquals(0, getLengthError(inaccurateWalk), 0.15);
+    }
+
+    @Test
+    public void outliersDoNotAddToTrackLength() {
+        SyntheticWalk walk = new SyntheticWalk(4, ONE_HOUR_IN_SECONDS, 5, 0.03);
+        double unfilteredLength = SyntheticWalk.getFilteredLengthInMeters(new DefaultLocationFilter(), walk.locations);
+        assertTrue(unfilteredLength > 2 * walk.lengthInMeters);
+        assertEquals(0, getLengthError(walk), 0.10);
+    }
+
+    @Test
+    public void standingStillAddsNoLocations() {
+        KalmanLocationFilter locationFilter = new KalmanLocationFilter();
+        Random random = new Random(5);
+        int acceptedCount = 0;
+        for (int second = 0; second < 600; second++) {
+            Location location = createLocation(10 / 1.5 * random.nextGaussian(), 10 / 1.5 * random.nextGaussian(),
+                    second * 1000L, 10);
+            if (locationFilter.checkIfLocationCanBeUsed(location)) {
+                acceptedCount++;
+            }
+        }
+        assertTrue("Accepted " + acceptedCount + " locations.", acceptedCount <= 2);
+    }
+
+    @Test
+    public void implausibleLocationsAreRejected() {
+        KalmanLocationFilter locationFilter = new KalmanLocationFilter();
+        assertTrue(locationFilter.checkIfLocationCanBeUsed(createLocation(0, 0, 10000, 5)));
+
+        assertFalse(locationFilter.checkIfLocationCanBeUsed(createLocation(20, 0, 20000, 61)));
+        Location tooFast = createLocation(20, 0, 20000, 5);
+        tooFast.speedInMetersPerSecond = 9.0;
+        assertFalse(locationFilter.checkIfLocationCanBeUsed(tooFast));
+        assertFalse(locationFilter.checkIfLocationCanBeUsed(createLocation(20, 0, 5000, 5)));
+
+        assertTrue(locationFilter.checkIfLocationCanBeUsed(createLocation(20, 0, 20000, 5)));
+    }
+
+    @Test
+    public void filterStartsOverAfterConsecutiveOutliers() {
+        KalmanLocationFilter locationFilter = new KalmanLocationFilter();
+        for (int second = 0; second < 60; second++) {
+            assertEquals(second == 0, locationFilter.checkIfLocationCanBeUsed(createLocation(0, 0, second * 1000L, 5)));
+        }
+
+        // The user got into a car, for example.
+        long timeInMilliseconds = 60000;
+        for (int i = 1; i < 5; i++) {
+            assertFalse(locationFilter.checkIfLocationCanBeUsed(createLocation(5000, 0, timeInMilliseconds, 5)));
+            timeInMilliseconds += 1000;
+        }
+        Location location = createLocation(5000, 0, timeInMilliseconds, 5);
+        assertTrue(locationFilter.checkIfLocationCanBeUsed(location));
+        GeoCoordinates filteredCoordinates = locationFilter.getFilteredLocation(location).coordinates;
+        assertEquals(0, SyntheticWalk.getDistanceInMeters(location.coordinates, filteredCoordinates), 0.01);
+    }
+
+    @Test
+    public void filteredLocationKeepsTimeAndAltitude() {
+        KalmanLocationFilter locationFilter = new KalmanLocationFilter();
+        Location location = createLocation(0, 0, 10000, 5);
+        location.coordinates = new GeoCoordinates(location.coordinates.latitude, location.coordinates.longitude, 120);
+        assertTrue(locationFilter.checkIfLocationCanBeUsed(location));
+
+        Location filteredLocation = locationFilter.getFilteredLocation(location);
+        assertEquals(location.time, filteredLocation.time);
+        assertEquals(120, filteredLocation.coordinates.altitude, 0);
+        assertEquals(5, filteredLocation.horizontalAccuracyInMeters, 0.01);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.hikingdiary.locationfilter;
+
+import com.here.sdk.core.GeoCoordinates;
+import com.here.sdk.core.Location;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+// A walk at a constant speed with slowly changing heading and regular stops, sampled once per second.
+// The locations have Gaussian noise that matches their reported accuracy, plus optional outliers.
+class SyntheticWalk {
+    private static final double EARTH_RADIUS_IN_METERS = 6371000;
+    private static final double ORIGIN_LATITUDE = 52.52;
+    private static final double ORIGIN_LONGITUDE = 13.40;
+    private static final double SPEED_IN_METERS_PER_SECOND = 1.3;
+    // Walk for 9 minutes, then stop for 1 minute.
+    private static final int WALKING_SECONDS = 540;
+    private static final int STOP_SECONDS = 60;
+    private static final double MAX_OUTLIER_DISTANCE_IN_METERS = 200;
+    // The horizontal accuracy is the radius that contains 68% of the locations.
+    // For a two-dimensional Gaussian this is about 1.5 times the standard deviation per axis.
+    private static final double ACCURACY_PER_STANDARD_DEVIATION = 1.5;
+
+    final List<Location> locations = new ArrayList<>();
+    // The length of the walk without noise.
+    final double lengthInMeters;
+
+    SyntheticWalk(long seed, int durationInSeconds, double accuracyInMeters, double outlierProbability) {
+        Random random = new Random(seed);
+        double standardDeviation = accuracyInMeters / ACCURACY_PER_STANDARD_DEVIATION;
+        double x = 0;
+        double y = 0;
+        double heading = random.nextDouble() * 2 * Math.PI;
+        double length = 0;
+        long startTimeInMilliseconds = 1700000000000L;
+        for (int second = 0; second < durationInSeconds; second++) {
+            boolean isWalking = second % (WALKING_SECONDS + STOP_SECONDS) < WALKING_SECONDS;
+            if (isWalking) {
+                heading += Math.toRadians(5) * random.nextGaussian();
+                x += SPEED_IN_METERS_PER_SECOND * Math.sin(heading);
+                y += SPEED_IN_METERS_PER_SECOND * Math.cos(heading);
+                length += SPEED_IN_METERS_PER_SECOND;
+            }
+
+            double noiseX = standardDeviation * random.nextGaussian();
+            double noiseY = standardDeviation * random.nextGaussian();
+            if (random.nextDouble() < outlierProbability) {
+                double angle = random.nextDouble() * 2 * Math.PI;
+                double distance = random.nextDouble() * MAX_OUTLIER_DISTANCE_IN_METERS;
+                noiseX += distance * Math.sin(angle);
+                noiseY += distance * Math.cos(angle);
+            }
+            Location location = new Location(toGeoCoordinates(x + noiseX, y + noiseY));
+            location.time = new Date(startTimeInMilliseconds + second * 1000L);
+            location.horizontalAccuracyInMeters = accuracyInMeters;
+            locations.add(location);
+        }
+        lengthInMeters = length;
+    }
+
+    // Returns the length of the track through the locations that the filter accepted.
+    static double getFilteredLengthInMeters(LocationFilterInterface locationFilter, List<Location> locations) {
+        double length = 0;
+        GeoCoordinates lastCoordinates = null;
+        for (Location location : locations) {
+            if (!locationFilter.checkIfLocationCanBeUsed(location)) {
+                continue;
+            }
+            GeoCoordinates coordinates = locationFilter.getFilteredLocation(location).coordinates;
+            if (lastCoordinates != null) {
+                length += getDistanceInMeters(lastCoordinates, coordinates);
+            }
+            lastCoordinates = coordinates;
+        }
+        return length;
+    }
+
+    // Equirectangular approximation, which is accurate enough for the extent of the walk.
+    static double getDistanceInMeters(GeoCoordinates from, GeoCoordinates to) {
+        double x = Math.toRadians(to.longitude - from.longitude) * Math.cos(Math.toRadians((from.latitude + to.latitude) / 2));
+        double y = Math.toRadians(to.latitude - from.latitude);
+        return Math.sqrt(x * x + y * y) * EARTH_RADIUS_IN_METERS;
+    }
+
+    static GeoCoordinates toGeoCoordinates(double x, double y) {
+        double latitude = ORIGIN_LATITUDE + Math.toDegrees(y / EARTH_RADIUS_IN_METERS);
+        double longitude = ORIGIN_LONGITUDE
+                + Math.toDegrees(x / (EARTH_RADIUS_IN_METERS * Math.cos(Math.toRadians(ORIGIN_LATITUDE))));
+        return new GeoCoordinates(latitude, longitude);
+    }
+}
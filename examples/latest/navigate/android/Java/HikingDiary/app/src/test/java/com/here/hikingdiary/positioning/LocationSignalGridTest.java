@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.hikingdiary.positioning;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class LocationSignalGridTest {
+
+    private static final double EARTH_RADIUS_IN_METERS = 6371000;
+    private static final double ORIGIN_LATITUDE = 47.42;
+    private static final double ORIGIN_LONGITUDE = 10.98;
+    private static final long ONE_HOUR_IN_MILLISECONDS = 60 * 60 * 1000;
+
+    // Applies the changed buckets like HEREPositioningVisualizer does, one circle per visible bucket.
+    private final Map<Long, LocationSignalGrid.Bucket> renderedBuckets = new HashMap<>();
+
+    private void render(LocationSignalGrid grid) {
+        for (LocationSignalGrid.Bucket bucket : grid.takeChangedBuckets()) {
+            renderedBuckets.remove(bucket.getKey());
+            if (bucket.isVisible()) {
+                renderedBuckets.put(bucket.getKey(), bucket);
+            }
+        }
+        // Rendering only the changes must result in the same circles as rendering all visible buckets.
+        Set<Long> visibleKeys = new HashSet<>();
+        for (LocationSignalGrid.Bucket bucket : grid.getVisibleBuckets()) {
+            assertTrue(bucket.isVisible());
+            assertTrue(bucket.getCount() > 0);
+            visibleKeys.add(bucket.getKey());
+        }
+        assertEquals(visibleKeys, renderedBuckets.keySet());
+    }
+
+    // Adds a signal at the given position in meters east and north of the origin.
+    private static void addSignal(LocationSignalGrid grid, double x, double y, int quality, long timeInMilliseconds) {
+        double latitude = ORIGIN_LATITUDE + Math.toDegrees(y / EARTH_RADIUS_IN_METERS);
+        double longitude = ORIGIN_LONGITUDE
+                + Math.toDegrees(x / (EARTH_RADIUS_IN_METERS * Math.cos(Math.toRadians(ORIGIN_LATITUDE))));
+        grid.addSignal(latitude, longitude, quality, timeInMilliseconds);
+    }
+
+    // Adds signals along a straight line to the east, one per second and meter.
+    private void walk(LocationSignalGrid grid, int count) {
+        for (int i = 0; i < count; i++) {
+            // The grid is aligned to the first signal, keep the others away from the borders of the cells.
+            double x = i == 0 ? 0 : i + 0.5;
+            addSignal(grid, x, 0.5, LocationSignalGrid.QUALITY_GOOD, i * 1000L);
+            render(grid);
+        }
+    }
+
+    @Test
+    public void closeSignalsAreGroupedIntoOneBucket() {
+        LocationSignalGrid grid = new LocationSignalGrid(10, 100, 100, ONE_HOUR_IN_MILLISECONDS);
+        addSignal(grid, 1, 1, LocationSignalGrid.QUALITY_GOOD, 0);
+        addSignal(grid, 3, 5, LocationSignalGrid.QUALITY_POOR, 1000);
+        addSignal(grid, 5, 3, LocationSignalGrid.QUALITY_ACCEPTABLE, 2000);
+        addSignal(grid, 15, 1, LocationSignalGrid.QUALITY_GOOD, 3000);
+        render(grid);
+
+        assertEquals(4, grid.getSignalCount());
+        assertEquals(2, grid.getBucketCount());
+        LocationSignalGrid.Bucket firstBucket = null;
+        for (LocationSignalGrid.Bucket bucket : grid.getBuckets()) {
+            if (bucket.getCount() == 3) {
+                firstBucket = bucket;
+            }
+        }
+        // The worst quality of the signals, at the center of the signals.
+        assertEquals(LocationSignalGrid.QUALITY_POOR, firstBucket.getQuality());
+        assertEquals(ORIGIN_LATITUDE + Math.toDegrees(3 / EARTH_RADIUS_IN_METERS), firstBucket.getLatitude(), 1e-9);
+        assertEquals(2, renderedBuckets.size());
+    }
+
+    @Test
+    public void zoomingInKeepsSignals() {
+        LocationSignalGrid grid = new LocationSignalGrid(100, 1000, 20, ONE_HOUR_IN_MILLISECONDS);
+        walk(grid, 500);
+        assertEquals(5, grid.getBucketCount());
+        assertEquals(5, grid.getVisibleBuckets().size());
+
+        // 500 cells of 1 m, but only the ones of the 20 newest signals are rendered.
+        grid.setCellSizeInMeters(1);
+        render(grid);
+        assertEquals(500, grid.getSignalCount());
+        assertEquals(500, grid.getBucketCount());
+        assertEquals(20, grid.getVisibleBuckets().size());
+        for (LocationSignalGrid.Bucket bucket : grid.getVisibleBuckets()) {
+            assertTrue(bucket.getLongitude() > ORIGIN_LONGITUDE
+                    + Math.toDegrees(480 / (EARTH_RADIUS_IN_METERS * Math.cos(Math.toRadians(ORIGIN_LATITUDE)))));
+        }
+
+        // Zooming out again shows all signals.
+        grid.setCellSizeInMeters(100);
+        render(grid);
+        assertEquals(500, grid.getSignalCount());
+        int signalCount = 0;
+        for (LocationSignalGrid.Bucket bucket : grid.getVisibleBuckets()) {
+            signalCount += bucket.getCount();
+        }
+        assertEquals(500, signalCount);
+    }
+
+    @Test
+    public void bucketOfNewestSignalIsVisible() {
+        LocationSignalGrid grid = new LocationSignalGrid(1, 1000, 3, ONE_HOUR_IN_MILLISECONDS);
+        walk(grid, 5);
+        assertEquals(5, grid.getBucketCount());
+        assertEquals(3, grid.getVisibleBuckets().size());
+
+        // Returning to the first cell makes it visible again and hides the oldest visible one.
+        addSignal(grid, 0.5, 0.5, LocationSignalGrid.QUALITY_GOOD, 5000);
+        render(grid);
+        assertEquals(5, grid.getBucketCount());
+        assertEquals(3, renderedBuckets.size());
+        long newestKey = 0;
+        for (LocationSignalGrid.Bucket bucket : grid.getVisibleBuckets()) {
+            newestKey = bucket.getKey();
+        }
+        assertEquals(2, renderedBuckets.get(newestKey).getCount());
+    }
+
+    @Test
+    public void oldestSignalsAreRemoved() {
+        LocationSignalGrid grid = new LocationSignalGrid(1, 100, 10, ONE_HOUR_IN_MILLISECONDS);
+        walk(grid, 150);
+        assertEquals(100, grid.getSignalCount());
+        assertEquals(100, grid.getBucketCount());
+        assertEquals(10, grid.getVisibleBuckets().size());
+
+        renderedBuckets.clear();
+        LocationSignalGrid agingGrid = new LocationSignalGrid(1, 1000, 1000, 60000);
+        walk(agingGrid, 150);
+        assertEquals(61, agingGrid.getSignalCount());
+        agingGrid.removeSignalsOlderThan(200000);
+        render(agingGrid);
+        assertEquals(0, agingGrid.getSignalCount());
+        assertEquals(0, agingGrid.getBucketCount());
+        assertTrue(renderedBuckets.isEmpty());
+    }
+
+    @Test
+    public void onlyChangedBucketsAreReported() {
+        LocationSignalGrid grid = new LocationSignalGrid(10, 100, 100, ONE_HOUR_IN_MILLISECONDS);
+        addSignal(grid, 1, 1, LocationSignalGrid.QUALITY_GOOD, 0);
+        addSignal(grid, 15, 1, LocationSignalGrid.QUALITY_GOOD, 1000);
+        assertEquals(2, grid.takeChangedBuckets().size());
+        assertTrue(grid.takeChangedBuckets().isEmpty());
+
+        addSignal(grid, 16, 1, LocationSignalGrid.QUALITY_GOOD, 2000);
+        assertEquals(1, grid.takeChangedBuckets().size());
+
+        // Setting the same cell size again does not regroup the signals.
+        grid.setCellSizeInMeters(10);
+        assertTrue(grid.takeChangedBuckets().isEmpty());
+    }
+
+    @Test
+    public void clearHidesAllBuckets() {
+        LocationSignalGrid grid = new LocationSignalGrid(1, 1000, 10, ONE_HOUR_IN_MILLISECONDS);
+        walk(grid, 50);
+        grid.clear();
+        for (LocationSignalGrid.Bucket bucket : grid.takeChangedBuckets()) {
+            assertFalse(bucket.isVisible());
+        }
+        renderedBuckets.clear();
+        render(grid);
+        assertEquals(0, grid.getSignalCount());
+        assertEquals(0, grid.getBucketCount());
+    }
+
+    @Test
+    public void cellsAroundOriginAreDistinct() {
+        LocationSignalGrid grid = new LocationSignalGrid(10, 100, 100, ONE_HOUR_IN_MILLISECONDS);
+        addSignal(grid, 0, 0, LocationSignalGrid.QUALITY_GOOD, 0);
+        addSignal(grid, -5, 5, LocationSignalGrid.QUALITY_GOOD, 1000);
+        addSignal(grid, 5, -5, LocationSignalGrid.QUALITY_GOOD, 2000);
+        addSignal(grid, -5, -5, LocationSignalGrid.QUALITY_GOOD, 3000);
+        render(grid);
+        assertEquals(4, grid.getBucketCount());
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.hikingdiary.rastertiles;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.here.sdk.core.GeoCoordinates;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Seeds tiles from a local HTTP server, which stands in for the raster tile server.
+public class RasterTileSeederTest {
+    private static final int TILE_SIZE_IN_BYTES = 1000;
+    private static final double CORRIDOR_RADIUS_IN_METERS = 200;
+    private static final List<GeoCoordinates> TRAIL = Arrays.asList(
+            new GeoCoordinates(52.5200, 13.4000), new GeoCoordinates(52.5300, 13.4200));
+    private static final List<GeoCoordinates> OTHER_TRAIL = Arrays.asList(
+            new GeoCoordinates(48.1300, 11.5700), new GeoCoordinates(48.1400, 11.5900));
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    // Tiles of this level are answered with HTTP 404.
+    private volatile int missingLevel = -1;
+    // When set, the server waits for it before answering.
+    private volatile CountDownLatch serverGate;
+    private final CountDownLatch firstRequest = new CountDownLatch(1);
+
+    private RasterTileStore tileStore;
+    private RasterTileSeeder seeder;
+
+    // Records the result of a seed job and lets the test wait for it.
+    private static class SeedResult implements RasterTileSeeder.SeedListener {
+        final CountDownLatch completed = new CountDownLatch(1);
+        int storedTiles;
+        int failedTiles;
+        long storedBytes;
+
+        @Override
+        public void onProgress(int completedTiles, int totalTiles, long storedBytes) {
+        }
+
+        @Override
+        public void onCompleted(int storedTiles, int failedTiles, long storedBytes) {
+            this.storedTiles = storedTiles;
+            this.failedTiles = failedTiles;
+            this.storedBytes = storedBytes;
+            completed.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue("Seeding did not complete", completed.await(30, TimeUnit.SECONDS));
+        }
+    }
+
+    // The content of a tile, which differs per tile.
+    private static byte[] tileData(String path) {
+        byte[] data = new byte[TILE_SIZE_IN_BYTES];
+        Arrays.fill(data, (byte) path.hashCode());
+        return data;
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                requestCount.incrementAndGet();
+                firstRequest.countDown();
+                CountDownLatch gate = serverGate;
+                if (gate != null) {
+                    try {
+                        gate.await(30, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                String path = exchange.getRequestURI().getPath();
+                if (path.startsWith("/" + missingLevel + "/")) {
+                    exchange.sendResponseHeaders(404, -1);
+                    exchange.close();
+                    return;
+                }
+                byte[] data = tileData(path);
+                exchange.sendResponseHeaders(200, data.length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(data);
+                }
+            }
+        });
+        serverExecutor = Executors.newFixedThreadPool(8);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        String templateUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/{z}/{x}/{y}.png";
+        tileStore = new RasterTileStore(temporaryFolder.newFolder("tiles"));
+        seeder = new RasterTileSeeder(tileStore, new HttpRasterTileFetcher(templateUrl));
+    }
+
+    @After
+    public void tearDown() {
+        seeder.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private static List<XyzTile> corridorTiles(List<GeoCoordinates> trail, List<Integer> levels) {
+        CorridorTilePlanner planner = new CorridorTilePlanner(CORRIDOR_RADIUS_IN_METERS);
+        List<XyzTile> tiles = new ArrayList<>();
+        for (int level : levels) {
+            tiles.addAll(planner.getTiles(trail, level));
+        }
+        return tiles;
+    }
+
+    private SeedResult seed(List<GeoCoordinates> trail, List<Integer> levels, long maxStoreSizeInBytes)
+            throws InterruptedException {
+        SeedResult result = new SeedResult();
+        seeder.seedCorridor(trail, CORRIDOR_RADIUS_IN_METERS, levels, maxStoreSizeInBytes, result);
+        result.await();
+        return result;
+    }
+
+    private void setLastModified(List<XyzTile> tiles, long time) {
+        for (XyzTile tile : tiles) {
+            assertTrue(tileStore.getTileFile(tile).setLastModified(time));
+        }
+    }
+
+    @Test
+    public void seedsTheMissingTilesOfTheCorridor() throws Exception {
+        List<Integer> levels = Arrays.asList(12, 13, 14);
+        List<XyzTile> tiles = corridorTiles(TRAIL, levels);
+
+        SeedResult result = seed(TRAIL, levels, Long.MAX_VALUE);
+        assertEquals(tiles.size(), result.storedTiles);
+        assertEquals(0, result.failedTiles);
+        assertEquals((long) tiles.size() * TILE_SIZE_IN_BYTES, result.storedBytes);
+        assertEquals(tiles.size(), requestCount.get());
+        for (XyzTile tile : tiles) {
+            assertArrayEquals(tileData("/" + tile + ".png"), Files.readAllBytes(tileStore.getTileFile(tile).toPath()));
+        }
+        assertEquals((long) tiles.size() * TILE_SIZE_IN_BYTES, tileStore.getSizeInBytes());
+
+        // Seeding the trail again does not download anything.
+        result = seed(TRAIL, levels, Long.MAX_VALUE);
+        assertEquals(0, result.storedTiles);
+        assertEquals(tiles.size(), requestCount.get());
+    }
+
+    @Test
+    public void trimmingKeepsTheStoredTilesOfTheSeededTrail() throws Exception {
+        // Level 13 of the trail is seeded first, then the other trail. The tiles of the trail are the oldest.
+        seed(TRAIL, Arrays.asList(13), Long.MAX_VALUE);
+        seed(OTHER_TRAIL, Arrays.asList(13, 14), Long.MAX_VALUE);
+        long now = System.currentTimeMillis();
+        setLastModified(corridorTiles(TRAIL, Arrays.asList(13)), now - 2 * 3600 * 1000);
+        setLastModified(corridorTiles(OTHER_TRAIL, Arrays.asList(13, 14)), now - 3600 * 1000);
+
+        // Seeding levels 13 and 14 of the trail with room for exactly these tiles. Only level 14 is downloaded.
+        List<XyzTile> tiles = corridorTiles(TRAIL, Arrays.asList(13, 14));
+        SeedResult result = seed(TRAIL, Arrays.asList(13, 14), (long) tiles.size() * TILE_SIZE_IN_BYTES);
+        assertEquals(corridorTiles(TRAIL, Arrays.asList(14)).size(), result.storedTiles);
+
+        // The oldest tiles, level 13 of the trail, are kept, while the other trail is removed to make room.
+        for (XyzTile tile : tiles) {
+            assertTrue("Missing tile " + tile, tileStore.contains(tile));
+        }
+        for (XyzTile tile : corridorTiles(OTHER_TRAIL, Arrays.asList(13, 14))) {
+            assertFalse("Unexpected tile " + tile, tileStore.contains(tile));
+        }
+        assertEquals((long) tiles.size() * TILE_SIZE_IN_BYTES, tileStore.getSizeInBytes());
+    }
+
+    @Test
+    public void failedTilesAreCountedAndNotStored() throws Exception {
+        missingLevel = 14;
+        List<Integer> levels = Arrays.asList(13, 14);
+        int failedTileCount = corridorTiles(TRAIL, Arrays.asList(14)).size();
+
+        SeedResult result = seed(TRAIL, levels, Long.MAX_VALUE);
+        assertEquals(corridorTiles(TRAIL, Arrays.asList(13)).size(), result.storedTiles);
+        assertEquals(failedTileCount, result.failedTiles);
+        for (XyzTile tile : corridorTiles(TRAIL, Arrays.asList(14))) {
+            assertFalse(tileStore.contains(tile));
+        }
+        // No temporary files are left behind.
+        File[] columns = new File(temporaryFolder.getRoot(), "tiles/14").listFiles();
+        assertTrue(columns == null || columns.length == 0 || allEmpty(columns));
+    }
+
+    private static boolean allEmpty(File[] directories) {
+        for (File directory : directories) {
+            String[] files = directory.list();
+            if (files != null && files.length > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void cancelledJobsStopDownloading() throws Exception {
+        List<Integer> levels = Arrays.asList(12, 13, 14, 15);
+        int tileCount = corridorTiles(TRAIL, levels).size();
+        serverGate = new CountDownLatch(1);
+
+        SeedResult result = new SeedResult();
+        RasterTileSeeder.SeedJob seedJob =
+                seeder.seedCorridor(TRAIL, CORRIDOR_RADIUS_IN_METERS, levels, Long.MAX_VALUE, result);
+        assertTrue(firstRequest.await(30, TimeUnit.SECONDS));
+        seedJob.cancel();
+        serverGate.countDown();
+        result.await();
+
+        // Only the downloads that were running already complete.
+        assertTrue(result.storedTiles > 0);
+        assertTrue(result.storedTiles < tileCount);
+        assertEquals(tileCount, result.storedTiles + result.failedTiles);
+        assertEquals(result.storedTiles, requestCount.get());
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (C) 2023-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.hikingdiary.tracksimplification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.here.sdk.core.GeoCoordinates;
+import com.here.sdk.core.Location;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Checks that every location that is dropped stays within the tolerance of the stored track, and prints the
+// compression ratios for synthetic two-hour walks, sampled once per second.
+public class TrackSimplifierTest {
+
+    private static final double EARTH_RADIUS_IN_METERS = 6371000;
+    private static final double ORIGIN_LATITUDE = 47.42;
+    private static final double ORIGIN_LONGITUDE = 10.98;
+    private static final int TWO_HOURS_IN_SECONDS = 7200;
+    private static final double SPEED_IN_METERS_PER_SECOND = 1.3;
+    private static final double[] TOLERANCES_IN_METERS = {2, 5, 10};
+    // The simplifier and the test project the locations independently, so allow for rounding.
+    private static final double EPSILON_IN_METERS = 0.001;
+
+    // A walk with a slowly changing heading.
+    private static List<Location> createRandomWalk(long seed) {
+        Random random = new Random(seed);
+        List<Location> locations = new ArrayList<>();
+        double x = 0;
+        double y = 0;
+        double heading = 0;
+        for (int second = 0; second < TWO_HOURS_IN_SECONDS; second++) {
+            heading += Math.toRadians(2) * random.nextGaussian();
+            x += SPEED_IN_METERS_PER_SECOND * Math.sin(heading);
+            y += SPEED_IN_METERS_PER_SECOND * Math.cos(heading);
+            locations.add(createLocation(x, y, second));
+        }
+        return locations;
+    }
+
+    // A trail that climbs a slope in straight legs of 60 m with tight turns in between.
+    private static List<Location> createSwitchbacks() {
+        List<Location> locations = new ArrayList<>();
+        double x = 0;
+        double y = 0;
+        double heading = Math.toRadians(80);
+        double legDistance = 0;
+        boolean isTurning = false;
+        double turnedAngle = 0;
+        double turnDirection = -1;
+        for (int second = 0; second < TWO_HOURS_IN_SECONDS; second++) {
+            if (isTurning) {
+                // Turn by 160 degrees within about 6 seconds.
+                double step = Math.toRadians(160) / 6;
+                heading += turnDirection * step;
+                turnedAngle += step;
+                if (turnedAngle >= Math.toRadians(160) - 1e-9) {
+                    isTurning = false;
+                    turnDirection = -turnDirection;
+                    legDistance = 0;
+                }
+            } else if (legDistance >= 60) {
+                isTurning = true;
+                turnedAngle = 0;
+            }
+            x += SPEED_IN_METERS_PER_SECOND * Math.sin(heading);
+            y += SPEED_IN_METERS_PER_SECOND * Math.cos(heading);
+            legDistance += SPEED_IN_METERS_PER_SECOND;
+            locations.add(createLocation(x, y, second));
+        }
+        return locations;
+    }
+
+    // A gently curving trail to a summit and back on the same way.
+    private static List<Location> createOutAndBack() {
+        List<Location> locations = new ArrayList<>();
+        int halfDuration = TWO_HOURS_IN_SECONDS / 2;
+        for (int second = 0; second < TWO_HOURS_IN_SECONDS; second++) {
+            double distance = SPEED_IN_METERS_PER_SECOND * (second <= halfDuration ? second : 2 * halfDuration - second);
+            double x = distance;
+            double y = 200 * Math.sin(distance / 1000);
+            locations.add(createLocation(x, y, second));
+        }
+        return locations;
+    }
+
+    // The random walk with the jitter of unfiltered GPS locations.
+    private static List<Location> createNoisyWalk(long seed) {
+        Random random = new Random(seed);
+        List<Location> locations = new ArrayList<>();
+        for (Location location : createRandomWalk(seed)) {
+            double x = getX(location.coordinates) + 3 * random.nextGaussian();
+            double y = getY(location.coordinates) + 3 * random.nextGaussian();
+            locations.add(createLocation(x, y, locations.size()));
+        }
+        return locations;
+    }
+
+    private static Location createLocation(double x, double y, int second) {
+        double latitude = ORIGIN_LATITUDE + Math.toDegrees(y / EARTH_RADIUS_IN_METERS);
+        double longitude = ORIGIN_LONGITUDE
+                + Math.toDegrees(x / (EARTH_RADIUS_IN_METERS * Math.cos(Math.toRadians(ORIGIN_LATITUDE))));
+        Location location = new Location(new GeoCoordinates(latitude, longitude));
+        location.time = new Date(1700000000000L + second * 1000L);
+        return location;
+    }
+
+    private static double getX(GeoCoordinates coordinates) {
+        return Math.toRadians(coordinates.longitude - ORIGIN_LONGITUDE)
+                * EARTH_RADIUS_IN_METERS * Math.cos(Math.toRadians(ORIGIN_LATITUDE));
+    }
+
+    private static double getY(GeoCoordinates coordinates) {
+        return Math.toRadians(coordinates.latitude - ORIGIN_LATITUDE) * EARTH_RADIUS_IN_METERS;
+    }
+
+    private static List<Location> simplify(TrackSimplifier trackSimplifier, List<Location> locations) {
+        List<Location> storedLocations = new ArrayList<>();
+        for (Location location : locations) {
+            Location storedLocation = trackSimplifier.addLocation(location);
+            if (storedLocation != null) {
+                storedLocations.add(storedLocation);
+            }
+        }
+        Location lastLocation = trackSimplifier.flush();
+        if (lastLocation != null) {
+            storedLocations.add(lastLocation);
+        }
+        return storedLocations;
+    }
+
+    // Returns the largest distance of a location to the segment of the stored track that replaces it.
+    private static double getMaxErrorInMeters(List<Location> locations, List<Location> storedLocations) {
+        Map<Location, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < locations.size(); i++) {
+            indices.put(locations.get(i), i);
+        }
+        double maxError = 0;
+        for (int k = 1; k < storedLocations.size(); k++) {
+            int startIndex = indices.get(storedLocations.get(k - 1));
+            int endIndex = indices.get(storedLocations.get(k));
+            assertTrue("Stored locations must keep their order.", startIndex < endIndex);
+            for (int i = startIndex + 1; i < endIndex; i++) {
+                maxError = Math.max(maxError, getDistanceToSegmentInMeters(locations.get(i).coordinates,
+                        locations.get(startIndex).coordinates, locations.get(endIndex).coordinates));
+            }
+        }
+        return maxError;
+    }
+
+    // Measured in a plane around the start of the segment, as the simplifier does.
+    private static double getDistanceToSegmentInMeters(GeoCoordinates point, GeoCoordinates start, GeoCoordinates end) {
+        double metersPerDegreeLongitude = Math.toRadians(1) * EARTH_RADIUS_IN_METERS * Math.cos(Math.toRadians(start.latitude));
+        double metersPerDegreeLatitude = Math.toRadians(1) * EARTH_RADIUS_IN_METERS;
+        double px = (point.longitude - start.longitude) * metersPerDegreeLongitude;
+        double py = (point.latitude - start.latitude) * metersPerDegreeLatitude;
+        double x = (end.longitude - start.longitude) * metersPerDegreeLongitude;
+        double y = (end.latitude - start.latitude) * metersPerDegreeLatitude;
+        double squaredLength = x * x + y * y;
+        double t = squaredLength > 0 ? Math.max(0, Math.min(1, (px * x + py * y) / squaredLength)) : 0;
+        return Math.hypot(px - t * x, py - t * y);
+    }
+
+    private static double checkErrorBound(String name, List<Location> locations, double minCompressionRatio) {
+        double compressionRatioAtFiveMeters = 0;
+        for (double tolerance : TOLERANCES_IN_METERS) {
+            TrackSimplifier trackSimplifier = new TrackSimplifier(tolerance);
+            List<Location> storedLocations = simplify(trackSimplifier, locations);
+
+            assertSame(locations.get(0), storedLocations.get(0));
+            assertSame(locations.get(locations.size() - 1), storedLocations.get(storedLocations.size() - 1));
+            assertEquals(locations.size(), trackSimplifier.getInputCount());
+            assertEquals(storedLocations.size(), trackSimplifier.getOutputCount());
+
+            double maxError = getMaxErrorInMeters(locations, storedLocations);
+            double compressionRatio = (double) locations.size() / storedLocations.size();
+            System.out.println(String.format("%s at %.0f m tolerance: max error %.2f m, stored %d of %d locations, %.1f:1",
+                    name, tolerance, maxError, storedLocations.size(), locations.size(), compressionRatio));
+            assertTrue(name + ": max error " + maxError + " m at " + tolerance + " m tolerance.",
+                    maxError <= tolerance + EPSILON_IN_METERS);
+            if (tolerance == 5) {
+                compressionRatioAtFiveMeters = compressionRatio;
+            }
+        }
+        assertTrue(name + ": compression " + compressionRatioAtFiveMeters + ":1 at 5 m tolerance.",
+                compressionRatioAtFiveMeters >= minCompressionRatio);
+        return compressionRatioAtFiveMeters;
+    }
+
+    @Test
+    public void randomWalk() {
+        checkErrorBound("Random walk", createRandomWalk(1), 20);
+    }
+
+    @Test
+    public void switchbacks() {
+        checkErrorBound("Switchbacks", createSwitchbacks(), 10);
+    }
+
+    @Test
+    public void outAndBack() {
+        List<Location> locations = createOutAndBack();
+        checkErrorBound("Out-and-back", locations, 20);
+
+        // The turning point is kept, although it lies on the line between the way out and the way back.
+        List<Location> storedLocations = simplify(new TrackSimplifier(5), locations);
+        double maxX = 0;
+        for (Location location : storedLocations) {
+            maxX = Math.max(maxX, getX(location.coordinates));
+        }
+        assertEquals(SPEED_IN_METERS_PER_SECOND * TWO_HOURS_IN_SECONDS / 2, maxX, 5);
+    }
+
+    @Test
+    public void noisyWalk() {
+        // Jitter is not removed, so unfiltered locations compress much less.
+        checkErrorBound("Noisy walk", createNoisyWalk(2), 2);
+    }
+
+    @Test
+    public void standingStillIsStoredOncePerFullWindow() {
+        TrackSimplifier trackSimplifier = new TrackSimplifier(5);
+        List<Location> locations = new ArrayList<>();
+        for (int second = 0; second < 1000; second++) {
+            locations.add(createLocation(0, 0, second));
+        }
+        List<Location> storedLocations = simplify(trackSimplifier, locations);
+        // The first location, one per window of 256 locations and the last one.
+        assertEquals(1 + 1000 / 257 + 1, storedLocations.size());
+    }
+
+    @Test
+    public void pendingLocationIsNewestLocation() {
+        TrackSimplifier trackSimplifier = new TrackSimplifier(5);
+        Location first = createLocation(0, 0, 0);
+        assertSame(first, trackSimplifier.addLocation(first));
+        assertNull(trackSimplifier.getPendingLocation());
+
+        Location second = createLocation(10, 0, 1);
+        assertNull(trackSimplifier.addLocation(second));
+        assertSame(second, trackSimplifier.getPendingLocation());
+        Location third = createLocation(20, 0, 2);
+        assertNull(trackSimplifier.addLocation(third));
+        assertSame(third, trackSimplifier.getPendingLocation());
+
+        // A sharp turn stores the location before it.
+        Location fourth = createLocation(20, 20, 3);
+        assertSame(third, trackSimplifier.addLocation(fourth));
+        assertSame(fourth, trackSimplifier.getPendingLocation());
+
+        assertSame(fourth, trackSimplifier.flush());
+        assertNull(trackSimplifier.getPendingLocation());
+        assertNull(trackSimplifier.flush());
+    }
+}
@@ -284,5 +284,6 @@ public class App {
         navigationExample.stopLocating();
         // Disables rendering.
         navigationExample.stopRendering();
+        navigationExample.dispose();
     }
 }
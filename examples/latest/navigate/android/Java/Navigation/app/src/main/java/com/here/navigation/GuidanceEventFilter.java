@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.navigation;
+
+import androidx.annotation.Nullable;
+
+import com.here.sdk.core.GeoCoordinates;
+
+// Decides which route progress events reach which consumer of the NavigationHandler. Each consumer only gets the
+// events that changed the data it uses, limited to its own rate by a GuidanceEventThrottle.
+// The clock is injected, so the decisions can be tested on the JVM with synthetic event streams.
+class GuidanceEventFilter {
+
+    // Provides the monotonic time of an event, e.g. SystemClock.elapsedRealtime().
+    interface Clock {
+        long getTimeInMilliseconds();
+    }
+
+    // Within this distance to the next maneuver, every changed maneuver update is shown without rate limit.
+    static final int CLOSE_TO_MANEUVER_DISTANCE_IN_METERS = 200;
+    // Locations closer than this to the last forwarded location are considered unchanged.
+    static final double MIN_LOCATION_CHANGE_IN_METERS = 1.0;
+
+    private static final double EARTH_RADIUS_IN_METERS = 6371000.0;
+
+    private final TimeUtils timeUtils;
+    private final Clock clock;
+
+    final GuidanceEventThrottle maneuverMessageThrottle = new GuidanceEventThrottle("Maneuver message", 1000);
+    final GuidanceEventThrottle dynamicRoutingThrottle = new GuidanceEventThrottle("DynamicRoutingEngine", 5000);
+    final GuidanceEventThrottle electronicHorizonThrottle = new GuidanceEventThrottle("ElectronicHorizon", 1000);
+
+    private int previousManeuverIndex = -1;
+    private String lastShownETAString;
+    private int lastShownRemainingDistanceInMeters = -1;
+    private GeoCoordinates lastDynamicRoutingCoordinates;
+    private int lastDynamicRoutingSectionIndex = -1;
+    private GeoCoordinates lastElectronicHorizonCoordinates;
+
+    GuidanceEventFilter(TimeUtils timeUtils, Clock clock) {
+        this.timeUtils = timeUtils;
+        this.clock = clock;
+    }
+
+    // Returns true when the next maneuver differs from the one of the previous route progress event.
+    boolean onNextManeuver(int maneuverIndex) {
+        boolean isNewManeuver = previousManeuverIndex != maneuverIndex;
+        previousManeuverIndex = maneuverIndex;
+        return isNewManeuver;
+    }
+
+    // Returns the ETA to show in the maneuver message, or null when the message should not be updated.
+    // A new maneuver is always shown, otherwise the message is only updated when its content changed,
+    // at most once per second unless the maneuver is close.
+    @Nullable
+    String getManeuverMessageETA(boolean isNewManeuver, int remainingDistanceInMeters, int remainingDurationInSeconds) {
+        String etaString = timeUtils.getETAinDeviceTimeZone(remainingDurationInSeconds);
+        boolean hasChanged = remainingDistanceInMeters != lastShownRemainingDistanceInMeters
+                || !etaString.equals(lastShownETAString);
+        boolean alwaysForward = isNewManeuver
+                || (hasChanged && remainingDistanceInMeters <= CLOSE_TO_MANEUVER_DISTANCE_IN_METERS);
+        if (!maneuverMessageThrottle.shouldForward(clock.getTimeInMilliseconds(), hasChanged, alwaysForward)) {
+            return null;
+        }
+        lastShownETAString = etaString;
+        lastShownRemainingDistanceInMeters = remainingDistanceInMeters;
+        return etaString;
+    }
+
+    // The DynamicRoutingEngine only needs the location when it has moved. Entering a new route section is
+    // always forwarded, as the section index is part of its input.
+    boolean shouldUpdateDynamicRoutingEngine(GeoCoordinates coordinates, int sectionIndex) {
+        boolean isNewSection = sectionIndex != lastDynamicRoutingSectionIndex;
+        if (!dynamicRoutingThrottle.shouldForward(clock.getTimeInMilliseconds(),
+                hasMoved(lastDynamicRoutingCoordinates, coordinates), isNewSection)) {
+            return false;
+        }
+        lastDynamicRoutingCoordinates = coordinates;
+        lastDynamicRoutingSectionIndex = sectionIndex;
+        return true;
+    }
+
+    // The ElectronicHorizon only needs the location when it has moved.
+    boolean shouldUpdateElectronicHorizon(GeoCoordinates coordinates) {
+        if (!electronicHorizonThrottle.shouldForward(clock.getTimeInMilliseconds(),
+                hasMoved(lastElectronicHorizonCoordinates, coordinates), false)) {
+            return false;
+        }
+        lastElectronicHorizonCoordinates = coordinates;
+        return true;
+    }
+
+    // Drops the memoized ETA, as the ETA minute stays the same when the device's timezone changes.
+    // The next maneuver message then shows the ETA in the new timezone.
+    void onTimeZoneChanged() {
+        timeUtils.invalidateETA();
+        lastShownETAString = null;
+    }
+
+    // Forgets all state of the previous route, so that the first events of the new route are not
+    // compared to or throttled against the old route. The statistics of the throttles are kept.
+    void reset() {
+        previousManeuverIndex = -1;
+        lastShownETAString = null;
+        lastShownRemainingDistanceInMeters = -1;
+        lastDynamicRoutingCoordinates = null;
+        lastDynamicRoutingSectionIndex = -1;
+        lastElectronicHorizonCoordinates = null;
+        maneuverMessageThrottle.reset();
+        dynamicRoutingThrottle.reset();
+        electronicHorizonThrottle.reset();
+    }
+
+    private static boolean hasMoved(@Nullable GeoCoordinates lastCoordinates, GeoCoordinates coordinates) {
+        return lastCoordinates == null
+                || getApproximateDistanceInMeters(lastCoordinates, coordinates) >= MIN_LOCATION_CHANGE_IN_METERS;
+    }
+
+    // An equirectangular approximation is exact enough for the few meters between two route progress events
+    // and avoids a call into the HERE SDK for every event.
+    static double getApproximateDistanceInMeters(GeoCoordinates from, GeoCoordinates to) {
+        double meanLatitudeInRadians = Math.toRadians((from.latitude + to.latitude) / 2);
+        double x = Math.toRadians(to.longitude - from.longitude) * Math.cos(meanLatitudeInRadians);
+        double y = Math.toRadians(to.latitude - from.latitude);
+        return Math.sqrt(x * x + y * y) * EARTH_RADIUS_IN_METERS;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.navigation;
+
+// Decides whether a guidance event should be forwarded to a consumer, for example to update a view or
+// to feed an engine. Events are only forwarded when the data the consumer actually uses has changed and
+// when the minimum interval since the last forwarded event has passed. Safety-critical events, such as a
+// new maneuver, bypass both checks and are always forwarded.
+// The class does not depend on any HERE SDK or Android type, so it can be driven by synthetic event streams.
+public class GuidanceEventThrottle {
+
+    private final String name;
+    private long minIntervalInMilliseconds;
+    private long lastForwardedTimeInMilliseconds;
+    private boolean hasForwarded;
+
+    private long forwardedCount;
+    private long skippedUnchangedCount;
+    private long skippedThrottledCount;
+
+    public GuidanceEventThrottle(String name, long minIntervalInMilliseconds) {
+        this.name = name;
+        setMinIntervalInMilliseconds(minIntervalInMilliseconds);
+    }
+
+    // Sets the minimum time between two forwarded events. 0 forwards every changed event.
+    public void setMinIntervalInMilliseconds(long minIntervalInMilliseconds) {
+        if (minIntervalInMilliseconds < 0) {
+            throw new IllegalArgumentException("The minimum interval must not be negative.");
+        }
+        this.minIntervalInMilliseconds = minIntervalInMilliseconds;
+    }
+
+    public long getMinIntervalInMilliseconds() {
+        return minIntervalInMilliseconds;
+    }
+
+    /**
+     * Returns true when the event should be forwarded to the consumer.
+     *
+     * @param timeInMilliseconds the monotonic time of the event, e.g. from SystemClock.elapsedRealtime().
+     * @param hasChanged         whether the data used by the consumer differs from the last forwarded event.
+     * @param alwaysForward      whether the event is safety-critical and must be forwarded in any case.
+     * @return true if the event should be forwarded, false if it can be skipped.
+     */
+    public boolean shouldForward(long timeInMilliseconds, boolean hasChanged, boolean alwaysForward) {
+        if (!alwaysForward) {
+            if (!hasChanged) {
+                skippedUnchangedCount++;
+                return false;
+            }
+            if (hasForwarded && timeInMilliseconds - lastForwardedTimeInMilliseconds < minIntervalInMilliseconds) {
+                skippedThrottledCount++;
+                return false;
+            }
+        }
+
+        hasForwarded = true;
+        lastForwardedTimeInMilliseconds = timeInMilliseconds;
+        forwardedCount++;
+        return true;
+    }
+
+    // Starts again as if no event was forwarded yet, e.g. when a new route is set.
+    // The statistics are kept.
+    public void reset() {
+        hasForwarded = false;
+    }
+
+    public long getForwardedCount() {
+        return forwardedCount;
+    }
+
+    // The number of events that were not forwarded, either because nothing changed or because of the rate limit.
+    public long getSkippedCount() {
+        return skippedUnchangedCount + skippedThrottledCount;
+    }
+
+    @Override
+    public String toString() {
+        return name + ": forwarded " + forwardedCount
+                + ", skipped " + getSkippedCount()
+                + " (unchanged " + skippedUnchangedCount + ", throttled " + skippedThrottledCount + ")";
+    }
+}
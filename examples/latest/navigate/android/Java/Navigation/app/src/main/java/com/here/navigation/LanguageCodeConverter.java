@@ -23,65 +23,93 @@ import android.util.Log;
 
 import com.here.sdk.core.LanguageCode;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 
 // Converts from com.here.sdk.core.LanguageCode to java.util.Locale and vice versa.
 // Both language and country must be set, if available.
+// The conversion tables for both directions are built once when the class is loaded and never modified
+// afterwards, so the converter can be used from any thread. Both lookups are hash map accesses.
 public class LanguageCodeConverter {
 
     private static final String TAG = LanguageCodeConverter.class.getName();
 
-    private  static HashMap<LanguageCode, Locale> languageCodeMap;
+    private static final Locale FALLBACK_LOCALE = new Locale("en", "US");
 
-    public static Locale getLocale(LanguageCode languageCode) {
-        if (languageCodeMap == null) {
-            initLanguageCodeMap();
+    private static final Map<LanguageCode, Locale> languageCodeMap;
+
+    // Maps "language_COUNTRY" to a LanguageCode. Additionally, each language is mapped to the
+    // first LanguageCode that was registered for it, which is used when the country does not match.
+    private static final Map<String, LanguageCode> localeMap;
+
+    static {
+        Map<LanguageCode, Locale> locales = createLanguageCodeMap();
+        Map<String, LanguageCode> languageCodes = new HashMap<>();
+        for (Map.Entry<LanguageCode, Locale> entry : locales.entrySet()) {
+            Locale locale = entry.getValue();
+            languageCodes.put(toKey(locale.getLanguage(), locale.getCountry()), entry.getKey());
+            if (!languageCodes.containsKey(locale.getLanguage())) {
+                languageCodes.put(locale.getLanguage(), entry.getKey());
+            }
         }
+        languageCodeMap = Collections.unmodifiableMap(new EnumMap<>(locales));
+        localeMap = Collections.unmodifiableMap(languageCodes);
+    }
 
-        if (languageCodeMap.containsKey(languageCode)) {
-            return languageCodeMap.get(languageCode);
+    public static Locale getLocale(LanguageCode languageCode) {
+        Locale locale = languageCodeMap.get(languageCode);
+        if (locale != null) {
+            return locale;
         }
 
         // Should never happen, unless the languageCodeMap was not updated
         // to support the latest LanguageCodes from HERE SDK.
         Log.e(TAG, "LanguageCode not found. Falling Back to en-US.");
-        return new Locale("en", "US");
+        return FALLBACK_LOCALE;
     }
 
+    // Resolves the LanguageCode for a locale. If there is no exact match for language and country,
+    // the script of the locale is tried, as some LanguageCodes use it in place of the country,
+    // for example, "sr_CYRL_RS". Then, the LanguageCode for the language is used, regardless of the country.
     public static LanguageCode getLanguageCode(Locale locale) {
-        if (languageCodeMap == null) {
-            initLanguageCodeMap();
-        }
-
         String language = locale.getLanguage();
         String country = locale.getCountry();
 
-        for (Map.Entry<LanguageCode, Locale> languageCodeLocaleEntry : languageCodeMap.entrySet()) {
-            Locale localeEntry = (Locale) ((Map.Entry) languageCodeLocaleEntry).getValue();
-
-            String languageEntry = localeEntry.getLanguage();
-            String countryEntry = localeEntry.getCountry();
+        LanguageCode languageCode = localeMap.get(toKey(language, country));
+        if (languageCode != null) {
+            return languageCode;
+        }
 
-            if (country == null) {
-                if (language.equals(languageEntry)) {
-                    return (LanguageCode) ((Map.Entry) languageCodeLocaleEntry).getKey();
-                }
-            } else {
-                if (language.equals(languageEntry) && country.equals(countryEntry)) {
-                    return (LanguageCode) ((Map.Entry) languageCodeLocaleEntry).getKey();
-                }
+        String script = locale.getScript().toUpperCase(Locale.ROOT);
+        if (!script.isEmpty()) {
+            String scriptCountry = country.isEmpty() ? script : script + "_" + country;
+            languageCode = localeMap.get(toKey(language, scriptCountry));
+            if (languageCode != null) {
+                return languageCode;
             }
         }
 
+        languageCode = localeMap.get(language);
+        if (languageCode != null) {
+            return languageCode;
+        }
+
         Log.e(TAG, "LanguageCode not found. Falling back to EN_US.");
         return LanguageCode.EN_US;
     }
 
+    private static String toKey(String language, String country) {
+        return language + "_" + country;
+    }
+
     // / Language is always set, country may not be set.
-    private static void initLanguageCodeMap() {
-        languageCodeMap = new HashMap<>();
+    // The order of registration defines the LanguageCode used for a language when the country does not match.
+    private static Map<LanguageCode, Locale> createLanguageCodeMap() {
+        Map<LanguageCode, Locale> languageCodeMap = new LinkedHashMap<>();
 
         /// English (United States)
         languageCodeMap.put(LanguageCode.EN_US, new Locale("en", "US"));
@@ -412,5 +440,7 @@ public class LanguageCodeConverter {
 
         /// Yoruba - Latin
         languageCodeMap.put(LanguageCode.YO_LATN, new Locale("yo", "LATN"));
+
+        return languageCodeMap;
     }
 }
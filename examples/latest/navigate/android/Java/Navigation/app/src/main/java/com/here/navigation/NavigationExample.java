@@ -176,6 +176,7 @@ public class NavigationExample {
 
         // Switches to navigation mode when no route was set before, otherwise navigation mode is kept.
         visualNavigator.setRoute(route);
+        navigationHandler.onRouteChanged();
 
         // Enable auto-zoom during guidance.
         visualNavigator.setCameraBehavior(new DynamicCameraBehavior());
@@ -233,6 +234,7 @@ public class NavigationExample {
         // Without a route the navigator will only notify on the current map-matched location
         // including info such as speed and current street name.
         visualNavigator.setRoute(null);
+        navigationHandler.onRouteChanged();
         // SpeedBasedCameraBehavior is recommended for tracking mode.
         visualNavigator.setCameraBehavior(new SpeedBasedCameraBehavior());
         enableDevicePositioning();
@@ -241,6 +243,7 @@ public class NavigationExample {
         dynamicRoutingEngine.stop();
         electronicHorizonHandler.stop();
         routePrefetcher.stopPrefetchAroundRoute();
+        navigationHandler.logGuidanceEventStatistics();
         // Synchronize with the toggle button state.
         updateCameraTracking(isCameraTrackingEnabled);
     }
@@ -287,4 +290,8 @@ public class NavigationExample {
         // This also removes the current location marker.
         visualNavigator.stopRendering();
     }
+
+    public void dispose() {
+        navigationHandler.dispose();
+    }
 }
@@ -19,13 +19,18 @@
 
 package com.here.navigation;
 
+import android.content.BroadcastReceiver;
 import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.SystemClock;
 import android.util.Log;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.here.sdk.core.GeoCoordinates;
 import com.here.sdk.core.LanguageCode;
 import com.here.sdk.core.UnitSystem;
 import com.here.sdk.core.errors.InstantiationErrorException;
@@ -65,19 +70,33 @@ public class NavigationHandler {
     private static final String TAG = NavigationHandler.class.getName();
 
     private final Context context;
-    private int previousManeuverIndex = -1;
     private MapMatchedLocation lastMapMatchedLocation;
     private VoiceAssistant voiceAssistant;
     private final TextView messageView;
     private final TimeUtils timeUtils;
+    // Reused to compose the maneuver message whenever it is shown.
+    private final StringBuilder messageBuilder = new StringBuilder();
+    // Drops the memoized ETA when the device's timezone changes, as the ETA minute stays the same.
+    private final BroadcastReceiver timeZoneChangedReceiver = new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            guidanceEventFilter.onTimeZoneChanged();
+        }
+    };
     private final RoutingEngine routingEngine;
     private long lastTrafficUpdateInMilliseconds = 0L;
 
+    // Route progress events arrive about once per second. Each consumer only gets the events
+    // that changed the data it uses, limited to its own rate.
+    private final GuidanceEventFilter guidanceEventFilter;
+
     public NavigationHandler(Context context, TextView messageView) {
         this.context = context;
         this.messageView = messageView;
 
         timeUtils = new TimeUtils();
+        guidanceEventFilter = new GuidanceEventFilter(timeUtils, SystemClock::elapsedRealtime);
+        context.registerReceiver(timeZoneChangedReceiver, new IntentFilter(Intent.ACTION_TIMEZONE_CHANGED));
         try {
             routingEngine = new RoutingEngine();
         } catch (InstantiationErrorException e) {
@@ -118,48 +137,17 @@ public class NavigationHandler {
                     return;
                 }
 
-                ManeuverAction action = nextManeuver.getAction();
-                String logMessage = "Next maneuver action: " + action.name() + " in " + nextManeuverProgress.remainingDistanceInMeters + " meters.";
-
-                String currentETAString = getETA(routeProgress);
-
-                if (previousManeuverIndex != nextManeuverIndex) {
-                    currentETAString = currentETAString + "\nNew maneuver: " + logMessage;
-                } else {
-                    // A maneuver update contains a different distance to reach the next maneuver.
-                    currentETAString = currentETAString + "\nManeuver update: " + logMessage;
-                }
-                messageView.setText(currentETAString);
+                boolean isNewManeuver = guidanceEventFilter.onNextManeuver(nextManeuverIndex);
 
-                previousManeuverIndex = nextManeuverIndex;
+                updateManeuverMessage(routeProgress, nextManeuver, nextManeuverProgress, isNewManeuver);
 
                 if (lastMapMatchedLocation != null) {
-                    // Update the route based on the current location of the driver.
-                    // We periodically want to search for better traffic-optimized routes.
-                    dynamicRoutingEngine.updateCurrentLocation(lastMapMatchedLocation, routeProgress.routeMatchedLocation.sectionIndex);
-
-                    // Update the ElectronicHorizon with the last map-matched location.
-                    electronicHorizonHandler.update(lastMapMatchedLocation);
-                }
-
-                // Angle is null for some maneuvers like Depart, Arrive and Roundabout.
-                Double turnAngle = nextManeuver.getTurnAngleInDegrees();
-                if (turnAngle != null) {
-                    if (turnAngle > 10) {
-                        Log.d(TAG, "At the next maneuver: Make a right turn of " + turnAngle + " degrees.");
-                    } else if (turnAngle < -10) {
-                        Log.d(TAG, "At the next maneuver: Make a left turn of " + turnAngle + " degrees.");
-                    } else {
-                        Log.d(TAG, "At the next maneuver: Go straight.");
-                    }
+                    updateLocationConsumers(lastMapMatchedLocation, routeProgress.routeMatchedLocation.sectionIndex,
+                            dynamicRoutingEngine, electronicHorizonHandler);
                 }
 
-                // Angle is null when the roundabout maneuver is not an enter, exit or keep maneuver.
-                Double roundaboutAngle = nextManeuver.getRoundaboutAngleInDegrees();
-                if (roundaboutAngle != null) {
-                    // Note that the value is negative only for left-driving countries such as UK.
-                    Log.d(TAG, "At the next maneuver: Follow the roundabout for " +
-                            roundaboutAngle + " degrees to reach the exit.");
+                if (isNewManeuver) {
+                    logManeuverAngles(nextManeuver);
                 }
 
                 updateTrafficOnRoute(routeProgress, visualNavigator);
@@ -205,16 +193,109 @@ public class NavigationHandler {
         });
     }
 
-    private String getETA(RouteProgress routeProgress) {
+    // Shows the ETA and the next maneuver. A new maneuver is always shown, otherwise the message is only updated
+    // when its content changed, at most once per second unless the maneuver is close.
+    private void updateManeuverMessage(RouteProgress routeProgress, Maneuver nextManeuver,
+                                       ManeuverProgress nextManeuverProgress, boolean isNewManeuver) {
+        int remainingDistanceInMeters = nextManeuverProgress.remainingDistanceInMeters;
+        String etaString = guidanceEventFilter.getManeuverMessageETA(
+                isNewManeuver, remainingDistanceInMeters, getRemainingDurationInSeconds(routeProgress));
+        if (etaString == null) {
+            return;
+        }
+
+        logETA(routeProgress, etaString);
+
+        messageBuilder.setLength(0);
+        messageBuilder.append("ETA: ").append(etaString);
+        if (isNewManeuver) {
+            messageBuilder.append("\nNew maneuver: ");
+        } else {
+            // A maneuver update contains a different distance to reach the next maneuver.
+            messageBuilder.append("\nManeuver update: ");
+        }
+        ManeuverAction action = nextManeuver.getAction();
+        messageBuilder.append("Next maneuver action: ").append(action.name())
+                .append(" in ").append(remainingDistanceInMeters).append(" meters.");
+        // The TextView keeps its own copy of the text, so the builder can be reused.
+        messageView.setText(messageBuilder);
+    }
+
+    // Feeds the DynamicRoutingEngine and the ElectronicHorizon with the last map-matched location.
+    // Both only need the location when it has moved. Entering a new route section is always forwarded to the
+    // DynamicRoutingEngine, as the section index is part of its input.
+    private void updateLocationConsumers(MapMatchedLocation mapMatchedLocation, int sectionIndex,
+                                         DynamicRoutingEngine dynamicRoutingEngine,
+                                         ElectronicHorizonHandler electronicHorizonHandler) {
+        GeoCoordinates coordinates = mapMatchedLocation.coordinates;
+
+        if (guidanceEventFilter.shouldUpdateDynamicRoutingEngine(coordinates, sectionIndex)) {
+            // Update the route based on the current location of the driver.
+            // We periodically want to search for better traffic-optimized routes.
+            dynamicRoutingEngine.updateCurrentLocation(mapMatchedLocation, sectionIndex);
+        }
+
+        if (guidanceEventFilter.shouldUpdateElectronicHorizon(coordinates)) {
+            // Update the ElectronicHorizon with the last map-matched location.
+            electronicHorizonHandler.update(mapMatchedLocation);
+        }
+    }
+
+    private void logManeuverAngles(Maneuver nextManeuver) {
+        // Angle is null for some maneuvers like Depart, Arrive and Roundabout.
+        Double turnAngle = nextManeuver.getTurnAngleInDegrees();
+        if (turnAngle != null) {
+            if (turnAngle > 10) {
+                Log.d(TAG, "At the next maneuver: Make a right turn of " + turnAngle + " degrees.");
+            } else if (turnAngle < -10) {
+                Log.d(TAG, "At the next maneuver: Make a left turn of " + turnAngle + " degrees.");
+            } else {
+                Log.d(TAG, "At the next maneuver: Go straight.");
+            }
+        }
+
+        // Angle is null when the roundabout maneuver is not an enter, exit or keep maneuver.
+        Double roundaboutAngle = nextManeuver.getRoundaboutAngleInDegrees();
+        if (roundaboutAngle != null) {
+            // Note that the value is negative only for left-driving countries such as UK.
+            Log.d(TAG, "At the next maneuver: Follow the roundabout for " +
+                    roundaboutAngle + " degrees to reach the exit.");
+        }
+    }
+
+    // Forgets all state of the previous route, so that the first events of the new route are not
+    // compared to or throttled against the old route. Call this whenever a route is set or removed.
+    public void onRouteChanged() {
+        guidanceEventFilter.reset();
+    }
+
+    // Stops listening for timezone changes. The handler must not be used afterwards.
+    public void dispose() {
+        context.unregisterReceiver(timeZoneChangedReceiver);
+    }
+
+    // Logs how many route progress events were forwarded to and saved for each consumer.
+    public void logGuidanceEventStatistics() {
+        Log.d(TAG, guidanceEventFilter.maneuverMessageThrottle.toString());
+        Log.d(TAG, guidanceEventFilter.dynamicRoutingThrottle.toString());
+        Log.d(TAG, guidanceEventFilter.electronicHorizonThrottle.toString());
+    }
+
+    private int getRemainingDurationInSeconds(RouteProgress routeProgress) {
+        List<SectionProgress> sectionProgressList = routeProgress.sectionProgress;
+        // sectionProgressList is guaranteed to be non-empty.
+        SectionProgress lastSectionProgress = sectionProgressList.get(sectionProgressList.size() - 1);
+        return (int) lastSectionProgress.remainingDuration.toSeconds();
+    }
+
+    private void logETA(RouteProgress routeProgress, String etaString) {
         List<SectionProgress> sectionProgressList = routeProgress.sectionProgress;
         // sectionProgressList is guaranteed to be non-empty.
         SectionProgress lastSectionProgress = sectionProgressList.get(sectionProgressList.size() - 1);
-        String currentETAString = "ETA: " + timeUtils.getETAinDeviceTimeZone((int) lastSectionProgress.remainingDuration.toSeconds());
         Log.d(TAG, "Distance to destination in meters: " + lastSectionProgress.remainingDistanceInMeters);
         Log.d(TAG, "Traffic delay ahead in seconds: " + lastSectionProgress.trafficDelay.getSeconds());
         // Logs current ETA.
-        Log.d(TAG, currentETAString);
-        return currentETAString;
+        Log.d(TAG, "ETA: " + etaString);
     }
 
     private void setupVoiceGuidance(VisualNavigator visualNavigator) {
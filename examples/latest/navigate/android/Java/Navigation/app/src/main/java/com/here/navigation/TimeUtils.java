@@ -5,8 +5,6 @@ import com.here.sdk.routing.Route;
 import com.here.sdk.routing.Section;
 
 import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -47,39 +45,63 @@ public class TimeUtils {
         return String.format(Locale.getDefault(), "%02d.%02d km", kilometers, remainingMeters);
     }
 
+    // Cached state for getETAinDeviceTimeZone(), which is called on every route progress update.
+    // A TimeUtils instance is not thread-safe, each thread should use its own instance.
+    private DateFormat etaDateFormat;
+    private Locale etaLocale;
+    private TimeZone etaTimeZone;
+    private final Date etaDate = new Date();
+    private long etaMinute = Long.MIN_VALUE;
+    private String etaString;
+
     /**
      * Returns the ETA (as a string in ‘HH:mm’ format) in the current device’s timezone, derived from the estimatedTravelTimeInSeconds, which is sourced from the Route object.
      *
+     * As the ETA is shown with minute precision, the formatted string is memoized per minute: Repeated calls
+     * that result in the same minute return the cached string without allocating. The formatter is only
+     * created again when the device's locale or timezone has changed. Call invalidateETA() when the timezone
+     * changes, otherwise the memoized string is shown in the old timezone until the ETA minute changes.
+     *
      * @param remainingDuration remaining duration of trip in seconds.
      * @return A string representing the ETA in "HH:mm" format.
      */
     public String getETAinDeviceTimeZone(int remainingDuration) {
-
-        // Get an instance of the Calendar class initialized with the current date and time
-        Calendar calendar = Calendar.getInstance();
-
-        // Set the calendar's time to the current date and time
-        calendar.setTime(new Date());
-
-        // Add the estimated travel time (in seconds) to the current time
-        calendar.add(Calendar.SECOND, remainingDuration);
-
-        return getFormattedDate(calendar.getTime());
+        // Add the estimated travel time (in seconds) to the current time.
+        long etaInMilliseconds = System.currentTimeMillis() + remainingDuration * 1000L;
+        long minute = etaInMilliseconds / 60000L;
+        if (minute == etaMinute && etaLocale == Locale.getDefault()) {
+            return etaString;
+        }
+
+        updateETADateFormat();
+        etaDate.setTime(minute * 60000L);
+        etaString = etaDateFormat.format(etaDate);
+        etaMinute = minute;
+        return etaString;
     }
 
-
     /**
-     * Formats the given date to a string representation using the device's default timezone.
-     *
-     * @param date The Date object to be formatted.
-     * @return     A string representing the formatted time in the default timezone.
+     * Drops the memoized ETA, so that the next call formats it again with the device's current locale and
+     * timezone. Call this when Intent.ACTION_TIMEZONE_CHANGED is received.
      */
-    private String getFormattedDate(Date date) {
-        // Create a DateFormat instance that formats the time in a short format (e.g., "HH:mm a").
-        java.text.DateFormat dateFormat = SimpleDateFormat.getTimeInstance(java.text.DateFormat.SHORT);
-
-        // Format the date using the configured DateFormat and return the result as a string.
-        return dateFormat.format(date);
+    public void invalidateETA() {
+        etaMinute = Long.MIN_VALUE;
+        etaString = null;
     }
 
+    private void updateETADateFormat() {
+        Locale locale = Locale.getDefault();
+        TimeZone timeZone = TimeZone.getDefault();
+        if (etaDateFormat != null && locale.equals(etaLocale) && timeZone.hasSameRules(etaTimeZone)
+                && timeZone.getID().equals(etaTimeZone.getID())) {
+            etaLocale = locale;
+            return;
+        }
+
+        // Create a DateFormat instance that formats the time in a short format (e.g., "HH:mm a").
+        etaDateFormat = DateFormat.getTimeInstance(DateFormat.SHORT, locale);
+        etaDateFormat.setTimeZone(timeZone);
+        etaLocale = locale;
+        etaTimeZone = timeZone;
+    }
 }
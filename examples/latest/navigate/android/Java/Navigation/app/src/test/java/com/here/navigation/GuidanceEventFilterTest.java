@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.here.sdk.core.GeoCoordinates;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.TimeZone;
+
+public class GuidanceEventFilterTest {
+
+    // About 1.1 m along a meridian.
+    private static final double ONE_METER_IN_DEGREES = 0.00001;
+    private static final int REMAINING_DURATION_IN_SECONDS = 3600;
+
+    private TimeZone defaultTimeZone;
+    private long timeInMilliseconds;
+    private GuidanceEventFilter filter;
+
+    @Before
+    public void setUp() {
+        defaultTimeZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        timeInMilliseconds = 0;
+        filter = new GuidanceEventFilter(new TimeUtils(), () -> timeInMilliseconds);
+    }
+
+    @After
+    public void tearDown() {
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    @Test
+    public void detectsNewManeuvers() {
+        assertTrue(filter.onNextManeuver(0));
+        assertFalse(filter.onNextManeuver(0));
+        assertTrue(filter.onNextManeuver(1));
+        assertFalse(filter.onNextManeuver(1));
+    }
+
+    @Test
+    public void maneuverMessageIsThrottledAwayFromTheManeuver() {
+        assertNotNull(getManeuverMessageETA(0, true, 1000));
+        assertNull(getManeuverMessageETA(500, false, 990));
+        assertNotNull(getManeuverMessageETA(1000, false, 980));
+        // Unchanged content is never shown again, even after the interval.
+        assertNull(getManeuverMessageETA(5000, false, 980));
+        assertNotNull(getManeuverMessageETA(5001, false, 970));
+
+        assertEquals("Maneuver message: forwarded 3, skipped 2 (unchanged 1, throttled 1)",
+                filter.maneuverMessageThrottle.toString());
+    }
+
+    @Test
+    public void maneuverMessageIsNotThrottledCloseToTheManeuver() {
+        assertNotNull(getManeuverMessageETA(0, true, 1000));
+        assertNotNull(getManeuverMessageETA(100, false, GuidanceEventFilter.CLOSE_TO_MANEUVER_DISTANCE_IN_METERS));
+        assertNotNull(getManeuverMessageETA(200, false, 150));
+        assertNull(getManeuverMessageETA(300, false, 150));
+        // A new maneuver is shown right away, even when nothing else changed.
+        assertNotNull(getManeuverMessageETA(400, true, 150));
+    }
+
+    @Test
+    public void dynamicRoutingEngineGetsMovedLocationsEveryFiveSecondsAndEveryNewSection() {
+        assertTrue(updateDynamicRoutingEngine(0, 0, 0));
+        assertFalse(updateDynamicRoutingEngine(1000, 10, 0));
+        assertTrue(updateDynamicRoutingEngine(5000, 20, 0));
+        // Less than a meter away from the last forwarded location.
+        assertFalse(updateDynamicRoutingEngine(10000, 20.5, 0));
+        // Entering a new section bypasses both checks.
+        assertTrue(updateDynamicRoutingEngine(10001, 20.5, 1));
+        assertFalse(updateDynamicRoutingEngine(10002, 30, 1));
+
+        assertEquals("DynamicRoutingEngine: forwarded 3, skipped 3 (unchanged 1, throttled 2)",
+                filter.dynamicRoutingThrottle.toString());
+    }
+
+    @Test
+    public void electronicHorizonGetsMovedLocationsEverySecond() {
+        assertTrue(updateElectronicHorizon(0, 0));
+        assertFalse(updateElectronicHorizon(500, 10));
+        assertTrue(updateElectronicHorizon(1000, 10));
+        assertFalse(updateElectronicHorizon(2000, 10.5));
+        assertTrue(updateElectronicHorizon(3000, 12));
+
+        assertEquals("ElectronicHorizon: forwarded 3, skipped 2 (unchanged 1, throttled 1)",
+                filter.electronicHorizonThrottle.toString());
+    }
+
+    @Test
+    public void resetForwardsTheFirstEventsOfTheNextRoute() {
+        assertTrue(filter.onNextManeuver(3));
+        assertNotNull(getManeuverMessageETA(0, true, 1000));
+        assertTrue(updateDynamicRoutingEngine(0, 0, 2));
+        assertTrue(updateElectronicHorizon(0, 0));
+
+        // The next route starts at the same location with the same data, within every interval.
+        timeInMilliseconds = 100;
+        filter.reset();
+
+        assertTrue(filter.onNextManeuver(3));
+        assertNotNull(getManeuverMessageETA(100, false, 1000));
+        assertTrue(updateDynamicRoutingEngine(100, 0, 2));
+        assertTrue(updateElectronicHorizon(100, 0));
+
+        // The statistics cover both routes.
+        assertEquals(2, filter.maneuverMessageThrottle.getForwardedCount());
+        assertEquals(2, filter.dynamicRoutingThrottle.getForwardedCount());
+        assertEquals(2, filter.electronicHorizonThrottle.getForwardedCount());
+    }
+
+    @Test
+    public void timeZoneChangeShowsTheETAInTheNewTimeZone() {
+        String etaInUTC = getManeuverMessageETA(0, true, 1000);
+        assertNotNull(etaInUTC);
+
+        TimeZone.setDefault(TimeZone.getTimeZone("GMT+05:00"));
+        // Without the broadcast, the memoized ETA of the same minute is kept and nothing changed.
+        assertNull(getManeuverMessageETA(2000, false, 1000));
+
+        filter.onTimeZoneChanged();
+
+        String etaInNewTimeZone = getManeuverMessageETA(4000, false, 1000);
+        assertNotNull(etaInNewTimeZone);
+        assertNotEquals(etaInUTC, etaInNewTimeZone);
+    }
+
+    @Test
+    public void approximateDistanceMatchesTheGreatCircleDistanceForShortDistances() {
+        GeoCoordinates from = new GeoCoordinates(52.52, 13.405);
+        GeoCoordinates north = new GeoCoordinates(52.52 + 100 * ONE_METER_IN_DEGREES, 13.405);
+        GeoCoordinates east = new GeoCoordinates(52.52, 13.405 + 100 * ONE_METER_IN_DEGREES);
+
+        assertEquals(111.2, GuidanceEventFilter.getApproximateDistanceInMeters(from, north), 0.1);
+        assertEquals(67.7, GuidanceEventFilter.getApproximateDistanceInMeters(from, east), 0.1);
+        assertEquals(0.0, GuidanceEventFilter.getApproximateDistanceInMeters(from, from), 0.0);
+    }
+
+    private String getManeuverMessageETA(long time, boolean isNewManeuver, int remainingDistanceInMeters) {
+        timeInMilliseconds = time;
+        return filter.getManeuverMessageETA(isNewManeuver, remainingDistanceInMeters, REMAINING_DURATION_IN_SECONDS);
+    }
+
+    private boolean updateDynamicRoutingEngine(long time, double metersNorth, int sectionIndex) {
+        timeInMilliseconds = time;
+        return filter.shouldUpdateDynamicRoutingEngine(createCoordinates(metersNorth), sectionIndex);
+    }
+
+    private boolean updateElectronicHorizon(long time, double metersNorth) {
+        timeInMilliseconds = time;
+        return filter.shouldUpdateElectronicHorizon(createCoordinates(metersNorth));
+    }
+
+    // Coordinates along a meridian, with roughly the given distance to the start.
+    private static GeoCoordinates createCoordinates(double metersNorth) {
+        return new GeoCoordinates(52.52 + metersNorth * ONE_METER_IN_DEGREES / 1.112, 13.405);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class GuidanceEventThrottleTest {
+
+    @Test
+    public void firstChangedEventIsForwarded() {
+        GuidanceEventThrottle throttle = new GuidanceEventThrottle("Test", 1000);
+
+        assertTrue(throttle.shouldForward(5000, true, false));
+        assertEquals(1, throttle.getForwardedCount());
+    }
+
+    @Test
+    public void unchangedEventsAreSkipped() {
+        GuidanceEventThrottle throttle = new GuidanceEventThrottle("Test", 1000);
+
+        assertTrue(throttle.shouldForward(0, true, false));
+        assertFalse(throttle.shouldForward(2000, false, false));
+        assertFalse(throttle.shouldForward(4000, false, false));
+
+        assertEquals(1, throttle.getForwardedCount());
+        assertEquals(2, throttle.getSkippedCount());
+        assertEquals("Test: forwarded 1, skipped 2 (unchanged 2, throttled 0)", throttle.toString());
+    }
+
+    @Test
+    public void changedEventsAreForwardedAtMostOncePerInterval() {
+        GuidanceEventThrottle throttle = new GuidanceEventThrottle("Test", 1000);
+
+        assertTrue(throttle.shouldForward(10000, true, false));
+        assertFalse(throttle.shouldForward(10500, true, false));
+        assertFalse(throttle.shouldForward(10999, true, false));
+        // The interval is measured from the last forwarded event, not from the last skipped one.
+        assertTrue(throttle.shouldForward(11000, true, false));
+        assertFalse(throttle.shouldForward(11999, true, false));
+        assertTrue(throttle.shouldForward(12500, true, false));
+
+        assertEquals("Test: forwarded 3, skipped 3 (unchanged 0, throttled 3)", throttle.toString());
+    }
+
+    @Test
+    public void alwaysForwardBypassesBothChecks() {
+        GuidanceEventThrottle throttle = new GuidanceEventThrottle("Test", 1000);
+
+        assertTrue(throttle.shouldForward(0, true, false));
+        assertTrue(throttle.shouldForward(1, false, true));
+        assertTrue(throttle.shouldForward(2, true, true));
+        // A forced event restarts the interval.
+        assertFalse(throttle.shouldForward(1001, true, false));
+        assertTrue(throttle.shouldForward(1002, true, false));
+
+        assertEquals(4, throttle.getForwardedCount());
+    }
+
+    @Test
+    public void zeroIntervalForwardsEveryChangedEvent() {
+        GuidanceEventThrottle throttle = new GuidanceEventThrottle("Test", 1000);
+        throttle.setMinIntervalInMilliseconds(0);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(throttle.shouldForward(100, true, false));
+        }
+        assertFalse(throttle.shouldForward(100, false, false));
+        assertEquals(0, throttle.getMinIntervalInMilliseconds());
+    }
+
+    @Test
+    public void resetForwardsTheNextEventAndKeepsTheStatistics() {
+        GuidanceEventThrottle throttle = new GuidanceEventThrottle("Test", 5000);
+
+        assertTrue(throttle.shouldForward(1000, true, false));
+        assertFalse(throttle.shouldForward(2000, true, false));
+
+        throttle.reset();
+
+        assertTrue(throttle.shouldForward(2001, true, false));
+        assertFalse(throttle.shouldForward(3000, true, false));
+        assertEquals("Test: forwarded 2, skipped 2 (unchanged 0, throttled 2)", throttle.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeIntervalIsRejected() {
+        new GuidanceEventThrottle("Test", -1);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.navigation;
+
+import static org.junit.Assert.assertEquals;
+
+import com.here.sdk.core.LanguageCode;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+// Compares the map lookup of getLanguageCode() with the linear reverse lookup over all
+// registered codes that was used before. The average time per lookup is printed.
+public class LanguageCodeConverterBenchmark {
+
+    private static final int WARMUP_ROUND_COUNT = 5;
+    private static final int ITERATION_COUNT = 2000;
+
+    @Test
+    public void lookupBenchmark() {
+        LanguageCode[] languageCodes = LanguageCode.values();
+        Locale[] locales = new Locale[languageCodes.length];
+        for (int i = 0; i < languageCodes.length; i++) {
+            locales[i] = LanguageCodeConverter.getLocale(languageCodes[i]);
+        }
+
+        // Both lookups must agree before their speed is compared.
+        for (Locale locale : locales) {
+            assertEquals(getLanguageCodeLinear(locale, languageCodes), LanguageCodeConverter.getLanguageCode(locale));
+        }
+
+        long mapNanos = 0;
+        long linearNanos = 0;
+        // Consumes the results, so that the lookups are not optimized away.
+        int checksum = 0;
+        for (int round = 0; round <= WARMUP_ROUND_COUNT; round++) {
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < ITERATION_COUNT; i++) {
+                for (Locale locale : locales) {
+                    checksum += LanguageCodeConverter.getLanguageCode(locale).ordinal();
+                }
+            }
+            long mapEndNanos = System.nanoTime();
+            for (int i = 0; i < ITERATION_COUNT; i++) {
+                for (Locale locale : locales) {
+                    checksum -= getLanguageCodeLinear(locale, languageCodes).ordinal();
+                }
+            }
+            long linearEndNanos = System.nanoTime();
+            mapNanos = mapEndNanos - startNanos;
+            linearNanos = linearEndNanos - mapEndNanos;
+        }
+
+        assertEquals(0, checksum);
+        long lookupCount = (long) ITERATION_COUNT * locales.length;
+        System.out.println("LanguageCodeConverter.getLanguageCode(), average in nanoseconds: "
+                + mapNanos / lookupCount + ", linear reverse lookup: " + linearNanos / lookupCount);
+    }
+
+    // The reverse lookup as it was implemented before: A scan over all registered codes.
+    private static LanguageCode getLanguageCodeLinear(Locale locale, LanguageCode[] languageCodes) {
+        for (LanguageCode languageCode : languageCodes) {
+            Locale candidate = LanguageCodeConverter.getLocale(languageCode);
+            if (candidate.getLanguage().equals(locale.getLanguage())
+                    && candidate.getCountry().equals(locale.getCountry())) {
+                return languageCode;
+            }
+        }
+        return LanguageCode.EN_US;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.text.DateFormat;
+import java.util.Calendar;
+import java.util.Date;
+
+// Compares the time and the memory allocated per getETAinDeviceTimeZone() call with the previous version,
+// which created a Calendar and a DateFormat for each call. The remaining duration counts down by one second
+// per call, as with one route progress update per second.
+public class TimeUtilsBenchmark {
+
+    private static final int WARMUP_ROUND_COUNT = 5;
+    private static final int CALL_COUNT = 100_000;
+
+    @Test
+    public void etaFormattingBenchmark() {
+        com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+        assumeTrue(threadMXBean != null && threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        TimeUtils timeUtils = new TimeUtils();
+        long memoizedBytes = 0;
+        long previousBytes = 0;
+        long memoizedNanos = 0;
+        long previousNanos = 0;
+        // Consumes the results, so that the calls are not optimized away.
+        int formattedCount = 0;
+        for (int round = 0; round <= WARMUP_ROUND_COUNT; round++) {
+            formattedCount = 0;
+            long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < CALL_COUNT; i++) {
+                formattedCount += timeUtils.getETAinDeviceTimeZone(CALL_COUNT - i).isEmpty() ? 0 : 1;
+            }
+            long memoizedEndNanos = System.nanoTime();
+            long memoizedEndBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < CALL_COUNT; i++) {
+                formattedCount += getETAinDeviceTimeZonePrevious(CALL_COUNT - i).isEmpty() ? 0 : 1;
+            }
+            long previousEndNanos = System.nanoTime();
+            long previousEndBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+            memoizedNanos = memoizedEndNanos - startNanos;
+            previousNanos = previousEndNanos - memoizedEndNanos;
+            memoizedBytes = memoizedEndBytes - startBytes;
+            previousBytes = previousEndBytes - memoizedEndBytes;
+        }
+
+        assertEquals(2 * CALL_COUNT, formattedCount);
+        System.out.println("TimeUtils.getETAinDeviceTimeZone(), average in nanoseconds: " + memoizedNanos / CALL_COUNT
+                + ", allocated bytes per call: " + memoizedBytes / CALL_COUNT
+                + ", previous version: " + previousNanos / CALL_COUNT + " ns and "
+                + previousBytes / CALL_COUNT + " bytes per call.");
+        // The ETA only changes every 60 calls, and only then a new string is formatted.
+        assertTrue(memoizedBytes * 20 < previousBytes);
+    }
+
+    // The ETA formatting as it was implemented before.
+    private static String getETAinDeviceTimeZonePrevious(int remainingDuration) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(new Date());
+        calendar.add(Calendar.SECOND, remainingDuration);
+        DateFormat dateFormat = DateFormat.getTimeInstance(DateFormat.SHORT);
+        return dateFormat.format(calendar.getTime());
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return (com.sun.management.ThreadMXBean) threadMXBean;
+        }
+        return null;
+    }
+}
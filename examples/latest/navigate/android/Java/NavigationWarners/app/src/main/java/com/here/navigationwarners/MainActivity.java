@@ -48,6 +48,13 @@ import com.here.sdk.mapview.MapView;
 import com.here.sdk.units.core.utils.EnvironmentLogger;
 import com.here.sdk.units.core.utils.PermissionsRequestor;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 public class MainActivity extends AppCompatActivity {
 
     private EnvironmentLogger environmentLogger = new EnvironmentLogger();
@@ -62,6 +69,7 @@ public class MainActivity extends AppCompatActivity {
     private MapMarker destinationMapMarker;
     private static final String START_GUIDANCE_BUTTON_LABEL = "Start Guidance";
     private static final String STOP_GUIDANCE_BUTTON_LABEL = "Stop Guidance";
+    private static final String EVENT_LOG_FILE_NAME = "navigation_events.log";
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -186,6 +194,18 @@ public class MainActivity extends AppCompatActivity {
 
     private void stopGuidance() {
         navigationWarnersExample.stopGuidance();
+        writeEventLog();
+    }
+
+    // Keeps the most recent navigation events when guidance stops, for example to attach them to a bug report:
+    // adb shell run-as com.here.navigationwarners cat cache/navigation_events.log
+    private void writeEventLog() {
+        File eventLogFile = new File(getCacheDir(), EVENT_LOG_FILE_NAME);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(eventLogFile), StandardCharsets.UTF_8)) {
+            writer.write(navigationWarnersExample.dumpEventLog());
+        } catch (IOException e) {
+            Log.e(TAG, "Writing the event log failed: " + e.getMessage());
+        }
     }
 
     public void onStartGuidanceClicked(View view) {
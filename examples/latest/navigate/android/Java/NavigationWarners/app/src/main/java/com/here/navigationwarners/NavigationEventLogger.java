@@ -0,0 +1,431 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.navigationwarners;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+// A logger for the frequent events of the VisualNavigator listeners.
+//
+// Messages are parameterized with "{}" placeholders, for example:
+// eventLogger.d(TAG, "A school zone ahead in: {} meters.", distanceInMeters);
+// The priority is checked before anything is formatted, so a disabled message costs only a field read
+// and a comparison. Overloads for primitive arguments avoid boxing. For more than three arguments,
+// guard the call with isLoggable() to avoid allocating the varargs array.
+//
+// Optionally, events can be kept in a ring buffer of the most recent events. The buffer is made of preallocated
+// primitive arrays, so it holds no reference to a logged object and creates no garbage per event:
+// Tags and format strings are stored as ids into a small table of constants, numbers and booleans as their raw
+// bits and any other argument as its text, copied into a fixed number of chars per event. The messages are
+// only formatted when the buffer is dumped with dump().
+public class NavigationEventLogger {
+
+    // Use as minimum priority to disable logging.
+    public static final int PRIORITY_OFF = Integer.MAX_VALUE;
+
+    private static final int MAX_ARGUMENTS = 4;
+    // The number of chars per event for the text of its arguments. Longer texts are truncated.
+    private static final int MAX_TEXT_LENGTH = 64;
+    // Tags and format strings are constants, so a small table covers all of them. When the table is full,
+    // further format strings are stored as text and further tags are dumped as "?".
+    private static final int MAX_CONSTANTS = 256;
+    private static final String TEXT_FORMAT = "{}";
+
+    private static final byte KIND_OBJECT = 0;
+    private static final byte KIND_LONG = 1;
+    private static final byte KIND_DOUBLE = 2;
+    private static final byte KIND_BOOLEAN = 3;
+    private static final byte KIND_FLOAT = 4;
+    // The argument bits hold the offset of the text in the upper and its length in the lower 32 bits.
+    private static final byte KIND_TEXT = 5;
+
+    private volatile int minPriority;
+    private volatile boolean isLogcatEnabled;
+
+    // The ring buffer, empty when disabled. Each event uses one slot in the per-event arrays,
+    // MAX_ARGUMENTS slots in the per-argument arrays and MAX_TEXT_LENGTH chars in the text array.
+    private final int ringBufferCapacity;
+    private final long[] eventTimes;
+    private final byte[] eventPriorities;
+    private final short[] eventTagIds;
+    private final short[] eventFormatIds;
+    private final byte[] eventArgumentCounts;
+    private final byte[] argumentKinds;
+    private final long[] argumentBits;
+    private final char[] texts;
+    private final short[] textLengths;
+    private long eventCount;
+
+    // The tags and format strings referenced by the ring buffer, in an open addressing hash table.
+    private final String[] constants;
+    private int constantCount;
+
+    /**
+     * Creates a logger.
+     *
+     * @param minPriority        the minimum priority of logged events, such as Log.DEBUG, or PRIORITY_OFF.
+     * @param isLogcatEnabled    whether events are written to logcat.
+     * @param ringBufferCapacity the number of recent events kept for dump(), 0 to disable the ring buffer.
+     */
+    public NavigationEventLogger(int minPriority, boolean isLogcatEnabled, int ringBufferCapacity) {
+        if (ringBufferCapacity < 0) {
+            throw new IllegalArgumentException("The ring buffer capacity must not be negative.");
+        }
+        this.minPriority = minPriority;
+        this.isLogcatEnabled = isLogcatEnabled;
+        this.ringBufferCapacity = ringBufferCapacity;
+        eventTimes = new long[ringBufferCapacity];
+        eventPriorities = new byte[ringBufferCapacity];
+        eventTagIds = new short[ringBufferCapacity];
+        eventFormatIds = new short[ringBufferCapacity];
+        eventArgumentCounts = new byte[ringBufferCapacity];
+        argumentKinds = new byte[ringBufferCapacity * MAX_ARGUMENTS];
+        argumentBits = new long[ringBufferCapacity * MAX_ARGUMENTS];
+        texts = new char[ringBufferCapacity * MAX_TEXT_LENGTH];
+        textLengths = new short[ringBufferCapacity];
+        // Twice the maximum number of entries keeps the probe sequences short.
+        constants = new String[ringBufferCapacity > 0 ? 2 * MAX_CONSTANTS : 0];
+    }
+
+    public void setMinPriority(int minPriority) {
+        this.minPriority = minPriority;
+    }
+
+    public void setLogcatEnabled(boolean isLogcatEnabled) {
+        this.isLogcatEnabled = isLogcatEnabled;
+    }
+
+    public boolean isLoggable(int priority) {
+        return priority >= minPriority && (isLogcatEnabled || ringBufferCapacity > 0);
+    }
+
+    public void d(String tag, String message) {
+        if (isLoggable(Log.DEBUG)) {
+            log(Log.DEBUG, tag, message, 0, KIND_OBJECT, 0, null, KIND_OBJECT, 0, null, KIND_OBJECT, 0, null);
+        }
+    }
+
+    public void d(String tag, String format, Object argument) {
+        if (isLoggable(Log.DEBUG)) {
+            log(Log.DEBUG, tag, format, 1, KIND_OBJECT, 0, argument, KIND_OBJECT, 0, null, KIND_OBJECT, 0, null);
+        }
+    }
+
+    public void d(String tag, String format, long argument) {
+        if (isLoggable(Log.DEBUG)) {
+            log(Log.DEBUG, tag, format, 1, KIND_LONG, argument, null, KIND_OBJECT, 0, null, KIND_OBJECT, 0, null);
+        }
+    }
+
+    public void d(String tag, String format, double argument) {
+        if (isLoggable(Log.DEBUG)) {
+            log(Log.DEBUG, tag, format, 1, KIND_DOUBLE, Double.doubleToRawLongBits(argument), null,
+                    KIND_OBJECT, 0, null, KIND_OBJECT, 0, null);
+        }
+    }
+
+    public void d(String tag, String format, boolean argument) {
+        if (isLoggable(Log.DEBUG)) {
+            log(Log.DEBUG, tag, format, 1, KIND_BOOLEAN, argument ? 1 : 0, null, KIND_OBJECT, 0, null, KIND_OBJECT, 0, null);
+        }
+    }
+
+    public void d(String tag, String format, Object argument1, Object argument2) {
+        if (isLoggable(Log.DEBUG)) {
+            log(Log.DEBUG, tag, format, 2, KIND_OBJECT, 0, argument1, KIND_OBJECT, 0, argument2, KIND_OBJECT, 0, null);
+        }
+    }
+
+    public void d(String tag, String format, Object argument1, long argument2) {
+        if (isLoggable(Log.DEBUG)) {
+            log(Log.DEBUG, tag, format, 2, KIND_OBJECT, 0, argument1, KIND_LONG, argument2, null, KIND_OBJECT, 0, null);
+        }
+    }
+
+    public void d(String tag, String format, Object argument1, double argument2) {
+        if (isLoggable(Log.DEBUG)) {
+            log(Log.DEBUG, tag, format, 2, KIND_OBJECT, 0, argument1,
+                    KIND_DOUBLE, Double.doubleToRawLongBits(argument2), null, KIND_OBJECT, 0, null);
+        }
+    }
+
+    public void d(String tag, String format, Object argument1, Object argument2, Object argument3) {
+        if (isLoggable(Log.DEBUG)) {
+            log(Log.DEBUG, tag, format, 3, KIND_OBJECT, 0, argument1, KIND_OBJECT, 0, argument2, KIND_OBJECT, 0, argument3);
+        }
+    }
+
+    // Allocates the arguments array on each call, guard calls with isLoggable(Log.DEBUG) on hot paths.
+    public void d(String tag, String format, Object... arguments) {
+        if (isLoggable(Log.DEBUG)) {
+            logArguments(Log.DEBUG, tag, format, arguments);
+        }
+    }
+
+    public void e(String tag, String message) {
+        if (isLoggable(Log.ERROR)) {
+            log(Log.ERROR, tag, message, 0, KIND_OBJECT, 0, null, KIND_OBJECT, 0, null, KIND_OBJECT, 0, null);
+        }
+    }
+
+    public void e(String tag, String format, Object argument) {
+        if (isLoggable(Log.ERROR)) {
+            log(Log.ERROR, tag, format, 1, KIND_OBJECT, 0, argument, KIND_OBJECT, 0, null, KIND_OBJECT, 0, null);
+        }
+    }
+
+    private void log(int priority, String tag, String format, int argumentCount,
+                     byte kind1, long bits1, Object object1,
+                     byte kind2, long bits2, Object object2,
+                     byte kind3, long bits3, Object object3) {
+        if (isLogcatEnabled) {
+            StringBuilder message = new StringBuilder(format.length() + 32);
+            int start = 0;
+            start = appendUntilArgument(message, format, start, argumentCount > 0);
+            if (argumentCount > 0) {
+                appendArgument(message, kind1, bits1, object1);
+                start = appendUntilArgument(message, format, start, argumentCount > 1);
+            }
+            if (argumentCount > 1) {
+                appendArgument(message, kind2, bits2, object2);
+                start = appendUntilArgument(message, format, start, argumentCount > 2);
+            }
+            if (argumentCount > 2) {
+                appendArgument(message, kind3, bits3, object3);
+                appendUntilArgument(message, format, start, false);
+            }
+            Log.println(priority, tag, message.toString());
+        }
+
+        if (ringBufferCapacity > 0) {
+            synchronized (this) {
+                int slot = startEvent(priority, tag, format, argumentCount);
+                setArgument(slot, 0, kind1, bits1, object1);
+                setArgument(slot, 1, kind2, bits2, object2);
+                setArgument(slot, 2, kind3, bits3, object3);
+            }
+        }
+    }
+
+    private void logArguments(int priority, String tag, String format, Object[] arguments) {
+        if (isLogcatEnabled) {
+            Log.println(priority, tag, format(format, arguments));
+        }
+
+        if (ringBufferCapacity > 0) {
+            synchronized (this) {
+                if (arguments.length > MAX_ARGUMENTS) {
+                    // Too many arguments for a slot, so the message is stored as text.
+                    int slot = startEvent(priority, tag, TEXT_FORMAT, 1);
+                    setArgument(slot, 0, KIND_OBJECT, 0, format(format, arguments));
+                    return;
+                }
+                int slot = startEvent(priority, tag, format, arguments.length);
+                for (int i = 0; i < arguments.length; i++) {
+                    setArgument(slot, i, KIND_OBJECT, 0, arguments[i]);
+                }
+            }
+        }
+    }
+
+    // Must be called while holding the lock.
+    private int startEvent(int priority, String tag, String format, int argumentCount) {
+        int slot = (int) (eventCount % ringBufferCapacity);
+        eventTimes[slot] = System.currentTimeMillis();
+        eventPriorities[slot] = (byte) priority;
+        eventTagIds[slot] = (short) getConstantId(tag);
+        eventArgumentCounts[slot] = (byte) argumentCount;
+        textLengths[slot] = 0;
+        int formatId = getConstantId(format);
+        if (formatId < 0) {
+            // The table is full, so the format string is stored as the first text of the event.
+            // A negative id holds its length.
+            eventFormatIds[slot] = (short) (-1 - (int) appendText(slot, format));
+        } else {
+            eventFormatIds[slot] = (short) formatId;
+        }
+        eventCount++;
+        return slot;
+    }
+
+    // Must be called while holding the lock. Objects other than numbers and booleans are stored as text.
+    private void setArgument(int slot, int index, byte kind, long bits, Object object) {
+        if (kind == KIND_OBJECT) {
+            if (object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte) {
+                kind = KIND_LONG;
+                bits = ((Number) object).longValue();
+            } else if (object instanceof Double) {
+                kind = KIND_DOUBLE;
+                bits = Double.doubleToRawLongBits((Double) object);
+            } else if (object instanceof Float) {
+                kind = KIND_FLOAT;
+                bits = Float.floatToRawIntBits((Float) object);
+            } else if (object instanceof Boolean) {
+                kind = KIND_BOOLEAN;
+                bits = (Boolean) object ? 1 : 0;
+            } else {
+                kind = KIND_TEXT;
+                bits = appendText(slot, String.valueOf(object));
+            }
+        }
+        int argumentSlot = slot * MAX_ARGUMENTS + index;
+        argumentKinds[argumentSlot] = kind;
+        argumentBits[argumentSlot] = bits;
+    }
+
+    // Must be called while holding the lock. Copies the text into the chars of the slot, truncated to the
+    // remaining space, and returns its offset and length.
+    private long appendText(int slot, String text) {
+        int offset = textLengths[slot];
+        int length = Math.min(text.length(), MAX_TEXT_LENGTH - offset);
+        text.getChars(0, length, texts, slot * MAX_TEXT_LENGTH + offset);
+        textLengths[slot] = (short) (offset + length);
+        return ((long) offset << 32) | length;
+    }
+
+    // Must be called while holding the lock. Returns the id of the constant, adding it to the table if needed,
+    // or -1 when the table is full.
+    private int getConstantId(String constant) {
+        int mask = constants.length - 1;
+        int index = constant.hashCode() & mask;
+        while (true) {
+            String entry = constants[index];
+            if (entry == null) {
+                if (constantCount == MAX_CONSTANTS) {
+                    return -1;
+                }
+                constants[index] = constant;
+                constantCount++;
+                return index;
+            }
+            if (entry == constant || entry.equals(constant)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Formats the events in the ring buffer, oldest first, one event per line.
+     *
+     * @return the formatted events or an empty string if the ring buffer is disabled.
+     */
+    @NonNull
+    public synchronized String dump() {
+        StringBuilder dump = new StringBuilder();
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS", Locale.US);
+        Date date = new Date();
+        long first = Math.max(0, eventCount - ringBufferCapacity);
+        for (long event = first; event < eventCount; event++) {
+            int slot = (int) (event % ringBufferCapacity);
+            date.setTime(eventTimes[slot]);
+            int tagId = eventTagIds[slot];
+            dump.append(timeFormat.format(date)).append(' ')
+                    .append(priorityLetter(eventPriorities[slot])).append('/')
+                    .append(tagId < 0 ? "?" : constants[tagId]).append(": ");
+            int formatId = eventFormatIds[slot];
+            String format = formatId < 0
+                    ? new String(texts, slot * MAX_TEXT_LENGTH, -1 - formatId) : constants[formatId];
+            int argumentCount = eventArgumentCounts[slot];
+            int start = appendUntilArgument(dump, format, 0, argumentCount > 0);
+            for (int i = 0; i < argumentCount; i++) {
+                int argumentSlot = slot * MAX_ARGUMENTS + i;
+                long bits = argumentBits[argumentSlot];
+                if (argumentKinds[argumentSlot] == KIND_TEXT) {
+                    dump.append(texts, slot * MAX_TEXT_LENGTH + (int) (bits >>> 32), (int) bits);
+                } else {
+                    appendArgument(dump, argumentKinds[argumentSlot], bits, null);
+                }
+                start = appendUntilArgument(dump, format, start, i + 1 < argumentCount);
+            }
+            dump.append('\n');
+        }
+        return dump.toString();
+    }
+
+    // Drops the events in the ring buffer. The table of constants is kept.
+    public synchronized void clear() {
+        eventCount = 0;
+    }
+
+    private static String format(String format, Object[] arguments) {
+        StringBuilder message = new StringBuilder(format.length() + 32);
+        int start = appendUntilArgument(message, format, 0, arguments.length > 0);
+        for (int i = 0; i < arguments.length; i++) {
+            message.append(arguments[i]);
+            start = appendUntilArgument(message, format, start, i + 1 < arguments.length);
+        }
+        return message.toString();
+    }
+
+    // Appends the format from start up to the next placeholder, or up to the end if no argument follows.
+    // Returns the index after the placeholder. Surplus placeholders are kept as they are.
+    private static int appendUntilArgument(StringBuilder message, String format, int start, boolean hasArgument) {
+        int placeholder = hasArgument ? format.indexOf("{}", start) : -1;
+        if (placeholder < 0) {
+            message.append(format, start, format.length());
+            return format.length();
+        }
+        message.append(format, start, placeholder);
+        return placeholder + 2;
+    }
+
+    private static void appendArgument(StringBuilder message, byte kind, long bits, Object object) {
+        switch (kind) {
+            case KIND_LONG:
+                message.append(bits);
+                break;
+            case KIND_DOUBLE:
+                message.append(Double.longBitsToDouble(bits));
+                break;
+            case KIND_BOOLEAN:
+                message.append(bits != 0);
+                break;
+            case KIND_FLOAT:
+                message.append(Float.intBitsToFloat((int) bits));
+                break;
+            default:
+                message.append(object);
+                break;
+        }
+    }
+
+    private static char priorityLetter(int priority) {
+        switch (priority) {
+            case Log.VERBOSE:
+                return 'V';
+            case Log.DEBUG:
+                return 'D';
+            case Log.INFO:
+                return 'I';
+            case Log.WARN:
+                return 'W';
+            case Log.ERROR:
+                return 'E';
+            default:
+                return 'A';
+        }
+    }
+}
@@ -145,6 +145,9 @@ public class NavigationWarnersExample {
     private RouteProgress currentRouteProgress;
     private final WarnerEngineExample warnerEngineExample = new WarnerEngineExample();
     private boolean useWarnerEngine = false;
+    // Logs the events of the VisualNavigator listeners. It keeps the last 512 events in memory,
+    // see dumpEventLog(). Set the minimum priority to NavigationEventLogger.PRIORITY_OFF to disable logging.
+    private final NavigationEventLogger eventLogger = new NavigationEventLogger(Log.DEBUG, true, 512);
 
     public NavigationWarnersExample(Context context, MapView mapView) {
         this.context = context;
@@ -175,6 +178,11 @@ public class NavigationWarnersExample {
         return useWarnerEngine;
     }
 
+    // Returns the most recent logged events, for example to attach them to a bug report.
+    public String dumpEventLog() {
+        return eventLogger.dump();
+    }
+
     public void startGuidance(GeoCoordinates startGeoCoordinates,
                               GeoCoordinates destinationGeoCoordinates) {
         routingEngine.calculateRoute(
@@ -186,7 +194,7 @@ public class NavigationWarnersExample {
                         Route route = routes.get(0);
                         startGuidanceWithRoute(route);
                     } else {
-                        Log.e(TAG, "Route calculation error: " + routingError);
+                        eventLogger.e(TAG, "Route calculation error: {}", routingError);
                     }
                 }
         );
@@ -210,11 +218,11 @@ public class NavigationWarnersExample {
         if (useWarnerEngine) {
             // Use the unified WarnerEngine approach (beta).
             warnerEngineExample.setupWarnerEngine(visualNavigator);
-            Log.d(TAG, "Using WarnerEngine (beta) for unified warning handling.");
+            eventLogger.d(TAG, "Using WarnerEngine (beta) for unified warning handling.");
         } else {
             // Use the previous per-type listener approach.
             setupListeners(visualNavigator);
-            Log.d(TAG, "Using per-type listeners for warning handling.");
+            eventLogger.d(TAG, "Using per-type listeners for warning handling.");
         }
         visualNavigator.startRendering(mapView);
         visualNavigator.setRoute(route);
@@ -250,7 +258,7 @@ public class NavigationWarnersExample {
 
                 ManeuverProgress nextManeuverProgress = nextManeuverList.get(0);
                 if (nextManeuverProgress == null) {
-                    Log.d(TAG, "No next maneuver available.");
+                    eventLogger.d(TAG, "No next maneuver available.");
                     return;
                 }
 
@@ -262,8 +270,8 @@ public class NavigationWarnersExample {
                 }
 
                 // An example on how to retrieve the road name can be seen in the "Navigation" example app.
-                String nextManeuverAction = "Next maneuver action: " + nextManeuver.getAction().name() + " in " + nextManeuverProgress.remainingDistanceInMeters + " meters.";
-                Log.d(TAG, nextManeuverAction);
+                eventLogger.d(TAG, "Next maneuver action: {} in {} meters.",
+                        nextManeuver.getAction().name(), nextManeuverProgress.remainingDistanceInMeters);
             }
         });
 
@@ -280,7 +288,7 @@ public class NavigationWarnersExample {
                 List<CurrentSituationLaneView> lanesList = currentSituationLaneAssistanceView.lanes;
 
                 if (lanesList.isEmpty()) {
-                    Log.d("CurrentSituationLaneAssistanceView: ", "No data on lanes available.");
+                    eventLogger.d("CurrentSituationLaneAssistanceView: ", "No data on lanes available.");
                 } else {
                     // The lanes are sorted from left to right:
                     // The lane at index 0 is the leftmost lane adjacent to the middle of the road.
@@ -297,7 +305,7 @@ public class NavigationWarnersExample {
         visualNavigator.setDestinationReachedListener(new DestinationReachedListener() {
             @Override
             public void onDestinationReached() {
-                Log.d(TAG, "Destination reached.");
+                eventLogger.d(TAG, "Destination reached.");
                 // Guidance has stopped. Now consider to, for example,
                 // switch to tracking mode or stop rendering or locating or do anything else that may
                 // be useful to support your app flow.
@@ -310,17 +318,17 @@ public class NavigationWarnersExample {
             @Override
             public void onMilestoneStatusUpdated(@NonNull Milestone milestone, @NonNull MilestoneStatus milestoneStatus) {
                 if (milestone.waypointIndex != null && milestoneStatus == MilestoneStatus.REACHED) {
-                    Log.d(TAG, "A user-defined waypoint was reached, index of waypoint: " + milestone.waypointIndex);
-                    Log.d(TAG, "Original coordinates: " + milestone.originalCoordinates);
+                    eventLogger.d(TAG, "A user-defined waypoint was reached, index of waypoint: {}", milestone.waypointIndex);
+                    eventLogger.d(TAG, "Original coordinates: {}", milestone.originalCoordinates);
                 } else if (milestone.waypointIndex != null && milestoneStatus == MilestoneStatus.MISSED) {
-                    Log.d(TAG, "A user-defined waypoint was missed, index of waypoint: " + milestone.waypointIndex);
-                    Log.d(TAG, "Original coordinates: " + milestone.originalCoordinates);
+                    eventLogger.d(TAG, "A user-defined waypoint was missed, index of waypoint: {}", milestone.waypointIndex);
+                    eventLogger.d(TAG, "Original coordinates: {}", milestone.originalCoordinates);
                 } else if (milestone.waypointIndex == null && milestoneStatus == MilestoneStatus.REACHED) {
                     // For example, when transport mode changes due to a ferry a system-defined waypoint may have been added.
-                    Log.d(TAG, "A system-defined waypoint was reached at: " + milestone.mapMatchedCoordinates);
+                    eventLogger.d(TAG, "A system-defined waypoint was reached at: {}", milestone.mapMatchedCoordinates);
                 } else if (milestone.waypointIndex == null && milestoneStatus == MilestoneStatus.MISSED) {
                     // For example, when transport mode changes due to a ferry a system-defined waypoint may have been added.
-                    Log.d(TAG, "A system-defined waypoint was missed at: " + milestone.mapMatchedCoordinates);
+                    eventLogger.d(TAG, "A system-defined waypoint was missed at: {}", milestone.mapMatchedCoordinates);
                 }
             }
         });
@@ -329,6 +337,11 @@ public class NavigationWarnersExample {
         visualNavigator.setSafetyCameraWarningListener(new SafetyCameraWarningListener() {
             @Override
             public void onSafetyCameraWarningUpdated(@NonNull SafetyCameraWarning safetyCameraWarning) {
+                // This listener only logs, so skip the geocoordinates lookup when nobody reads the log.
+                if (!eventLogger.isLoggable(Log.DEBUG)) {
+                    return;
+                }
+
                 // Safety camera warning geocoordinates can only be fetched in non-tracking mode.
                 Route currentRoute = Objects.requireNonNull(visualNavigator.getRoute());
                 GeoCoordinates safetyCameraGeoCoordinates  = getGeocordinatesForRemainingDistance(currentRouteProgress,
@@ -336,20 +349,19 @@ public class NavigationWarnersExample {
                         currentRoute
                 );
 
-                Log.d(TAG, "Received safety camera warning update at "+ NavigationWarnersExample.toString(safetyCameraGeoCoordinates));
+                eventLogger.d(TAG, "Received safety camera warning update at {}", NavigationWarnersExample.toString(safetyCameraGeoCoordinates));
                 if (safetyCameraWarning.distanceType == DistanceType.AHEAD) {
-                    Log.d(TAG, "Safety camera warning " + safetyCameraWarning.type.name() + " ahead in: "
-                            + safetyCameraWarning.distanceToCameraInMeters + "with speed limit ="
-                            + safetyCameraWarning.speedLimitInMetersPerSecond + "m/s"
-                            + " at geo-coordinates: " + NavigationWarnersExample.toString(safetyCameraGeoCoordinates));
+                    eventLogger.d(TAG, "Safety camera warning {} ahead in: {}with speed limit ={}m/s at geo-coordinates: {}",
+                            safetyCameraWarning.type.name(), safetyCameraWarning.distanceToCameraInMeters,
+                            safetyCameraWarning.speedLimitInMetersPerSecond, NavigationWarnersExample.toString(safetyCameraGeoCoordinates));
                 } else if (safetyCameraWarning.distanceType == DistanceType.PASSED) {
-                    Log.d(TAG, "Safety camera warning " + safetyCameraWarning.type.name() + " passed: "
-                            + safetyCameraWarning.distanceToCameraInMeters + "with speed limit ="
-                            + safetyCameraWarning.speedLimitInMetersPerSecond + "m/s");
+                    eventLogger.d(TAG, "Safety camera warning {} passed: {}with speed limit ={}m/s",
+                            safetyCameraWarning.type.name(), safetyCameraWarning.distanceToCameraInMeters,
+                            safetyCameraWarning.speedLimitInMetersPerSecond);
                 } else if (safetyCameraWarning.distanceType == DistanceType.REACHED) {
-                    Log.d(TAG, "Safety camera warning " + safetyCameraWarning.type.name() + " reached at: "
-                            + safetyCameraWarning.distanceToCameraInMeters + "with speed limit ="
-                            + safetyCameraWarning.speedLimitInMetersPerSecond + "m/s");
+                    eventLogger.d(TAG, "Safety camera warning {} reached at: {}with speed limit ={}m/s",
+                            safetyCameraWarning.type.name(), safetyCameraWarning.distanceToCameraInMeters,
+                            safetyCameraWarning.speedLimitInMetersPerSecond);
                 }
             }
         });
@@ -368,7 +380,7 @@ public class NavigationWarnersExample {
                 }
 
                 if (speedWarningStatus == SpeedWarningStatus.SPEED_LIMIT_RESTORED) {
-                    Log.d(TAG, "Driver is again slower than current speed limit (plus an optional offset).");
+                    eventLogger.d(TAG, "Driver is again slower than current speed limit (plus an optional offset).");
                 }
             }
         });
@@ -380,11 +392,11 @@ public class NavigationWarnersExample {
                 Double currentSpeedLimit = getCurrentSpeedLimit(speedLimit);
 
                 if (currentSpeedLimit == null) {
-                    Log.d(TAG, "Warning: Speed limits unknown, data could not be retrieved.");
+                    eventLogger.d(TAG, "Warning: Speed limits unknown, data could not be retrieved.");
                 } else if (currentSpeedLimit == 0) {
-                    Log.d(TAG, "No speed limits on this road! Drive as fast as you feel safe ...");
+                    eventLogger.d(TAG, "No speed limits on this road! Drive as fast as you feel safe ...");
                 } else {
-                    Log.d(TAG, "Current speed limit (m/s):" + currentSpeedLimit);
+                    eventLogger.d(TAG, "Current speed limit (m/s):{}", currentSpeedLimit);
                 }
             }
         });
@@ -393,16 +405,18 @@ public class NavigationWarnersExample {
         visualNavigator.setTrafficMergeWarningListener(new TrafficMergeWarningListener() {
             @Override
             public void onTrafficMergeWarningUpdated(@NonNull TrafficMergeWarning trafficMergeWarning) {
+                if (!eventLogger.isLoggable(Log.DEBUG)) {
+                    // The messages below have more than three arguments, avoid boxing them when not logged.
+                    return;
+                }
                 if (trafficMergeWarning.distanceType == DistanceType.AHEAD) {
-                    Log.d(TAG, "There is a merging " + trafficMergeWarning.roadType.name() + " ahead in: "
-                            + trafficMergeWarning.distanceToTrafficMergeInMeters + "meters, merging from the "
-                            + trafficMergeWarning.side.name() + "side, with lanes ="
-                            + trafficMergeWarning.laneCount);
+                    eventLogger.d(TAG, "There is a merging {} ahead in: {}meters, merging from the {}side, with lanes ={}",
+                            trafficMergeWarning.roadType.name(), trafficMergeWarning.distanceToTrafficMergeInMeters,
+                            trafficMergeWarning.side.name(), trafficMergeWarning.laneCount);
                 } else if (trafficMergeWarning.distanceType == DistanceType.PASSED) {
-                    Log.d(TAG, "A merging " + trafficMergeWarning.roadType.name() + " passed: "
-                            + trafficMergeWarning.distanceToTrafficMergeInMeters + "meters, merging from the "
-                            + trafficMergeWarning.side.name() + "side, with lanes ="
-                            + trafficMergeWarning.laneCount);
+                    eventLogger.d(TAG, "A merging {} passed: {}meters, merging from the {}side, with lanes ={}",
+                            trafficMergeWarning.roadType.name(), trafficMergeWarning.distanceToTrafficMergeInMeters,
+                            trafficMergeWarning.side.name(), trafficMergeWarning.laneCount);
                 } else if (trafficMergeWarning.distanceType == DistanceType.REACHED) {
                     // Since the traffic merge warning is given relative to a single position on the route,
                     // DistanceType.REACHED will never be given for this warning.
@@ -432,12 +446,12 @@ public class NavigationWarnersExample {
                     lastGeoCoordinatesOnRoute = lastMapMatchedLocationOnRoute == null ?
                             routeDeviation.lastLocationOnRoute.originalLocation.coordinates : lastMapMatchedLocationOnRoute.coordinates;
                 } else {
-                    Log.d(TAG, "User was never following the route. So, we take the start of the route instead.");
+                    eventLogger.d(TAG, "User was never following the route. So, we take the start of the route instead.");
                     lastGeoCoordinatesOnRoute = route.getSections().get(0).getDeparturePlace().originalCoordinates;
                 }
 
                 int distanceInMeters = (int) currentGeoCoordinates.distanceTo(lastGeoCoordinatesOnRoute);
-                Log.d(TAG, "RouteDeviation in meters is " + distanceInMeters);
+                eventLogger.d(TAG, "RouteDeviation in meters is {}", distanceInMeters);
 
                 // Now, an application needs to decide if the user has deviated far enough and
                 // what should happen next: For example, you can notify the user or simply try to
@@ -462,8 +476,8 @@ public class NavigationWarnersExample {
 
                 List<Lane> nextLanes = maneuverViewLaneAssistance.lanesForNextNextManeuver;
                 if (!nextLanes.isEmpty()) {
-                    Log.d(TAG, "Attention, the next next maneuver is very close.");
-                    Log.d(TAG, "Please take the following lane(s) after the next maneuver: ");
+                    eventLogger.d(TAG, "Attention, the next next maneuver is very close.");
+                    eventLogger.d(TAG, "Please take the following lane(s) after the next maneuver: ");
                     logLaneRecommendations(nextLanes);
                 }
             }
@@ -475,9 +489,9 @@ public class NavigationWarnersExample {
             public void onLaneAssistanceUpdated(@NonNull JunctionViewLaneAssistance junctionViewLaneAssistance) {
                 List<Lane> lanes = junctionViewLaneAssistance.lanesForNextJunction;
                 if (lanes.isEmpty()) {
-                    Log.d(TAG, "You have passed the complex junction.");
+                    eventLogger.d(TAG, "You have passed the complex junction.");
                 } else {
-                    Log.d(TAG, "Attention, a complex junction is ahead.");
+                    eventLogger.d(TAG, "Attention, a complex junction is ahead.");
                     logLaneRecommendations(lanes);
                 }
             }
@@ -491,58 +505,58 @@ public class NavigationWarnersExample {
                 // If all attributes are unchanged, no new event is fired.
                 // Note that a road can have more than one attribute at the same time.
 
-                Log.d(TAG, "Received road attributes update.");
+                eventLogger.d(TAG, "Received road attributes update.");
 
                 if (roadAttributes.isBridge) {
                     // Identifies a structure that allows a road, railway, or walkway to pass over another road, railway,
                     // waterway, or valley serving map display and route guidance functionalities.
-                    Log.d(TAG, "Road attributes: This is a bridge.");
+                    eventLogger.d(TAG, "Road attributes: This is a bridge.");
                 }
                 if (roadAttributes.isControlledAccess) {
                     // Controlled access roads are roads with limited entrances and exits that allow uninterrupted
                     // high-speed traffic flow.
-                    Log.d(TAG, "Road attributes: This is a controlled access road.");
+                    eventLogger.d(TAG, "Road attributes: This is a controlled access road.");
                 }
                 if (roadAttributes.isDirtRoad) {
                     // Indicates whether the navigable segment is paved.
-                    Log.d(TAG, "Road attributes: This is a dirt road.");
+                    eventLogger.d(TAG, "Road attributes: This is a dirt road.");
                 }
                 if (roadAttributes.isDividedRoad) {
                     // Indicates if there is a physical structure or painted road marking intended to legally prohibit
                     // left turns in right-side driving countries, right turns in left-side driving countries,
                     // and U-turns at divided intersections or in the middle of divided segments.
-                    Log.d(TAG, "Road attributes: This is a divided road.");
+                    eventLogger.d(TAG, "Road attributes: This is a divided road.");
                 }
                 if (roadAttributes.isNoThrough) {
                     // Identifies a no through road.
-                    Log.d(TAG, "Road attributes: This is a no through road.");
+                    eventLogger.d(TAG, "Road attributes: This is a no through road.");
                 }
                 if (roadAttributes.isPrivate) {
                     // Private identifies roads that are not maintained by an organization responsible for maintenance of
                     // public roads.
-                    Log.d(TAG, "Road attributes: This is a private road.");
+                    eventLogger.d(TAG, "Road attributes: This is a private road.");
                 }
                 if (roadAttributes.isRamp) {
                     // Range is a ramp: connects roads that do not intersect at grade.
-                    Log.d(TAG, "Road attributes: This is a ramp.");
+                    eventLogger.d(TAG, "Road attributes: This is a ramp.");
                 }
                 if (roadAttributes.isRightDrivingSide) {
                     // Indicates if vehicles have to drive on the right-hand side of the road or the left-hand side.
                     // For example, in New York it is always true and in London always false as the United Kingdom is
                     // a left-hand driving country.
-                    Log.d(TAG, "Road attributes: isRightDrivingSide = " + roadAttributes.isRightDrivingSide);
+                    eventLogger.d(TAG, "Road attributes: isRightDrivingSide = {}", roadAttributes.isRightDrivingSide);
                 }
                 if (roadAttributes.isRoundabout) {
                     // Indicates the presence of a roundabout.
-                    Log.d(TAG, "Road attributes: This is a roundabout.");
+                    eventLogger.d(TAG, "Road attributes: This is a roundabout.");
                 }
                 if (roadAttributes.isTollway) {
                     // Identifies a road for which a fee must be paid to use the road.
-                    Log.d(TAG, "Road attributes change: This is a road with toll costs.");
+                    eventLogger.d(TAG, "Road attributes change: This is a road with toll costs.");
                 }
                 if (roadAttributes.isTunnel) {
                     // Identifies an enclosed (on all sides) passageway through or under an obstruction.
-                    Log.d(TAG, "Road attributes: This is a tunnel.");
+                    eventLogger.d(TAG, "Road attributes: This is a tunnel.");
                 }
             }
         });
@@ -570,15 +584,15 @@ public class NavigationWarnersExample {
             public void onRoadSignWarningUpdated(@NonNull RoadSignWarning roadSignWarning) {
                 RoadSignType roadSignType = roadSignWarning.type;
                 if (roadSignWarning.distanceType == DistanceType.AHEAD) {
-                    Log.d(TAG, "A RoadSignWarning of road sign type: " + roadSignType.name()
-                    + " ahead in (m): " + roadSignWarning.distanceToRoadSignInMeters);
+                    eventLogger.d(TAG, "A RoadSignWarning of road sign type: {} ahead in (m): {}",
+                            roadSignType.name(), roadSignWarning.distanceToRoadSignInMeters);
                 } else if (roadSignWarning.distanceType == DistanceType.PASSED) {
-                    Log.d(TAG, "A RoadSignWarning of road sign type: " + roadSignType.name() + " just passed.");
+                    eventLogger.d(TAG, "A RoadSignWarning of road sign type: {} just passed.", roadSignType.name());
                 }
 
                 if (roadSignWarning.signValue != null) {
                     // Optional text as it is printed on the local road sign.
-                    Log.d(TAG, "Road sign text: " + roadSignWarning.signValue.text);
+                    eventLogger.d(TAG, "Road sign text: {}", roadSignWarning.signValue.text);
                 }
 
                 // For more road sign attributes, please check the API Reference.
@@ -597,17 +611,17 @@ public class NavigationWarnersExample {
                 // The list is guaranteed to be non-empty.
                 for (TruckRestrictionWarning truckRestrictionWarning : list) {
                     if (truckRestrictionWarning.distanceType == DistanceType.AHEAD) {
-                        Log.d(TAG, "TruckRestrictionWarning ahead in: " + truckRestrictionWarning.distanceInMeters + " meters.");
+                        eventLogger.d(TAG, "TruckRestrictionWarning ahead in: {} meters.", truckRestrictionWarning.distanceInMeters);
                         if (truckRestrictionWarning.timeRule != null && !truckRestrictionWarning.timeRule.appliesTo(new Date())) {
                             // For example, during a specific time period of a day, some truck restriction warnings do not apply.
                             // If truckRestrictionWarning.timeRule is null, the warning applies at anytime.
-                            Log.d(TAG, "Note that this truck restriction warning currently does not apply.");
+                            eventLogger.d(TAG, "Note that this truck restriction warning currently does not apply.");
                         }
                     } else if (truckRestrictionWarning.distanceType == DistanceType.REACHED) {
-                        Log.d(TAG, "A restriction has been reached.");
+                        eventLogger.d(TAG, "A restriction has been reached.");
                     } else if (truckRestrictionWarning.distanceType == DistanceType.PASSED) {
                         // If not preceded by a "REACHED"-notification, this restriction was valid only for the passed location.
-                        Log.d(TAG, "A restriction just passed.");
+                        eventLogger.d(TAG, "A restriction just passed.");
                     }
 
                     // One of the following restrictions applies ahead, if more restrictions apply at the same time,
@@ -615,16 +629,16 @@ public class NavigationWarnersExample {
                     if (truckRestrictionWarning.weightRestriction != null) {
                         WeightRestrictionType type = truckRestrictionWarning.weightRestriction.type;
                         int value = truckRestrictionWarning.weightRestriction.valueInKilograms;
-                        Log.d(TAG, "TruckRestriction for weight (kg): " + type.name() + ": " + value);
+                        eventLogger.d(TAG, "TruckRestriction for weight (kg): {}: {}", type.name(), value);
                     } else if (truckRestrictionWarning.dimensionRestriction != null) {
                         // Can be either a length, width or height restriction of the truck. For example, a height
                         // restriction can apply for a tunnel. Other possible restrictions are delivered in
                         // separate TruckRestrictionWarning objects contained in the list, if any.
                         DimensionRestrictionType type = truckRestrictionWarning.dimensionRestriction.type;
                         int value = truckRestrictionWarning.dimensionRestriction.valueInCentimeters;
-                        Log.d(TAG, "TruckRestriction for dimension: " + type.name() + ": " + value);
+                        eventLogger.d(TAG, "TruckRestriction for dimension: {}: {}", type.name(), value);
                     } else {
-                        Log.d(TAG, "TruckRestriction: General restriction - no trucks allowed.");
+                        eventLogger.d(TAG, "TruckRestriction: General restriction - no trucks allowed.");
                     }
                 }
             }
@@ -637,19 +651,19 @@ public class NavigationWarnersExample {
                 // The list is guaranteed to be non-empty.
                 for (SchoolZoneWarning schoolZoneWarning : list) {
                     if (schoolZoneWarning.distanceType == DistanceType.AHEAD) {
-                        Log.d(TAG, "A school zone ahead in: " + schoolZoneWarning.distanceToSchoolZoneInMeters + " meters.");
+                        eventLogger.d(TAG, "A school zone ahead in: {} meters.", schoolZoneWarning.distanceToSchoolZoneInMeters);
                         // Note that this will be the same speed limit as indicated by SpeedLimitListener, unless
                         // already a lower speed limit applies, for example, because of a heavy truck load.
-                        Log.d(TAG, "Speed limit restriction for this school zone: " + schoolZoneWarning.speedLimitInMetersPerSecond + " m/s.");
+                        eventLogger.d(TAG, "Speed limit restriction for this school zone: {} m/s.", schoolZoneWarning.speedLimitInMetersPerSecond);
                         if (schoolZoneWarning.timeRule != null && !schoolZoneWarning.timeRule.appliesTo(new Date())) {
                             // For example, during night sometimes a school zone warning does not apply.
                             // If schoolZoneWarning.timeRule is null, the warning applies at anytime.
-                            Log.d(TAG, "Note that this school zone warning currently does not apply.");
+                            eventLogger.d(TAG, "Note that this school zone warning currently does not apply.");
                         }
                     } else if (schoolZoneWarning.distanceType == DistanceType.REACHED) {
-                        Log.d(TAG, "A school zone has been reached.");
+                        eventLogger.d(TAG, "A school zone has been reached.");
                     } else if (schoolZoneWarning.distanceType == DistanceType.PASSED) {
-                        Log.d(TAG, "A school zone has been passed.");
+                        eventLogger.d(TAG, "A school zone has been passed.");
                     }
                 }
             }
@@ -668,9 +682,9 @@ public class NavigationWarnersExample {
                 // Since the border crossing warning is given relative to a single location,
                 // the DistanceType.REACHED will never be given for this warning.
                 if (borderCrossingWarning.distanceType == DistanceType.AHEAD) {
-                    Log.d(TAG, "BorderCrossing: A border is ahead in: " + borderCrossingWarning.distanceToBorderCrossingInMeters + " meters.");
-                    Log.d(TAG, "BorderCrossing: Type (such as country or state): " + borderCrossingWarning.type.name());
-                    Log.d(TAG, "BorderCrossing: Country code: " + borderCrossingWarning.administrativeRules.countryCode.name());
+                    eventLogger.d(TAG, "BorderCrossing: A border is ahead in: {} meters.", borderCrossingWarning.distanceToBorderCrossingInMeters);
+                    eventLogger.d(TAG, "BorderCrossing: Type (such as country or state): {}", borderCrossingWarning.type.name());
+                    eventLogger.d(TAG, "BorderCrossing: Country code: {}", borderCrossingWarning.administrativeRules.countryCode.name());
 
                     // The state code after the border crossing. It represents the state / province code.
                     // It is a 1 to 3 upper-case characters string that follows the ISO 3166-2 standard,
@@ -678,16 +692,16 @@ public class NavigationWarnersExample {
                     // It will be null for countries without states or countries in which the states have very
                     // similar regulations (e.g. for Germany there will be no state borders).
                     if (borderCrossingWarning.administrativeRules.stateCode != null) {
-                        Log.d(TAG, "BorderCrossing: State code: " + borderCrossingWarning.administrativeRules.stateCode);
+                        eventLogger.d(TAG, "BorderCrossing: State code: {}", borderCrossingWarning.administrativeRules.stateCode);
                     }
 
                     // The general speed limits that apply in the country / state after border crossing.
                     GeneralVehicleSpeedLimits generalVehicleSpeedLimits = borderCrossingWarning.administrativeRules.speedLimits;
-                    Log.d(TAG, "BorderCrossing: Speed limit in cities (m/s): " + generalVehicleSpeedLimits.maxSpeedUrbanInMetersPerSecond);
-                    Log.d(TAG, "BorderCrossing: Speed limit outside cities (m/s): " + generalVehicleSpeedLimits.maxSpeedRuralInMetersPerSecond);
-                    Log.d(TAG, "BorderCrossing: Speed limit on highways (m/s): " + generalVehicleSpeedLimits.maxSpeedHighwaysInMetersPerSecond);
+                    eventLogger.d(TAG, "BorderCrossing: Speed limit in cities (m/s): {}", generalVehicleSpeedLimits.maxSpeedUrbanInMetersPerSecond);
+                    eventLogger.d(TAG, "BorderCrossing: Speed limit outside cities (m/s): {}", generalVehicleSpeedLimits.maxSpeedRuralInMetersPerSecond);
+                    eventLogger.d(TAG, "BorderCrossing: Speed limit on highways (m/s): {}", generalVehicleSpeedLimits.maxSpeedHighwaysInMetersPerSecond);
                 } else if (borderCrossingWarning.distanceType == DistanceType.PASSED) {
-                    Log.d(TAG, "BorderCrossing: A border has been passed.");
+                    eventLogger.d(TAG, "BorderCrossing: A border has been passed.");
                 }
             }
         });
@@ -709,17 +723,17 @@ public class NavigationWarnersExample {
             @Override
             public void onDangerZoneWarningsUpdated(@NonNull DangerZoneWarning dangerZoneWarning) {
                 if (dangerZoneWarning.distanceType == DistanceType.AHEAD) {
-                    Log.d(TAG, "A danger zone ahead in: " + dangerZoneWarning.distanceInMeters + " meters.");
+                    eventLogger.d(TAG, "A danger zone ahead in: {} meters.", dangerZoneWarning.distanceInMeters);
                     // isZoneStart indicates if we enter the danger zone from the start.
                     // It is false, when the danger zone is entered from a side street.
                     // Based on the route path, the HERE SDK anticipates from where the danger zone will be entered.
                     // In tracking mode, the most probable path will be used to anticipate from where
                     // the danger zone is entered.
-                    Log.d(TAG, "isZoneStart: " + dangerZoneWarning.isZoneStart);
+                    eventLogger.d(TAG, "isZoneStart: {}", dangerZoneWarning.isZoneStart);
                 } else if (dangerZoneWarning.distanceType == DistanceType.REACHED) {
-                    Log.d(TAG, "A danger zone has been reached. isZoneStart: " + dangerZoneWarning.isZoneStart);
+                    eventLogger.d(TAG, "A danger zone has been reached. isZoneStart: {}", dangerZoneWarning.isZoneStart);
                 } else if (dangerZoneWarning.distanceType == DistanceType.PASSED) {
-                    Log.d(TAG, "A danger zone has been passed.");
+                    eventLogger.d(TAG, "A danger zone has been passed.");
                 }
             }
         });
@@ -729,13 +743,13 @@ public class NavigationWarnersExample {
             @Override
             public void onLowSpeedZoneWarningUpdated(@NonNull LowSpeedZoneWarning lowSpeedZoneWarning) {
                 if (lowSpeedZoneWarning.distanceType == DistanceType.AHEAD) {
-                    Log.d(TAG, "Low speed zone ahead in meters: " + lowSpeedZoneWarning.distanceToLowSpeedZoneInMeters);
-                    Log.d(TAG, "Speed limit in low speed zone (m/s): " + lowSpeedZoneWarning.speedLimitInMetersPerSecond);
+                    eventLogger.d(TAG, "Low speed zone ahead in meters: {}", lowSpeedZoneWarning.distanceToLowSpeedZoneInMeters);
+                    eventLogger.d(TAG, "Speed limit in low speed zone (m/s): {}", lowSpeedZoneWarning.speedLimitInMetersPerSecond);
                 } else if (lowSpeedZoneWarning.distanceType == DistanceType.REACHED) {
-                    Log.d(TAG, "A low speed zone has been reached.");
-                    Log.d(TAG, "Speed limit in low speed zone (m/s): " + lowSpeedZoneWarning.speedLimitInMetersPerSecond);
+                    eventLogger.d(TAG, "A low speed zone has been reached.");
+                    eventLogger.d(TAG, "Speed limit in low speed zone (m/s): {}", lowSpeedZoneWarning.speedLimitInMetersPerSecond);
                 } else if (lowSpeedZoneWarning.distanceType == DistanceType.PASSED) {
-                    Log.d(TAG, "A low speed zone has been passed.");
+                    eventLogger.d(TAG, "A low speed zone has been passed.");
                 }
             }
         });
@@ -773,14 +787,14 @@ public class NavigationWarnersExample {
                 // Note that DistanceType.REACHED is not used for Signposts and junction views
                 // as a junction is identified through a location instead of an area.
                 if (distanceType == DistanceType.AHEAD) {
-                    Log.d(TAG, "A RealisticView ahead in: " + distance + " meters.");
+                    eventLogger.d(TAG, "A RealisticView ahead in: {} meters.", distance);
                 } else if (distanceType == DistanceType.PASSED) {
-                    Log.d(TAG, "A RealisticView just passed.");
+                    eventLogger.d(TAG, "A RealisticView just passed.");
                 }
 
                 RealisticViewVectorImage realisticView = realisticViewWarning.realisticViewVectorImage;
                 if (realisticView == null) {
-                    Log.d(TAG, "A RealisticView just passed. No SVG data delivered.");
+                    eventLogger.d(TAG, "A RealisticView just passed. No SVG data delivered.");
                     return;
                 }
 
@@ -792,8 +806,8 @@ public class NavigationWarnersExample {
                 // the junctionViewSvgImageContent.
                 // The images can be quite detailed, therefore it is recommended to show them on a secondary display
                 // in full size.
-                Log.d("signpostSvgImage", signpostSvgImageContent);
-                Log.d("junctionViewSvgImage", junctionViewSvgImageContent);
+                eventLogger.d("signpostSvgImage", signpostSvgImageContent);
+                eventLogger.d("junctionViewSvgImage", junctionViewSvgImageContent);
             }
         });
 
@@ -815,11 +829,11 @@ public class NavigationWarnersExample {
                     List<PaymentMethod> paymentMethods = tollBooth.paymentMethods;
                     // The supported collection methods like ticket or automatic / electronic.
                     for (TollCollectionMethod collectionMethod : tollCollectionMethods) {
-                        Log.d(TAG, "This toll stop supports collection via: " + collectionMethod.name());
+                        eventLogger.d(TAG, "This toll stop supports collection via: {}", collectionMethod.name());
                     }
                     // The supported payment methods like cash or credit card.
                     for (PaymentMethod paymentMethod : paymentMethods) {
-                        Log.d(TAG, "This toll stop supports payment via: " + paymentMethod.name());
+                        eventLogger.d(TAG, "This toll stop supports payment via: {}", paymentMethod.name());
                     }
                     laneNumber++;
                 }
@@ -852,25 +866,25 @@ public class NavigationWarnersExample {
         // Note that all values can be null if no data is available.
 
         // The regular speed limit if available. In case of unbounded speed limit, the value is zero.
-        Log.d(TAG, "speedLimitInMetersPerSecond: " + speedLimit.speedLimitInMetersPerSecond);
+        eventLogger.d(TAG, "speedLimitInMetersPerSecond: {}", speedLimit.speedLimitInMetersPerSecond);
 
         // A conditional school zone speed limit as indicated on the local road signs.
-        Log.d(TAG, "schoolZoneSpeedLimitInMetersPerSecond: " + speedLimit.schoolZoneSpeedLimitInMetersPerSecond);
+        eventLogger.d(TAG, "schoolZoneSpeedLimitInMetersPerSecond: {}", speedLimit.schoolZoneSpeedLimitInMetersPerSecond);
 
         // A conditional time-dependent speed limit as indicated on the local road signs.
         // It is in effect considering the current local time provided by the device's clock.
-        Log.d(TAG, "timeDependentSpeedLimitInMetersPerSecond: " + speedLimit.timeDependentSpeedLimitInMetersPerSecond);
+        eventLogger.d(TAG, "timeDependentSpeedLimitInMetersPerSecond: {}", speedLimit.timeDependentSpeedLimitInMetersPerSecond);
 
         // A conditional non-legal speed limit that recommends a lower speed,
         // for example, due to bad road conditions.
-        Log.d(TAG, "advisorySpeedLimitInMetersPerSecond: " + speedLimit.advisorySpeedLimitInMetersPerSecond);
+        eventLogger.d(TAG, "advisorySpeedLimitInMetersPerSecond: {}", speedLimit.advisorySpeedLimitInMetersPerSecond);
 
         // A weather-dependent speed limit as indicated on the local road signs.
         // The HERE SDK cannot detect the current weather condition, so a driver must decide
         // based on the situation if this speed limit applies.
-        Log.d(TAG, "fogSpeedLimitInMetersPerSecond: " + speedLimit.fogSpeedLimitInMetersPerSecond);
-        Log.d(TAG, "rainSpeedLimitInMetersPerSecond: " + speedLimit.rainSpeedLimitInMetersPerSecond);
-        Log.d(TAG, "snowSpeedLimitInMetersPerSecond: " + speedLimit.snowSpeedLimitInMetersPerSecond);
+        eventLogger.d(TAG, "fogSpeedLimitInMetersPerSecond: {}", speedLimit.fogSpeedLimitInMetersPerSecond);
+        eventLogger.d(TAG, "rainSpeedLimitInMetersPerSecond: {}", speedLimit.rainSpeedLimitInMetersPerSecond);
+        eventLogger.d(TAG, "snowSpeedLimitInMetersPerSecond: {}", speedLimit.snowSpeedLimitInMetersPerSecond);
 
         // For convenience, this returns the effective (lowest) speed limit between
         // - speedLimitInMetersPerSecond
@@ -889,17 +903,17 @@ public class NavigationWarnersExample {
             // but not to the maneuver after the next maneuver, while the highly recommended lane also leads
             // to this next next maneuver.
             if (lane.recommendationState == LaneRecommendationState.RECOMMENDED) {
-                Log.d(TAG, "Lane " + laneNumber + " leads to next maneuver, but not to the next next maneuver.");
+                eventLogger.d(TAG, "Lane {} leads to next maneuver, but not to the next next maneuver.", laneNumber);
             }
 
             // If laneAssistance.lanesForNextNextManeuver is not empty, this lane leads also to the
             // maneuver after the next maneuver.
             if (lane.recommendationState == LaneRecommendationState.HIGHLY_RECOMMENDED) {
-                Log.d(TAG, "Lane " + laneNumber + " leads to next maneuver and eventually to the next next maneuver.");
+                eventLogger.d(TAG, "Lane {} leads to next maneuver and eventually to the next next maneuver.", laneNumber);
             }
 
             if (lane.recommendationState == LaneRecommendationState.NOT_RECOMMENDED) {
-                Log.d(TAG, "Do not take lane " + laneNumber + " to follow the route.");
+                eventLogger.d(TAG, "Do not take lane {} to follow the route.", laneNumber);
             }
 
             logLaneDetails(laneNumber, lane);
@@ -909,15 +923,15 @@ public class NavigationWarnersExample {
     }
 
     private void logLaneDetails(int laneNumber, Lane lane) {
-        Log.d(TAG, "Directions for lane " + laneNumber);
+        eventLogger.d(TAG, "Directions for lane {}", laneNumber);
         // The possible lane directions are valid independent of a route.
         // If a lane leads to multiple directions and is recommended, then all directions lead to
         // the next maneuver.
         // You can use this information to visualize all directions of a lane with a set of image overlays.
         for (LaneDirection laneDirection: lane.directions) {
             boolean isLaneDirectionOnRoute = isLaneDirectionOnRoute(lane, laneDirection);
-            Log.d(TAG, "LaneDirection for this lane: " + laneDirection.name());
-            Log.d(TAG, "This LaneDirection is on the route: " + isLaneDirectionOnRoute);
+            eventLogger.d(TAG, "LaneDirection for this lane: {}", laneDirection.name());
+            eventLogger.d(TAG, "This LaneDirection is on the route: {}", isLaneDirectionOnRoute);
         }
 
         // More information on each lane is available in these bitmasks (boolean):
@@ -934,13 +948,13 @@ public class NavigationWarnersExample {
     }
 
     private void logCurrentSituationLaneViewDetails(int laneNumber, CurrentSituationLaneView currentSituationLaneView) {
-        Log.d("CurrentSituationLaneAssistanceView: ", "Directions for this CurrentSituationLaneView: " + laneNumber);
+        eventLogger.d("CurrentSituationLaneAssistanceView: ", "Directions for this CurrentSituationLaneView: {}", laneNumber);
         // You can use this information to visualize all directions of a lane with a set of image overlays.
         for (LaneDirection laneDirection : currentSituationLaneView.directions) {
             boolean isLaneDirectionOnRoute = isCurrentLaneViewDirectionOnRoute(currentSituationLaneView, laneDirection);
-            Log.d("CurrentSituationLaneAssistanceView: ", "LaneDirection for this CurrentSituationLaneView: " + laneDirection.name());
+            eventLogger.d("CurrentSituationLaneAssistanceView: ", "LaneDirection for this CurrentSituationLaneView: {}", laneDirection.name());
             // When you are on tracking mode, there is no directionsOnRoute. So, isLaneDirectionOnRoute will be false.
-            Log.d("CurrentSituationLaneAssistanceView: ", "This LaneDirection is on the route: " + isLaneDirectionOnRoute);
+            eventLogger.d("CurrentSituationLaneAssistanceView: ", "This LaneDirection is on the route: {}", isLaneDirectionOnRoute);
         }
 
         // More information on each lane is available in these bitmasks (boolean):
@@ -959,14 +973,14 @@ public class NavigationWarnersExample {
     private void logLaneMarkings(String TAG, LaneMarkings laneMarkings) {
         if (laneMarkings.centerDividerMarker != null) {
             // A CenterDividerMarker specifies the line type used for center dividers on bidirectional roads.
-            Log.d(TAG,"Center divider marker for lane " + laneMarkings.centerDividerMarker.value);
+            eventLogger.d(TAG, "Center divider marker for lane {}", laneMarkings.centerDividerMarker.value);
         } else if (laneMarkings.laneDividerMarker != null) {
             // A LaneDividerMarker specifies the line type of driving lane separators present on a road.
             // It indicates the lane separator on the right side of the
             // specified lane in the lane driving direction for right-side driving countries.
             // For left-sided driving countries the it is indicating the
             // lane separator on the left side of the specified lane in the lane driving direction.
-            Log.d(TAG, "Lane divider marker for lane " + laneMarkings.laneDividerMarker.value);
+            eventLogger.d(TAG, "Lane divider marker for lane {}", laneMarkings.laneDividerMarker.value);
         }
     }
 
@@ -1033,16 +1047,16 @@ public class NavigationWarnersExample {
     }
 
     private void logLaneAccess(String TAG, int laneNumber, LaneAccess laneAccess) {
-        Log.d(TAG, "Lane access for lane " + laneNumber);
-        Log.d(TAG, "Automobiles are allowed on this lane: " + laneAccess.automobiles);
-        Log.d(TAG, "Buses are allowed on this lane: " + laneAccess.buses);
-        Log.d(TAG, "Taxis are allowed on this lane: " + laneAccess.taxis);
-        Log.d(TAG, "Carpools are allowed on this lane: " + laneAccess.carpools);
-        Log.d(TAG, "Pedestrians are allowed on this lane: " + laneAccess.pedestrians);
-        Log.d(TAG, "Trucks are allowed on this lane: " + laneAccess.trucks);
-        Log.d(TAG, "ThroughTraffic is allowed on this lane: " + laneAccess.throughTraffic);
-        Log.d(TAG, "DeliveryVehicles are allowed on this lane: " + laneAccess.deliveryVehicles);
-        Log.d(TAG, "EmergencyVehicles are allowed on this lane: " + laneAccess.emergencyVehicles);
-        Log.d(TAG, "Motorcycles are allowed on this lane: " + laneAccess.motorcycles);
+        eventLogger.d(TAG, "Lane access for lane {}", laneNumber);
+        eventLogger.d(TAG, "Automobiles are allowed on this lane: {}", laneAccess.automobiles);
+        eventLogger.d(TAG, "Buses are allowed on this lane: {}", laneAccess.buses);
+        eventLogger.d(TAG, "Taxis are allowed on this lane: {}", laneAccess.taxis);
+        eventLogger.d(TAG, "Carpools are allowed on this lane: {}", laneAccess.carpools);
+        eventLogger.d(TAG, "Pedestrians are allowed on this lane: {}", laneAccess.pedestrians);
+        eventLogger.d(TAG, "Trucks are allowed on this lane: {}", laneAccess.trucks);
+        eventLogger.d(TAG, "ThroughTraffic is allowed on this lane: {}", laneAccess.throughTraffic);
+        eventLogger.d(TAG, "DeliveryVehicles are allowed on this lane: {}", laneAccess.deliveryVehicles);
+        eventLogger.d(TAG, "EmergencyVehicles are allowed on this lane: {}", laneAccess.emergencyVehicles);
+        eventLogger.d(TAG, "Motorcycles are allowed on this lane: {}", laneAccess.motorcycles);
     }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.navigationwarners;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// Indexes the upcoming warnings along a route by their type and their offset on the route, so that queries
+// such as "the next school zone within 500 meters" do not need to scan all known warnings.
+//
+// Each warning is kept in a sorted set of all warnings and in a sorted set per type, both ordered by the
+// route offset. Adding, removing and querying the next warning of a type take O(log n). When the progress
+// along the route advances, warnings behind the current offset are removed from the front of the sorted set.
+//
+// The offsets are measured in meters from the start of the route. The class is thread-safe.
+public class UpcomingWarningIndex<K, V> {
+
+    private static final class Entry<K, V> {
+        final Object id;
+        final K type;
+        final double offsetInMeters;
+        // Orders entries with the same offset by insertion.
+        final long order;
+        final V value;
+
+        Entry(Object id, K type, double offsetInMeters, long order, V value) {
+            this.id = id;
+            this.type = type;
+            this.offsetInMeters = offsetInMeters;
+            this.order = order;
+            this.value = value;
+        }
+    }
+
+    private static final Comparator<Entry<?, ?>> BY_OFFSET = (entry1, entry2) -> {
+        int result = Double.compare(entry1.offsetInMeters, entry2.offsetInMeters);
+        return result != 0 ? result : Long.compare(entry1.order, entry2.order);
+    };
+
+    private final Map<Object, Entry<K, V>> entriesById = new HashMap<>();
+    private final TreeSet<Entry<K, V>> entriesByOffset = new TreeSet<>(BY_OFFSET);
+    private final Map<K, TreeSet<Entry<K, V>>> entriesByType = new HashMap<>();
+    private long nextOrder;
+    private double currentOffsetInMeters;
+
+    // Adds a warning or moves it, if a warning with the same id is already known.
+    // Warnings behind the current offset are ignored.
+    public synchronized void put(@NonNull K type, @NonNull Object id, double offsetInMeters, @NonNull V value) {
+        remove(id);
+        if (offsetInMeters < currentOffsetInMeters) {
+            return;
+        }
+
+        Entry<K, V> entry = new Entry<>(id, type, offsetInMeters, nextOrder++, value);
+        entriesById.put(id, entry);
+        entriesByOffset.add(entry);
+        TreeSet<Entry<K, V>> entriesOfType = entriesByType.get(type);
+        if (entriesOfType == null) {
+            entriesOfType = new TreeSet<>(BY_OFFSET);
+            entriesByType.put(type, entriesOfType);
+        }
+        entriesOfType.add(entry);
+    }
+
+    // Removes the warning with the given id. Returns false if it is not known.
+    public synchronized boolean remove(@NonNull Object id) {
+        Entry<K, V> entry = entriesById.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        entriesByOffset.remove(entry);
+        removeFromType(entry);
+        return true;
+    }
+
+    /**
+     * Sets the current offset on the route and removes all warnings behind it.
+     *
+     * @param offsetInMeters the traveled distance from the start of the route.
+     * @return the number of removed warnings.
+     */
+    public synchronized int advanceTo(double offsetInMeters) {
+        currentOffsetInMeters = offsetInMeters;
+        int removedCount = 0;
+        while (!entriesByOffset.isEmpty() && entriesByOffset.first().offsetInMeters < offsetInMeters) {
+            Entry<K, V> entry = entriesByOffset.pollFirst();
+            entriesById.remove(entry.id);
+            removeFromType(entry);
+            removedCount++;
+        }
+        return removedCount;
+    }
+
+    public synchronized double getCurrentOffsetInMeters() {
+        return currentOffsetInMeters;
+    }
+
+    // Returns the next warning of the given type within the given distance ahead of the current offset,
+    // or null if there is none.
+    @Nullable
+    public synchronized V getNextAhead(@NonNull K type, double withinMeters) {
+        TreeSet<Entry<K, V>> entriesOfType = entriesByType.get(type);
+        if (entriesOfType == null || entriesOfType.isEmpty()) {
+            return null;
+        }
+        // As warnings behind the current offset are removed, the first entry is the next one ahead.
+        Entry<K, V> next = entriesOfType.first();
+        return next.offsetInMeters - currentOffsetInMeters <= withinMeters ? next.value : null;
+    }
+
+    // Returns the distance from the current offset to the next warning of the given type,
+    // or null if there is none.
+    @Nullable
+    public synchronized Double getDistanceToNextInMeters(@NonNull K type) {
+        TreeSet<Entry<K, V>> entriesOfType = entriesByType.get(type);
+        if (entriesOfType == null || entriesOfType.isEmpty()) {
+            return null;
+        }
+        return entriesOfType.first().offsetInMeters - currentOffsetInMeters;
+    }
+
+    // Returns all warnings within the given distance ahead of the current offset, nearest first.
+    @NonNull
+    public synchronized List<V> getAllAhead(double withinMeters) {
+        List<V> values = new ArrayList<>();
+        double limitInMeters = currentOffsetInMeters + withinMeters;
+        for (Entry<K, V> entry : entriesByOffset) {
+            if (entry.offsetInMeters > limitInMeters) {
+                break;
+            }
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    public synchronized int size() {
+        return entriesById.size();
+    }
+
+    // Removes all warnings and resets the current offset, for example when a new route is set.
+    public synchronized void clear() {
+        entriesById.clear();
+        entriesByOffset.clear();
+        entriesByType.clear();
+        currentOffsetInMeters = 0;
+    }
+
+    private void removeFromType(Entry<K, V> entry) {
+        TreeSet<Entry<K, V>> entriesOfType = entriesByType.get(entry.type);
+        if (entriesOfType != null) {
+            entriesOfType.remove(entry);
+        }
+    }
+}
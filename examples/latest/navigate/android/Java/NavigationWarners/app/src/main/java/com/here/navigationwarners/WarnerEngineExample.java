@@ -37,10 +37,13 @@ import com.here.sdk.navigation.RoadSignType;
 import com.here.sdk.navigation.RoadSignVehicleType;
 import com.here.sdk.navigation.RoadSignWarning;
 import com.here.sdk.navigation.RoadSignWarningOptions;
+import com.here.sdk.navigation.RouteProgress;
+import com.here.sdk.navigation.RouteProgressListener;
 import com.here.sdk.navigation.SafetyCameraWarning;
 import com.here.sdk.navigation.SafetyCameraWarningOptions;
 import com.here.sdk.navigation.SchoolZoneWarning;
 import com.here.sdk.navigation.SchoolZoneWarningOptions;
+import com.here.sdk.navigation.SectionProgress;
 import com.here.sdk.navigation.TollBoothLane;
 import com.here.sdk.navigation.TollBooth;
 import com.here.sdk.navigation.TollCollectionMethod;
@@ -52,6 +55,7 @@ import com.here.sdk.navigation.WarningNotificationDistances;
 import com.here.sdk.navigation.WarningType;
 import com.here.sdk.navigation.WeightRestrictionType;
 import com.here.sdk.routing.PaymentMethod;
+import com.here.sdk.routing.Route;
 import com.here.sdk.transport.GeneralVehicleSpeedLimits;
 import com.here.sdk.warner.Warning;
 import com.here.sdk.warner.WarnerEngine;
@@ -61,7 +65,11 @@ import com.here.sdk.warner.WarningsRegistry;
 
 import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 // This class shows how to use the unified WarnerEngine to receive all navigation warnings
 // through a single WarningListener, instead of setting individual per-type listeners on the
@@ -75,9 +83,33 @@ import java.util.List;
 public class WarnerEngineExample {
     private static final String TAG = WarnerEngineExample.class.getName();
 
+    // The number of warnings that can be buffered for consumers that have not read them yet.
+    private static final int WARNING_BUFFER_CAPACITY = 64;
+
     private WarnerEngine warnerEngine;
     private WarningsRegistry warningsRegistry;
 
+    // Decouples the WarningListener from the consumers of the warnings, so that a slow consumer never
+    // blocks guidance. During a burst, a new update of a warning replaces its pending update.
+    private final WarningRingBuffer<Warning> warningBuffer = new WarningRingBuffer<>(
+            WARNING_BUFFER_CAPACITY,
+            WarningRingBuffer.OverflowPolicy.COALESCE,
+            (pendingWarning, newerWarning) -> pendingWarning.warningType == newerWarning.warningType
+                    && pendingWarning.distanceType == newerWarning.distanceType
+                    && Objects.equals(pendingWarning.id, newerWarning.id));
+    // The thread that handles the buffered warnings, null when stopped.
+    private volatile Thread warningHandlerThread;
+
+    // The warnings ahead on the route, indexed by type and route offset.
+    private final UpcomingWarningIndex<WarningType, Warning> upcomingWarnings = new UpcomingWarningIndex<>();
+
+    // The driver is reminded once when the next warning of these types comes within APPROACHING_DISTANCE_IN_METERS.
+    private static final List<WarningType> APPROACHING_WARNING_TYPES = Arrays.asList(
+            WarningType.SCHOOL_ZONE, WarningType.DANGER_ZONE, WarningType.RAILWAY_CROSSING);
+    private static final double APPROACHING_DISTANCE_IN_METERS = 300;
+    // The id of the last approaching warning per type, so that each warning is only announced once.
+    private final Map<WarningType, Object> approachingWarningIds = new EnumMap<>(WarningType.class);
+
     // Sets up the WarnerEngine obtained from the given VisualNavigator.
     // The WarnerEngine provides a unified approach to handle navigation warnings:
     // Instead of registering individual listeners for each warning type on the VisualNavigator,
@@ -109,16 +141,101 @@ public class WarnerEngineExample {
             @Override
             public void onWarnings(@NonNull List<Warning> warnings) {
                 // Each Warning in the list contains a warningType, distanceType, and a unique id.
-                // Use the WarningsRegistry to look up the detailed typed warning object.
+                // The warnings are handed over to the consumers, which use the WarningsRegistry to
+                // look up the detailed typed warning object on their own threads.
                 for (Warning warning : warnings) {
-                    handleWarning(warning);
+                    warningBuffer.publish(warning);
+                }
+            }
+        });
+
+        // Track the traveled distance, so that passed warnings are removed from the index of upcoming warnings.
+        upcomingWarnings.clear();
+        approachingWarningIds.clear();
+        visualNavigator.setRouteProgressListener(new RouteProgressListener() {
+            @Override
+            public void onRouteProgressUpdated(@NonNull RouteProgress routeProgress) {
+                Route route = visualNavigator.getRoute();
+                if (route == null) {
+                    return;
                 }
+                // SectionProgress is guaranteed to be non-empty.
+                List<SectionProgress> sectionProgressList = routeProgress.sectionProgress;
+                int remainingDistanceInMeters = sectionProgressList.get(sectionProgressList.size() - 1).remainingDistanceInMeters;
+                upcomingWarnings.advanceTo(route.getLengthInMeters() - remainingDistanceInMeters);
+                announceApproachingWarnings();
             }
         });
 
+        startWarningHandlerThread();
+
         Log.d(TAG, "WarnerEngine setup complete. Listening for unified warning events.");
     }
 
+    // Creates a consumer that receives all warnings published from now on, for example to update the UI
+    // or to play audio cues. Each consumer reads at its own pace on its own thread and should be removed
+    // with WarningRingBuffer.removeConsumer() when it is no longer used.
+    public WarningRingBuffer<Warning>.Consumer newWarningConsumer() {
+        return warningBuffer.newConsumer();
+    }
+
+    // Returns the next warning of the given type within the given distance ahead, or null if there is none.
+    // Use the WarningsRegistry to look up its details.
+    public Warning getNextWarningAhead(WarningType warningType, double withinMeters) {
+        return upcomingWarnings.getNextAhead(warningType, withinMeters);
+    }
+
+    // Looks up the next warning of each type in the index, instead of tracking the distances of all warnings.
+    // Here, the announcement is only logged. An app could, for example, show a reminder or play an audio cue.
+    private void announceApproachingWarnings() {
+        for (WarningType warningType : APPROACHING_WARNING_TYPES) {
+            Warning warning = getNextWarningAhead(warningType, APPROACHING_DISTANCE_IN_METERS);
+            // The index is also updated by the warning handler thread, so the warning may be gone already.
+            Double distanceInMeters = upcomingWarnings.getDistanceToNextInMeters(warningType);
+            if (warning == null || distanceInMeters == null
+                    || Objects.equals(approachingWarningIds.get(warningType), warning.id)) {
+                continue;
+            }
+            approachingWarningIds.put(warningType, warning.id);
+            Log.d(TAG, "Approaching " + warningType.name() + " in " + Math.round(distanceInMeters) + " meters.");
+        }
+    }
+
+    // Keeps the index of upcoming warnings in sync with the warning events.
+    // The offset is based on the last route progress, so it may be off by the distance traveled since then.
+    private void updateUpcomingWarning(Warning warning, double distanceInMeters) {
+        if (warning.distanceType == DistanceType.AHEAD) {
+            double offsetInMeters = upcomingWarnings.getCurrentOffsetInMeters() + distanceInMeters;
+            upcomingWarnings.put(warning.warningType, warning.id, offsetInMeters, warning);
+        } else if (warning.distanceType == DistanceType.PASSED) {
+            upcomingWarnings.remove(warning.id);
+        }
+    }
+
+    // Handles the buffered warnings on a background thread. Here, the handling only logs the warning details.
+    private void startWarningHandlerThread() {
+        if (warningHandlerThread != null) {
+            return;
+        }
+        WarningRingBuffer<Warning>.Consumer consumer = warningBuffer.newConsumer();
+        warningHandlerThread = new Thread(() -> {
+            while (true) {
+                Warning warning = consumer.poll(100, TimeUnit.MILLISECONDS);
+                if (warning != null) {
+                    handleWarning(warning);
+                } else if (warningHandlerThread != Thread.currentThread()) {
+                    // Stopped and all pending warnings are handled.
+                    break;
+                }
+            }
+            warningBuffer.removeConsumer(consumer);
+            if (consumer.getLostCount() > 0) {
+                Log.w(TAG, "Warning handler fell behind and missed " + consumer.getLostCount() + " warnings.");
+            }
+        }, "WarningHandler");
+        warningHandlerThread.start();
+    }
+
     // Configures all warning options through the WarnerEngine's WarningOptions.
     // This replaces the individual set...Options() calls on the VisualNavigator.
     private void configureWarningOptions() {
@@ -244,6 +361,7 @@ public class WarnerEngineExample {
             Log.d(TAG, "SafetyCameraWarning: No detailed data available.");
             return;
         }
+        updateUpcomingWarning(warning, safetyCameraWarning.distanceToCameraInMeters);
 
         if (warning.distanceType == DistanceType.AHEAD) {
             Log.d(TAG, "SafetyCameraWarning " + safetyCameraWarning.type.name()
@@ -265,6 +383,7 @@ public class WarnerEngineExample {
             Log.d(TAG, "TruckRestrictionWarning: No detailed data available.");
             return;
         }
+        updateUpcomingWarning(warning, truckRestrictionWarning.distanceInMeters);
 
         if (warning.distanceType == DistanceType.AHEAD) {
             Log.d(TAG, "TruckRestrictionWarning ahead in: " + truckRestrictionWarning.distanceInMeters + " meters.");
@@ -298,6 +417,7 @@ public class WarnerEngineExample {
             Log.d(TAG, "RoadSignWarning: No detailed data available.");
             return;
         }
+        updateUpcomingWarning(warning, roadSignWarning.distanceToRoadSignInMeters);
 
         RoadSignType roadSignType = roadSignWarning.type;
         if (warning.distanceType == DistanceType.AHEAD) {
@@ -320,6 +440,7 @@ public class WarnerEngineExample {
             Log.d(TAG, "SchoolZoneWarning: No detailed data available.");
             return;
         }
+        updateUpcomingWarning(warning, schoolZoneWarning.distanceToSchoolZoneInMeters);
 
         if (warning.distanceType == DistanceType.AHEAD) {
             Log.d(TAG, "SchoolZoneWarning ahead in: " + schoolZoneWarning.distanceToSchoolZoneInMeters + " meters.");
@@ -343,6 +464,7 @@ public class WarnerEngineExample {
             Log.d(TAG, "BorderCrossingWarning: No detailed data available.");
             return;
         }
+        updateUpcomingWarning(warning, borderCrossingWarning.distanceToBorderCrossingInMeters);
 
         if (warning.distanceType == DistanceType.AHEAD) {
             Log.d(TAG, "BorderCrossing ahead in: " + borderCrossingWarning.distanceToBorderCrossingInMeters + " meters.");
@@ -371,6 +493,7 @@ public class WarnerEngineExample {
             Log.d(TAG, "DangerZoneWarning: No detailed data available.");
             return;
         }
+        updateUpcomingWarning(warning, dangerZoneWarning.distanceInMeters);
 
         if (warning.distanceType == DistanceType.AHEAD) {
             Log.d(TAG, "DangerZone ahead in: " + dangerZoneWarning.distanceInMeters + " meters.");
@@ -390,6 +513,7 @@ public class WarnerEngineExample {
             Log.d(TAG, "LowSpeedZoneWarning: No detailed data available.");
             return;
         }
+        updateUpcomingWarning(warning, lowSpeedZoneWarning.distanceToLowSpeedZoneInMeters);
 
         if (warning.distanceType == DistanceType.AHEAD) {
             Log.d(TAG, "LowSpeedZone ahead in: " + lowSpeedZoneWarning.distanceToLowSpeedZoneInMeters + " meters.");
@@ -411,6 +535,7 @@ public class WarnerEngineExample {
             Log.d(TAG, "RealisticViewWarning: No detailed data available.");
             return;
         }
+        updateUpcomingWarning(warning, realisticViewWarning.distanceToRealisticViewInMeters);
 
         double distance = realisticViewWarning.distanceToRealisticViewInMeters;
 
@@ -443,6 +568,9 @@ public class WarnerEngineExample {
             Log.d(TAG, "TollStopWarning: No detailed data available.");
             return;
         }
+        if (warning.distanceType == DistanceType.PASSED) {
+            upcomingWarnings.remove(warning.id);
+        }
 
         List<TollBoothLane> lanes = tollStop.lanes;
         int laneNumber = 0;
@@ -466,6 +594,7 @@ public class WarnerEngineExample {
             Log.d(TAG, "TrafficMergeWarning: No detailed data available.");
             return;
         }
+        updateUpcomingWarning(warning, trafficMergeWarning.distanceToTrafficMergeInMeters);
 
         if (warning.distanceType == DistanceType.AHEAD) {
             Log.d(TAG, "TrafficMerge: " + trafficMergeWarning.roadType.name()
@@ -485,5 +614,7 @@ public class WarnerEngineExample {
             warnerEngine.finalizeGivenWarnings();
             Log.d(TAG, "WarnerEngine finalized. All active warnings marked as passed.");
         }
+        // Let the handler thread finish the pending warnings, including the finalized ones, then exit.
+        warningHandlerThread = null;
     }
 }
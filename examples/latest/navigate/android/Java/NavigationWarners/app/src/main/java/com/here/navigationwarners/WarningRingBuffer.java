@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.navigationwarners;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+// A bounded, lock-free ring buffer that passes events from a single producer, such as a WarningListener,
+// to multiple consumers, such as UI and audio. Each consumer receives every event in publishing order
+// and reads at its own pace with its own cursor.
+//
+// The producer never blocks: When the buffer is full, the oldest events are overwritten and a consumer
+// that falls behind by more than the capacity skips the overwritten events, counted by getLostCount().
+// With OverflowPolicy.COALESCE, a new event first replaces a pending event that no consumer has read yet
+// and that the Coalescer considers the same, for example a distance update of the same warning. This keeps
+// the buffer from filling up with stale updates during a burst. A consumer that reads the pending event while
+// it is replaced either gets the new event or, if it was faster, the new event is appended instead.
+// Either way, no event is lost.
+//
+// Only one thread may publish. Each Consumer must only be used by one thread at a time.
+public class WarningRingBuffer<E> {
+
+    public enum OverflowPolicy {
+        // Every event is appended, the oldest events are overwritten when the buffer is full.
+        DROP_OLDEST,
+        // An event replaces a matching pending event, if any. Otherwise it is appended as for DROP_OLDEST.
+        COALESCE
+    }
+
+    public interface Coalescer<E> {
+        // Returns true if the newer event can replace the pending event.
+        boolean canReplace(@NonNull E pendingEvent, @NonNull E newerEvent);
+    }
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    @Nullable
+    private final Coalescer<E> coalescer;
+
+    private final AtomicReferenceArray<E> events;
+    // The sequence number of the event in each slot.
+    private final AtomicLongArray sequences;
+    // A per-slot stamp that is odd while the producer writes the slot. Consumers read a slot optimistically
+    // and retry when the stamp changed in between.
+    private final AtomicLongArray stamps;
+    // The number of published events, which is also the sequence number of the next event.
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final CopyOnWriteArrayList<Consumer> consumers = new CopyOnWriteArrayList<>();
+
+    public WarningRingBuffer(int capacity, @NonNull OverflowPolicy overflowPolicy, @Nullable Coalescer<E> coalescer) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        if (overflowPolicy == OverflowPolicy.COALESCE && coalescer == null) {
+            throw new IllegalArgumentException("OverflowPolicy.COALESCE requires a coalescer.");
+        }
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.coalescer = coalescer;
+        events = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        stamps = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, -1);
+        }
+    }
+
+    // Publishes an event to all consumers. Must only be called from the producer thread. Never blocks.
+    public void publish(@NonNull E event) {
+        long sequence = publishedCount.get();
+        if (overflowPolicy == OverflowPolicy.COALESCE && coalesce(sequence, event)) {
+            coalescedCount.incrementAndGet();
+            return;
+        }
+        write((int) (sequence % capacity), sequence, event);
+        publishedCount.set(sequence + 1);
+    }
+
+    // Replaces the newest matching event that no consumer has read yet.
+    private boolean coalesce(long nextSequence, E event) {
+        long firstUnread = Math.max(0, nextSequence - capacity);
+        for (Consumer consumer : consumers) {
+            firstUnread = Math.max(firstUnread, consumer.cursor.get());
+        }
+        for (long sequence = nextSequence - 1; sequence >= firstUnread; sequence--) {
+            int slot = (int) (sequence % capacity);
+            if (coalescer.canReplace(events.get(slot), event)) {
+                // If a consumer has read the event in the meantime, older events are read as well.
+                return replace(slot, sequence, event);
+            }
+        }
+        return false;
+    }
+
+    // Replaces the event in a slot, unless a consumer has already read it. The odd stamp is set before the
+    // cursors are checked: A consumer that advances its cursor past the slot at the same time sees the changed
+    // stamp afterwards and reads the slot again, see Consumer.poll().
+    private boolean replace(int slot, long sequence, E event) {
+        stamps.incrementAndGet(slot);
+        for (Consumer consumer : consumers) {
+            if (consumer.cursor.get() > sequence) {
+                // Leave the event as it is, the consumers read the unchanged slot again.
+                stamps.incrementAndGet(slot);
+                return false;
+            }
+        }
+        events.set(slot, event);
+        stamps.incrementAndGet(slot);
+        return true;
+    }
+
+    private void write(int slot, long sequence, E event) {
+        stamps.incrementAndGet(slot);
+        events.set(slot, event);
+        sequences.set(slot, sequence);
+        stamps.incrementAndGet(slot);
+    }
+
+    // Creates a consumer that receives all events published from now on.
+    @NonNull
+    public Consumer newConsumer() {
+        Consumer consumer = new Consumer(publishedCount.get());
+        consumers.add(consumer);
+        return consumer;
+    }
+
+    public void removeConsumer(@NonNull Consumer consumer) {
+        consumers.remove(consumer);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    // The number of events that replaced a pending event instead of being appended.
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    // Reads the events of a WarningRingBuffer in publishing order.
+    public class Consumer {
+        // The sequence number of the next event to read.
+        private final AtomicLong cursor;
+        private final AtomicLong lostCount = new AtomicLong();
+
+        private Consumer(long startSequence) {
+            cursor = new AtomicLong(startSequence);
+        }
+
+        // Returns the next event or null if there is none. Never blocks.
+        @Nullable
+        public E poll() {
+            while (true) {
+                long sequence = cursor.get();
+                if (sequence >= publishedCount.get()) {
+                    return null;
+                }
+
+                int slot = (int) (sequence % capacity);
+                long stamp = stamps.get(slot);
+                if ((stamp & 1) != 0) {
+                    // The producer is writing this slot, try again.
+                    Thread.yield();
+                    continue;
+                }
+                E event = events.get(slot);
+                long slotSequence = sequences.get(slot);
+                if (stamp != stamps.get(slot)) {
+                    continue;
+                }
+
+                if (slotSequence == sequence) {
+                    cursor.set(sequence + 1);
+                    if (stamp != stamps.get(slot)) {
+                        // The producer started to write the slot before it could see the new cursor,
+                        // so the event may be replaced. Read the slot again.
+                        cursor.set(sequence);
+                        continue;
+                    }
+                    return event;
+                }
+                // The slot was overwritten, as this consumer fell behind by more than the capacity.
+                // Skip to the oldest event that is still available.
+                long oldestAvailable = Math.max(sequence + 1, publishedCount.get() - capacity);
+                lostCount.addAndGet(oldestAvailable - sequence);
+                cursor.set(oldestAvailable);
+            }
+        }
+
+        // Returns the next event, waiting up to the given timeout. Returns null if no event arrived in time
+        // or if the waiting thread was interrupted.
+        @Nullable
+        public E poll(long timeout, @NonNull TimeUnit unit) {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            long parkNanos = TimeUnit.MICROSECONDS.toNanos(50);
+            while (true) {
+                E event = poll();
+                if (event != null) {
+                    return event;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+                // Back off up to 10 ms, the producer never signals consumers to stay lock-free.
+                LockSupport.parkNanos(Math.min(parkNanos, remaining));
+                parkNanos = Math.min(parkNanos * 2, TimeUnit.MILLISECONDS.toNanos(10));
+            }
+        }
+
+        // The number of events this consumer missed because it fell behind.
+        public long getLostCount() {
+            return lostCount.get();
+        }
+
+        // The number of events published but not yet read by this consumer.
+        public long getBacklog() {
+            return Math.min(capacity, publishedCount.get() - cursor.get());
+        }
+    }
+}
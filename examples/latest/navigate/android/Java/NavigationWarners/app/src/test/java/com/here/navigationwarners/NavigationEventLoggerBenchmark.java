@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.navigationwarners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import android.util.Log;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+// Measures the time and the memory allocated per logged event with logcat disabled: With debug logging
+// turned off, and with the events kept in the ring buffer, compared to building the message by string
+// concatenation as the listeners did before. The arguments are those of a typical warning event:
+// an enum name and a distance.
+public class NavigationEventLoggerBenchmark {
+
+    private static final int WARMUP_ROUND_COUNT = 5;
+    private static final int CALL_COUNT = 1_000_000;
+    private static final String TAG = "Benchmark";
+    private static final String[] SIGN_TYPES = {"STOP_SIGN", "ANIMAL_CROSSING", "SCHOOL_ZONE", "FALLING_ROCKS"};
+
+    @Test
+    public void eventLoggingBenchmark() {
+        com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+        assumeTrue(threadMXBean != null && threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        NavigationEventLogger disabledLogger = new NavigationEventLogger(NavigationEventLogger.PRIORITY_OFF, false, 512);
+        NavigationEventLogger ringBufferLogger = new NavigationEventLogger(Log.DEBUG, false, 512);
+        long[] nanos = new long[3];
+        long[] bytes = new long[3];
+        // Consumes the concatenated messages, so that they are not optimized away.
+        long messageLength = 0;
+        for (int round = 0; round <= WARMUP_ROUND_COUNT; round++) {
+            messageLength = 0;
+            long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < CALL_COUNT; i++) {
+                disabledLogger.d(TAG, "A RoadSignWarning of road sign type: {} ahead in (m): {}", SIGN_TYPES[i & 3], i);
+            }
+            long disabledEndNanos = System.nanoTime();
+            long disabledEndBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < CALL_COUNT; i++) {
+                ringBufferLogger.d(TAG, "A RoadSignWarning of road sign type: {} ahead in (m): {}", SIGN_TYPES[i & 3], i);
+            }
+            long ringBufferEndNanos = System.nanoTime();
+            long ringBufferEndBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < CALL_COUNT; i++) {
+                String message = "A RoadSignWarning of road sign type: " + SIGN_TYPES[i & 3] + " ahead in (m): " + i;
+                messageLength += message.length();
+            }
+            long concatenationEndNanos = System.nanoTime();
+            long concatenationEndBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+            nanos[0] = disabledEndNanos - startNanos;
+            nanos[1] = ringBufferEndNanos - disabledEndNanos;
+            nanos[2] = concatenationEndNanos - ringBufferEndNanos;
+            bytes[0] = disabledEndBytes - startBytes;
+            bytes[1] = ringBufferEndBytes - disabledEndBytes;
+            bytes[2] = concatenationEndBytes - ringBufferEndBytes;
+        }
+
+        assertTrue(messageLength > 0);
+        assertEquals(512, ringBufferLogger.dump().split("\n").length);
+        System.out.println("NavigationEventLogger.d(), average in nanoseconds when disabled: " + nanos[0] / CALL_COUNT
+                + ", with the ring buffer: " + nanos[1] / CALL_COUNT
+                + ", string concatenation: " + nanos[2] / CALL_COUNT
+                + ". Allocated bytes per call: " + bytes[0] / CALL_COUNT
+                + ", " + bytes[1] / CALL_COUNT + " and " + bytes[2] / CALL_COUNT + ".");
+        // The records are preallocated, so neither a disabled nor a buffered event allocates.
+        assertTrue(bytes[0] < CALL_COUNT);
+        assertTrue(bytes[1] < CALL_COUNT);
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return (com.sun.management.ThreadMXBean) threadMXBean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.navigationwarners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.util.Log;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+public class NavigationEventLoggerTest {
+
+    private enum Side {LEFT, RIGHT}
+
+    @Test
+    public void dumpFormatsTheStoredArguments() {
+        NavigationEventLogger logger = new NavigationEventLogger(Log.DEBUG, false, 8);
+
+        logger.d("A", "Plain message.");
+        logger.d("A", "Long {}, double {}, boolean {}.", 42L);
+        logger.d("B", "{} m ahead.", 12.5);
+        logger.d("B", "Applies: {}", true);
+        logger.d("B", "Merging from the {} side in {} meters.", Side.LEFT, 250L);
+        logger.d("C", "Boxed {} {} {}", Integer.valueOf(7), Float.valueOf(1.5f), Boolean.FALSE);
+        logger.e("C", "Error: {}", (Object) null);
+
+        assertDumpLines(new String[]{
+                "D/A: Plain message.",
+                "D/A: Long 42, double {}, boolean {}.",
+                "D/B: 12.5 m ahead.",
+                "D/B: Applies: true",
+                "D/B: Merging from the LEFT side in 250 meters.",
+                "D/C: Boxed 7 1.5 false",
+                "E/C: Error: null"}, logger.dump());
+    }
+
+    @Test
+    public void onlyTheMostRecentEventsAreKept() {
+        NavigationEventLogger logger = new NavigationEventLogger(Log.DEBUG, false, 3);
+
+        for (long i = 0; i < 10; i++) {
+            logger.d("T", "Event {}", i);
+        }
+
+        assertDumpLines(new String[]{"D/T: Event 7", "D/T: Event 8", "D/T: Event 9"}, logger.dump());
+
+        logger.clear();
+        assertEquals("", logger.dump());
+    }
+
+    @Test
+    public void eventsBelowTheMinimumPriorityAreDropped() {
+        NavigationEventLogger logger = new NavigationEventLogger(Log.ERROR, false, 4);
+
+        assertFalse(logger.isLoggable(Log.DEBUG));
+        logger.d("T", "Dropped {}", 1L);
+        logger.e("T", "Kept");
+
+        assertDumpLines(new String[]{"E/T: Kept"}, logger.dump());
+
+        logger.setMinPriority(NavigationEventLogger.PRIORITY_OFF);
+        assertFalse(logger.isLoggable(Log.ERROR));
+        assertFalse(new NavigationEventLogger(Log.DEBUG, false, 0).isLoggable(Log.ERROR));
+    }
+
+    @Test
+    public void longTextIsTruncated() {
+        NavigationEventLogger logger = new NavigationEventLogger(Log.DEBUG, false, 2);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+
+        logger.d("T", "{} | {}", text.toString(), "second");
+
+        // The first text takes all chars of the event, so nothing is left for the second one.
+        assertDumpLines(new String[]{"D/T: " + text.substring(0, 64) + " | "}, logger.dump());
+    }
+
+    @Test
+    public void moreThanFourArgumentsAreStoredAsText() {
+        NavigationEventLogger logger = new NavigationEventLogger(Log.DEBUG, false, 2);
+
+        logger.d("T", "{} {} {} {} {}", 1, 2, 3, 4, 5);
+        logger.d("T", "{}-{}-{}-{}", 1, 2, 3, 4);
+
+        assertDumpLines(new String[]{"D/T: 1 2 3 4 5", "D/T: 1-2-3-4"}, logger.dump());
+    }
+
+    @Test
+    public void formatsBeyondTheTableOfConstantsAreStoredAsText() {
+        NavigationEventLogger logger = new NavigationEventLogger(Log.DEBUG, false, 4);
+
+        for (int i = 0; i < 300; i++) {
+            logger.d("T", "Format " + i + ": {}", (long) i);
+        }
+
+        assertDumpLines(new String[]{
+                "D/T: Format 296: 296",
+                "D/T: Format 297: 297",
+                "D/T: Format 298: 298",
+                "D/T: Format 299: 299"}, logger.dump());
+    }
+
+    @Test
+    public void loggedObjectsAreNotReferenced() {
+        NavigationEventLogger logger = new NavigationEventLogger(Log.DEBUG, false, 4);
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                return "argument";
+            }
+        };
+        WeakReference<Object> reference = new WeakReference<>(argument);
+
+        logger.d("T", "Value: {}", argument);
+        argument = null;
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+        }
+
+        assertNull(reference.get());
+        assertTrue(logger.dump().endsWith("D/T: Value: argument\n"));
+    }
+
+    // Compares the lines of a dump without their timestamps.
+    private static void assertDumpLines(String[] expectedLines, String dump) {
+        String[] lines = dump.split("\n");
+        assertEquals(expectedLines.length, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals(expectedLines[i], lines[i].substring(lines[i].indexOf(' ') + 1));
+        }
+    }
+}
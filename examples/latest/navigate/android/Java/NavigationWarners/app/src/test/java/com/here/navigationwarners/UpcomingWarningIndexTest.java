@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.navigationwarners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class UpcomingWarningIndexTest {
+
+    private static final String[] TYPES = {"SCHOOL_ZONE", "DANGER_ZONE", "SAFETY_CAMERA", "ROAD_SIGN"};
+
+    @Test
+    public void putMovesAndRemoveDropsWarnings() {
+        UpcomingWarningIndex<String, String> index = new UpcomingWarningIndex<>();
+
+        index.put("SCHOOL_ZONE", 1, 500, "school 1");
+        index.put("SCHOOL_ZONE", 2, 300, "school 2");
+        index.put("DANGER_ZONE", 3, 100, "danger 3");
+        assertEquals(3, index.size());
+        assertEquals("school 2", index.getNextAhead("SCHOOL_ZONE", 1000));
+        assertEquals(Arrays.asList("danger 3", "school 2", "school 1"), index.getAllAhead(1000));
+
+        // The same id moves the warning, also to another type.
+        index.put("SCHOOL_ZONE", 2, 700, "school 2 moved");
+        assertEquals(3, index.size());
+        assertEquals("school 1", index.getNextAhead("SCHOOL_ZONE", 1000));
+        index.put("DANGER_ZONE", 1, 50, "danger 1");
+        assertEquals("school 2 moved", index.getNextAhead("SCHOOL_ZONE", 1000));
+        assertEquals("danger 1", index.getNextAhead("DANGER_ZONE", 1000));
+
+        assertTrue(index.remove(2));
+        assertFalse(index.remove(2));
+        assertNull(index.getNextAhead("SCHOOL_ZONE", 1000));
+        assertNull(index.getDistanceToNextInMeters("SCHOOL_ZONE"));
+        assertEquals(2, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(Collections.emptyList(), index.getAllAhead(1000));
+    }
+
+    @Test
+    public void advanceToRemovesPassedWarnings() {
+        UpcomingWarningIndex<String, String> index = new UpcomingWarningIndex<>();
+        index.put("SCHOOL_ZONE", 1, 100, "school 1");
+        index.put("SCHOOL_ZONE", 2, 200, "school 2");
+        index.put("DANGER_ZONE", 3, 250, "danger 3");
+
+        assertEquals(0, index.advanceTo(100));
+        assertEquals("school 1", index.getNextAhead("SCHOOL_ZONE", 0));
+
+        assertEquals(1, index.advanceTo(150));
+        assertEquals(150, index.getCurrentOffsetInMeters(), 0);
+        assertEquals(50, index.getDistanceToNextInMeters("SCHOOL_ZONE"), 0);
+        assertNull(index.getNextAhead("SCHOOL_ZONE", 49));
+        assertEquals("school 2", index.getNextAhead("SCHOOL_ZONE", 50));
+
+        assertEquals(2, index.advanceTo(1000));
+        assertEquals(0, index.size());
+
+        // Warnings behind the current offset are ignored, and an existing one with the same id is removed.
+        index.put("DANGER_ZONE", 4, 1200, "danger 4");
+        index.put("DANGER_ZONE", 4, 999, "danger 4 behind");
+        index.put("DANGER_ZONE", 5, 999, "danger 5 behind");
+        assertEquals(0, index.size());
+        assertFalse(index.remove(4));
+    }
+
+    @Test
+    public void warningsAtTheSameOffsetAreOrderedByTheirLastPut() {
+        UpcomingWarningIndex<String, String> index = new UpcomingWarningIndex<>();
+        index.put("ROAD_SIGN", 1, 400, "sign 1");
+        index.put("ROAD_SIGN", 2, 400, "sign 2");
+        index.put("SAFETY_CAMERA", 3, 400, "camera 3");
+
+        assertEquals("sign 1", index.getNextAhead("ROAD_SIGN", 400));
+        assertEquals(Arrays.asList("sign 1", "sign 2", "camera 3"), index.getAllAhead(400));
+
+        // Updating the first warning at the same offset puts it behind the others.
+        index.put("ROAD_SIGN", 1, 400, "sign 1 updated");
+        assertEquals("sign 2", index.getNextAhead("ROAD_SIGN", 400));
+        assertEquals(Arrays.asList("sign 2", "camera 3", "sign 1 updated"), index.getAllAhead(400));
+
+        // Warnings exactly at the current offset are not passed yet.
+        assertEquals(0, index.advanceTo(400));
+        assertEquals(3, index.size());
+        assertEquals(3, index.advanceTo(Math.nextUp(400.0)));
+    }
+
+    @Test
+    public void getNextAheadMatchesALinearScan() {
+        int warningCount = 100_000;
+        UpcomingWarningIndex<String, Integer> index = new UpcomingWarningIndex<>();
+        // The reference model: the type, offset and order of each known warning.
+        Map<Integer, double[]> warnings = new HashMap<>();
+        Random random = new Random(42);
+        double currentOffset = 0;
+        long order = 0;
+
+        for (int step = -warningCount; step < warningCount; step++) {
+            // Fills the index first, then mixes moves, removals and advancing along the route.
+            int action = step < 0 ? 0 : random.nextInt(100);
+            int id = step < 0 ? warningCount + step : random.nextInt(warningCount);
+            if (action < 70) {
+                // Adds or moves a warning. Some land exactly on the offset of another one.
+                int type = random.nextInt(TYPES.length);
+                double offset = currentOffset + (random.nextBoolean()
+                        ? random.nextInt(1000) * 10.0 : random.nextDouble() * 10000 - 5);
+                index.put(TYPES[type], id, offset, id);
+                warnings.remove(id);
+                if (offset >= currentOffset) {
+                    warnings.put(id, new double[]{type, offset, order++});
+                }
+            } else if (action < 99) {
+                assertEquals(warnings.remove(id) != null, index.remove(id));
+            } else {
+                currentOffset += random.nextDouble() * 200;
+                int removedCount = 0;
+                for (double[] warning : warnings.values()) {
+                    removedCount += warning[1] < currentOffset ? 1 : 0;
+                }
+                final double offset = currentOffset;
+                warnings.values().removeIf(warning -> warning[1] < offset);
+                assertEquals(removedCount, index.advanceTo(currentOffset));
+            }
+
+            if (step % 1000 == 0 || step == -1) {
+                assertEquals(warnings.size(), index.size());
+                double withinMeters = random.nextDouble() * 2000;
+                for (int type = 0; type < TYPES.length; type++) {
+                    assertEquals(findNextAhead(warnings, type, currentOffset, withinMeters),
+                            index.getNextAhead(TYPES[type], withinMeters));
+                }
+            }
+        }
+    }
+
+    private static Integer findNextAhead(Map<Integer, double[]> warnings, int type, double currentOffset,
+                                         double withinMeters) {
+        Integer nextId = null;
+        double[] next = null;
+        for (Map.Entry<Integer, double[]> entry : warnings.entrySet()) {
+            double[] warning = entry.getValue();
+            if (warning[0] != type) {
+                continue;
+            }
+            if (next == null || warning[1] < next[1] || (warning[1] == next[1] && warning[2] < next[2])) {
+                nextId = entry.getKey();
+                next = warning;
+            }
+        }
+        return next != null && next[1] - currentOffset <= withinMeters ? nextId : null;
+    }
+}
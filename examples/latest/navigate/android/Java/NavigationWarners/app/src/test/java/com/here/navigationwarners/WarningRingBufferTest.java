@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.navigationwarners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class WarningRingBufferTest {
+
+    // An update of a warning. Updates of the same warning can be coalesced. A marker ends a round and carries
+    // the latest version of each warning published before it. As a newer update can replace a pending update
+    // in front of the marker, consumers may also see a newer version before the marker, but never an older one.
+    private static class Update {
+        final int warningId;
+        final int version;
+        final int[] latestVersions;
+
+        Update(int warningId, int version) {
+            this.warningId = warningId;
+            this.version = version;
+            latestVersions = null;
+        }
+
+        Update(int[] latestVersions) {
+            warningId = -1;
+            version = 0;
+            this.latestVersions = latestVersions;
+        }
+
+        boolean isMarker() {
+            return latestVersions != null;
+        }
+    }
+
+    private static final WarningRingBuffer.Coalescer<Update> SAME_WARNING = (pendingEvent, newerEvent) ->
+            !pendingEvent.isMarker() && !newerEvent.isMarker() && pendingEvent.warningId == newerEvent.warningId;
+
+    @Test
+    public void consumerReceivesEventsInOrder() {
+        WarningRingBuffer<String> buffer = new WarningRingBuffer<>(4, WarningRingBuffer.OverflowPolicy.DROP_OLDEST, null);
+        WarningRingBuffer<String>.Consumer consumer = buffer.newConsumer();
+
+        buffer.publish("a");
+        buffer.publish("b");
+
+        assertEquals("a", consumer.poll());
+        assertEquals("b", consumer.poll());
+        assertNull(consumer.poll());
+    }
+
+    @Test
+    public void slowConsumerSkipsOverwrittenEvents() {
+        WarningRingBuffer<Integer> buffer = new WarningRingBuffer<>(4, WarningRingBuffer.OverflowPolicy.DROP_OLDEST, null);
+        WarningRingBuffer<Integer>.Consumer consumer = buffer.newConsumer();
+
+        for (int i = 0; i < 10; i++) {
+            buffer.publish(i);
+        }
+
+        assertEquals(Integer.valueOf(6), consumer.poll());
+        assertEquals(6, consumer.getLostCount());
+    }
+
+    @Test
+    public void pendingEventIsReplacedByNewerEventOfSameWarning() {
+        WarningRingBuffer<Update> buffer = new WarningRingBuffer<>(8, WarningRingBuffer.OverflowPolicy.COALESCE, SAME_WARNING);
+        WarningRingBuffer<Update>.Consumer consumer = buffer.newConsumer();
+        Update newerUpdate = new Update(1, 2);
+
+        buffer.publish(new Update(1, 1));
+        buffer.publish(new Update(2, 1));
+        buffer.publish(newerUpdate);
+
+        assertSame(newerUpdate, consumer.poll());
+        assertEquals(2, consumer.poll().warningId);
+        assertNull(consumer.poll());
+        assertEquals(1, buffer.getCoalescedCount());
+    }
+
+    @Test
+    public void readEventIsNotReplaced() {
+        WarningRingBuffer<Update> buffer = new WarningRingBuffer<>(8, WarningRingBuffer.OverflowPolicy.COALESCE, SAME_WARNING);
+        WarningRingBuffer<Update>.Consumer consumer = buffer.newConsumer();
+
+        buffer.publish(new Update(1, 1));
+        assertEquals(1, consumer.poll().version);
+        buffer.publish(new Update(1, 2));
+
+        assertEquals(2, consumer.poll().version);
+        assertEquals(0, buffer.getCoalescedCount());
+    }
+
+    // One producer publishes bursts of updates for a few warnings while several consumers read concurrently.
+    // Coalescing may skip intermediate updates, but each consumer must receive the updates of a warning in order
+    // and must have seen at least the latest update of every warning when it reaches the marker at the end of
+    // a round.
+    @Test
+    public void coalescingLosesNoLatestUpdateWithConcurrentConsumers() throws InterruptedException {
+        final int consumerCount = 4;
+        final int warningCount = 8;
+        final int roundCount = 2000;
+        final int updatesPerRound = 50;
+        // Large enough to never overwrite unread events, so that every missing update is a coalescing error.
+        final int capacity = roundCount * (updatesPerRound + 1);
+
+        final WarningRingBuffer<Update> buffer =
+                new WarningRingBuffer<>(capacity, WarningRingBuffer.OverflowPolicy.COALESCE, SAME_WARNING);
+        final AtomicReference<String> failure = new AtomicReference<>();
+        List<Thread> consumerThreads = new ArrayList<>();
+        for (int c = 0; c < consumerCount; c++) {
+            final WarningRingBuffer<Update>.Consumer consumer = buffer.newConsumer();
+            Thread thread = new Thread(() -> {
+                int[] seenVersions = new int[warningCount];
+                int rounds = 0;
+                while (rounds < roundCount && failure.get() == null) {
+                    Update update = consumer.poll(1, TimeUnit.SECONDS);
+                    if (update == null) {
+                        failure.compareAndSet(null, "Consumer timed out after round " + rounds);
+                    } else if (update.isMarker()) {
+                        for (int warningId = 0; warningId < warningCount; warningId++) {
+                            if (seenVersions[warningId] < update.latestVersions[warningId]) {
+                                failure.compareAndSet(null, "Latest update lost in round " + rounds);
+                            }
+                        }
+                        rounds++;
+                    } else if (update.version <= seenVersions[update.warningId]) {
+                        failure.compareAndSet(null, "Update out of order in round " + rounds);
+                    } else {
+                        seenVersions[update.warningId] = update.version;
+                    }
+                    if (consumer.getLostCount() != 0) {
+                        failure.compareAndSet(null, "Events were overwritten");
+                    }
+                }
+            });
+            consumerThreads.add(thread);
+            thread.start();
+        }
+
+        Random random = new Random(42);
+        int[] versions = new int[warningCount];
+        for (int round = 0; round < roundCount; round++) {
+            for (int i = 0; i < updatesPerRound; i++) {
+                int warningId = random.nextInt(warningCount);
+                buffer.publish(new Update(warningId, ++versions[warningId]));
+            }
+            buffer.publish(new Update(versions.clone()));
+        }
+
+        for (Thread thread : consumerThreads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        assertNull(failure.get(), failure.get());
+        assertTrue("Expected some events to be coalesced.", buffer.getCoalescedCount() > 0);
+    }
+}
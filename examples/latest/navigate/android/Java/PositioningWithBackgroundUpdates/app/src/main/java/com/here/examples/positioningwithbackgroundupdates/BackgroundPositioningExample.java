@@ -40,12 +40,15 @@ import com.here.sdk.mapview.MapMeasure;
 import com.here.sdk.mapview.MapView;
 
 import java.util.Date;
+import java.util.List;
 
 public class BackgroundPositioningExample {
 
     private static final String TAG = BackgroundPositioningExample.class.getSimpleName();
 
     private static final int CAMERA_DISTANCE_IN_METERS = 200;
+    // Locations are collected by the service and delivered to the UI at most once per interval.
+    private static final long LOCATION_DELIVERY_INTERVAL_IN_MILLISECONDS = 1000;
 
     private final MapMeasure mapMeasureZoom = new MapMeasure(MapMeasure.Kind.DISTANCE_IN_METERS, CAMERA_DISTANCE_IN_METERS);
     private final GeoCoordinates defaultCoordinates = new GeoCoordinates(52.520798,13.409408);
@@ -100,6 +103,7 @@ public class BackgroundPositioningExample {
     private final ServiceConnection connection = new ServiceConnection() {
         public void onServiceConnected(ComponentName className, IBinder service) {
             positioningService = ((HEREBackgroundPositioningService.LocalBinder)service).getService();
+            positioningService.setDeliveryInterval(LOCATION_DELIVERY_INTERVAL_IN_MILLISECONDS);
             positioningService.registerListener(new BackgroundServiceListener() {
                 @Override
                 public void onStateUpdate(HEREBackgroundPositioningService.State state) {
@@ -107,9 +111,11 @@ public class BackgroundPositioningExample {
                 }
 
                 @Override
-                public void onLocationUpdated(Location location) {
+                public void onLocationsUpdated(List<Location> locations) {
+                    // After the app was in the background, this contains all locations received in the meantime.
+                    Location location = locations.get(locations.size() - 1);
                     updateMyLocationOnMap(location);
-                    Log.d(TAG, "`onLocationUpdated`: " + location.coordinates.latitude + " , " + location.coordinates.longitude);
+                    Log.d(TAG, "`onLocationsUpdated`: " + locations.size() + " location(s), latest: " + location.coordinates.latitude + " , " + location.coordinates.longitude);
                 }
 
                 @Override
@@ -144,6 +150,20 @@ public class BackgroundPositioningExample {
         closeBinder();
     }
 
+    // Stops waking up the UI for new locations, the service keeps collecting them.
+    public void onPause() {
+        if (positioningService != null) {
+            positioningService.pauseDelivery();
+        }
+    }
+
+    // Replays the locations that were collected while the UI was paused.
+    public void onResume() {
+        if (positioningService != null) {
+            positioningService.resumeDelivery();
+        }
+    }
+
     public boolean isForegroundServiceRunning() {
         return shouldUnbind;
     }
@@ -25,11 +25,14 @@ import android.content.Context;
 import android.content.Intent;
 import android.os.Binder;
 import android.os.Build;
+import android.os.Handler;
 import android.os.IBinder;
+import android.os.Looper;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
 
+import com.here.sdk.core.GeoCoordinates;
 import com.here.sdk.core.Location;
 import com.here.sdk.core.LocationListener;
 import com.here.sdk.core.errors.InstantiationErrorException;
@@ -39,11 +42,19 @@ import com.here.sdk.location.LocationEngineStatus;
 import com.here.sdk.location.LocationFeature;
 import com.here.sdk.location.LocationStatusListener;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 interface BackgroundServiceListener {
     void onStateUpdate(HEREBackgroundPositioningService.State state);
-    void onLocationUpdated(Location location);
+    // Called with the locations received since the last call, the oldest first.
+    void onLocationsUpdated(List<Location> locations);
     void onLocationServicesDisabled();
     void onEngineStartFailed();
 }
@@ -53,6 +64,9 @@ public class HEREBackgroundPositioningService extends Service {
 
     private static final String TAG = HEREBackgroundPositioningService.class.getSimpleName();
     private static final String KEY_CONTENT_INTENT = "contentIntent";
+    private static final String JOURNAL_FILE_NAME = "location_journal.bin";
+    // The maximum number of locations passed to the listener at once.
+    private static final int MAX_LOCATIONS_PER_DELIVERY = 500;
     private static boolean running;
     private NotificationUtils notificationUtils;
     private LocationEngine locationEngine;
@@ -61,13 +75,52 @@ public class HEREBackgroundPositioningService extends Service {
     private Location location;
     private boolean didLocationEngineStarted = false;
 
+    // Adapts the location accuracy and the update cadence to the movement of the user.
+    // Starts with the best accuracy until the movement is known.
+    private final MovementPolicy movementPolicy = new MovementPolicy(MovementPolicy.MovementState.DRIVING);
+    private long lastProcessedLocationTimeInMilliseconds;
+    // True while the location engine is restarted with another accuracy.
+    private boolean isChangingAccuracy = false;
+
+    // All locations are appended to a journal on the journal executor, which keeps them across process death.
+    // The listener receives them in batches from the journal, at most once per delivery interval, and not at
+    // all while delivery is paused, for example while the app is in the background. If the journal cannot be
+    // opened, each location is passed to the listener directly.
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ExecutorService journalExecutor = Executors.newSingleThreadExecutor();
+    // Only accessed on the journal executor.
+    private LocationJournal journal;
+    private volatile boolean isJournalAvailable = true;
+    private long deliveryIntervalInMilliseconds = 0;
+    private boolean isDeliveryPaused = false;
+    private boolean isDeliveryScheduled = false;
+    // True from reading a batch until it was marked as delivered, to not read the same locations twice.
+    private boolean isDeliveryInProgress = false;
+    private boolean isDeliveryRequestedInProgress = false;
+    private final Runnable deliverJournalRunnable = this::deliverJournal;
+
     final private LocationListener locationListener = new LocationListener() {
         @Override
         public void onLocationUpdated(@NonNull Location updateLocation) {
             Log.v(TAG, "onLocationUpdated");
             location = updateLocation;
             setStateRunning();
-            reportLocationUpdate();
+
+            final long timeInMilliseconds = updateLocation.time != null ? updateLocation.time.getTime() : System.currentTimeMillis();
+            updateMovementState(updateLocation, timeInMilliseconds);
+            // Skip locations that arrive faster than needed for the current movement state.
+            final long interval = MovementPolicy.getUpdateIntervalInMilliseconds(movementPolicy.getState());
+            if (lastProcessedLocationTimeInMilliseconds != 0
+                    && Math.abs(timeInMilliseconds - lastProcessedLocationTimeInMilliseconds) < interval) {
+                return;
+            }
+            lastProcessedLocationTimeInMilliseconds = timeInMilliseconds;
+
+            if (isJournalAvailable) {
+                appendToJournal(updateLocation);
+            } else {
+                reportLocationUpdate();
+            }
         }
     };
 
@@ -80,6 +133,15 @@ public class HEREBackgroundPositioningService extends Service {
                 case ENGINE_STARTED:
                 case ALREADY_STARTED:
                     didLocationEngineStarted = true;
+                    isChangingAccuracy = false;
+                    break;
+
+                case ENGINE_STOPPED:
+                    if (isChangingAccuracy) {
+                        // The engine is restarted with another accuracy, see applyLocationAccuracy().
+                        break;
+                    }
+                    setStateStopped();
                     break;
 
                 case LOCATION_SERVICES_DISABLED:
@@ -118,6 +180,42 @@ public class HEREBackgroundPositioningService extends Service {
         if (!didLocationEngineStarted) {
             serviceListener.onEngineStartFailed();
         }
+
+        // Replays the locations that were not delivered yet, also from before the process died.
+        scheduleDelivery(0);
+    }
+
+    // Sets the minimum time between two deliveries of locations to the listener. With 0, each location
+    // is delivered right after it was received.
+    public void setDeliveryInterval(long deliveryIntervalInMilliseconds) {
+        this.deliveryIntervalInMilliseconds = deliveryIntervalInMilliseconds;
+    }
+
+    // Keeps collecting locations in the journal without delivering them, for example while the UI is not visible.
+    public void pauseDelivery() {
+        isDeliveryPaused = true;
+        mainHandler.removeCallbacks(deliverJournalRunnable);
+        isDeliveryScheduled = false;
+    }
+
+    // Delivers all locations that were collected while delivery was paused and resumes regular deliveries.
+    public void resumeDelivery() {
+        isDeliveryPaused = false;
+        scheduleDelivery(0);
+    }
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        final File journalFile = new File(getFilesDir(), JOURNAL_FILE_NAME);
+        journalExecutor.execute(() -> {
+            try {
+                journal = new LocationJournal(journalFile);
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to open the location journal, locations are delivered without it: " + e.getMessage());
+                isJournalAvailable = false;
+            }
+        });
     }
 
     // Start foreground service.
@@ -157,6 +255,20 @@ public class HEREBackgroundPositioningService extends Service {
         super.onDestroy();
         // The service is no longer used and is being destroyed
         stopLocating();
+        mainHandler.removeCallbacks(deliverJournalRunnable);
+        journalExecutor.execute(() -> {
+            if (journal == null) {
+                return;
+            }
+            try {
+                journal.sync();
+                journal.close();
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to close the location journal: " + e.getMessage());
+            }
+            journal = null;
+        });
+        journalExecutor.shutdown();
         running = false;
     }
 
@@ -198,7 +310,7 @@ public class HEREBackgroundPositioningService extends Service {
             // which shows a possible example for this.
             locationEngine.confirmHEREPrivacyNoticeInclusion();
 
-            final LocationEngineStatus status = locationEngine.start(LocationAccuracy.BEST_AVAILABLE);
+            final LocationEngineStatus status = locationEngine.start(getLocationAccuracy(movementPolicy.getState()));
             switch (status) {
                 case ENGINE_STARTED:
                 case ALREADY_STARTED:
@@ -271,13 +383,190 @@ public class HEREBackgroundPositioningService extends Service {
 
     // Reports location update to registered listener.
     private void reportLocationUpdate() {
-        if (location == null) {
+        if (location == null || isDeliveryPaused) {
             return;
         }
         final BackgroundServiceListener listener = serviceListener;
         if (listener != null) {
-            listener.onLocationUpdated(location);
+            listener.onLocationsUpdated(Collections.singletonList(location));
+        }
+    }
+
+    // Feeds the location to the movement policy and adapts the location accuracy if the movement state changes.
+    private void updateMovementState(Location location, long timeInMilliseconds) {
+        final MovementPolicy.MovementState previousState = movementPolicy.getState();
+        final MovementPolicy.MovementState state = movementPolicy.update(timeInMilliseconds,
+                location.coordinates.latitude,
+                location.coordinates.longitude,
+                toDouble(location.speedInMetersPerSecond),
+                toDouble(location.horizontalAccuracyInMeters));
+        if (state != previousState) {
+            Log.i(TAG, "Movement state changed from " + previousState + " to " + state + ".");
+            // Restart the engine outside of its callback.
+            mainHandler.post(() -> applyLocationAccuracy(state));
+        }
+    }
+
+    // Restarts the location engine with the accuracy for the movement state.
+    private void applyLocationAccuracy(MovementPolicy.MovementState state) {
+        if (locationEngine == null || state != movementPolicy.getState()) {
+            return;
+        }
+        isChangingAccuracy = true;
+        locationEngine.stop();
+        final LocationAccuracy accuracy = getLocationAccuracy(state);
+        final LocationEngineStatus status = locationEngine.start(accuracy);
+        Log.i(TAG, "Restarted location engine with " + accuracy.name() + ": " + status.name());
+        if (status != LocationEngineStatus.ENGINE_STARTED && status != LocationEngineStatus.ALREADY_STARTED
+                && status != LocationEngineStatus.OK) {
+            isChangingAccuracy = false;
+            setStateStopped();
+        }
+    }
+
+    private static LocationAccuracy getLocationAccuracy(MovementPolicy.MovementState state) {
+        switch (state) {
+            case STATIONARY:
+                return LocationAccuracy.HUNDREDS_OF_METERS;
+            case WALKING:
+                return LocationAccuracy.TENS_OF_METERS;
+            case DRIVING:
+            default:
+                return LocationAccuracy.BEST_AVAILABLE;
+        }
+    }
+
+    // Appends the location to the journal and schedules its delivery.
+    private void appendToJournal(Location location) {
+        final LocationJournal.Fix fix = toFix(location);
+        journalExecutor.execute(() -> {
+            if (journal == null) {
+                return;
+            }
+            try {
+                journal.append(fix);
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to append to the location journal: " + e.getMessage());
+            }
+        });
+        scheduleDelivery(deliveryIntervalInMilliseconds);
+    }
+
+    // Schedules a delivery of the journal to the listener, unless one is already scheduled.
+    private void scheduleDelivery(long delayInMilliseconds) {
+        if (isDeliveryPaused || serviceListener == null) {
+            return;
+        }
+        if (isDeliveryScheduled) {
+            if (delayInMilliseconds > 0) {
+                return;
+            }
+            // Deliver right away instead of waiting for the scheduled delivery.
+            mainHandler.removeCallbacks(deliverJournalRunnable);
+        }
+        isDeliveryScheduled = true;
+        mainHandler.postDelayed(deliverJournalRunnable, delayInMilliseconds);
+    }
+
+    // Reads the undelivered locations from the journal and passes them to the listener on the main thread.
+    private void deliverJournal() {
+        isDeliveryScheduled = false;
+        if (isDeliveryInProgress) {
+            isDeliveryRequestedInProgress = true;
+            return;
+        }
+        isDeliveryInProgress = true;
+        journalExecutor.execute(() -> {
+            LocationJournal.Batch batch = null;
+            try {
+                if (journal != null) {
+                    batch = journal.readUndelivered(MAX_LOCATIONS_PER_DELIVERY);
+                }
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to read the location journal: " + e.getMessage());
+            }
+            if (batch == null || batch.fixes.isEmpty()) {
+                mainHandler.post(() -> finishDelivery(false));
+                return;
+            }
+            final LocationJournal.Batch readBatch = batch;
+            final List<Location> locations = new ArrayList<>(batch.fixes.size());
+            for (LocationJournal.Fix fix : batch.fixes) {
+                locations.add(toLocation(fix));
+            }
+            mainHandler.post(() -> onBatchRead(readBatch, locations));
+        });
+    }
+
+    // Called on the main thread. Marks the batch as delivered once the listener has received it.
+    private void onBatchRead(LocationJournal.Batch batch, List<Location> locations) {
+        final BackgroundServiceListener listener = serviceListener;
+        if (listener == null || isDeliveryPaused) {
+            // The batch is read again when delivery resumes.
+            finishDelivery(false);
+            return;
         }
+        listener.onLocationsUpdated(locations);
+        journalExecutor.execute(() -> {
+            if (journal == null) {
+                return;
+            }
+            try {
+                journal.markDelivered(batch.endSequence);
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to update the location journal: " + e.getMessage());
+            }
+        });
+        // If the batch was full, there may be more locations waiting.
+        finishDelivery(locations.size() == MAX_LOCATIONS_PER_DELIVERY);
+    }
+
+    // Called on the main thread when a delivery has ended. Runs the deliveries that were requested in the meantime.
+    private void finishDelivery(boolean hasMoreLocations) {
+        isDeliveryInProgress = false;
+        if (hasMoreLocations) {
+            isDeliveryRequestedInProgress = false;
+            scheduleDelivery(0);
+        } else if (isDeliveryRequestedInProgress) {
+            isDeliveryRequestedInProgress = false;
+            scheduleDelivery(0);
+        }
+    }
+
+    private static LocationJournal.Fix toFix(Location location) {
+        final GeoCoordinates coordinates = location.coordinates;
+        return new LocationJournal.Fix(
+                location.time != null ? location.time.getTime() : System.currentTimeMillis(),
+                coordinates.latitude,
+                coordinates.longitude,
+                toFloat(coordinates.altitude),
+                toFloat(location.horizontalAccuracyInMeters),
+                toFloat(location.bearingInDegrees),
+                toFloat(location.speedInMetersPerSecond));
+    }
+
+    private static Location toLocation(LocationJournal.Fix fix) {
+        final GeoCoordinates coordinates = Float.isNaN(fix.altitudeInMeters)
+                ? new GeoCoordinates(fix.latitude, fix.longitude)
+                : new GeoCoordinates(fix.latitude, fix.longitude, fix.altitudeInMeters);
+        final Location location = new Location(coordinates);
+        location.time = new Date(fix.timeInMilliseconds);
+        location.horizontalAccuracyInMeters = toDouble(fix.horizontalAccuracyInMeters);
+        location.bearingInDegrees = toDouble(fix.bearingInDegrees);
+        location.speedInMetersPerSecond = toDouble(fix.speedInMetersPerSecond);
+        return location;
+    }
+
+    private static float toFloat(Double value) {
+        return value != null ? value.floatValue() : Float.NaN;
+    }
+
+    private static Double toDouble(float value) {
+        return Float.isNaN(value) ? null : (double) value;
+    }
+
+    private static double toDouble(Double value) {
+        return value != null ? value : Double.NaN;
     }
 
     // Stops location updates.
@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2022-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.examples.positioningwithbackgroundupdates;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only binary log of location fixes, which survives process death.
+ *
+ * Each fix is stored as a fixed-size record with a CRC32 checksum. A record that was only partially
+ * written when the process died fails the checksum and is cut off when the journal is opened again.
+ * Records are numbered by a sequence number that grows over the lifetime of the journal. The sequence
+ * number up to which fixes were delivered to the UI is kept in a separate cursor file, which is replaced
+ * atomically. Delivered fixes are removed from time to time by rewriting the journal.
+ *
+ * This class is not thread-safe, all calls should be made from the same thread.
+ */
+class LocationJournal implements Closeable {
+
+    private static final String TAG = LocationJournal.class.getSimpleName();
+
+    private static final int MAGIC = 0x484C4A31; // "HLJ1"
+    // Magic number and the sequence number of the first record in the file.
+    private static final int HEADER_SIZE = 4 + 8;
+    // Time, latitude, longitude, altitude, horizontal accuracy, bearing, speed and checksum.
+    static final int RECORD_SIZE = 8 + 8 + 8 + 4 + 4 + 4 + 4 + 4;
+    // Delivered records are removed once there are at least this many of them.
+    private static final int MIN_DELIVERED_RECORDS_TO_COMPACT = 256;
+    // If nothing is delivered for a long time, the oldest records are dropped to keep the file small.
+    private static final int MAX_RECORDS = 20000;
+    private static final int COPY_BUFFER_RECORDS = 256;
+
+    /**
+     * A single location fix. Unknown float values are stored as NaN.
+     */
+    static class Fix {
+        final long timeInMilliseconds;
+        final double latitude;
+        final double longitude;
+        final float altitudeInMeters;
+        final float horizontalAccuracyInMeters;
+        final float bearingInDegrees;
+        final float speedInMetersPerSecond;
+
+        Fix(long timeInMilliseconds, double latitude, double longitude, float altitudeInMeters,
+            float horizontalAccuracyInMeters, float bearingInDegrees, float speedInMetersPerSecond) {
+            this.timeInMilliseconds = timeInMilliseconds;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.altitudeInMeters = altitudeInMeters;
+            this.horizontalAccuracyInMeters = horizontalAccuracyInMeters;
+            this.bearingInDegrees = bearingInDegrees;
+            this.speedInMetersPerSecond = speedInMetersPerSecond;
+        }
+    }
+
+    /**
+     * Fixes read from the journal, to be passed to markDelivered() once they were handled.
+     */
+    static class Batch {
+        final List<Fix> fixes;
+        // The sequence number after the last fix of the batch.
+        final long endSequence;
+
+        Batch(@NonNull List<Fix> fixes, long endSequence) {
+            this.fixes = fixes;
+            this.endSequence = endSequence;
+        }
+    }
+
+    private final File file;
+    private final File cursorFile;
+    private final ByteBuffer recordBuffer = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32 crc32 = new CRC32();
+    private RandomAccessFile randomAccessFile;
+    private FileChannel channel;
+    // The sequence number of the first record in the file.
+    private long firstSequence;
+    private long recordCount;
+    // The sequence number of the first fix that was not delivered yet.
+    private long deliveredSequence;
+
+    LocationJournal(@NonNull File file) throws IOException {
+        this.file = file;
+        this.cursorFile = new File(file.getPath() + ".cursor");
+        open();
+        deliveredSequence = Math.max(firstSequence, Math.min(readCursor(), getEndSequence()));
+    }
+
+    // Appends a fix. The data is handed to the operating system right away, so it survives the death
+    // of the process. Call sync() to also make it survive a power loss.
+    void append(@NonNull Fix fix) throws IOException {
+        if (recordCount >= MAX_RECORDS) {
+            long dropped = recordCount - MAX_RECORDS * 3L / 4;
+            Log.w(TAG, "Journal is full, dropping " + dropped + " fixes.");
+            compact(firstSequence + dropped);
+        }
+        recordBuffer.clear();
+        recordBuffer.putLong(fix.timeInMilliseconds)
+                .putDouble(fix.latitude)
+                .putDouble(fix.longitude)
+                .putFloat(fix.altitudeInMeters)
+                .putFloat(fix.horizontalAccuracyInMeters)
+                .putFloat(fix.bearingInDegrees)
+                .putFloat(fix.speedInMetersPerSecond);
+        crc32.reset();
+        crc32.update(recordBuffer.array(), 0, RECORD_SIZE - 4);
+        recordBuffer.putInt((int) crc32.getValue());
+        recordBuffer.flip();
+        writeFully(channel, recordBuffer, HEADER_SIZE + recordCount * RECORD_SIZE);
+        recordCount++;
+    }
+
+    // Reads up to maxFixes fixes that were not delivered yet, starting with the oldest one.
+    @NonNull
+    Batch readUndelivered(int maxFixes) throws IOException {
+        int count = (int) Math.min(maxFixes, getEndSequence() - deliveredSequence);
+        if (count <= 0) {
+            return new Batch(Collections.<Fix>emptyList(), deliveredSequence);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(count * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, buffer, HEADER_SIZE + (deliveredSequence - firstSequence) * RECORD_SIZE);
+        buffer.flip();
+        List<Fix> fixes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            fixes.add(new Fix(buffer.getLong(), buffer.getDouble(), buffer.getDouble(), buffer.getFloat(),
+                    buffer.getFloat(), buffer.getFloat(), buffer.getFloat()));
+            buffer.getInt(); // Checksum, verified when the journal was opened.
+        }
+        return new Batch(fixes, deliveredSequence + count);
+    }
+
+    // Marks all fixes before endSequence as delivered, so that they are not read again.
+    void markDelivered(long endSequence) throws IOException {
+        if (endSequence <= deliveredSequence) {
+            return;
+        }
+        deliveredSequence = Math.min(endSequence, getEndSequence());
+        writeCursor(deliveredSequence);
+        long deliveredRecords = deliveredSequence - firstSequence;
+        if (deliveredRecords >= MIN_DELIVERED_RECORDS_TO_COMPACT && deliveredRecords * 2 >= recordCount) {
+            compact(deliveredSequence);
+        }
+    }
+
+    long getUndeliveredCount() {
+        return getEndSequence() - deliveredSequence;
+    }
+
+    // Flushes the appended fixes to the storage device.
+    void sync() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        randomAccessFile.close();
+    }
+
+    private long getEndSequence() {
+        return firstSequence + recordCount;
+    }
+
+    // Opens the journal and cuts off any records that were not written completely.
+    private void open() throws IOException {
+        randomAccessFile = new RandomAccessFile(file, "rw");
+        channel = randomAccessFile.getChannel();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.size() < HEADER_SIZE || channel.read(header, 0) < HEADER_SIZE || header.getInt(0) != MAGIC) {
+            if (channel.size() > 0) {
+                Log.w(TAG, "Journal has no valid header, starting a new one: " + file);
+            }
+            writeHeader(channel, readCursor());
+            channel.truncate(HEADER_SIZE);
+            firstSequence = readCursor();
+            recordCount = 0;
+            return;
+        }
+        firstSequence = header.getLong(4);
+
+        long fileRecords = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        recordCount = 0;
+        while (recordCount < fileRecords) {
+            buffer.clear();
+            readFully(channel, buffer, HEADER_SIZE + recordCount * RECORD_SIZE);
+            crc32.reset();
+            crc32.update(buffer.array(), 0, RECORD_SIZE - 4);
+            if (buffer.getInt(RECORD_SIZE - 4) != (int) crc32.getValue()) {
+                break;
+            }
+            recordCount++;
+        }
+        long validSize = HEADER_SIZE + recordCount * RECORD_SIZE;
+        if (channel.size() > validSize) {
+            Log.w(TAG, "Cutting off " + (channel.size() - validSize) + " bytes of incomplete records.");
+            channel.truncate(validSize);
+        }
+    }
+
+    // Rewrites the journal without the records before newFirstSequence.
+    // The new file replaces the old one atomically, so that a crash leaves either of them.
+    private void compact(long newFirstSequence) throws IOException {
+        long droppedRecords = newFirstSequence - firstSequence;
+        long keptRecords = recordCount - droppedRecords;
+        File compactedFile = new File(file.getPath() + ".tmp");
+        try (FileOutputStream outputStream = new FileOutputStream(compactedFile)) {
+            FileChannel compactedChannel = outputStream.getChannel();
+            writeHeader(compactedChannel, newFirstSequence);
+            ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_RECORDS * RECORD_SIZE);
+            for (long copied = 0; copied < keptRecords; copied += COPY_BUFFER_RECORDS) {
+                buffer.clear();
+                buffer.limit((int) Math.min(COPY_BUFFER_RECORDS, keptRecords - copied) * RECORD_SIZE);
+                readFully(channel, buffer, HEADER_SIZE + (droppedRecords + copied) * RECORD_SIZE);
+                buffer.flip();
+                writeFully(compactedChannel, buffer, HEADER_SIZE + copied * RECORD_SIZE);
+            }
+            compactedChannel.force(false);
+        }
+        close();
+        if (!compactedFile.renameTo(file)) {
+            throw new IOException("Failed to replace " + file);
+        }
+        randomAccessFile = new RandomAccessFile(file, "rw");
+        channel = randomAccessFile.getChannel();
+        firstSequence = newFirstSequence;
+        recordCount = keptRecords;
+        deliveredSequence = Math.max(deliveredSequence, firstSequence);
+    }
+
+    private static void writeHeader(FileChannel channel, long firstSequence) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putLong(firstSequence).flip();
+        writeFully(channel, header, 0);
+    }
+
+    private long readCursor() {
+        if (!cursorFile.exists()) {
+            return 0;
+        }
+        try (RandomAccessFile cursor = new RandomAccessFile(cursorFile, "r")) {
+            return cursor.readLong();
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to read the delivery cursor, fixes may be delivered again.", e);
+            return 0;
+        }
+    }
+
+    // Replaces the cursor file atomically.
+    private void writeCursor(long sequence) throws IOException {
+        File temporaryFile = new File(cursorFile.getPath() + ".tmp");
+        try (RandomAccessFile cursor = new RandomAccessFile(temporaryFile, "rw")) {
+            cursor.setLength(0);
+            cursor.writeLong(sequence);
+        }
+        if (!temporaryFile.renameTo(cursorFile)) {
+            throw new IOException("Failed to replace " + cursorFile);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of journal.");
+            }
+            position += read;
+        }
+    }
+}
@@ -185,6 +185,9 @@ public class MainActivity extends AppCompatActivity {
 
     @Override
     protected void onPause() {
+        if (positioningExample != null) {
+            positioningExample.onPause();
+        }
         mapView.onPause();
         super.onPause();
     }
@@ -193,6 +196,9 @@ public class MainActivity extends AppCompatActivity {
     protected void onResume() {
         mapView.onResume();
         super.onResume();
+        if (positioningExample != null) {
+            positioningExample.onResume();
+        }
     }
 
     @Override
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2022-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.examples.positioningwithbackgroundupdates;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Detects whether the user is stationary, walking or driving from the recent location fixes, so that
+ * the location accuracy and the update cadence can be adapted to it.
+ *
+ * The speed is taken from the speed reported with the fixes or, if that is missing, from the distance
+ * covered within a time window, reduced by the accuracy of the fixes so that jitter does not count as
+ * movement. To avoid flapping between states, switching to another state requires the speed to cross
+ * a threshold with a margin, and the new state to persist for a while. Switching to a faster state
+ * happens quicker than switching to a slower one, so that movement is not missed.
+ *
+ * The decision logic only depends on the given fixes and their timestamps, so it can be evaluated
+ * against recorded or synthetic traces.
+ */
+class MovementPolicy {
+
+    enum MovementState {STATIONARY, WALKING, DRIVING}
+
+    // Reported speeds are averaged over this time window.
+    private static final long SPEED_WINDOW_IN_MILLISECONDS = 30000;
+    // Fixes older than this are not considered for the speed estimate.
+    private static final long MAX_WINDOW_IN_MILLISECONDS = 300000;
+    // The minimum time span to estimate a speed from the distance covered. The span grows with the inaccuracy
+    // of the fixes, so that jitter of coarse fixes does not add up to a walking speed.
+    private static final long MIN_SPAN_IN_MILLISECONDS = 5000;
+    private static final long SPAN_PER_METER_OF_INACCURACY_IN_MILLISECONDS = 2000;
+    // The span is capped well below the time window, so that two fixes that far apart are always kept,
+    // even at the cadence of the stationary state. Otherwise coarse fixes would never allow a speed estimate.
+    private static final long MAX_SPAN_IN_MILLISECONDS = MAX_WINDOW_IN_MILLISECONDS * 4 / 5;
+
+    // A state is entered when the speed is above its upper threshold and left when it falls below its lower one.
+    private static final double WALKING_ENTER_SPEED_IN_METERS_PER_SECOND = 0.8;
+    private static final double WALKING_LEAVE_SPEED_IN_METERS_PER_SECOND = 0.4;
+    private static final double DRIVING_ENTER_SPEED_IN_METERS_PER_SECOND = 3.5;
+    private static final double DRIVING_LEAVE_SPEED_IN_METERS_PER_SECOND = 2.0;
+
+    // How long a new state must persist before it is applied.
+    private static final long FASTER_STATE_DWELL_IN_MILLISECONDS = 10000;
+    private static final long SLOWER_STATE_DWELL_IN_MILLISECONDS = 60000;
+
+    private static class Fix {
+        final long timeInMilliseconds;
+        final double latitude;
+        final double longitude;
+        final double speedInMetersPerSecond;
+        final double horizontalAccuracyInMeters;
+
+        Fix(long timeInMilliseconds, double latitude, double longitude,
+            double speedInMetersPerSecond, double horizontalAccuracyInMeters) {
+            this.timeInMilliseconds = timeInMilliseconds;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.speedInMetersPerSecond = speedInMetersPerSecond;
+            this.horizontalAccuracyInMeters = horizontalAccuracyInMeters;
+        }
+    }
+
+    private final ArrayDeque<Fix> window = new ArrayDeque<>();
+    private MovementState state;
+    private MovementState candidateState;
+    private long candidateSinceInMilliseconds;
+
+    MovementPolicy(@NonNull MovementState initialState) {
+        state = initialState;
+        candidateState = initialState;
+    }
+
+    @NonNull
+    MovementState getState() {
+        return state;
+    }
+
+    // The minimum time between two location updates that are processed in the given state.
+    static long getUpdateIntervalInMilliseconds(@NonNull MovementState state) {
+        switch (state) {
+            case STATIONARY:
+                return 30000;
+            case WALKING:
+                return 5000;
+            case DRIVING:
+            default:
+                return 1000;
+        }
+    }
+
+    // Adds a fix and returns the resulting movement state. Unknown speed and accuracy values are NaN.
+    @NonNull
+    MovementState update(long timeInMilliseconds, double latitude, double longitude,
+                         double speedInMetersPerSecond, double horizontalAccuracyInMeters) {
+        if (!window.isEmpty() && timeInMilliseconds < window.peekLast().timeInMilliseconds) {
+            // The clock went backwards, start over.
+            window.clear();
+            candidateState = state;
+        }
+        window.addLast(new Fix(timeInMilliseconds, latitude, longitude, speedInMetersPerSecond, horizontalAccuracyInMeters));
+        while (timeInMilliseconds - window.peekFirst().timeInMilliseconds > MAX_WINDOW_IN_MILLISECONDS) {
+            window.removeFirst();
+        }
+
+        double speed = estimateSpeedInMetersPerSecond();
+        if (Double.isNaN(speed)) {
+            return state;
+        }
+
+        MovementState newCandidateState = classify(speed);
+        if (newCandidateState != candidateState) {
+            candidateState = newCandidateState;
+            candidateSinceInMilliseconds = timeInMilliseconds;
+        }
+        if (candidateState != state) {
+            long dwell = candidateState.ordinal() > state.ordinal()
+                    ? FASTER_STATE_DWELL_IN_MILLISECONDS
+                    : SLOWER_STATE_DWELL_IN_MILLISECONDS;
+            if (timeInMilliseconds - candidateSinceInMilliseconds >= dwell) {
+                state = candidateState;
+            }
+        }
+        return state;
+    }
+
+    // Classifies the speed relative to the current state, which adds hysteresis around each threshold.
+    private MovementState classify(double speed) {
+        boolean isDriving = speed >= (state == MovementState.DRIVING
+                ? DRIVING_LEAVE_SPEED_IN_METERS_PER_SECOND
+                : DRIVING_ENTER_SPEED_IN_METERS_PER_SECOND);
+        if (isDriving) {
+            return MovementState.DRIVING;
+        }
+        boolean isMoving = speed >= (state == MovementState.STATIONARY
+                ? WALKING_ENTER_SPEED_IN_METERS_PER_SECOND
+                : WALKING_LEAVE_SPEED_IN_METERS_PER_SECOND);
+        return isMoving ? MovementState.WALKING : MovementState.STATIONARY;
+    }
+
+    // Returns NaN if there is not enough data yet.
+    private double estimateSpeedInMetersPerSecond() {
+        Fix last = window.peekLast();
+
+        // Prefer the speed reported by the positioning source, if most recent fixes have one.
+        int recentCount = 0;
+        int reportedCount = 0;
+        double reportedSum = 0;
+        Iterator<Fix> newestFirst = window.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Fix fix = newestFirst.next();
+            if (last.timeInMilliseconds - fix.timeInMilliseconds > SPEED_WINDOW_IN_MILLISECONDS) {
+                break;
+            }
+            recentCount++;
+            if (!Double.isNaN(fix.speedInMetersPerSecond)) {
+                reportedCount++;
+                reportedSum += fix.speedInMetersPerSecond;
+            }
+        }
+        if (reportedCount > 0 && reportedCount * 2 >= recentCount) {
+            return reportedSum / reportedCount;
+        }
+
+        // Otherwise use the distance to the most recent fix that is old enough for the accuracy of both fixes.
+        newestFirst = window.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Fix fix = newestFirst.next();
+            double uncertainty = (getAccuracy(fix) + getAccuracy(last)) / 2;
+            long span = last.timeInMilliseconds - fix.timeInMilliseconds;
+            long requiredSpan = Math.min(MAX_SPAN_IN_MILLISECONDS, Math.max(MIN_SPAN_IN_MILLISECONDS,
+                    (long) (uncertainty * SPAN_PER_METER_OF_INACCURACY_IN_MILLISECONDS)));
+            if (span >= requiredSpan) {
+                return Math.max(0, getDistanceInMeters(fix, last) - uncertainty) / (span / 1000.0);
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double getAccuracy(Fix fix) {
+        return Double.isNaN(fix.horizontalAccuracyInMeters) ? 0 : fix.horizontalAccuracyInMeters;
+    }
+
+    // Equirectangular approximation, which is accurate enough within the time window.
+    private static double getDistanceInMeters(Fix from, Fix to) {
+        final double earthRadiusInMeters = 6371000;
+        double x = Math.toRadians(to.longitude - from.longitude) * Math.cos(Math.toRadians((from.latitude + to.latitude) / 2));
+        double y = Math.toRadians(to.latitude - from.latitude);
+        return Math.sqrt(x * x + y * y) * earthRadiusInMeters;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2022-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.examples.positioningwithbackgroundupdates;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+public class LocationJournalTest {
+
+    private static final int HEADER_SIZE = 4 + 8;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static LocationJournal.Fix createFix(int index) {
+        return new LocationJournal.Fix(1000L * index, 52.5 + index * 1e-5, 13.4 + index * 1e-5,
+                34, 5, Float.NaN, 1.2f);
+    }
+
+    private static void appendFixes(LocationJournal journal, int from, int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            journal.append(createFix(i));
+        }
+    }
+
+    private static void assertFixes(List<LocationJournal.Fix> fixes, int from, int to) {
+        assertEquals(to - from, fixes.size());
+        for (int i = from; i < to; i++) {
+            LocationJournal.Fix expected = createFix(i);
+            LocationJournal.Fix actual = fixes.get(i - from);
+            assertEquals(expected.timeInMilliseconds, actual.timeInMilliseconds);
+            assertEquals(expected.latitude, actual.latitude, 0);
+            assertEquals(expected.longitude, actual.longitude, 0);
+            assertEquals(expected.speedInMetersPerSecond, actual.speedInMetersPerSecond, 0);
+        }
+    }
+
+    @Test
+    public void fixesSurviveReopening() throws IOException {
+        File file = temporaryFolder.newFile("journal");
+        try (LocationJournal journal = new LocationJournal(file)) {
+            appendFixes(journal, 0, 10);
+        }
+
+        try (LocationJournal journal = new LocationJournal(file)) {
+            assertEquals(10, journal.getUndeliveredCount());
+            assertFixes(journal.readUndelivered(100).fixes, 0, 10);
+        }
+    }
+
+    @Test
+    public void tornTailRecordIsCutOff() throws IOException {
+        File file = temporaryFolder.newFile("journal");
+        try (LocationJournal journal = new LocationJournal(file)) {
+            appendFixes(journal, 0, 10);
+        }
+        // The process died while the last record was written.
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(file.length() - LocationJournal.RECORD_SIZE / 2);
+        }
+
+        try (LocationJournal journal = new LocationJournal(file)) {
+            assertEquals(9, journal.getUndeliveredCount());
+            assertEquals(HEADER_SIZE + 9 * LocationJournal.RECORD_SIZE, file.length());
+            // Appending continues right after the last complete record.
+            appendFixes(journal, 9, 12);
+        }
+
+        try (LocationJournal journal = new LocationJournal(file)) {
+            assertFixes(journal.readUndelivered(100).fixes, 0, 12);
+        }
+    }
+
+    @Test
+    public void recordsFromCorruptedRecordOnAreDropped() throws IOException {
+        File file = temporaryFolder.newFile("journal");
+        try (LocationJournal journal = new LocationJournal(file)) {
+            appendFixes(journal, 0, 10);
+        }
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            long position = HEADER_SIZE + 4L * LocationJournal.RECORD_SIZE + 10;
+            randomAccessFile.seek(position);
+            int value = randomAccessFile.read();
+            randomAccessFile.seek(position);
+            randomAccessFile.write(value ^ 0xFF);
+        }
+
+        // The journal is append-only, so records after a corrupted one are not trusted either.
+        try (LocationJournal journal = new LocationJournal(file)) {
+            assertFixes(journal.readUndelivered(100).fixes, 0, 4);
+            assertEquals(HEADER_SIZE + 4 * LocationJournal.RECORD_SIZE, file.length());
+        }
+    }
+
+    @Test
+    public void invalidHeaderStartsNewJournal() throws IOException {
+        File file = temporaryFolder.newFile("journal");
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.write(new byte[]{1, 2, 3});
+        }
+
+        try (LocationJournal journal = new LocationJournal(file)) {
+            assertEquals(0, journal.getUndeliveredCount());
+            appendFixes(journal, 0, 3);
+        }
+
+        try (LocationJournal journal = new LocationJournal(file)) {
+            assertFixes(journal.readUndelivered(100).fixes, 0, 3);
+        }
+    }
+
+    @Test
+    public void deliveredFixesAreNotReadAgainAfterReopening() throws IOException {
+        File file = temporaryFolder.newFile("journal");
+        try (LocationJournal journal = new LocationJournal(file)) {
+            appendFixes(journal, 0, 10);
+            LocationJournal.Batch batch = journal.readUndelivered(4);
+            assertFixes(batch.fixes, 0, 4);
+            journal.markDelivered(batch.endSequence);
+        }
+
+        try (LocationJournal journal = new LocationJournal(file)) {
+            assertEquals(6, journal.getUndeliveredCount());
+            assertFixes(journal.readUndelivered(100).fixes, 4, 10);
+        }
+    }
+
+    @Test
+    public void compactionKeepsUndeliveredFixesAcrossReopening() throws IOException {
+        File file = temporaryFolder.newFile("journal");
+        try (LocationJournal journal = new LocationJournal(file)) {
+            appendFixes(journal, 0, 400);
+            LocationJournal.Batch batch = journal.readUndelivered(300);
+            assertFixes(batch.fixes, 0, 300);
+            journal.markDelivered(batch.endSequence);
+
+            // The delivered fixes were removed from the file.
+            assertEquals(HEADER_SIZE + 100 * LocationJournal.RECORD_SIZE, file.length());
+            assertEquals(100, journal.getUndeliveredCount());
+            appendFixes(journal, 400, 410);
+        }
+
+        try (LocationJournal journal = new LocationJournal(file)) {
+            assertEquals(110, journal.getUndeliveredCount());
+            LocationJournal.Batch batch = journal.readUndelivered(100);
+            assertFixes(batch.fixes, 300, 400);
+            assertEquals(400, batch.endSequence);
+            journal.markDelivered(batch.endSequence);
+        }
+
+        try (LocationJournal journal = new LocationJournal(file)) {
+            assertFixes(journal.readUndelivered(100).fixes, 400, 410);
+        }
+    }
+
+    @Test
+    public void oldestFixesAreDroppedWhenJournalIsFull() throws IOException {
+        File file = temporaryFolder.newFile("journal");
+        try (LocationJournal journal = new LocationJournal(file)) {
+            appendFixes(journal, 0, 20001);
+            // Appending to a full journal keeps the newest three quarters of it.
+            assertEquals(15001, journal.getUndeliveredCount());
+            assertFixes(journal.readUndelivered(1).fixes, 5000, 5001);
+        }
+
+        try (LocationJournal journal = new LocationJournal(file)) {
+            assertEquals(15001, journal.getUndeliveredCount());
+        }
+    }
+}
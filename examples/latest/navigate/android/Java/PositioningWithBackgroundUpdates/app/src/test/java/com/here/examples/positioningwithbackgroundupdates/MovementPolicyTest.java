@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2022-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.examples.positioningwithbackgroundupdates;
+
+import static org.junit.Assert.assertEquals;
+
+import com.here.examples.positioningwithbackgroundupdates.MovementPolicy.MovementState;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+public class MovementPolicyTest {
+
+    private static final double LATITUDE = 52.5;
+    private static final double LONGITUDE = 13.4;
+    private static final double METERS_PER_DEGREE_OF_LATITUDE = 6371000 * Math.PI / 180;
+
+    // Feeds fixes that move north with the given speed and returns the time at which the expected state
+    // was reached, or -1 if it was not reached within the duration.
+    private static long runTrace(MovementPolicy policy, MovementState expectedState, long startInMilliseconds,
+                                 long durationInMilliseconds, long intervalInMilliseconds,
+                                 double speedInMetersPerSecond, boolean reportSpeed, double accuracyInMeters) {
+        for (long time = startInMilliseconds; time <= startInMilliseconds + durationInMilliseconds; time += intervalInMilliseconds) {
+            double distance = speedInMetersPerSecond * (time - startInMilliseconds) / 1000;
+            MovementState state = policy.update(time, LATITUDE + distance / METERS_PER_DEGREE_OF_LATITUDE, LONGITUDE,
+                    reportSpeed ? speedInMetersPerSecond : Double.NaN, accuracyInMeters);
+            if (state == expectedState) {
+                return time;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void coarseStationaryJitterStaysStationary() {
+        MovementPolicy policy = new MovementPolicy(MovementState.STATIONARY);
+        Random random = new Random(42);
+        double accuracy = 150;
+        for (long time = 0; time <= 3600000; time += 30000) {
+            // The fixes scatter within half of their accuracy around the true position.
+            double angle = random.nextDouble() * 2 * Math.PI;
+            double offset = random.nextDouble() * accuracy / 2 / METERS_PER_DEGREE_OF_LATITUDE;
+            MovementState state = policy.update(time, LATITUDE + offset * Math.sin(angle),
+                    LONGITUDE + offset * Math.cos(angle) / Math.cos(Math.toRadians(LATITUDE)), Double.NaN, accuracy);
+            assertEquals(MovementState.STATIONARY, state);
+        }
+    }
+
+    @Test
+    public void walkingIsDetectedFromCoarseStationaryFixes() {
+        // Coarse fixes of 150 m would require a span of 300 s without the cap, which never fits the window.
+        MovementPolicy policy = new MovementPolicy(MovementState.STATIONARY);
+        long time = runTrace(policy, MovementState.WALKING, 0, 600000, 30000, 1.5, false, 150);
+        assertEquals(270000, time);
+    }
+
+    @Test
+    public void drivingIsDetectedFromVeryCoarseFixes() {
+        MovementPolicy policy = new MovementPolicy(MovementState.STATIONARY);
+        long time = runTrace(policy, MovementState.DRIVING, 0, 600000, 30000, 15, false, 1000);
+        assertEquals(270000, time);
+    }
+
+    @Test
+    public void drivingIsDetectedFromReportedSpeedAfterDwell() {
+        MovementPolicy policy = new MovementPolicy(MovementState.STATIONARY);
+        long time = runTrace(policy, MovementState.DRIVING, 0, 60000, 1000, 12, true, 10);
+        assertEquals(10000, time);
+    }
+
+    @Test
+    public void stoppingIsDetectedAfterLongerDwell() {
+        MovementPolicy policy = new MovementPolicy(MovementState.WALKING);
+        long time = runTrace(policy, MovementState.STATIONARY, 0, 300000, 5000, 0, true, 10);
+        assertEquals(60000, time);
+    }
+
+    @Test
+    public void speedBetweenThresholdsKeepsState() {
+        // 0.6 m/s is above the speed to leave walking, but below the speed to enter it.
+        MovementPolicy walkingPolicy = new MovementPolicy(MovementState.WALKING);
+        assertEquals(-1, runTrace(walkingPolicy, MovementState.STATIONARY, 0, 600000, 5000, 0.6, true, 10));
+
+        MovementPolicy stationaryPolicy = new MovementPolicy(MovementState.STATIONARY);
+        assertEquals(-1, runTrace(stationaryPolicy, MovementState.WALKING, 0, 600000, 5000, 0.6, true, 10));
+    }
+
+    @Test
+    public void shortBurstOfSpeedDoesNotChangeState() {
+        MovementPolicy policy = new MovementPolicy(MovementState.WALKING);
+        assertEquals(-1, runTrace(policy, MovementState.DRIVING, 0, 1000, 1000, 10, true, 10));
+        assertEquals(-1, runTrace(policy, MovementState.DRIVING, 2000, 120000, 1000, 1.2, true, 10));
+        assertEquals(MovementState.WALKING, policy.getState());
+    }
+
+    @Test
+    public void clockGoingBackwardsStartsOver() {
+        MovementPolicy policy = new MovementPolicy(MovementState.STATIONARY);
+        assertEquals(-1, runTrace(policy, MovementState.DRIVING, 100000, 8000, 1000, 12, true, 10));
+        // The dwell starts over with the new timestamps, instead of being measured from the old ones.
+        assertEquals(10000, runTrace(policy, MovementState.DRIVING, 0, 20000, 1000, 12, true, 10));
+    }
+}
@@ -18,9 +18,13 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 // A simple view to show the next maneuver event.
+// Road names change rarely, so the truncated texts are cached and only measured again when the text
+// or the available width changes. All objects used for drawing are allocated once.
 public class ManeuverView extends View  {
 
     private static final String TAG = ManeuverView.class.getName();
+    private static final int BLUE_COLOR = Color.parseColor("#126df9");
+    private static final String ELLIPSIS = "...";
 
     // The default w/h constraint we use to create the icon with IconProvider.
     public static final int ROAD_SHIELD_DIM_CONSTRAINTS_IN_PIXELS = 100;
@@ -44,6 +48,42 @@ public class ManeuverView extends View  {
 
     private int marginInDP = 3;
 
+    // The bounding boxes for all content we want to show, updated on each draw.
+    private final RectF backgroundRect = new RectF();
+    private final RectF innerAdjustedRectF = new RectF();
+    private final RectF maneuverIconRect = new RectF();
+    private final RectF distanceTextRect = new RectF();
+    private final RectF roadNameRect = new RectF();
+    private final RectF roadShieldRect = new RectF();
+    private final Rect bitmapSrcRect = new Rect();
+    private final RectF bitmapDestRect = new RectF();
+    private Typeface boldTypeface;
+
+    // The last truncated text per text field.
+    private final TruncatedText distanceTruncatedText = new TruncatedText();
+    private final TruncatedText roadNameTruncatedText = new TruncatedText();
+    private final TruncatedText maneuverIconTruncatedText = new TruncatedText();
+
+    // The time spent in onDraw(), logged when the maneuver panel is hidden.
+    private long drawCount;
+    private long drawTimeNanos;
+    private long maxDrawTimeNanos;
+
+    // Holds a text truncated to fit a given width for a given text size.
+    private static final class TruncatedText {
+        String text;
+        float textSize;
+        float maxWidth;
+        String truncatedText;
+
+        boolean matches(String text, float textSize, float maxWidth) {
+            return truncatedText != null
+                    && this.textSize == textSize
+                    && this.maxWidth == maxWidth
+                    && this.text.equals(text);
+        }
+    }
+
     public ManeuverView(Context context) {
         super(context);
         this.context = context;
@@ -64,6 +104,7 @@ public class ManeuverView extends View  {
 
     private void init() {
         paint = new Paint();
+        boldTypeface = Typeface.create(Typeface.DEFAULT, Typeface.BOLD);
     }
 
     public int getWidthInDP() {
@@ -75,6 +116,9 @@ public class ManeuverView extends View  {
     }
 
     public void setWidthInDp(int widthInDp) {
+        if (wInDP == widthInDp) {
+            return;
+        }
         wInDP = widthInDp;
         redraw();
     }
@@ -103,6 +147,9 @@ public class ManeuverView extends View  {
         this.distanceText = distanceText;
         this.roadName = roadName;
         hideView = false;
+        if (maneuverIcon == null) {
+            Log.d(TAG, "No maneuver icon provided: " + maneuverIconText);
+        }
         redraw();
     }
 
@@ -135,9 +182,21 @@ public class ManeuverView extends View  {
      */
     public void onHideManeuverPanel() {
         hideView = true;
+        logDrawStatistics();
         redraw();
     }
 
+    private void logDrawStatistics() {
+        if (drawCount == 0) {
+            return;
+        }
+        Log.d(TAG, "Maneuver panel drawn " + drawCount + " times, average draw time in microseconds: "
+                + drawTimeNanos / drawCount / 1000 + ", max: " + maxDrawTimeNanos / 1000);
+        drawCount = 0;
+        drawTimeNanos = 0;
+        maxDrawTimeNanos = 0;
+    }
+
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
@@ -147,9 +206,12 @@ public class ManeuverView extends View  {
             return;
         }
 
+        long drawStartNanos = System.nanoTime();
+
         // We want to occupy the maximum available width minus some margin.
+        // This is set directly, as we are already drawing with the new width.
         int widthInPixels = getWidth();
-        setWidthInDp(getDP(widthInPixels) - marginInDP * 2);
+        wInDP = getDP(widthInPixels) - marginInDP * 2;
 
         // Set x position in density-independent pixels.
         // The y position is defined by the XML layout - or optionally programmatically via yInDP.
@@ -192,24 +254,23 @@ public class ManeuverView extends View  {
         }
 
         // The bounding boxes for all content we want to show.
-        RectF backgroundRect = new RectF(backgroundX, backgroundY, backgroundX + backgroundW, backgroundY + backgroundH);
-        RectF maneuverIconRect = new RectF(maneuverIconX, maneuverIconY, maneuverIconX + maneuverIconW, maneuverIconY + maneuverIconH);
-        RectF distanceTextRect = new RectF(distanceTextX, distanceTextY, distanceTextX + distanceTextW, distanceTextY + distanceTextH);
-        RectF roadNameRect = new RectF(roadNameX, roadNameY, roadNameX + roadNameW, roadNameY + roadNameH);
-        RectF roadShieldRect = new RectF(roadShieldX, roadShieldY, roadShieldX + roadShieldW, roadShieldY + roadShieldH);
+        backgroundRect.set(backgroundX, backgroundY, backgroundX + backgroundW, backgroundY + backgroundH);
+        maneuverIconRect.set(maneuverIconX, maneuverIconY, maneuverIconX + maneuverIconW, maneuverIconY + maneuverIconH);
+        distanceTextRect.set(distanceTextX, distanceTextY, distanceTextX + distanceTextW, distanceTextY + distanceTextH);
+        roadNameRect.set(roadNameX, roadNameY, roadNameX + roadNameW, roadNameY + roadNameH);
+        roadShieldRect.set(roadShieldX, roadShieldY, roadShieldX + roadShieldW, roadShieldY + roadShieldH);
 
         // Render all available content.
         drawBackgroundRectangle(backgroundRect, canvas);
-        drawTextInRect(distanceText, (int) (textSizeInDP * 1.5), distanceTextRect, canvas);
-        drawTextInRect(roadName, textSizeInDP, roadNameRect, canvas);
+        drawTextInRect(distanceText, distanceTruncatedText, (int) (textSizeInDP * 1.5), distanceTextRect, canvas);
+        drawTextInRect(roadName, roadNameTruncatedText, textSizeInDP, roadNameRect, canvas);
 
         if (maneuverBitmap != null) {
             // Scale the bitmap if necessary to fit the rect.
             canvas.drawBitmap(maneuverBitmap, null, maneuverIconRect, paint);
         } else {
             // Render a replacement string until the icon is loaded.
-            drawTextInRect(maneuverIconText, textSizeInDP, maneuverIconRect, canvas);
-            Log.d(TAG, "No maneuver icon provided: " + maneuverIconText);
+            drawTextInRect(maneuverIconText, maneuverIconTruncatedText, textSizeInDP, maneuverIconRect, canvas);
         }
 
         if (roadShieldBitmap != null) {
@@ -218,11 +279,15 @@ public class ManeuverView extends View  {
         } else {
             // Nothing to do. The available space for text will expand.
         }
+
+        long drawTime = System.nanoTime() - drawStartNanos;
+        drawCount++;
+        drawTimeNanos += drawTime;
+        maxDrawTimeNanos = Math.max(maxDrawTimeNanos, drawTime);
     }
 
     private void drawBackgroundRectangle(RectF rectInDP, Canvas canvas) {
-        String blueColorString = "#126df9";
-        int blueColor = Color.parseColor(blueColorString);
+        int blueColor = BLUE_COLOR;
 
         int left = (int) rectInDP.left;
         int top = (int) rectInDP.top;
@@ -239,7 +304,7 @@ public class ManeuverView extends View  {
         float innerAdjustedTop = top + paint.getStrokeWidth() / 2;
         float innerAdjustedRight = right - paint.getStrokeWidth() / 2;
         float innerAdjustedBottom = bottom - paint.getStrokeWidth() / 2;
-        RectF innerAdjustedRectF = new RectF(innerAdjustedLeft, innerAdjustedTop, innerAdjustedRight, innerAdjustedBottom);
+        innerAdjustedRectF.set(innerAdjustedLeft, innerAdjustedTop, innerAdjustedRight, innerAdjustedBottom);
 
         // Draw the background.
         paint.setColor(blueColor);
@@ -253,20 +318,27 @@ public class ManeuverView extends View  {
         canvas.drawRoundRect(innerAdjustedRectF, 10, 10, paint);
     }
 
-    private void drawTextInRect(String text, int textSizeInDP, RectF rect, Canvas canvas) {
+    private void drawTextInRect(String text, TruncatedText truncatedText, int textSizeInDP, RectF rect, Canvas canvas) {
         paint.setStyle(Paint.Style.FILL);
         paint.setTextSize(getPixels(textSizeInDP));
         paint.setColor(Color.WHITE);
-        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
+        paint.setTypeface(boldTypeface);
         float marginInPixels = getPixels(marginInDP);
 
         // Calculate the available width for the text.
         float availableWidth = rect.width() - (2 * marginInPixels);
 
         // Truncate the text if it exceeds the available width.
-        if (paint.measureText(text) > availableWidth) {
-            text = truncateTextWithEllipsis(text, availableWidth);
+        // The result is measured only once for the same text, text size and width.
+        if (!truncatedText.matches(text, paint.getTextSize(), availableWidth)) {
+            truncatedText.text = text;
+            truncatedText.textSize = paint.getTextSize();
+            truncatedText.maxWidth = availableWidth;
+            truncatedText.truncatedText = paint.measureText(text) > availableWidth
+                    ? truncateTextWithEllipsis(paint, text, availableWidth)
+                    : text;
         }
+        text = truncatedText.truncatedText;
 
         // Draw the truncated or original text on the canvas.
         float textX = rect.left + marginInPixels;
@@ -274,8 +346,9 @@ public class ManeuverView extends View  {
         canvas.drawText(text, textX, textY, paint);
     }
 
-    private String truncateTextWithEllipsis(String text, float maxWidth) {
-        String ellipsis = "...";
+    // Package-private for testing.
+    static String truncateTextWithEllipsis(Paint paint, String text, float maxWidth) {
+        String ellipsis = ELLIPSIS;
         float ellipsisWidth = paint.measureText(ellipsis);
 
         if (paint.measureText(text) <= maxWidth) {
@@ -288,7 +361,7 @@ public class ManeuverView extends View  {
             // Find the index of the last character that fits within the available width.
             while (width + ellipsisWidth < maxWidth && endIndex < text.length()) {
                 char c = text.charAt(endIndex);
-                float charWidth = paint.measureText(String.valueOf(c));
+                float charWidth = paint.measureText(text, endIndex, endIndex + 1);
                 if (width + charWidth <= maxWidth - ellipsisWidth) {
                     truncatedText.append(c);
                     width += charWidth;
@@ -305,10 +378,12 @@ public class ManeuverView extends View  {
 
     // Scales and centers the bitmap within the given rect while preserving its aspect ratio.
     private void drawBitmapInRect(Bitmap bitmap, RectF rect, Canvas canvas) {
-        Rect srcRect = new Rect(0, 0, bitmap.getWidth(), bitmap.getHeight());
+        Rect srcRect = bitmapSrcRect;
+        srcRect.set(0, 0, bitmap.getWidth(), bitmap.getHeight());
 
         // Calculate the destination rectangle with aspect ratio preserved.
-        RectF destRect = new RectF(rect);
+        RectF destRect = bitmapDestRect;
+        destRect.set(rect);
         float bitmapAspectRatio = (float) bitmap.getWidth() / bitmap.getHeight();
         float rectAspectRatio = rect.width() / rect.height();
 
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.rerouting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.GraphicsMode;
+
+// Checks that the truncation gives the same results as the original algorithm,
+// which measured each character as a separate string.
+@RunWith(RobolectricTestRunner.class)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class ManeuverViewTest {
+
+    private static final String[] TEXTS = {
+            "",
+            "A",
+            "Main St",
+            "Invalidenstraße",
+            "Karl-Marx-Allee / Otto-Braun-Straße",
+            "Route 66 towards Flagstaff, Williams and Kingman",
+            "In 1.2 km turn left onto Friedrichstraße",
+            "WWWWWWWWWWWWWWWWWWWW",
+            "iiiiiiiiiiiiiiiiiiii"
+    };
+    private static final float[] TEXT_SIZES = {20, 30, 45};
+
+    private final Paint paint = new Paint();
+
+    @Before
+    public void setUp() {
+        paint.setStyle(Paint.Style.FILL);
+        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
+    }
+
+    @Test
+    public void truncationMatchesOriginalAlgorithm() {
+        for (float textSize : TEXT_SIZES) {
+            paint.setTextSize(textSize);
+            for (String text : TEXTS) {
+                float textWidth = paint.measureText(text);
+                // Cover widths from smaller than the ellipsis up to wider than the text.
+                for (float maxWidth = 0; maxWidth <= textWidth + 20; maxWidth += 3.5f) {
+                    assertEquals("'" + text + "' at size " + textSize + " and width " + maxWidth,
+                            truncateTextWithEllipsisOriginal(text, maxWidth),
+                            ManeuverView.truncateTextWithEllipsis(paint, text, maxWidth));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void textThatFitsIsNotTruncated() {
+        paint.setTextSize(30);
+        String text = "Main St";
+
+        assertEquals(text, ManeuverView.truncateTextWithEllipsis(paint, text, paint.measureText(text)));
+    }
+
+    @Test
+    public void truncatedTextFitsIntoWidth() {
+        paint.setTextSize(30);
+        String text = "Route 66 towards Flagstaff, Williams and Kingman";
+        float maxWidth = paint.measureText(text) / 2;
+
+        String truncatedText = ManeuverView.truncateTextWithEllipsis(paint, text, maxWidth);
+
+        assertTrue(truncatedText.endsWith("..."));
+        assertTrue(paint.measureText(truncatedText) <= maxWidth + 1);
+    }
+
+    // The truncation as it was implemented before the truncated texts were cached.
+    private String truncateTextWithEllipsisOriginal(String text, float maxWidth) {
+        String ellipsis = "...";
+        float ellipsisWidth = paint.measureText(ellipsis);
+
+        if (paint.measureText(text) <= maxWidth) {
+            return text;
+        } else {
+            StringBuilder truncatedText = new StringBuilder();
+            float width = 0;
+            int endIndex = 0;
+
+            // Find the index of the last character that fits within the available width.
+            while (width + ellipsisWidth < maxWidth && endIndex < text.length()) {
+                char c = text.charAt(endIndex);
+                float charWidth = paint.measureText(String.valueOf(c));
+                if (width + charWidth <= maxWidth - ellipsisWidth) {
+                    truncatedText.append(c);
+                    width += charWidth;
+                } else {
+                    break;
+                }
+                endIndex++;
+            }
+
+            truncatedText.append(ellipsis);
+            return truncatedText.toString();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.here.spatialaudionavigation;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Caches synthesized audio cues, keyed by the voice and the text of the cue.
+// Maneuver cues like "Turn left in 200 meters." repeat often during a trip, so each text is synthesized
+// only once and its audio file and duration are reused for subsequent cues.
+// Synthesis runs on a single long-lived worker thread. Audio files left in the cache directory by
+// a previous instance are deleted by the worker before it synthesizes the first cue.
+public class AudioCueCache {
+
+    private static final String TAG = AudioCueCache.class.getSimpleName();
+
+    // The maximum number of audio files kept in the cache directory.
+    private static final int MAX_ENTRIES = 32;
+
+    // Synthesizes a text into an audio file.
+    public interface Synthesizer {
+        // Identifies the voice used for synthesis, so that cues are synthesized again when the voice changes.
+        @NonNull
+        String getVoiceId();
+
+        // Synthesizes the text into the given file and blocks until synthesis has finished.
+        // Returns the duration of the audio in milliseconds, 0 if it is unknown or -1 if synthesis failed.
+        long synthesize(@NonNull String text, @NonNull File outputFile);
+    }
+
+    // Notifies when an audio cue is available. Called on the worker thread or, for cached cues,
+    // on the thread that requested the cue.
+    public interface Callback {
+        // audioCue is null if synthesis failed.
+        void onAudioCueReady(@Nullable AudioCue audioCue);
+    }
+
+    public static class AudioCue {
+        public final File file;
+        // 0 if unknown.
+        public final long durationInMilliseconds;
+
+        AudioCue(@NonNull File file, long durationInMilliseconds) {
+            this.file = file;
+            this.durationInMilliseconds = durationInMilliseconds;
+        }
+    }
+
+    private final Synthesizer synthesizer;
+    private final File cacheDirectory;
+
+    // Guarded by this. Ordered by access, the eldest entry is evicted first.
+    private final LinkedHashMap<String, AudioCue> audioCues = new LinkedHashMap<>(16, 0.75f, true);
+    // Guarded by this. Callbacks waiting for a cue that is queued or being synthesized.
+    private final Map<String, List<Callback>> pendingCallbacks = new LinkedHashMap<>();
+    private ThreadPoolExecutor executor;
+    private long nextFileNumber;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong synthesisCount = new AtomicLong();
+
+    public AudioCueCache(@NonNull Synthesizer synthesizer, @NonNull File cacheDirectory) {
+        this.synthesizer = synthesizer;
+        this.cacheDirectory = cacheDirectory;
+        synchronized (this) {
+            // The file numbers start at 0 again, so files of a previous instance must not be taken as cached cues.
+            getExecutor().execute(this::deleteStaleAudioFiles);
+        }
+    }
+
+    // Provides the audio cue for the text, synthesizing it if it is not cached yet.
+    public void request(@NonNull String text, @NonNull Callback callback) {
+        String key = toKey(text);
+        AudioCue audioCue;
+        synchronized (this) {
+            audioCue = getCachedAudioCue(key);
+            if (audioCue == null) {
+                missCount.incrementAndGet();
+                enqueue(key, text, callback);
+                return;
+            }
+        }
+        hitCount.incrementAndGet();
+        callback.onAudioCueReady(audioCue);
+    }
+
+    // Deletes all cached audio files and stops the worker thread. Pending requests are dropped.
+    public synchronized void clear() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        for (AudioCue audioCue : audioCues.values()) {
+            deleteFile(audioCue.file);
+        }
+        audioCues.clear();
+        pendingCallbacks.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getSynthesisCount() {
+        return synthesisCount.get();
+    }
+
+    // Returns true while the worker thread is alive. It is created once and reused for all cues.
+    public synchronized boolean hasWorker() {
+        return executor != null && !executor.isShutdown();
+    }
+
+    private String toKey(String text) {
+        return synthesizer.getVoiceId() + "\n" + text;
+    }
+
+    // Must be called while holding the lock.
+    @Nullable
+    private AudioCue getCachedAudioCue(String key) {
+        AudioCue audioCue = audioCues.get(key);
+        if (audioCue != null && !audioCue.file.exists()) {
+            // The file was removed from the cache directory by the system.
+            audioCues.remove(key);
+            return null;
+        }
+        return audioCue;
+    }
+
+    // Must be called while holding the lock.
+    private void enqueue(String key, String text, @NonNull Callback callback) {
+        List<Callback> callbacks = pendingCallbacks.get(key);
+        if (callbacks == null) {
+            callbacks = new ArrayList<>();
+            pendingCallbacks.put(key, callbacks);
+            getExecutor().execute(() -> synthesize(key, text));
+        }
+        // Requests for a text that is already queued share its result.
+        callbacks.add(callback);
+    }
+
+    // Must be called while holding the lock.
+    private ThreadPoolExecutor getExecutor() {
+        if (executor == null || executor.isShutdown()) {
+            // A single thread, since text to speech engines synthesize one text at a time.
+            executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        }
+        return executor;
+    }
+
+    private void synthesize(String key, String text) {
+        AudioCue audioCue;
+        synchronized (this) {
+            audioCue = getCachedAudioCue(key);
+        }
+
+        if (audioCue == null) {
+            File outputFile = newOutputFile();
+            long durationInMilliseconds = synthesizer.synthesize(text, outputFile);
+            synthesisCount.incrementAndGet();
+            if (durationInMilliseconds >= 0 && outputFile.exists()) {
+                audioCue = new AudioCue(outputFile, durationInMilliseconds);
+            } else {
+                Log.e(TAG, "Synthesis failed for: " + text);
+                deleteFile(outputFile);
+            }
+        }
+
+        List<Callback> callbacks;
+        synchronized (this) {
+            if (audioCue != null) {
+                audioCues.put(key, audioCue);
+                evictEldestEntries();
+            }
+            callbacks = pendingCallbacks.remove(key);
+        }
+        if (callbacks != null) {
+            for (Callback callback : callbacks) {
+                callback.onAudioCueReady(audioCue);
+            }
+        }
+    }
+
+    private synchronized File newOutputFile() {
+        if (!cacheDirectory.exists() && !cacheDirectory.mkdirs()) {
+            Log.e(TAG, "Failed to create cache directory: " + cacheDirectory);
+        }
+        return new File(cacheDirectory, "audio_cue_" + (nextFileNumber++) + ".wav");
+    }
+
+    // Must be called while holding the lock.
+    private void evictEldestEntries() {
+        Iterator<AudioCue> iterator = audioCues.values().iterator();
+        while (audioCues.size() > MAX_ENTRIES && iterator.hasNext()) {
+            AudioCue eldest = iterator.next();
+            iterator.remove();
+            deleteFile(eldest.file);
+        }
+    }
+
+    // Runs on the worker thread, so that the main thread does not wait for file IO.
+    private void deleteStaleAudioFiles() {
+        File[] files = cacheDirectory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.getName().startsWith("audio_cue_")) {
+                deleteFile(file);
+            }
+        }
+    }
+
+    private static void deleteFile(File file) {
+        if (file.exists() && !file.delete()) {
+            Log.e(TAG, "Failed to delete audio cue: " + file);
+        }
+    }
+}
@@ -1,75 +1,69 @@
 package com.here.spatialaudionavigation;
 
-import android.media.AudioAttributes;
-import android.media.MediaPlayer;
 import android.net.Uri;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+// Plays the audio cues of an encoder and applies its channel gains.
+// Players are created and prepared on a background thread. With the default CuePlayerFactory, short WAV cues
+// are played from decoded PCM data in memory, so that a repeated cue does not read its file again.
+// The latency from play() to the start of playback is measured for each cue.
 public class AudioPlayerManager {
-    private MediaPlayer mediaPlayer;
+
+    private static final String TAG = AudioPlayerManager.class.getSimpleName();
+
+    private final CuePlayer.Factory playerFactory;
+    private final CuePlayer.Listener playerListener = new PlayerListener();
     private ExecutorService executorPlay;
 
+    // All fields below are guarded by this.
+    private CuePlayer currentPlayer;
+    private boolean isCurrentPlayerStarted;
+    // Incremented to discard players that are still created in the background for an outdated request.
+    private long playRequestId;
+    private long playRequestTimeNanos;
+    private float leftChannelGains = 1;
+    private float rightChannelGains = 1;
+    private long startedCueCount;
+    private long lastCueLatencyNanos;
+    private long totalCueLatencyNanos;
+
     public AudioPlayerManager() {
+        this(new CuePlayerFactory());
     }
 
-    public boolean isPlaying() {
-        try {
-            return mediaPlayer != null && mediaPlayer.isPlaying();
-        } catch (IllegalStateException ie) {
-            //no-op.
-        }
-        return false;
+    public AudioPlayerManager(@NonNull CuePlayer.Factory playerFactory) {
+        this.playerFactory = playerFactory;
     }
 
-    public void initMediaPlayer() {
-        // Ensure next audio cue will be triggered in a new MediaPlayer
-        mediaPlayer = new MediaPlayer();
-        mediaPlayer.setVolume(1, 1);
-        mediaPlayer.setAudioAttributes(new AudioAttributes.Builder()
-                .setUsage(AudioAttributes.USAGE_ASSISTANCE_NAVIGATION_GUIDANCE)
-                .setContentType(AudioAttributes.CONTENT_TYPE_MUSIC)
-                .build());
+    public synchronized boolean isPlaying() {
+        return currentPlayer != null && isCurrentPlayerStarted && currentPlayer.isPlaying();
     }
 
-    // Plays the audio file which contains the audio file to be triggered.
-    public void play(Uri uriToFile) {
-        initExecutorPlay();
-        executorPlay.execute(() -> {
-            // play the new audio file.
-            try {
-                mediaPlayer.setDataSource(String.valueOf(uriToFile));
-                mediaPlayer.setOnPreparedListener(mp -> {
-                    mp.setLooping(false);
-                    mp.start();
-                });
-                mediaPlayer.setOnErrorListener((mp, what, extra) -> {
-                    mp.release();
-                    executorPlay.shutdown();
-                    return true;
-                });
-                mediaPlayer.setOnCompletionListener(mp -> {
-                    File audioFile = new File(uriToFile.getPath());
-                    audioFile.deleteOnExit();
-                    mp.release();
-                    executorPlay.shutdown();
-                });
-
-                mediaPlayer.prepareAsync();
-
-            } catch (IOException e) {
-                e.printStackTrace();
-                executorPlay.shutdown();
-            }
-        });
+    // Ensures the next audio cue starts with both channels at full volume, unless new gains are set before.
+    public synchronized void resetVolume() {
+        leftChannelGains = 1;
+        rightChannelGains = 1;
     }
 
-    // Set the volume of each of MediaPlayer's audio channels
-    public void setVolumeMediaPlayer(float leftChannelGains, float rightChannelGains) {
-        mediaPlayer.setVolume(leftChannelGains, rightChannelGains);
+    // Plays the audio file which contains the audio cue to be triggered. Stops the current audio cue, if any.
+    public synchronized void play(Uri uriToFile) {
+        releaseCurrentPlayer();
+        playRequestTimeNanos = System.nanoTime();
+        createPlayerInBackground(String.valueOf(uriToFile), playRequestId);
+    }
+
+    // Set the volume of each of the player's audio channels.
+    public synchronized void setVolumeMediaPlayer(float leftChannelGains, float rightChannelGains) {
+        this.leftChannelGains = leftChannelGains;
+        this.rightChannelGains = rightChannelGains;
+        if (currentPlayer != null) {
+            currentPlayer.setVolume(leftChannelGains, rightChannelGains);
+        }
     }
 
     // Initializes the executor
@@ -79,18 +73,101 @@ public class AudioPlayerManager {
         }
     }
 
-    // Shuts down the executor
+    // Shuts down the executor.
     public void shutdownExecutors() {
         if (executorPlay != null && !executorPlay.isShutdown())
             executorPlay.shutdown();
     }
 
     // Stops the current reproduction.
-    public void stopPlaying() {
-        if (isPlaying()) {
-            mediaPlayer.stop();
-            mediaPlayer.release();
+    public synchronized void stopPlaying() {
+        releaseCurrentPlayer();
+    }
+
+    // The number of audio cues that were started after a call to play().
+    public synchronized long getStartedCueCount() {
+        return startedCueCount;
+    }
+
+    // The time from play() to the start of the player for the last audio cue.
+    public synchronized double getLastCueLatencyInMilliseconds() {
+        return lastCueLatencyNanos / 1e6;
+    }
+
+    public synchronized double getAverageCueLatencyInMilliseconds() {
+        return startedCueCount == 0 ? 0 : totalCueLatencyNanos / 1e6 / startedCueCount;
+    }
+
+    // Creates and prepares the player on the executor, since it may decode the audio file.
+    // Must be called while holding the lock.
+    private void createPlayerInBackground(String filePath, long requestId) {
+        initExecutorPlay();
+        executorPlay.execute(() -> {
+            CuePlayer player = playerFactory.create(filePath);
+            if (player == null) {
+                Log.e(TAG, "No player for: " + filePath);
+                return;
+            }
+            synchronized (AudioPlayerManager.this) {
+                if (requestId != playRequestId) {
+                    // The request is outdated.
+                    player.release();
+                    return;
+                }
+                currentPlayer = player;
+                player.prepare(playerListener);
+            }
+        });
+    }
+
+    // Must be called while holding the lock.
+    private void startCurrentPlayer() {
+        currentPlayer.setVolume(leftChannelGains, rightChannelGains);
+        currentPlayer.start();
+        isCurrentPlayerStarted = true;
+        lastCueLatencyNanos = System.nanoTime() - playRequestTimeNanos;
+        totalCueLatencyNanos += lastCueLatencyNanos;
+        startedCueCount++;
+        Log.d(TAG, "Audio cue started after " + getLastCueLatencyInMilliseconds() + " ms.");
+    }
+
+    // Must be called while holding the lock.
+    private void releaseCurrentPlayer() {
+        playRequestId++;
+        if (currentPlayer != null) {
+            currentPlayer.stop();
+            currentPlayer.release();
+            currentPlayer = null;
         }
+        isCurrentPlayerStarted = false;
     }
 
+    private class PlayerListener implements CuePlayer.Listener {
+        @Override
+        public void onPrepared(@NonNull CuePlayer player) {
+            synchronized (AudioPlayerManager.this) {
+                if (player == currentPlayer && !isCurrentPlayerStarted) {
+                    startCurrentPlayer();
+                }
+            }
+        }
+
+        @Override
+        public void onCompletion(@NonNull CuePlayer player) {
+            synchronized (AudioPlayerManager.this) {
+                if (player == currentPlayer) {
+                    releaseCurrentPlayer();
+                }
+            }
+        }
+
+        @Override
+        public void onError(@NonNull CuePlayer player) {
+            synchronized (AudioPlayerManager.this) {
+                if (player == currentPlayer) {
+                    releaseCurrentPlayer();
+                }
+            }
+        }
+    }
 }
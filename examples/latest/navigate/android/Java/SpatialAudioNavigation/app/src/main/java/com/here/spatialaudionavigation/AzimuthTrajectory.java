@@ -0,0 +1,203 @@
+package com.here.spatialaudionavigation;
+
+// A time-parameterized azimuth trajectory for a whole audio cue.
+// The trajectory passes through keyframes of (time, azimuth) and is interpolated with a monotone cubic
+// Hermite spline, so the azimuth changes continuously and smoothly without overshooting the keyframes.
+// Azimuths are in degrees in the range (-180, 180], negative values are left and positive values are right
+// of the listener. Between two keyframes the azimuth takes the shorter way, also across +/-180 degrees.
+// Encoders sample the trajectory at their own control rate with getAzimuthInDegrees().
+// Pure Java, so it can be used and tested without Android.
+public class AzimuthTrajectory {
+
+    private static final double EARTH_RADIUS_IN_METERS = 6371000;
+    // Points closer to the listener are skipped, since their bearing is not meaningful.
+    private static final double MIN_POINT_DISTANCE_IN_METERS = 5;
+
+    private final double[] timesInMilliseconds;
+    // Unwrapped azimuths, consecutive values differ by at most 180 degrees.
+    private final double[] azimuthsInDegrees;
+    // The slopes of the spline at the keyframes, in degrees per millisecond.
+    private final double[] slopes;
+
+    private AzimuthTrajectory(double[] timesInMilliseconds, double[] azimuthsInDegrees) {
+        this.timesInMilliseconds = timesInMilliseconds;
+        this.azimuthsInDegrees = azimuthsInDegrees;
+        this.slopes = computeMonotoneSlopes(timesInMilliseconds, azimuthsInDegrees);
+    }
+
+    // Creates a trajectory through the given keyframes. The times must be strictly increasing.
+    public static AzimuthTrajectory fromKeyframes(long[] timesInMilliseconds, float[] azimuthsInDegrees) {
+        if (timesInMilliseconds.length == 0 || timesInMilliseconds.length != azimuthsInDegrees.length) {
+            throw new IllegalArgumentException("Expected the same, non-zero number of times and azimuths.");
+        }
+        double[] times = new double[timesInMilliseconds.length];
+        double[] azimuths = new double[azimuthsInDegrees.length];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = timesInMilliseconds[i];
+            if (i > 0 && times[i] <= times[i - 1]) {
+                throw new IllegalArgumentException("Keyframe times must be strictly increasing.");
+            }
+            azimuths[i] = i == 0
+                    ? normalizeDegrees(azimuthsInDegrees[i])
+                    : azimuths[i - 1] + normalizeDegrees(azimuthsInDegrees[i] - azimuths[i - 1]);
+        }
+        return new AzimuthTrajectory(times, azimuths);
+    }
+
+    // Creates a trajectory that follows the route geometry around a maneuver during a cue.
+    // Each point is heard from its bearing relative to the heading of the listener. The cue moves
+    // along the geometry at a constant speed, so that it reaches the last point at the end of the cue.
+    public static AzimuthTrajectory fromGeometry(double listenerLatitude, double listenerLongitude,
+                                                 double headingInDegrees,
+                                                 double[] latitudes, double[] longitudes,
+                                                 long durationInMilliseconds) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Expected the same number of latitudes and longitudes.");
+        }
+        int count = 0;
+        double[] distances = new double[latitudes.length];
+        float[] azimuths = new float[latitudes.length];
+        double distanceAlongGeometry = 0;
+        for (int i = 0; i < latitudes.length; i++) {
+            if (i > 0) {
+                distanceAlongGeometry += getDistanceInMeters(latitudes[i - 1], longitudes[i - 1], latitudes[i], longitudes[i]);
+            }
+            if (getDistanceInMeters(listenerLatitude, listenerLongitude, latitudes[i], longitudes[i]) < MIN_POINT_DISTANCE_IN_METERS
+                    || (count > 0 && distanceAlongGeometry <= distances[count - 1])) {
+                continue;
+            }
+            distances[count] = distanceAlongGeometry;
+            double bearing = getBearingInDegrees(listenerLatitude, listenerLongitude, latitudes[i], longitudes[i]);
+            azimuths[count] = (float) normalizeDegrees(bearing - headingInDegrees);
+            count++;
+        }
+
+        if (count == 0) {
+            // Nothing to follow, the cue is heard from the front.
+            return fromKeyframes(new long[] {0}, new float[] {0});
+        }
+
+        // Distribute the points over the duration of the cue, proportional to their distance along the geometry.
+        long[] times = new long[count];
+        float[] keyframeAzimuths = new float[count];
+        double length = distances[count - 1] - distances[0];
+        int keyframeCount = 0;
+        for (int i = 0; i < count; i++) {
+            long time = length > 0 ? Math.round((distances[i] - distances[0]) / length * durationInMilliseconds) : 0;
+            if (keyframeCount > 0 && time <= times[keyframeCount - 1]) {
+                continue;
+            }
+            times[keyframeCount] = time;
+            keyframeAzimuths[keyframeCount] = azimuths[i];
+            keyframeCount++;
+        }
+        long[] trimmedTimes = new long[keyframeCount];
+        float[] trimmedAzimuths = new float[keyframeCount];
+        System.arraycopy(times, 0, trimmedTimes, 0, keyframeCount);
+        System.arraycopy(keyframeAzimuths, 0, trimmedAzimuths, 0, keyframeCount);
+        return fromKeyframes(trimmedTimes, trimmedAzimuths);
+    }
+
+    // The time of the last keyframe.
+    public long getDurationInMilliseconds() {
+        return (long) timesInMilliseconds[timesInMilliseconds.length - 1];
+    }
+
+    // Returns the azimuth at the given time since the start of the cue.
+    // Before the first and after the last keyframe, the azimuth of that keyframe is returned.
+    public float getAzimuthInDegrees(long elapsedTimeInMilliseconds) {
+        int last = timesInMilliseconds.length - 1;
+        if (elapsedTimeInMilliseconds <= timesInMilliseconds[0]) {
+            return (float) normalizeDegrees(azimuthsInDegrees[0]);
+        }
+        if (elapsedTimeInMilliseconds >= timesInMilliseconds[last]) {
+            return (float) normalizeDegrees(azimuthsInDegrees[last]);
+        }
+
+        int segment = findSegment(elapsedTimeInMilliseconds);
+        double t0 = timesInMilliseconds[segment];
+        double h = timesInMilliseconds[segment + 1] - t0;
+        double s = (elapsedTimeInMilliseconds - t0) / h;
+        double s2 = s * s;
+        double s3 = s2 * s;
+        double azimuth = (2 * s3 - 3 * s2 + 1) * azimuthsInDegrees[segment]
+                + (s3 - 2 * s2 + s) * h * slopes[segment]
+                + (-2 * s3 + 3 * s2) * azimuthsInDegrees[segment + 1]
+                + (s3 - s2) * h * slopes[segment + 1];
+        return (float) normalizeDegrees(azimuth);
+    }
+
+    // Normalizes an angle to the range (-180, 180].
+    public static double normalizeDegrees(double degrees) {
+        double normalized = degrees % 360;
+        if (normalized > 180) {
+            normalized -= 360;
+        } else if (normalized <= -180) {
+            normalized += 360;
+        }
+        return normalized;
+    }
+
+    // Returns the index of the keyframe that starts the segment containing the time.
+    private int findSegment(double time) {
+        int low = 0;
+        int high = timesInMilliseconds.length - 2;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (timesInMilliseconds[middle] <= time) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    // Fritsch-Carlson slopes, which keep the spline monotone between keyframes.
+    private static double[] computeMonotoneSlopes(double[] times, double[] values) {
+        int n = times.length;
+        double[] slopes = new double[n];
+        if (n < 2) {
+            return slopes;
+        }
+        double[] secants = new double[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            secants[i] = (values[i + 1] - values[i]) / (times[i + 1] - times[i]);
+        }
+        slopes[0] = secants[0];
+        slopes[n - 1] = secants[n - 2];
+        for (int i = 1; i < n - 1; i++) {
+            slopes[i] = secants[i - 1] * secants[i] <= 0 ? 0 : (secants[i - 1] + secants[i]) / 2;
+        }
+        for (int i = 0; i < n - 1; i++) {
+            if (secants[i] == 0) {
+                slopes[i] = 0;
+                slopes[i + 1] = 0;
+                continue;
+            }
+            double alpha = slopes[i] / secants[i];
+            double beta = slopes[i + 1] / secants[i];
+            double magnitude = alpha * alpha + beta * beta;
+            if (magnitude > 9) {
+                double tau = 3 / Math.sqrt(magnitude);
+                slopes[i] = tau * alpha * secants[i];
+                slopes[i + 1] = tau * beta * secants[i];
+            }
+        }
+        return slopes;
+    }
+
+    // Equirectangular approximation, which is accurate enough for the short distances around a maneuver.
+    private static double getDistanceInMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double x = Math.toRadians(normalizeDegrees(longitude2 - longitude1)) * Math.cos(Math.toRadians((latitude1 + latitude2) / 2));
+        double y = Math.toRadians(latitude2 - latitude1);
+        return Math.sqrt(x * x + y * y) * EARTH_RADIUS_IN_METERS;
+    }
+
+    // The bearing from the first to the second point in degrees, clockwise from north.
+    private static double getBearingInDegrees(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double x = Math.toRadians(normalizeDegrees(longitude2 - longitude1)) * Math.cos(Math.toRadians((latitude1 + latitude2) / 2));
+        double y = Math.toRadians(latitude2 - latitude1);
+        return Math.toDegrees(Math.atan2(x, y));
+    }
+}
@@ -0,0 +1,67 @@
+package com.here.spatialaudionavigation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.sdk.core.GeoCoordinates;
+
+import java.util.List;
+
+// The route geometry from the listener's position to a maneuver and a short distance beyond it.
+// Used to derive the azimuth trajectory of the audio cue for that maneuver.
+public class CueGeometry {
+
+    // Includes the start of the road after the maneuver, so that the cue turns into its direction.
+    private static final double DISTANCE_BEYOND_MANEUVER_IN_METERS = 50;
+
+    private final GeoCoordinates listenerCoordinates;
+    private final double headingInDegrees;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private CueGeometry(GeoCoordinates listenerCoordinates, double headingInDegrees, double[] latitudes, double[] longitudes) {
+        this.listenerCoordinates = listenerCoordinates;
+        this.headingInDegrees = headingInDegrees;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+    }
+
+    // Extracts the geometry between the listener and the maneuver from the vertices of a route polyline.
+    // The listener is located after the vertex at listenerVertexIndex, the maneuver takes place at the vertex
+    // at maneuverVertexIndex. Returns null if the maneuver is not ahead of the listener.
+    @Nullable
+    public static CueGeometry fromPolyline(@NonNull List<GeoCoordinates> vertices,
+                                           int listenerVertexIndex,
+                                           @NonNull GeoCoordinates listenerCoordinates,
+                                           double headingInDegrees,
+                                           int maneuverVertexIndex) {
+        if (listenerVertexIndex < 0 || maneuverVertexIndex <= listenerVertexIndex || maneuverVertexIndex >= vertices.size()) {
+            return null;
+        }
+        // The vertex at the listener's index lies behind the listener.
+        int firstIndex = listenerVertexIndex + 1;
+
+        int lastIndex = maneuverVertexIndex;
+        double distanceBeyondManeuver = 0;
+        while (lastIndex + 1 < vertices.size() && distanceBeyondManeuver < DISTANCE_BEYOND_MANEUVER_IN_METERS) {
+            distanceBeyondManeuver += vertices.get(lastIndex).distanceTo(vertices.get(lastIndex + 1));
+            lastIndex++;
+        }
+
+        int count = lastIndex - firstIndex + 1;
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        for (int i = 0; i < count; i++) {
+            GeoCoordinates vertex = vertices.get(firstIndex + i);
+            latitudes[i] = vertex.latitude;
+            longitudes[i] = vertex.longitude;
+        }
+        return new CueGeometry(listenerCoordinates, headingInDegrees, latitudes, longitudes);
+    }
+
+    @NonNull
+    public AzimuthTrajectory toTrajectory(long durationInMilliseconds) {
+        return AzimuthTrajectory.fromGeometry(listenerCoordinates.latitude, listenerCoordinates.longitude,
+                headingInDegrees, latitudes, longitudes, durationInMilliseconds);
+    }
+}
@@ -0,0 +1,40 @@
+package com.here.spatialaudionavigation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+// Plays a single audio cue file for the AudioPlayerManager.
+// A player is prepared once, started at most once and released afterwards.
+// Implemented by MediaCuePlayer and PcmCuePlayer. Can be replaced by a fake player to measure
+// the latency of the AudioPlayerManager without any audio hardware.
+public interface CuePlayer {
+
+    // Callbacks may be invoked on any thread.
+    interface Listener {
+        void onPrepared(@NonNull CuePlayer player);
+        void onCompletion(@NonNull CuePlayer player);
+        void onError(@NonNull CuePlayer player);
+    }
+
+    interface Factory {
+        // Creates a player for the audio file. The player is not prepared yet.
+        @Nullable
+        CuePlayer create(@NonNull String filePath);
+    }
+
+    @NonNull
+    String getFilePath();
+
+    // Prepares the player for playback and notifies the listener when done. May block for short cues.
+    void prepare(@NonNull Listener listener);
+
+    void start();
+
+    boolean isPlaying();
+
+    void setVolume(float leftChannelGains, float rightChannelGains);
+
+    void stop();
+
+    void release();
+}
@@ -0,0 +1,60 @@
+package com.here.spatialaudionavigation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+// Creates a PcmCuePlayer for short WAV cues and a MediaCuePlayer for all other cues.
+// The decoded PCM data is kept in memory, so a cue that is played again starts without reading its file.
+public class CuePlayerFactory implements CuePlayer.Factory {
+
+    // About 11 seconds of 22.05 kHz mono audio, which covers typical maneuver cues.
+    private static final int MAX_PCM_CUE_BYTES = 512 * 1024;
+    private static final int MAX_CACHED_PCM_BYTES = 4 * 1024 * 1024;
+
+    // Guarded by this. Ordered by access, the eldest entry is evicted first.
+    private final LinkedHashMap<String, PcmCuePlayer.PcmAudio> pcmAudios = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedPcmBytes;
+
+    @Nullable
+    @Override
+    public CuePlayer create(@NonNull String filePath) {
+        File file = new File(filePath);
+        PcmCuePlayer.PcmAudio pcmAudio;
+        synchronized (this) {
+            pcmAudio = pcmAudios.get(filePath);
+        }
+        if (pcmAudio == null || !pcmAudio.isDecodedFrom(file)) {
+            pcmAudio = PcmCuePlayer.PcmAudio.decodeWav(file, MAX_PCM_CUE_BYTES);
+            synchronized (this) {
+                PcmCuePlayer.PcmAudio previous = pcmAudio == null ? pcmAudios.remove(filePath) : pcmAudios.put(filePath, pcmAudio);
+                if (previous != null) {
+                    cachedPcmBytes -= previous.data.length;
+                }
+                if (pcmAudio != null) {
+                    cachedPcmBytes += pcmAudio.data.length;
+                    evictEldestPcmAudios();
+                }
+            }
+        }
+        return pcmAudio != null ? new PcmCuePlayer(filePath, pcmAudio) : new MediaCuePlayer(filePath);
+    }
+
+    // Drops all decoded audio, for example when the audio cue files are deleted.
+    public synchronized void clear() {
+        pcmAudios.clear();
+        cachedPcmBytes = 0;
+    }
+
+    // Must be called while holding the lock.
+    private void evictEldestPcmAudios() {
+        Iterator<PcmCuePlayer.PcmAudio> iterator = pcmAudios.values().iterator();
+        while (cachedPcmBytes > MAX_CACHED_PCM_BYTES && iterator.hasNext()) {
+            cachedPcmBytes -= iterator.next().data.length;
+            iterator.remove();
+        }
+    }
+}
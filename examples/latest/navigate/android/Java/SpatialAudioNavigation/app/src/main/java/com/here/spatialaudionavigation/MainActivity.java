@@ -40,7 +40,11 @@ import com.here.sdk.navigation.EventTextOptions;
 import com.here.sdk.navigation.LocationSimulator;
 import com.here.sdk.navigation.LocationSimulatorOptions;
 import com.here.sdk.navigation.ManeuverNotificationOptions;
+import com.here.sdk.navigation.ManeuverProgress;
+import com.here.sdk.navigation.MapMatchedLocation;
+import com.here.sdk.navigation.RouteMatchedLocation;
 import com.here.sdk.navigation.VisualNavigator;
+import com.here.sdk.routing.Maneuver;
 import com.here.sdk.routing.RoutingOptions;
 import com.here.sdk.routing.Route;
 import com.here.sdk.routing.RoutingEngine;
@@ -71,6 +75,11 @@ public class MainActivity extends AppCompatActivity {
     private LocationSimulator locationSimulator;
     private SpatialAudioExample spatialAudioExample;
     private VoiceAssistant voiceAssistant;
+    // Used to derive the azimuth trajectories of spatial audio cues from the route geometry.
+    private Route currentRoute;
+    // The location on the route and the next maneuver, both known by their index in the section geometry.
+    private RouteMatchedLocation lastRouteMatchedLocation;
+    private Maneuver nextManeuver;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
@@ -210,14 +219,21 @@ public class MainActivity extends AppCompatActivity {
                 Log.d(TAG, "New spatial maneuver notification");
                 if (eventText.spatialNotificationDetails != null) { // Spatial Audio
                     spatialAudioExample.initSpatialAudioExecutors();
-                    spatialAudioExample.synthesizeStringToAudioFile(eventText.text, (float) eventText.spatialNotificationDetails.initialAzimuthInDegrees, eventText.spatialNotificationDetails.audioCuePanning, MainActivity.this);
+                    spatialAudioExample.synthesizeStringToAudioFile(eventText.text, (float) eventText.spatialNotificationDetails.initialAzimuthInDegrees, eventText.spatialNotificationDetails.audioCuePanning, getCueGeometry(), MainActivity.this);
                 } else {
                     // TTS Speak mono
                 }
             }
         });
 
+        visualNavigator.setRouteProgressListener(routeProgress -> {
+            lastRouteMatchedLocation = routeProgress.routeMatchedLocation;
+            ManeuverProgress nextManeuverProgress = routeProgress.maneuverProgress.isEmpty() ? null : routeProgress.maneuverProgress.get(0);
+            nextManeuver = nextManeuverProgress == null ? null : visualNavigator.getManeuver(nextManeuverProgress.maneuverIndex);
+        });
+
         // Set a route to follow. This leaves tracking mode.
+        currentRoute = route;
         visualNavigator.setRoute(route);
 
         // VisualNavigator acts as LocationListener to receive location updates directly from a location provider.
@@ -225,6 +241,26 @@ public class MainActivity extends AppCompatActivity {
         setupLocationSource(visualNavigator, route);
     }
 
+    // Returns the route geometry from the current location to the next maneuver, if known.
+    // The geometry is looked up by the vertex indices of the location and the maneuver, so the route does not
+    // need to be searched and a route that passes the same place twice is not confused.
+    @Nullable
+    private CueGeometry getCueGeometry() {
+        RouteMatchedLocation routeMatchedLocation = lastRouteMatchedLocation;
+        Maneuver maneuver = nextManeuver;
+        if (currentRoute == null || routeMatchedLocation == null || maneuver == null) {
+            return null;
+        }
+        MapMatchedLocation mapMatchedLocation = routeMatchedLocation.mapMatchedLocation;
+        // For simplicity, only maneuvers in the current section are considered.
+        if (mapMatchedLocation.bearingInDegrees == null || maneuver.getSectionIndex() != routeMatchedLocation.sectionIndex) {
+            return null;
+        }
+        List<GeoCoordinates> sectionVertices = currentRoute.getSections().get(routeMatchedLocation.sectionIndex).getGeometry().vertices;
+        return CueGeometry.fromPolyline(sectionVertices, routeMatchedLocation.sectionCoordinateIndex,
+                mapMatchedLocation.coordinates, mapMatchedLocation.bearingInDegrees, maneuver.getOffset());
+    }
+
     private void setupLocationSource(LocationListener locationListener, Route route) {
         try {
             // Provides fake GPS signals based on the route geometry.
@@ -0,0 +1,85 @@
+package com.here.spatialaudionavigation;
+
+import android.media.AudioAttributes;
+import android.media.MediaPlayer;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.IOException;
+
+// Plays an audio cue with a MediaPlayer. Used for cues of any length and format.
+public class MediaCuePlayer implements CuePlayer {
+
+    private static final String TAG = MediaCuePlayer.class.getSimpleName();
+
+    private final String filePath;
+    private final MediaPlayer mediaPlayer;
+
+    public MediaCuePlayer(@NonNull String filePath) {
+        this.filePath = filePath;
+        mediaPlayer = new MediaPlayer();
+        mediaPlayer.setAudioAttributes(new AudioAttributes.Builder()
+                .setUsage(AudioAttributes.USAGE_ASSISTANCE_NAVIGATION_GUIDANCE)
+                .setContentType(AudioAttributes.CONTENT_TYPE_MUSIC)
+                .build());
+    }
+
+    @NonNull
+    @Override
+    public String getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void prepare(@NonNull Listener listener) {
+        mediaPlayer.setOnPreparedListener(mp -> listener.onPrepared(this));
+        mediaPlayer.setOnCompletionListener(mp -> listener.onCompletion(this));
+        mediaPlayer.setOnErrorListener((mp, what, extra) -> {
+            Log.e(TAG, "Playback failed for " + filePath + ": " + what + ", " + extra);
+            listener.onError(this);
+            return true;
+        });
+        try {
+            mediaPlayer.setDataSource(filePath);
+            mediaPlayer.setLooping(false);
+            mediaPlayer.prepareAsync();
+        } catch (IOException | IllegalStateException e) {
+            Log.e(TAG, "Failed to prepare " + filePath, e);
+            listener.onError(this);
+        }
+    }
+
+    @Override
+    public void start() {
+        mediaPlayer.start();
+    }
+
+    @Override
+    public boolean isPlaying() {
+        try {
+            return mediaPlayer.isPlaying();
+        } catch (IllegalStateException ie) {
+            return false;
+        }
+    }
+
+    @Override
+    public void setVolume(float leftChannelGains, float rightChannelGains) {
+        mediaPlayer.setVolume(leftChannelGains, rightChannelGains);
+    }
+
+    @Override
+    public void stop() {
+        try {
+            mediaPlayer.stop();
+        } catch (IllegalStateException ie) {
+            //no-op.
+        }
+    }
+
+    @Override
+    public void release() {
+        mediaPlayer.release();
+    }
+}
@@ -0,0 +1,235 @@
+package com.here.spatialaudionavigation;
+
+import android.media.AudioAttributes;
+import android.media.AudioFormat;
+import android.media.AudioTrack;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+// Plays a short audio cue from PCM data that is already decoded in memory.
+// The data is handed to a static AudioTrack, so playback starts without decoding or file access,
+// which is faster than preparing a MediaPlayer.
+public class PcmCuePlayer implements CuePlayer {
+
+    private static final String TAG = PcmCuePlayer.class.getSimpleName();
+
+    // Decoded 16-bit PCM audio of a WAV file.
+    public static class PcmAudio {
+        public final byte[] data;
+        public final int sampleRate;
+        public final int channelCount;
+        // Used to detect if the file has changed since it was decoded.
+        final long fileLength;
+        final long fileLastModified;
+
+        PcmAudio(@NonNull byte[] data, int sampleRate, int channelCount, long fileLength, long fileLastModified) {
+            this.data = data;
+            this.sampleRate = sampleRate;
+            this.channelCount = channelCount;
+            this.fileLength = fileLength;
+            this.fileLastModified = fileLastModified;
+        }
+
+        boolean isDecodedFrom(@NonNull File file) {
+            return fileLength == file.length() && fileLastModified == file.lastModified();
+        }
+
+        int getFrameCount() {
+            return data.length / (2 * channelCount);
+        }
+
+        // Decodes a mono or stereo 16-bit PCM WAV file, as written by the text to speech engine.
+        // Returns null if the file has another format or more than maxDataBytes of audio data.
+        @Nullable
+        public static PcmAudio decodeWav(@NonNull File file, int maxDataBytes) {
+            final int maxHeaderBytes = 4096;
+            long fileLength = file.length();
+            long fileLastModified = file.lastModified();
+            if (fileLength < 44 || fileLength > maxDataBytes + maxHeaderBytes) {
+                return null;
+            }
+
+            byte[] bytes = new byte[(int) fileLength];
+            try (InputStream inputStream = new FileInputStream(file)) {
+                int offset = 0;
+                while (offset < bytes.length) {
+                    int read = inputStream.read(bytes, offset, bytes.length - offset);
+                    if (read < 0) {
+                        return null;
+                    }
+                    offset += read;
+                }
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to read " + file, e);
+                return null;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != 0x46464952 /* RIFF */ || buffer.getInt(8) != 0x45564157 /* WAVE */) {
+                return null;
+            }
+
+            int channelCount = 0;
+            int sampleRate = 0;
+            int position = 12;
+            while (position + 8 <= bytes.length) {
+                int chunkId = buffer.getInt(position);
+                int chunkSize = buffer.getInt(position + 4);
+                int chunkStart = position + 8;
+                if (chunkId == 0x20746d66 /* fmt  */) {
+                    if (chunkSize < 16 || chunkStart + 16 > bytes.length) {
+                        return null;
+                    }
+                    int audioFormat = buffer.getShort(chunkStart) & 0xffff;
+                    channelCount = buffer.getShort(chunkStart + 2) & 0xffff;
+                    sampleRate = buffer.getInt(chunkStart + 4);
+                    int bitsPerSample = buffer.getShort(chunkStart + 14) & 0xffff;
+                    if (audioFormat != 1 || bitsPerSample != 16 || channelCount < 1 || channelCount > 2 || sampleRate <= 0) {
+                        return null;
+                    }
+                } else if (chunkId == 0x61746164 /* data */) {
+                    if (channelCount == 0) {
+                        return null;
+                    }
+                    // Streamed files may not have the final data size in the header.
+                    int available = bytes.length - chunkStart;
+                    int dataSize = chunkSize <= 0 || chunkSize > available ? available : chunkSize;
+                    dataSize -= dataSize % (2 * channelCount);
+                    if (dataSize == 0 || dataSize > maxDataBytes) {
+                        return null;
+                    }
+                    byte[] data = Arrays.copyOfRange(bytes, chunkStart, chunkStart + dataSize);
+                    return new PcmAudio(data, sampleRate, channelCount, fileLength, fileLastModified);
+                }
+                if (chunkSize < 0) {
+                    return null;
+                }
+                // Chunks are padded to an even size.
+                position = chunkStart + chunkSize + (chunkSize & 1);
+            }
+            return null;
+        }
+    }
+
+    private final String filePath;
+    private final PcmAudio pcmAudio;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private AudioTrack audioTrack;
+    private float leftChannelGains = 1;
+    private float rightChannelGains = 1;
+    private volatile boolean isStarted;
+    private volatile boolean isCompleted;
+
+    public PcmCuePlayer(@NonNull String filePath, @NonNull PcmAudio pcmAudio) {
+        this.filePath = filePath;
+        this.pcmAudio = pcmAudio;
+    }
+
+    @NonNull
+    @Override
+    public String getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void prepare(@NonNull Listener listener) {
+        try {
+            AudioTrack.Builder builder = new AudioTrack.Builder()
+                    .setAudioAttributes(new AudioAttributes.Builder()
+                            .setUsage(AudioAttributes.USAGE_ASSISTANCE_NAVIGATION_GUIDANCE)
+                            .setContentType(AudioAttributes.CONTENT_TYPE_MUSIC)
+                            .build())
+                    .setAudioFormat(new AudioFormat.Builder()
+                            .setEncoding(AudioFormat.ENCODING_PCM_16BIT)
+                            .setSampleRate(pcmAudio.sampleRate)
+                            .setChannelMask(pcmAudio.channelCount == 1 ? AudioFormat.CHANNEL_OUT_MONO : AudioFormat.CHANNEL_OUT_STEREO)
+                            .build())
+                    .setTransferMode(AudioTrack.MODE_STATIC)
+                    .setBufferSizeInBytes(pcmAudio.data.length);
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+                builder.setPerformanceMode(AudioTrack.PERFORMANCE_MODE_LOW_LATENCY);
+            }
+            audioTrack = builder.build();
+            audioTrack.write(pcmAudio.data, 0, pcmAudio.data.length);
+            applyVolume();
+
+            audioTrack.setNotificationMarkerPosition(pcmAudio.getFrameCount());
+            audioTrack.setPlaybackPositionUpdateListener(new AudioTrack.OnPlaybackPositionUpdateListener() {
+                @Override
+                public void onMarkerReached(AudioTrack track) {
+                    isCompleted = true;
+                    listener.onCompletion(PcmCuePlayer.this);
+                }
+
+                @Override
+                public void onPeriodicNotification(AudioTrack track) {
+                    //no-op.
+                }
+            }, mainHandler);
+        } catch (IllegalArgumentException | UnsupportedOperationException | IllegalStateException e) {
+            Log.e(TAG, "Failed to prepare " + filePath, e);
+            listener.onError(this);
+            return;
+        }
+        listener.onPrepared(this);
+    }
+
+    @Override
+    public void start() {
+        isStarted = true;
+        audioTrack.play();
+    }
+
+    @Override
+    public boolean isPlaying() {
+        return isStarted && !isCompleted && audioTrack != null
+                && audioTrack.getPlayState() == AudioTrack.PLAYSTATE_PLAYING;
+    }
+
+    @Override
+    public void setVolume(float leftChannelGains, float rightChannelGains) {
+        this.leftChannelGains = leftChannelGains;
+        this.rightChannelGains = rightChannelGains;
+        if (audioTrack != null) {
+            applyVolume();
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private void applyVolume() {
+        // AudioTrack.setVolume() only supports a single gain for all channels.
+        audioTrack.setStereoVolume(leftChannelGains, rightChannelGains);
+    }
+
+    @Override
+    public void stop() {
+        if (audioTrack != null && isStarted) {
+            try {
+                audioTrack.stop();
+            } catch (IllegalStateException ie) {
+                //no-op.
+            }
+        }
+    }
+
+    @Override
+    public void release() {
+        if (audioTrack != null) {
+            audioTrack.setPlaybackPositionUpdateListener(null);
+            audioTrack.release();
+        }
+    }
+}
@@ -1,16 +1,12 @@
 package com.here.spatialaudionavigation;
 
 import android.content.Context;
-import android.media.AudioManager;
-import android.media.MediaMetadataRetriever;
 import android.net.Uri;
-import android.os.Bundle;
 import android.os.Handler;
-import android.speech.tts.TextToSpeech;
-import android.speech.tts.UtteranceProgressListener;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.here.sdk.navigation.CustomPanningData;
 import com.here.sdk.navigation.SpatialAudioCuePanning;
@@ -21,21 +17,29 @@ import com.here.time.Duration;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public class SpatialAudioExample {
 
     private final VoiceAssistant voiceAssistant;
-    private final String FILE_NAME_PREFIX = "temp_audio_cue";
+    private final String CACHE_DIRECTORY_NAME = "audio_cues";
+    // The rate at which the encoder samples the azimuth trajectory of a cue, 20 Hz.
+    private static final long CONTROL_INTERVAL_IN_MILLISECONDS = 50;
     private EncoderInterface encoder;
     private boolean isEncoderInitialized = false;
-    private final MediaMetadataRetriever mmr = new MediaMetadataRetriever();
+    // Synthesized audio cues are reused when the same text is spoken again.
+    // The cache synthesizes on its own long-lived worker thread.
+    private AudioCueCache audioCueCache;
 
     // Avoid IO operations run from main thread.
-    private ExecutorService executorPanning;
-    private ExecutorService executorSynthesization;
+    private ScheduledExecutorService executorPanning;
+    // Samples the azimuth trajectory of the current cue, if it was derived from the route geometry.
+    private ScheduledFuture<?> trajectorySampling;
+    private AzimuthTrajectory sampledTrajectory;
     private ExecutorService executorPlayFile;
 
     public SpatialAudioExample(VoiceAssistant voiceAssistant) {
@@ -54,113 +58,126 @@ public class SpatialAudioExample {
         executorPanning.execute(new Runnable() {
             @Override
             public void run() {
+                // The executor is kept alive for the next audio cue, also after the trajectory has completed.
                 encoder.setCurrentAzimuthDegrees((float) spatialTrajectoryData.azimuthInDegrees);
-                if (spatialTrajectoryData.completedSpatialTrajectory) {
-                    executorPanning.shutdown();
-                }
             }
         });
     }
 
-    // Synthesise the audio cue triggered by the SDK into an audio file.
+    // Synthesise the audio cue triggered by the SDK into an audio file - or take it from the cache,
+    // if the same text was synthesized before.
     public void synthesizeStringToAudioFile(@NotNull final String audioCue, float initialAzimuthInDegrees, @NonNull SpatialAudioCuePanning spatialAudioCuePanning, Context context) {
-        executorSynthesization.execute(() -> {
-            final File outputDir = context.getCacheDir();
-            try {
-                File outputFile = File.createTempFile(FILE_NAME_PREFIX, ".mp3", outputDir);
-
-                if (outputFile.exists()) {
-                    // Set the path to the audio file to be played.
-                    final Uri uriToFile = Uri.parse(outputFile.getAbsolutePath());
-                    Bundle bundle = new Bundle();
-                    bundle.putInt(TextToSpeech.Engine.KEY_PARAM_STREAM, AudioManager.STREAM_MUSIC);
-                    bundle.putFloat(TextToSpeech.Engine.KEY_PARAM_VOLUME, 1.0f); // default
-
-                    // Synthesize the audio cue (string) into an audio file.
-                    voiceAssistant.getTextToSpeech().synthesizeToFile(audioCue, bundle, outputFile, outputFile.getName());
-                    setSpatialUtteranceProgressListener(uriToFile, initialAzimuthInDegrees, spatialAudioCuePanning, context);
-                }
-
-            } catch (IOException e) {
-                e.printStackTrace();
-                executorSynthesization.shutdown();
-            }
-
-        });
+        synthesizeStringToAudioFile(audioCue, initialAzimuthInDegrees, spatialAudioCuePanning, null, context);
     }
 
-    // Set utterance listener to call methods when synthesization has finished.
-    private void setSpatialUtteranceProgressListener(Uri uriToFile, float initialAzimuthInDegrees, @NonNull SpatialAudioCuePanning spatialAudioCuePanning, Context context) {
-        voiceAssistant.getTextToSpeech().setOnUtteranceProgressListener(new UtteranceProgressListener() {
-            @Override
-            public void onStart(String utteranceId) {
+    // Like above, but if the route geometry around the maneuver is given and the duration of the audio cue is known,
+    // the cue follows an azimuth trajectory derived from the geometry instead of the panning provided by the SDK.
+    public void synthesizeStringToAudioFile(@NotNull final String audioCue, float initialAzimuthInDegrees, @NonNull SpatialAudioCuePanning spatialAudioCuePanning, @Nullable CueGeometry cueGeometry, Context context) {
+        getAudioCueCache(context).request(audioCue, cachedAudioCue -> {
+            if (cachedAudioCue == null) {
+                return;
             }
 
-            @Override
-            public void onDone(String utteranceId) {
-                // Play the audio file.
-                playAudioFile(uriToFile, initialAzimuthInDegrees, context);
-
-                // startPanning() can be called with new CustomPanningData if the data provided does not fulfil the expectations. For example,
-                // for a more accurate estimation of the audio cue duration we recommend using the duration granted by Android.
-                CustomPanningData customPanningData = new CustomPanningData(getFileDuration(uriToFile), null, null);
-                spatialAudioCuePanning.startAngularPanning(customPanningData, spatialTrajectoryData -> {
-                    Log.d(SpatialAudioCuePanning.class.getSimpleName(), "Next azimuth:" + spatialTrajectoryData.azimuthInDegrees);
-                    updatePanning(spatialTrajectoryData);
-                });
-                executorSynthesization.shutdown();
+            final Uri uriToFile = Uri.parse(cachedAudioCue.file.getAbsolutePath());
+            if (cueGeometry != null && cachedAudioCue.durationInMilliseconds > 0) {
+                AzimuthTrajectory trajectory = cueGeometry.toTrajectory(cachedAudioCue.durationInMilliseconds);
+                playAudioFile(uriToFile, trajectory.getAzimuthInDegrees(0), trajectory, context);
+                return;
             }
 
-            @Override
-            @SuppressWarnings("deprecation")
-            public void onError(String utteranceId) {
-                executorSynthesization.shutdown();
-            }
+            // Play the audio file.
+            playAudioFile(uriToFile, initialAzimuthInDegrees, null, context);
+
+            // startPanning() can be called with new CustomPanningData if the data provided does not fulfil the expectations. For example,
+            // for a more accurate estimation of the audio cue duration we recommend using the duration granted by Android.
+            // The duration was read once when the audio cue was synthesized.
+            Duration duration = cachedAudioCue.durationInMilliseconds > 0 ? Duration.ofMillis(cachedAudioCue.durationInMilliseconds) : null;
+            CustomPanningData customPanningData = new CustomPanningData(duration, null, null);
+            spatialAudioCuePanning.startAngularPanning(customPanningData, spatialTrajectoryData -> {
+                Log.d(SpatialAudioCuePanning.class.getSimpleName(), "Next azimuth:" + spatialTrajectoryData.azimuthInDegrees);
+                updatePanning(spatialTrajectoryData);
+            });
         });
     }
 
+    private AudioCueCache getAudioCueCache(Context context) {
+        if (audioCueCache == null) {
+            File cacheDirectory = new File(context.getCacheDir(), CACHE_DIRECTORY_NAME);
+            audioCueCache = new AudioCueCache(new TextToSpeechCueSynthesizer(voiceAssistant.getTextToSpeech()), cacheDirectory);
+        }
+        return audioCueCache;
+    }
+
     // Plays the synthesized audio file containing the audio cue for the next maneuver.
-    private void playAudioFile(Uri uriToFile, float initialAzimuthInDegrees, Context context) {
+    // If a trajectory is given, the encoder samples it at a fixed control rate while the cue is played.
+    private void playAudioFile(Uri uriToFile, float initialAzimuthInDegrees, @Nullable AzimuthTrajectory trajectory, Context context) {
         Handler mainHandler = new Handler(context.getMainLooper());
         // Set the animation timing to trigger and plays the audio file containing the current audio cue.
         Runnable playAudioFile = new Runnable() {
             @Override
             public void run() {
                 // Play audio file.
+                stopSamplingTrajectory();
                 encoder.playAudioCue(uriToFile, initialAzimuthInDegrees);
+                if (trajectory != null) {
+                    startSamplingTrajectory(trajectory);
+                }
             }
         };
         mainHandler.post(playAudioFile);
     }
 
-    // Get the duration of the audio file.
-    private Duration getFileDuration(Uri uriToFile) {
-        mmr.setDataSource(String.valueOf(uriToFile));
-        String durationStr = mmr.extractMetadata(MediaMetadataRetriever.METADATA_KEY_DURATION);
-        return Duration.ofMillis(Integer.parseInt(durationStr));
+    private synchronized void startSamplingTrajectory(AzimuthTrajectory trajectory) {
+        if (executorPanning == null || executorPanning.isShutdown()) {
+            return;
+        }
+        final long startTimeNanos = System.nanoTime();
+        trajectorySampling = executorPanning.scheduleAtFixedRate(() -> {
+            long elapsedTimeInMilliseconds = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos);
+            encoder.setCurrentAzimuthDegrees(trajectory.getAzimuthInDegrees(elapsedTimeInMilliseconds));
+            if (elapsedTimeInMilliseconds >= trajectory.getDurationInMilliseconds()) {
+                stopSamplingTrajectory(trajectory);
+            }
+        }, 0, CONTROL_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+        sampledTrajectory = trajectory;
+    }
+
+    private synchronized void stopSamplingTrajectory() {
+        if (trajectorySampling != null) {
+            trajectorySampling.cancel(false);
+            trajectorySampling = null;
+            sampledTrajectory = null;
+        }
+    }
+
+    // Stops sampling only if the trajectory was not replaced by the one of a newer cue in the meantime.
+    private synchronized void stopSamplingTrajectory(AzimuthTrajectory trajectory) {
+        if (sampledTrajectory == trajectory) {
+            stopSamplingTrajectory();
+        }
     }
 
     // Stops playing the current audio cue and shutdown the executors required for spatial audio.
+    // Also deletes the cached audio cues.
     public void stopSpatialAudio() {
+        stopSamplingTrajectory();
         if (encoder != null)
             encoder.stopPlayingAudioCue(); // Stops current spatial audio cue.
         shutdownExecutors();
+        if (audioCueCache != null)
+            audioCueCache.clear();
     }
 
     // Initiates a new thread when required audio synthesization.
     public void initSpatialAudioExecutors() {
-        if (executorSynthesization == null || executorSynthesization.isShutdown())
-            executorSynthesization = Executors.newSingleThreadExecutor();
         if (executorPanning == null || executorPanning.isShutdown())
-            executorPanning = Executors.newSingleThreadExecutor();
+            executorPanning = Executors.newSingleThreadScheduledExecutor();
         if (executorPlayFile == null || executorPlayFile.isShutdown())
             executorPlayFile = Executors.newSingleThreadExecutor();
     }
 
     // Shuts down the initialized executors.
     public void shutdownExecutors() {
-        if (executorSynthesization != null && !executorSynthesization.isShutdown())
-            executorSynthesization.shutdown();
         if (executorPlayFile != null && !executorPlayFile.isShutdown())
             executorPlayFile.shutdown();
         if (encoder != null)
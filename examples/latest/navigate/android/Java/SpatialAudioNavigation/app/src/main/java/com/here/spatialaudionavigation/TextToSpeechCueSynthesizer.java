@@ -0,0 +1,117 @@
+package com.here.spatialaudionavigation;
+
+import android.media.AudioManager;
+import android.media.MediaMetadataRetriever;
+import android.os.Bundle;
+import android.speech.tts.TextToSpeech;
+import android.speech.tts.UtteranceProgressListener;
+import android.speech.tts.Voice;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Synthesizes audio cues into files with Android's TextToSpeech engine.
+// The utterance listener is set once and completes the pending synthesis by its utterance ID,
+// so that several cues can be synthesized one after another without replacing the listener.
+public class TextToSpeechCueSynthesizer implements AudioCueCache.Synthesizer {
+
+    private static final String TAG = TextToSpeechCueSynthesizer.class.getSimpleName();
+    private static final long SYNTHESIS_TIMEOUT_IN_SECONDS = 10;
+
+    private final TextToSpeech textToSpeech;
+    private final Map<String, CountDownLatch> pendingUtterances = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> utteranceResults = new ConcurrentHashMap<>();
+    // Only used from the worker thread of the AudioCueCache.
+    private final MediaMetadataRetriever mmr = new MediaMetadataRetriever();
+    private int nextUtteranceId;
+
+    public TextToSpeechCueSynthesizer(@NonNull TextToSpeech textToSpeech) {
+        this.textToSpeech = textToSpeech;
+        textToSpeech.setOnUtteranceProgressListener(new UtteranceProgressListener() {
+            @Override
+            public void onStart(String utteranceId) {
+            }
+
+            @Override
+            public void onDone(String utteranceId) {
+                completeUtterance(utteranceId, true);
+            }
+
+            @Override
+            @SuppressWarnings("deprecation")
+            public void onError(String utteranceId) {
+                completeUtterance(utteranceId, false);
+            }
+
+            @Override
+            public void onError(String utteranceId, int errorCode) {
+                completeUtterance(utteranceId, false);
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    public String getVoiceId() {
+        Voice voice = textToSpeech.getVoice();
+        return voice != null ? voice.getName() : "";
+    }
+
+    @Override
+    public long synthesize(@NonNull String text, @NonNull File outputFile) {
+        String utteranceId = "audio_cue_" + (nextUtteranceId++);
+        CountDownLatch latch = new CountDownLatch(1);
+        pendingUtterances.put(utteranceId, latch);
+
+        Bundle bundle = new Bundle();
+        bundle.putInt(TextToSpeech.Engine.KEY_PARAM_STREAM, AudioManager.STREAM_MUSIC);
+        bundle.putFloat(TextToSpeech.Engine.KEY_PARAM_VOLUME, 1.0f); // default
+
+        try {
+            // Synthesize the audio cue (string) into an audio file.
+            if (textToSpeech.synthesizeToFile(text, bundle, outputFile, utteranceId) != TextToSpeech.SUCCESS) {
+                return -1;
+            }
+            if (!latch.await(SYNTHESIS_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                Log.e(TAG, "Synthesis timed out for: " + text);
+                return -1;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } finally {
+            pendingUtterances.remove(utteranceId);
+        }
+
+        if (!Boolean.TRUE.equals(utteranceResults.remove(utteranceId))) {
+            return -1;
+        }
+        return getFileDurationInMilliseconds(outputFile);
+    }
+
+    private void completeUtterance(String utteranceId, boolean isSuccess) {
+        CountDownLatch latch = pendingUtterances.get(utteranceId);
+        if (latch != null) {
+            utteranceResults.put(utteranceId, isSuccess);
+            latch.countDown();
+        }
+    }
+
+    // Get the duration of the audio file, 0 if unknown.
+    private long getFileDurationInMilliseconds(File file) {
+        try {
+            mmr.setDataSource(file.getAbsolutePath());
+            String durationStr = mmr.extractMetadata(MediaMetadataRetriever.METADATA_KEY_DURATION);
+            return durationStr != null ? Long.parseLong(durationStr) : 0;
+        } catch (RuntimeException e) {
+            Log.e(TAG, "Failed to read duration of: " + file + ", " + e.getMessage());
+            return 0;
+        }
+    }
+}
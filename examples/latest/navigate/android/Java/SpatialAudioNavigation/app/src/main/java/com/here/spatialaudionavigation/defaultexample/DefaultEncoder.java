@@ -46,7 +46,7 @@ public class DefaultEncoder implements EncoderInterface {
     public void playAudioCue(Uri uriToFile, float initialAzimuthInDegrees) {
         // Stops the previous audio cue if is still being played when a new one has been triggered
         audioPlayerManager.stopPlaying();
-        audioPlayerManager.initMediaPlayer();
+        audioPlayerManager.resetVolume();
         // It is recommended to set the initial azimuth right after stopping the previous one (if still playing) and playing the current one to ensure that is played from the correct side at the beginning of the audio cue.
         setCurrentAzimuthDegrees(initialAzimuthInDegrees);
         audioPlayerManager.play(uriToFile);
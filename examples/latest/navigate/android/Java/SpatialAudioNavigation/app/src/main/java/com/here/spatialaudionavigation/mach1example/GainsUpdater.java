@@ -0,0 +1,65 @@
+package com.here.spatialaudionavigation.mach1example;
+
+// Applies the stereo gains of an azimuth to the player, skipping updates that make no audible difference.
+// The gains are computed by a backend, for example, the Mach1 encoder. Neither the skipped nor the
+// applied updates allocate objects, so the azimuth can be updated at a high rate.
+public class GainsUpdater {
+
+    // Computes the gains for an azimuth.
+    public interface Backend {
+        // Returns the left gains at index 0 and the right gains at index 1.
+        // The returned array is only read until the next call.
+        float[] computeGains(float azimuthInDegrees);
+    }
+
+    // Notifies when the gains have changed.
+    public interface Listener {
+        void onGainsChanged(float leftGains, float rightGains);
+    }
+
+    // Azimuth changes below this threshold are not audible, so the gains are not updated for them.
+    private static final float MIN_AZIMUTH_CHANGE_IN_DEGREES = 1f;
+
+    private final Backend backend;
+    private final Listener listener;
+    // The azimuth and gains last applied to the player. NaN forces the next update.
+    private float lastAzimuthInDegrees = Float.NaN;
+    private float lastLeftGains = Float.NaN;
+    private float lastRightGains = Float.NaN;
+
+    public GainsUpdater(Backend backend, Listener listener) {
+        this.backend = backend;
+        this.listener = listener;
+    }
+
+    // Forgets the last applied gains, so that the next azimuth is always applied.
+    public void reset() {
+        lastAzimuthInDegrees = Float.NaN;
+        lastLeftGains = Float.NaN;
+        lastRightGains = Float.NaN;
+    }
+
+    public void setAzimuthInDegrees(float azimuthInDegrees) {
+        if (getAzimuthChangeInDegrees(azimuthInDegrees) < MIN_AZIMUTH_CHANGE_IN_DEGREES) {
+            return;
+        }
+        lastAzimuthInDegrees = azimuthInDegrees;
+
+        float[] gains = backend.computeGains(azimuthInDegrees);
+        if (gains[0] == lastLeftGains && gains[1] == lastRightGains) {
+            return;
+        }
+        lastLeftGains = gains[0];
+        lastRightGains = gains[1];
+        listener.onGainsChanged(gains[0], gains[1]);
+    }
+
+    // Returns the angular distance to the last applied azimuth, taking the wrap-around at +/-180 degrees into account.
+    private float getAzimuthChangeInDegrees(float azimuthInDegrees) {
+        if (Float.isNaN(lastAzimuthInDegrees)) {
+            return Float.POSITIVE_INFINITY;
+        }
+        float change = Math.abs(azimuthInDegrees - lastAzimuthInDegrees) % 360f;
+        return change > 180f ? 360f - change : change;
+    }
+}
@@ -26,10 +26,15 @@ public class Mach1Encoder implements EncoderInterface {
     private Mach1Decode m1Decode;
     private AudioPlayerManager audioPlayerManager;
 
+    // The decode coefficients for the static listener orientation, computed once in initMach1Decoder().
+    private final float[] decodeArray = new float[18];
+    // Skips inaudible azimuth changes and applies the gains computed by Mach1 Encoder.
+    private final GainsUpdater gainsUpdater = new GainsUpdater(this::computeGains, this::onGainsChanged);
+
     public Mach1Encoder() {
         audioPlayerManager = new AudioPlayerManager();
         initMach1Decoder();
-        m1Encode = new Mach1Encode();
+        initMach1Encoder();
     }
 
     // Plays the audio cue.
@@ -37,7 +42,9 @@ public class Mach1Encoder implements EncoderInterface {
     public void playAudioCue(Uri uriToFile, float initialAzimuthInDegrees) {
         // Stops the previous audio cue if is still being played when a new one has been triggered
         audioPlayerManager.stopPlaying();
-        audioPlayerManager.initMediaPlayer();
+        audioPlayerManager.resetVolume();
+        // The gains of the previous audio cue do not apply to the new one.
+        gainsUpdater.reset();
         // It is recommended to set the initial azimuth right after stopping the previous one (if still playing) and playing the current one to ensure that is played from the correct side at the beginning of the audio cue.
         setCurrentAzimuthDegrees(initialAzimuthInDegrees);
         audioPlayerManager.play(uriToFile);
@@ -55,36 +62,28 @@ public class Mach1Encoder implements EncoderInterface {
     }
 
     // Sets the value of azimuth.
+    // Only the azimuth is updated per call, all other encoder properties are static and set once.
     @Override
     public void setCurrentAzimuthDegrees(float nextAzimuthInDegrees) {
-        // Mach1Decode API requires use of `beginBuffer()` and `endBuffer()`
-        // This design allows customization of the frequency of calls to update the orientation.
-        // Updating the Mach1Decode coeffs for next loop's orientation.
-        m1Decode.beginBuffer();
-
-        float[] decodeArray = new float[18];
-        // In this example, YAW, PITCH AND ROLL remains static, but it could be used for head tracking.
-        m1Decode.decode(yaw, pitch, roll, decodeArray, 0, 0);
-        m1Decode.endBuffer();
+        gainsUpdater.setAzimuthInDegrees(nextAzimuthInDegrees);
+    }
 
-        // Updates the properties of Mach1 Encoder.
-        m1Encode.setAzimuthDegrees(nextAzimuthInDegrees);
-        m1Encode.setDiverge(0.8f);
-        m1Encode.setElevation(0f);
-        m1Encode.setIsotropicEncode(true);
-        m1Encode.setInputMode(Mach1EncodeInputModeType.Mach1EncodeInputModeMono);
-        m1Encode.setPannerMode(Mach1EncodePannerModeIsotropicEqualPower);
-        m1Encode.setOutputMode(Mach1EncodeOutputModeType.Mach1EncodeOutputModeM1Horizon); /// Note: Using Mach1Horizon for Yaw only processing.
-        m1Encode.setAutoOrbit(false); // When true `stereoRotate` will be automatically calculated to rotate stereo points around origin.
+    private float[] computeGains(float azimuthInDegrees) {
+        // Updates the azimuth of Mach1 Encoder.
+        m1Encode.setAzimuthDegrees(azimuthInDegrees);
         m1Encode.generatePointResults();
 
         //Use each coeff to decode multichannel Mach1 Spatial mix.
         // Mach1 calculates specific gains for the left and right channel based on the angular values or azimuth
-        float[] gains = m1Encode.getResultingCoeffsDecoded(Mach1DecodeAlgoType.Mach1DecodeAlgoHorizon, decodeArray);
+        return m1Encode.getResultingCoeffsDecoded(Mach1DecodeAlgoType.Mach1DecodeAlgoHorizon, decodeArray);
+    }
 
-        Log.d(TAG, "New Mach1Encoder gains: (" + gains[0] +", " + gains[1] +")");
+    private void onGainsChanged(float leftGains, float rightGains) {
+        if (Log.isLoggable(TAG, Log.DEBUG)) {
+            Log.d(TAG, "New Mach1Encoder gains: (" + leftGains +", " + rightGains +")");
+        }
 
-        audioPlayerManager.setVolumeMediaPlayer(gains[0], gains[1]);
+        audioPlayerManager.setVolumeMediaPlayer(leftGains, rightGains);
     }
 
     @Override
@@ -92,6 +91,18 @@ public class Mach1Encoder implements EncoderInterface {
         audioPlayerManager.shutdownExecutors();
     }
 
+    // Sets the properties of Mach1 Encoder that do not change with the azimuth.
+    private void initMach1Encoder() {
+        m1Encode = new Mach1Encode();
+        m1Encode.setDiverge(0.8f);
+        m1Encode.setElevation(0f);
+        m1Encode.setIsotropicEncode(true);
+        m1Encode.setInputMode(Mach1EncodeInputModeType.Mach1EncodeInputModeMono);
+        m1Encode.setPannerMode(Mach1EncodePannerModeIsotropicEqualPower);
+        m1Encode.setOutputMode(Mach1EncodeOutputModeType.Mach1EncodeOutputModeM1Horizon); /// Note: Using Mach1Horizon for Yaw only processing.
+        m1Encode.setAutoOrbit(false); // When true `stereoRotate` will be automatically calculated to rotate stereo points around origin.
+    }
+
     private void initMach1Decoder() {
         m1Decode = new Mach1Decode();
         // Mach1 Decode Setup.
@@ -102,6 +113,14 @@ public class Mach1Encoder implements EncoderInterface {
         //Setup for the safety filter speed:
         //1.0 = no filter | 0.1 = slow filter.
         m1Decode.setFilterSpeed(0.95f);
+
+        // Mach1Decode API requires use of `beginBuffer()` and `endBuffer()`
+        // This design allows customization of the frequency of calls to update the orientation.
+        // In this example, YAW, PITCH AND ROLL remains static, so the coeffs are decoded only once.
+        // For head tracking, decode again whenever the orientation changes.
+        m1Decode.beginBuffer();
+        m1Decode.decode(yaw, pitch, roll, decodeArray, 0, 0);
+        m1Decode.endBuffer();
     }
 }
 **/
\ No newline at end of file
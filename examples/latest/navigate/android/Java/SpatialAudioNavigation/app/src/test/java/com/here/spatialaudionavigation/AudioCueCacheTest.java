@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.spatialaudionavigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import androidx.annotation.NonNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class AudioCueCacheTest {
+
+    private static final long TIMEOUT_IN_SECONDS = 5;
+
+    // Writes the text into the output file instead of synthesizing speech.
+    private static class FakeSynthesizer implements AudioCueCache.Synthesizer {
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+        volatile String voiceId = "voice";
+        // Synthesis waits for this signal, so that requests can be queued while the worker is busy.
+        volatile CountDownLatch release = new CountDownLatch(0);
+
+        @NonNull
+        @Override
+        public String getVoiceId() {
+            return voiceId;
+        }
+
+        @Override
+        public long synthesize(@NonNull String text, @NonNull File outputFile) {
+            threads.add(Thread.currentThread());
+            try {
+                release.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+                try (FileWriter writer = new FileWriter(outputFile)) {
+                    writer.write(voiceId + ": " + text);
+                }
+            } catch (InterruptedException | IOException e) {
+                return -1;
+            }
+            return 1000;
+        }
+    }
+
+    private final FakeSynthesizer synthesizer = new FakeSynthesizer();
+    private File cacheDirectory;
+    private AudioCueCache audioCueCache;
+
+    @Before
+    public void setUp() throws IOException {
+        cacheDirectory = Files.createTempDirectory("audio_cues").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        if (audioCueCache != null) {
+            audioCueCache.clear();
+        }
+        File[] files = cacheDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        cacheDirectory.delete();
+    }
+
+    @Test
+    public void repeatedTextIsServedFromCache() throws InterruptedException {
+        audioCueCache = new AudioCueCache(synthesizer, cacheDirectory);
+
+        AudioCueCache.AudioCue first = request("Turn left in 200 meters.");
+        AudioCueCache.AudioCue second = request("Turn left in 200 meters.");
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1000, second.durationInMilliseconds);
+        assertEquals(1, audioCueCache.getSynthesisCount());
+        assertEquals(1, audioCueCache.getMissCount());
+        assertEquals(1, audioCueCache.getHitCount());
+    }
+
+    @Test
+    public void requestsDuringSynthesisShareTheResult() throws InterruptedException {
+        audioCueCache = new AudioCueCache(synthesizer, cacheDirectory);
+        synthesizer.release = new CountDownLatch(1);
+        BlockingQueue<AudioCueCache.AudioCue> results = new LinkedBlockingQueue<>();
+
+        for (int i = 0; i < 3; i++) {
+            audioCueCache.request("Turn right.", results::add);
+        }
+        synthesizer.release.countDown();
+
+        AudioCueCache.AudioCue audioCue = results.poll(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        assertSame(audioCue, results.poll(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        assertSame(audioCue, results.poll(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, audioCueCache.getSynthesisCount());
+    }
+
+    @Test
+    public void textIsSynthesizedAgainForAnotherVoice() throws InterruptedException {
+        audioCueCache = new AudioCueCache(synthesizer, cacheDirectory);
+
+        AudioCueCache.AudioCue first = request("Turn left.");
+        synthesizer.voiceId = "another voice";
+        AudioCueCache.AudioCue second = request("Turn left.");
+
+        assertFalse(first.file.equals(second.file));
+        assertEquals(2, audioCueCache.getSynthesisCount());
+    }
+
+    @Test
+    public void workerThreadIsReusedForAllCues() throws InterruptedException {
+        audioCueCache = new AudioCueCache(synthesizer, cacheDirectory);
+
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(request("Cue " + i));
+            assertTrue(audioCueCache.hasWorker());
+        }
+
+        assertEquals(10, audioCueCache.getSynthesisCount());
+        assertEquals(1, synthesizer.threads.size());
+    }
+
+    @Test
+    public void eldestCueIsEvicted() throws InterruptedException {
+        audioCueCache = new AudioCueCache(synthesizer, cacheDirectory);
+
+        AudioCueCache.AudioCue eldest = request("Cue 0");
+        for (int i = 1; i <= 32; i++) {
+            request("Cue " + i);
+        }
+
+        assertFalse(eldest.file.exists());
+        assertEquals(32, cacheDirectory.listFiles().length);
+        request("Cue 0");
+        assertEquals(34, audioCueCache.getSynthesisCount());
+    }
+
+    @Test
+    public void audioFilesOfPreviousCacheAreDeleted() throws IOException, InterruptedException {
+        // Files left behind when the app was stopped without clearing the cache.
+        File staleFile = new File(cacheDirectory, "audio_cue_0.wav");
+        File otherStaleFile = new File(cacheDirectory, "audio_cue_7.wav");
+        try (FileWriter writer = new FileWriter(staleFile)) {
+            writer.write("stale");
+        }
+        assertTrue(otherStaleFile.createNewFile());
+
+        audioCueCache = new AudioCueCache(synthesizer, cacheDirectory);
+        AudioCueCache.AudioCue audioCue = request("Turn left.");
+
+        assertFalse(otherStaleFile.exists());
+        assertEquals(1, cacheDirectory.listFiles().length);
+        assertEquals("voice: Turn left.", new String(Files.readAllBytes(audioCue.file.toPath()), "UTF-8"));
+    }
+
+    // Requests the cue and waits until it is available.
+    private AudioCueCache.AudioCue request(String text) throws InterruptedException {
+        BlockingQueue<AudioCueCache.AudioCue> result = new LinkedBlockingQueue<>();
+        audioCueCache.request(text, result::add);
+        return result.poll(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+    }
+}
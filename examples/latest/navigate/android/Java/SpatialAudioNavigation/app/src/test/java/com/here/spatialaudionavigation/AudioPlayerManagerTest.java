@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.spatialaudionavigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Measures the latency from play() to the start of a cue with fake players, which take a fixed time to prepare.
+public class AudioPlayerManagerTest {
+
+    private static final long TIMEOUT_IN_SECONDS = 5;
+    private static final long PREPARE_TIME_IN_MILLISECONDS = 50;
+
+    private static class FakeCuePlayer implements CuePlayer {
+        final String filePath;
+        final CountDownLatch started = new CountDownLatch(1);
+        Listener listener;
+        volatile boolean isPlaying;
+        volatile boolean isReleased;
+        volatile float leftChannelGains = Float.NaN;
+        volatile float rightChannelGains = Float.NaN;
+
+        FakeCuePlayer(String filePath) {
+            this.filePath = filePath;
+        }
+
+        @NonNull
+        @Override
+        public String getFilePath() {
+            return filePath;
+        }
+
+        @Override
+        public void prepare(@NonNull Listener listener) {
+            this.listener = listener;
+            sleep(PREPARE_TIME_IN_MILLISECONDS);
+            listener.onPrepared(this);
+        }
+
+        @Override
+        public void start() {
+            isPlaying = true;
+            started.countDown();
+        }
+
+        @Override
+        public boolean isPlaying() {
+            return isPlaying;
+        }
+
+        @Override
+        public void setVolume(float leftChannelGains, float rightChannelGains) {
+            this.leftChannelGains = leftChannelGains;
+            this.rightChannelGains = rightChannelGains;
+        }
+
+        @Override
+        public void stop() {
+            isPlaying = false;
+        }
+
+        @Override
+        public void release() {
+            isReleased = true;
+        }
+
+        void complete() {
+            isPlaying = false;
+            listener.onCompletion(this);
+        }
+    }
+
+    private final Map<String, FakeCuePlayer> players = new ConcurrentHashMap<>();
+    // Delays the creation of a player, as when a file is decoded.
+    private volatile long createTimeInMilliseconds;
+    private final AudioPlayerManager audioPlayerManager = new AudioPlayerManager(filePath -> {
+        sleep(createTimeInMilliseconds);
+        FakeCuePlayer player = new FakeCuePlayer(filePath);
+        players.put(filePath, player);
+        return player;
+    });
+
+    @After
+    public void tearDown() {
+        audioPlayerManager.shutdownExecutors();
+    }
+
+    @Test
+    public void cueStartsOnceItIsPrepared() throws InterruptedException {
+        audioPlayerManager.play(toUri("cue_0.wav"));
+
+        FakeCuePlayer player = awaitStarted("cue_0.wav");
+        assertTrue(audioPlayerManager.isPlaying());
+        assertEquals(1, audioPlayerManager.getStartedCueCount());
+        // The latency includes the time to prepare the player, but no more than the timeout.
+        double latency = audioPlayerManager.getLastCueLatencyInMilliseconds();
+        assertTrue("Latency: " + latency, latency >= PREPARE_TIME_IN_MILLISECONDS);
+        assertTrue("Latency: " + latency, latency < TimeUnit.SECONDS.toMillis(TIMEOUT_IN_SECONDS));
+        System.out.println("Latency from play() to start with a " + PREPARE_TIME_IN_MILLISECONDS
+                + " ms prepare: " + latency + " ms.");
+
+        player.complete();
+        assertTrue(player.isReleased);
+        assertFalse(audioPlayerManager.isPlaying());
+    }
+
+    @Test
+    public void averageLatencyIsRecordedPerCue() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            audioPlayerManager.play(toUri("cue_" + i + ".wav"));
+            awaitStarted("cue_" + i + ".wav").complete();
+        }
+
+        assertEquals(5, audioPlayerManager.getStartedCueCount());
+        assertTrue(audioPlayerManager.getAverageCueLatencyInMilliseconds() >= PREPARE_TIME_IN_MILLISECONDS);
+    }
+
+    @Test
+    public void newCueStopsCurrentCue() throws InterruptedException {
+        audioPlayerManager.play(toUri("cue_0.wav"));
+        FakeCuePlayer first = awaitStarted("cue_0.wav");
+
+        audioPlayerManager.play(toUri("cue_1.wav"));
+        FakeCuePlayer second = awaitStarted("cue_1.wav");
+
+        assertFalse(first.isPlaying);
+        assertTrue(first.isReleased);
+        assertTrue(second.isPlaying);
+        assertEquals(2, audioPlayerManager.getStartedCueCount());
+    }
+
+    @Test
+    public void outdatedCueIsNeverStarted() throws InterruptedException {
+        createTimeInMilliseconds = 20;
+        audioPlayerManager.play(toUri("cue_0.wav"));
+        // Replaces the first cue before its player was created.
+        audioPlayerManager.play(toUri("cue_1.wav"));
+
+        awaitStarted("cue_1.wav");
+        FakeCuePlayer outdated = players.get("cue_0.wav");
+        assertEquals(1, outdated.started.getCount());
+        assertTrue(outdated.isReleased);
+        assertEquals(1, audioPlayerManager.getStartedCueCount());
+    }
+
+    @Test
+    public void gainsSetBeforeStartAreApplied() throws InterruptedException {
+        audioPlayerManager.play(toUri("cue_0.wav"));
+        audioPlayerManager.setVolumeMediaPlayer(0.2f, 0.8f);
+
+        FakeCuePlayer player = awaitStarted("cue_0.wav");
+        assertEquals(0.2f, player.leftChannelGains, 0);
+        assertEquals(0.8f, player.rightChannelGains, 0);
+    }
+
+    private FakeCuePlayer awaitStarted(String filePath) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_IN_SECONDS);
+        FakeCuePlayer player;
+        while ((player = players.get(filePath)) == null && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue("No player for " + filePath, player != null);
+        assertTrue("Not started: " + filePath, player.started.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        return player;
+    }
+
+    private static Uri toUri(String filePath) {
+        Uri uri = mock(Uri.class);
+        when(uri.toString()).thenReturn(filePath);
+        return uri;
+    }
+
+    private static void sleep(long timeInMilliseconds) {
+        try {
+            Thread.sleep(timeInMilliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.spatialaudionavigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class AzimuthTrajectoryTest {
+
+    private static final double DELTA = 1e-3;
+    // The maximum change per millisecond for the trajectories below.
+    private static final double MAX_CHANGE_PER_MILLISECOND = 1;
+
+    @Test
+    public void keyframesAreHit() {
+        AzimuthTrajectory trajectory = AzimuthTrajectory.fromKeyframes(new long[] {0, 500, 1000}, new float[] {-30, 20, 90});
+
+        assertEquals(-30, trajectory.getAzimuthInDegrees(0), DELTA);
+        assertEquals(20, trajectory.getAzimuthInDegrees(500), DELTA);
+        assertEquals(90, trajectory.getAzimuthInDegrees(1000), DELTA);
+        assertEquals(1000, trajectory.getDurationInMilliseconds());
+    }
+
+    @Test
+    public void azimuthIsClampedOutsideOfKeyframes() {
+        AzimuthTrajectory trajectory = AzimuthTrajectory.fromKeyframes(new long[] {100, 900}, new float[] {10, 40});
+
+        assertEquals(10, trajectory.getAzimuthInDegrees(0), DELTA);
+        assertEquals(40, trajectory.getAzimuthInDegrees(2000), DELTA);
+    }
+
+    @Test
+    public void azimuthChangesContinuously() {
+        AzimuthTrajectory trajectory = AzimuthTrajectory.fromKeyframes(
+                new long[] {0, 300, 600, 1000, 1500}, new float[] {0, 45, 40, -60, -90});
+
+        assertContinuous(trajectory);
+    }
+
+    @Test
+    public void azimuthDoesNotOvershootKeyframes() {
+        AzimuthTrajectory trajectory = AzimuthTrajectory.fromKeyframes(
+                new long[] {0, 100, 1000}, new float[] {0, 80, 90});
+
+        for (long time = 0; time <= 1000; time++) {
+            float azimuth = trajectory.getAzimuthInDegrees(time);
+            assertTrue("Azimuth at " + time + ": " + azimuth, azimuth >= 0 && azimuth <= 90 + DELTA);
+        }
+    }
+
+    @Test
+    public void azimuthTakesShorterWayAcrossWrapAround() {
+        // From behind on the right to behind on the left, through 180 degrees instead of through the front.
+        AzimuthTrajectory trajectory = AzimuthTrajectory.fromKeyframes(new long[] {0, 1000}, new float[] {170, -170});
+
+        float middle = trajectory.getAzimuthInDegrees(500);
+        assertEquals(180, Math.abs(middle), 1);
+        for (long time = 0; time <= 1000; time++) {
+            assertTrue(Math.abs(trajectory.getAzimuthInDegrees(time)) >= 170 - DELTA);
+        }
+        assertContinuous(trajectory);
+    }
+
+    @Test
+    public void azimuthStaysInRange() {
+        AzimuthTrajectory trajectory = AzimuthTrajectory.fromKeyframes(
+                new long[] {0, 400, 800, 1200}, new float[] {150, -150, -90, 179});
+
+        for (long time = 0; time <= 1200; time++) {
+            float azimuth = trajectory.getAzimuthInDegrees(time);
+            assertTrue("Azimuth at " + time + ": " + azimuth, azimuth > -180 - DELTA && azimuth <= 180 + DELTA);
+        }
+        assertContinuous(trajectory);
+    }
+
+    @Test
+    public void normalizeDegreesWrapsToHalfOpenRange() {
+        assertEquals(180, AzimuthTrajectory.normalizeDegrees(-180), DELTA);
+        assertEquals(180, AzimuthTrajectory.normalizeDegrees(540), DELTA);
+        assertEquals(-170, AzimuthTrajectory.normalizeDegrees(190), DELTA);
+        assertEquals(10, AzimuthTrajectory.normalizeDegrees(-350), DELTA);
+    }
+
+    @Test
+    public void geometryOfLeftTurnMovesCueToTheLeft() {
+        // Heading north, the road continues 100 meters north and then turns west.
+        double latitude = 52.5;
+        double longitude = 13.4;
+        double metersPerDegreeLatitude = 111195;
+        double metersPerDegreeLongitude = metersPerDegreeLatitude * Math.cos(Math.toRadians(latitude));
+        double[] latitudes = {
+                latitude + 50 / metersPerDegreeLatitude,
+                latitude + 100 / metersPerDegreeLatitude,
+                latitude + 100 / metersPerDegreeLatitude,
+                latitude + 100 / metersPerDegreeLatitude};
+        double[] longitudes = {
+                longitude,
+                longitude,
+                longitude - 50 / metersPerDegreeLongitude,
+                longitude - 100 / metersPerDegreeLongitude};
+
+        AzimuthTrajectory trajectory = AzimuthTrajectory.fromGeometry(latitude, longitude, 0, latitudes, longitudes, 2000);
+
+        assertEquals(2000, trajectory.getDurationInMilliseconds());
+        assertEquals(0, trajectory.getAzimuthInDegrees(0), 1);
+        assertEquals(-45, trajectory.getAzimuthInDegrees(2000), 1);
+        assertContinuous(trajectory);
+        for (long time = 0; time < 2000; time++) {
+            // Moving along the road ahead, the cue never moves back to the right.
+            assertTrue(trajectory.getAzimuthInDegrees(time + 1) <= trajectory.getAzimuthInDegrees(time) + DELTA);
+        }
+    }
+
+    @Test
+    public void geometryWithoutPointsIsHeardFromTheFront() {
+        AzimuthTrajectory trajectory = AzimuthTrajectory.fromGeometry(52.5, 13.4, 90, new double[0], new double[0], 2000);
+
+        assertEquals(0, trajectory.getAzimuthInDegrees(1000), DELTA);
+    }
+
+    // Samples the trajectory every millisecond and checks that no sample jumps, also across +/-180 degrees.
+    private static void assertContinuous(AzimuthTrajectory trajectory) {
+        float previous = trajectory.getAzimuthInDegrees(0);
+        for (long time = 1; time <= trajectory.getDurationInMilliseconds(); time++) {
+            float azimuth = trajectory.getAzimuthInDegrees(time);
+            double change = Math.abs(AzimuthTrajectory.normalizeDegrees(azimuth - previous));
+            assertTrue("Jump of " + change + " degrees at " + time + " ms", change <= MAX_CHANGE_PER_MILLISECOND);
+            previous = azimuth;
+        }
+    }
+}
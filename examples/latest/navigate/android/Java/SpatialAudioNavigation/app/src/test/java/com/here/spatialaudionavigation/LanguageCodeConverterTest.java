@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.spatialaudionavigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.here.sdk.core.LanguageCode;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class LanguageCodeConverterTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int ROUND_COUNT = 2000;
+
+    @Test
+    public void everyRegisteredLanguageCodeRoundTrips() {
+        for (LanguageCode languageCode : LanguageCode.values()) {
+            Locale locale = LanguageCodeConverter.getLocale(languageCode);
+            if (languageCode != LanguageCode.EN_US && locale.equals(new Locale("en", "US"))) {
+                // Not registered, the fallback locale is returned.
+                continue;
+            }
+            assertEquals(locale.toString(), languageCode, LanguageCodeConverter.getLanguageCode(locale));
+        }
+    }
+
+    @Test
+    public void unknownCountryFallsBackToLanguage() {
+        assertEquals(LanguageCode.DE_DE, LanguageCodeConverter.getLanguageCode(new Locale("de", "AT")));
+        assertEquals(LanguageCode.FR_FR, LanguageCodeConverter.getLanguageCode(new Locale("fr")));
+    }
+
+    @Test
+    public void scriptIsUsedWhenItIsStoredAsCountry() {
+        Locale locale = new Locale.Builder().setLanguage("sr").setScript("Cyrl").setRegion("RS").build();
+
+        assertEquals(LanguageCode.SR_CYRL_RS, LanguageCodeConverter.getLanguageCode(locale));
+    }
+
+    @Test
+    public void unknownLanguageFallsBackToEnglish() {
+        assertEquals(LanguageCode.EN_US, LanguageCodeConverter.getLanguageCode(new Locale("xx", "YY")));
+    }
+
+    // Voice and guidance threads may use the converter for the first time at the same time.
+    // All threads start together, so when this test is the first to use the converter,
+    // the tables are built while the other threads wait for them.
+    @Test
+    public void concurrentLookupsReturnConsistentResults() throws InterruptedException {
+        LanguageCode[] languageCodes = LanguageCode.values();
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicReference<String> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            final int offset = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    startSignal.await();
+                    for (int round = 0; round < ROUND_COUNT; round++) {
+                        // Each thread walks the codes from a different start.
+                        LanguageCode languageCode = languageCodes[(round + offset * 17) % languageCodes.length];
+                        Locale locale = LanguageCodeConverter.getLocale(languageCode);
+                        LanguageCode result = LanguageCodeConverter.getLanguageCode(locale);
+                        if (result != languageCode && !locale.equals(new Locale("en", "US"))) {
+                            failure.compareAndSet(null, languageCode + " resolved to " + result);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    failure.compareAndSet(null, "Interrupted");
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        startSignal.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.spatialaudionavigation.mach1example;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+// Measures the time and the memory allocated per azimuth update with a stubbed backend in place of Mach1,
+// while the azimuth sweeps back and forth as during an audio cue.
+public class GainsUpdaterBenchmark {
+
+    private static final int WARMUP_ROUND_COUNT = 5;
+    private static final int UPDATE_COUNT = 200_000;
+
+    private final float[] gains = new float[2];
+    private float appliedLeftGains;
+
+    @Test
+    public void updatesDoNotAllocate() {
+        com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+        assumeTrue(threadMXBean != null && threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        GainsUpdater gainsUpdater = new GainsUpdater(azimuthInDegrees -> {
+            gains[0] = (float) Math.cos(Math.toRadians(azimuthInDegrees + 90) / 2);
+            gains[1] = (float) Math.sin(Math.toRadians(azimuthInDegrees + 90) / 2);
+            return gains;
+        }, (leftGains, rightGains) -> appliedLeftGains = leftGains);
+
+        long allocatedBytes = 0;
+        long elapsedNanos = 0;
+        for (int round = 0; round <= WARMUP_ROUND_COUNT; round++) {
+            long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < UPDATE_COUNT; i++) {
+                // Sweeps from -180 to 180 degrees and back in steps of 0.1 degrees.
+                int step = i % 7200;
+                float azimuthInDegrees = (step < 3600 ? step : 7200 - step) * 0.1f - 180;
+                gainsUpdater.setAzimuthInDegrees(azimuthInDegrees);
+            }
+            elapsedNanos = System.nanoTime() - startNanos;
+            allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+        }
+
+        System.out.println("GainsUpdater.setAzimuthInDegrees(), average in nanoseconds: " + elapsedNanos / UPDATE_COUNT
+                + ", allocated bytes: " + allocatedBytes + " for " + UPDATE_COUNT + " updates.");
+        assertEquals(0, allocatedBytes);
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return (com.sun.management.ThreadMXBean) threadMXBean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.spatialaudionavigation.mach1example;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class GainsUpdaterTest {
+
+    private int computeCount;
+    private int changeCount;
+    private final float[] gains = new float[2];
+
+    // Pans linearly from left at -90 degrees to right at 90 degrees.
+    private final GainsUpdater gainsUpdater = new GainsUpdater(azimuthInDegrees -> {
+        computeCount++;
+        float right = Math.max(0, Math.min(1, (azimuthInDegrees + 90) / 180));
+        gains[0] = 1 - right;
+        gains[1] = right;
+        return gains;
+    }, (leftGains, rightGains) -> changeCount++);
+
+    @Test
+    public void firstAzimuthIsAlwaysApplied() {
+        gainsUpdater.setAzimuthInDegrees(0);
+
+        assertEquals(1, computeCount);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void inaudibleChangesAreSkipped() {
+        gainsUpdater.setAzimuthInDegrees(10);
+        gainsUpdater.setAzimuthInDegrees(10.5f);
+        gainsUpdater.setAzimuthInDegrees(9.2f);
+        gainsUpdater.setAzimuthInDegrees(11);
+
+        assertEquals(2, computeCount);
+    }
+
+    @Test
+    public void changeAcrossWrapAroundIsSmall() {
+        gainsUpdater.setAzimuthInDegrees(179.8f);
+        gainsUpdater.setAzimuthInDegrees(-179.9f);
+
+        assertEquals(1, computeCount);
+    }
+
+    @Test
+    public void unchangedGainsAreNotApplied() {
+        // Both azimuths are beyond the right end of the panning.
+        gainsUpdater.setAzimuthInDegrees(100);
+        gainsUpdater.setAzimuthInDegrees(120);
+
+        assertEquals(2, computeCount);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void resetAppliesTheNextAzimuth() {
+        gainsUpdater.setAzimuthInDegrees(30);
+        gainsUpdater.reset();
+        gainsUpdater.setAzimuthInDegrees(30);
+
+        assertEquals(2, computeCount);
+        assertEquals(2, changeCount);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.truckguidance;
+
+import com.here.sdk.core.GeoCoordinates;
+
+import java.util.List;
+
+// Geometry helpers shared by the classes that analyze a route.
+public final class GeometryUtils {
+
+    private GeometryUtils() {
+    }
+
+    // Returns the length of the polyline given by the vertices in meters.
+    public static double getLengthInMeters(List<GeoCoordinates> vertices) {
+        double length = 0;
+        for (int i = 1; i < vertices.size(); i++) {
+            length += vertices.get(i - 1).distanceTo(vertices.get(i));
+        }
+        return length;
+    }
+}
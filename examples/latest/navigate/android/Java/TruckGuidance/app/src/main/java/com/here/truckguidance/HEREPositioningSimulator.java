@@ -34,17 +34,13 @@ public class HEREPositioningSimulator {
     private double speedFactor = 1;
 
     // Starts route playback.
-    // Note for simplicity, we only allow two location listeners.
-    public void startLocating(LocationListener locationListener1,
-                              LocationListener locationListener2,
-                              Route route) {
+    // The same playback can be used to compare different setups of location listeners.
+    public void startLocating(LocationListener locationListener, Route route) {
         if (locationSimulator != null) {
             locationSimulator.stop();
         }
 
-        locationSimulator = createLocationSimulator(locationListener1,
-                                                    locationListener2,
-                                                    route);
+        locationSimulator = createLocationSimulator(locationListener, route);
         locationSimulator.start();
     }
 
@@ -60,11 +56,7 @@ public class HEREPositioningSimulator {
     }
 
     // Provides fake GPS signals based on the route geometry.
-    private LocationSimulator createLocationSimulator(LocationListener locationListener1,
-                                                      LocationListener locationListener2,
-                                                      Route route) {
-        LocationListener listener1 = locationListener1;
-        LocationListener listener2 = locationListener2;
+    private LocationSimulator createLocationSimulator(LocationListener locationListener, Route route) {
         LocationSimulatorOptions locationSimulatorOptions = new LocationSimulatorOptions();
         locationSimulatorOptions.speedFactor = speedFactor;
         locationSimulatorOptions.notificationInterval = Duration.ofMillis(500);
@@ -77,10 +69,7 @@ public class HEREPositioningSimulator {
             throw new RuntimeException("Initialization of LocationSimulator failed: " + e.error.name());
         }
 
-        locationSimulator.setListener(location -> {
-            listener1.onLocationUpdated(location);
-            listener2.onLocationUpdated(location);
-        });
+        locationSimulator.setListener(locationListener);
 
         return locationSimulator;
     }
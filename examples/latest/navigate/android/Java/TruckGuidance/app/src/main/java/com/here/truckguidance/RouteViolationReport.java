@@ -0,0 +1,312 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.truckguidance;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.sdk.core.GeoCoordinates;
+import com.here.sdk.routing.Route;
+import com.here.sdk.routing.Section;
+import com.here.sdk.routing.SectionNotice;
+import com.here.sdk.routing.Span;
+import com.here.sdk.routing.ViolatedRestriction;
+import com.here.sdk.transport.HazardousMaterial;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// A structured report of the violations of a route, for example, when a route could not avoid a restriction
+// for the truck or a requested route option could not be fulfilled.
+// The report is computed once per route. Violations are indexed by their offset along the route and
+// by section. After a new route was calculated, the report can be compared with the report of the
+// previous route, so that only violations that were not already part of the previous route are announced.
+public class RouteViolationReport {
+
+    private static final String TAG = "RouteViolations";
+
+    // A single violation that spreads across a part of the route.
+    public static class Violation {
+        public final int sectionIndex;
+        // The violation code such as "VIOLATED_VEHICLE_RESTRICTION".
+        public final String code;
+        public final double startOffsetInMeters;
+        public final double endOffsetInMeters;
+        public final GeoCoordinates startPoint;
+        public final GeoCoordinates endPoint;
+        // Human readable details about the violated restrictions, if any.
+        public final List<String> details;
+        // Identifies the same violation on different routes, independent of its offset.
+        final String key;
+
+        Violation(int sectionIndex,
+                  @NonNull String code,
+                  double startOffsetInMeters,
+                  double endOffsetInMeters,
+                  @NonNull GeoCoordinates startPoint,
+                  @NonNull GeoCoordinates endPoint,
+                  @NonNull List<String> details) {
+            this.sectionIndex = sectionIndex;
+            this.code = code;
+            this.startOffsetInMeters = startOffsetInMeters;
+            this.endOffsetInMeters = endOffsetInMeters;
+            this.startPoint = startPoint;
+            this.endPoint = endPoint;
+            this.details = Collections.unmodifiableList(details);
+            key = code + "|" + toKey(startPoint) + "|" + toKey(endPoint) + "|" + details;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Section " + sectionIndex + ": The violation " + code
+                    + " starts at " + startPoint.latitude + ", " + startPoint.longitude
+                    + " and ends at " + endPoint.latitude + ", " + endPoint.longitude + " .";
+        }
+
+        // Rounds to 5 decimal places, about 1 meter, so that the same location
+        // on a recalculated route results in the same key.
+        private static String toKey(GeoCoordinates geoCoordinates) {
+            return String.format(Locale.US, "%.5f,%.5f", geoCoordinates.latitude, geoCoordinates.longitude);
+        }
+    }
+
+    // All violations, sorted by their start offset.
+    private final List<Violation> violations;
+    private final List<List<Violation>> violationsBySection;
+    private final Set<String> keys = new HashSet<>();
+    // The longest violation, used to limit the search for violations overlapping an offset.
+    private final double maxViolationLengthInMeters;
+
+    RouteViolationReport(@NonNull List<Violation> violations, int sectionCount) {
+        List<Violation> sortedViolations = new ArrayList<>(violations);
+        Collections.sort(sortedViolations, (a, b) -> Double.compare(a.startOffsetInMeters, b.startOffsetInMeters));
+        this.violations = Collections.unmodifiableList(sortedViolations);
+
+        violationsBySection = new ArrayList<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            violationsBySection.add(new ArrayList<>());
+        }
+        double maxLength = 0;
+        for (Violation violation : sortedViolations) {
+            violationsBySection.get(violation.sectionIndex).add(violation);
+            keys.add(violation.key);
+            maxLength = Math.max(maxLength, violation.endOffsetInMeters - violation.startOffsetInMeters);
+        }
+        maxViolationLengthInMeters = maxLength;
+    }
+
+    // Collects the violations from the section notices of the given route.
+    @NonNull
+    public static RouteViolationReport create(@NonNull Route route) {
+        List<Section> sections = route.getSections();
+        List<Violation> violations = new ArrayList<>();
+
+        // Span geometries are scaled to the route length, which is the base for offsets along the route.
+        double geometryLength = 0;
+        for (Section section : sections) {
+            for (Span span : section.getSpans()) {
+                geometryLength += GeometryUtils.getLengthInMeters(span.getGeometry().vertices);
+            }
+        }
+        double scale = geometryLength > 0 ? route.getLengthInMeters() / geometryLength : 0;
+
+        double spanOffsetInMeters = 0;
+        for (int sectionIndex = 0; sectionIndex < sections.size(); sectionIndex++) {
+            Section section = sections.get(sectionIndex);
+            List<SectionNotice> sectionNotices = section.getSectionNotices();
+            double sectionOffsetInMeters = spanOffsetInMeters;
+            boolean[] isNoticeOnSpan = new boolean[sectionNotices.size()];
+            for (Span span : section.getSpans()) {
+                List<GeoCoordinates> spanGeometryVertices = span.getGeometry().vertices;
+                double spanLengthInMeters = GeometryUtils.getLengthInMeters(spanGeometryVertices) * scale;
+                // A route violation spreads across the whole span geometry.
+                for (int index : span.getNoticeIndexes()) {
+                    isNoticeOnSpan[index] = true;
+                    violations.add(new Violation(sectionIndex,
+                            sectionNotices.get(index).code.toString(),
+                            spanOffsetInMeters,
+                            spanOffsetInMeters + spanLengthInMeters,
+                            spanGeometryVertices.get(0),
+                            spanGeometryVertices.get(spanGeometryVertices.size() - 1),
+                            describe(sectionNotices.get(index))));
+                }
+                spanOffsetInMeters += spanLengthInMeters;
+            }
+
+            // Notices that are not bound to a span apply to the whole section.
+            List<GeoCoordinates> sectionGeometryVertices = section.getGeometry().vertices;
+            for (int index = 0; index < sectionNotices.size(); index++) {
+                if (isNoticeOnSpan[index]) {
+                    continue;
+                }
+                violations.add(new Violation(sectionIndex,
+                        sectionNotices.get(index).code.toString(),
+                        sectionOffsetInMeters,
+                        spanOffsetInMeters,
+                        sectionGeometryVertices.get(0),
+                        sectionGeometryVertices.get(sectionGeometryVertices.size() - 1),
+                        describe(sectionNotices.get(index))));
+            }
+        }
+
+        return new RouteViolationReport(violations, sections.size());
+    }
+
+    public boolean isEmpty() {
+        return violations.isEmpty();
+    }
+
+    // All violations, sorted by their start offset along the route.
+    @NonNull
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    @NonNull
+    public List<Violation> getViolationsInSection(int sectionIndex) {
+        if (sectionIndex < 0 || sectionIndex >= violationsBySection.size()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(violationsBySection.get(sectionIndex));
+    }
+
+    // Returns the violations overlapping the given range of offsets along the route.
+    @NonNull
+    public List<Violation> getViolationsBetween(double fromOffsetInMeters, double toOffsetInMeters) {
+        List<Violation> result = new ArrayList<>();
+        // Violations starting before this offset cannot reach the given range.
+        int index = firstIndexStartingAtOrAfter(fromOffsetInMeters - maxViolationLengthInMeters);
+        for (; index < violations.size(); index++) {
+            Violation violation = violations.get(index);
+            if (violation.startOffsetInMeters > toOffsetInMeters) {
+                break;
+            }
+            if (violation.endOffsetInMeters >= fromOffsetInMeters) {
+                result.add(violation);
+            }
+        }
+        return result;
+    }
+
+    // Returns the violations that are not contained in the given report of a previous route.
+    // All violations are new if there is no previous report.
+    @NonNull
+    public List<Violation> getNewViolations(@Nullable RouteViolationReport previousReport) {
+        if (previousReport == null) {
+            return violations;
+        }
+        List<Violation> newViolations = new ArrayList<>();
+        for (Violation violation : violations) {
+            if (!previousReport.keys.contains(violation.key)) {
+                newViolations.add(violation);
+            }
+        }
+        return newViolations;
+    }
+
+    public void log() {
+        Log.d(TAG, "Log route violations (if any).");
+        log(violations);
+    }
+
+    public static void log(@NonNull List<Violation> violations) {
+        for (Violation violation : violations) {
+            Log.d(TAG, violation.toString());
+            for (String detail : violation.details) {
+                Log.d("ViolatedRestriction", "Section " + violation.sectionIndex + ": " + detail);
+            }
+        }
+    }
+
+    private int firstIndexStartingAtOrAfter(double offsetInMeters) {
+        int low = 0;
+        int high = violations.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (violations.get(middle).startOffsetInMeters < offsetInMeters) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Describes the violated truck vehicle restrictions of a notice.
+    private static List<String> describe(SectionNotice sectionNotice) {
+        List<String> details = new ArrayList<>();
+        for (ViolatedRestriction violatedRestriction : sectionNotice.violatedRestrictions) {
+            // A human readable description of the violated restriction.
+            details.add("RouteViolation cause: " + violatedRestriction.cause);
+            // If true, the violated restriction is time-dependent.
+            details.add("timeDependent: " + violatedRestriction.timeDependent);
+            ViolatedRestriction.Details restrictionDetails = violatedRestriction.details;
+            if (restrictionDetails == null) {
+                // No details. This may happen when the route violates a time-dependent restriction,
+                // for example, when trucks are not allowed on this section in the given time frame.
+                continue;
+            }
+            // The provided VehicleSpecification or RoutingOptions are violated by the below values.
+            if (restrictionDetails.maxWeight != null) {
+                details.add("Exceeded maxWeightInKilograms: " + restrictionDetails.maxWeight);
+            }
+            if (restrictionDetails.maxWeightPerAxleInKilograms != null) {
+                details.add("Exceeded maxWeightPerAxleInKilograms: " + restrictionDetails.maxWeightPerAxleInKilograms);
+            }
+            if (restrictionDetails.maxHeightInCentimeters != null) {
+                details.add("Exceeded maxHeightInCentimeters: " + restrictionDetails.maxHeightInCentimeters);
+            }
+            if (restrictionDetails.maxWidthInCentimeters != null) {
+                details.add("Exceeded maxWidthInCentimeters: " + restrictionDetails.maxWidthInCentimeters);
+            }
+            if (restrictionDetails.maxLengthInCentimeters != null) {
+                details.add("Exceeded maxLengthInCentimeters: " + restrictionDetails.maxLengthInCentimeters);
+            }
+            if (restrictionDetails.forbiddenAxleCount != null) {
+                details.add("Inside of forbiddenAxleCount range: " + restrictionDetails.forbiddenAxleCount.min
+                        + " - " + restrictionDetails.forbiddenAxleCount.max);
+            }
+            if (restrictionDetails.forbiddenTrailerCount != null) {
+                details.add("Inside of forbiddenTrailerCount range: " + restrictionDetails.forbiddenTrailerCount.min
+                        + " - " + restrictionDetails.forbiddenTrailerCount.max);
+            }
+            if (restrictionDetails.maxTunnelCategory != null) {
+                details.add("Exceeded maxTunnelCategory: " + restrictionDetails.maxTunnelCategory.name());
+            }
+            if (restrictionDetails.forbiddenTruckCategory != null) {
+                details.add("ForbiddenTruckCategory is required: " + restrictionDetails.forbiddenTruckCategory.name());
+            }
+            if (restrictionDetails.timeRule != null) {
+                details.add("Violated time restriction: " + restrictionDetails.timeRule.getTimeRuleString());
+            }
+            for (HazardousMaterial hazardousMaterial : restrictionDetails.forbiddenHazardousGoods) {
+                details.add("Forbidden hazardousMaterial carried: " + hazardousMaterial.name());
+            }
+        }
+        return details;
+    }
+}
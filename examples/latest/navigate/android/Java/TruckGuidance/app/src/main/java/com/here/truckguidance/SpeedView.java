@@ -1,25 +1,7 @@
-/*
- * Copyright (C) 2019-2026 HERE Europe B.V.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *     http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- *
- * SPDX-License-Identifier: Apache-2.0
- * License-Filename: LICENSE
- */
-
 package com.here.truckguidance;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -28,9 +10,12 @@ import android.util.TypedValue;
 import android.view.View;
 
 // A simple view to show the current speed limit or current driving speed.
+// The view is only redrawn when the shown text changes. The circles do not depend on the shown
+// value, so they are rendered once into a bitmap that is reused for each draw.
 public class SpeedView extends View {
 
-    private Paint paint;
+    private final Paint paint;
+    private final Paint textPaint;
     private String speedText = "";
     private String labelText = "";
 
@@ -44,9 +29,23 @@ public class SpeedView extends View {
     private int wInDP = 50;
     private int hInDP = wInDP + yMarginInDP + textSizeInDP;
 
+    // The pre-rendered circles and the color they were rendered with.
+    private Bitmap backgroundBitmap;
+    private int backgroundBitmapColor;
+
+    // The text layout, updated only when a text changes.
+    private float speedTextWidth;
+    private float labelTextWidth;
+    private final float textCenterOffsetY;
+
     public SpeedView(Context context) {
         super(context);
         paint = new Paint();
+        textPaint = new Paint();
+        textPaint.setColor(Color.BLACK);
+        textPaint.setTextSize(getPixels(textSizeInDP));
+        textPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
+        textCenterOffsetY = -(textPaint.descent() + textPaint.ascent()) / 2;
     }
 
     public int getWidthInDP() {
@@ -63,12 +62,21 @@ public class SpeedView extends View {
     }
 
     public void setSpeedLimit(String text) {
+        if (speedText.equals(text)) {
+            // The shown value did not change, no redraw needed.
+            return;
+        }
         this.speedText = text;
+        speedTextWidth = textPaint.measureText(text);
         redraw();
     }
 
     public void setLabel(String text) {
+        if (labelText.equals(text)) {
+            return;
+        }
         this.labelText = text;
+        labelTextWidth = textPaint.measureText(text);
         redraw();
     }
 
@@ -76,17 +84,39 @@ public class SpeedView extends View {
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
 
+        // Draw the outer and the inner circle.
+        canvas.drawBitmap(getBackgroundBitmap(), getPixels(xInDP), getPixels(yInDP) + getPixels(textSizeInDP), null);
+
+        drawSpeedValue(canvas);
+        drawLabel(canvas);
+    }
+
+    // Renders the circles into a bitmap. Rendered again only when the circle color has changed.
+    private Bitmap getBackgroundBitmap() {
+        if (backgroundBitmap != null && backgroundBitmapColor == circleColor) {
+            return backgroundBitmap;
+        }
+
+        float radius = getRadius();
+        if (backgroundBitmap == null) {
+            int size = (int) (radius * 2);
+            backgroundBitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+        } else {
+            backgroundBitmap.eraseColor(Color.TRANSPARENT);
+        }
+        Canvas backgroundCanvas = new Canvas(backgroundBitmap);
+
         // Draw the outer circle.
         paint.setColor(circleColor);
-        canvas.drawCircle(getCircleCenterX(), getCircleCenterY(), getRadius(), paint);
+        backgroundCanvas.drawCircle(radius, radius, radius, paint);
 
         // Draw the inner circle.
         paint.setColor(Color.WHITE);
         float innerCircleRadius = getPixels((int) (wInDP * 0.37));
-        canvas.drawCircle(getCircleCenterX(), getCircleCenterY(), innerCircleRadius, paint);
+        backgroundCanvas.drawCircle(radius, radius, innerCircleRadius, paint);
 
-        drawSpeedValue(canvas);
-        drawLabel(canvas);
+        backgroundBitmapColor = circleColor;
+        return backgroundBitmap;
     }
 
     private float getRadius() {
@@ -108,13 +138,9 @@ public class SpeedView extends View {
         }
 
         // Draw the speed text centered in circle.
-        paint.setColor(Color.BLACK);
-        paint.setTextSize(getPixels(textSizeInDP));
-        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
-        float textWidth = paint.measureText(speedText);
-        float textCenterX = getCircleCenterX() - (textWidth / 2);
-        float textCenterY = getCircleCenterY() - (paint.descent() + paint.ascent()) / 2;
-        canvas.drawText(speedText, textCenterX, textCenterY, paint);
+        float textCenterX = getCircleCenterX() - (speedTextWidth / 2);
+        float textCenterY = getCircleCenterY() + textCenterOffsetY;
+        canvas.drawText(speedText, textCenterX, textCenterY, textPaint);
     }
 
     private void drawLabel(Canvas canvas) {
@@ -124,15 +150,11 @@ public class SpeedView extends View {
         }
 
         // Draw the label centered on top of the circle.
-        paint.setColor(Color.BLACK);
-        paint.setTextSize(getPixels(textSizeInDP));
-        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
-        float textWidth = paint.measureText(labelText);
-        float radius = getPixels(wInDP / 2);
+        float radius = getRadius();
         float circleCenterY = getCircleCenterY() - radius - getPixels(yMarginInDP * 2);
-        float textCenterX = getCircleCenterX() - (textWidth / 2);
-        float textCenterY = circleCenterY - (paint.descent() + paint.ascent()) / 2;
-        canvas.drawText(labelText, textCenterX, textCenterY, paint);
+        float textCenterX = getCircleCenterX() - (labelTextWidth / 2);
+        float textCenterY = circleCenterY + textCenterOffsetY;
+        canvas.drawText(labelText, textCenterX, textCenterY, textPaint);
     }
 
     // Get pixel size for this particular device based on its display metrics.
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.truckguidance;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.sdk.core.TimeRule;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Caches whether the time rules of truck restrictions apply at the time the truck is predicted to arrive
+// at the restriction, instead of evaluating each rule against "now" whenever a warning is delivered.
+// Arrival times are grouped into coarse time buckets: A rule is evaluated only once per bucket and the
+// result is cached per rule and bucket. The results of the most recently used rule and bucket pairs are
+// kept, so that several restrictions ahead, or an ETA that moves back and forth between two buckets, do
+// not cause the same rule to be evaluated again and again.
+//
+// A rule is evaluated at the start of the bucket that contains the arrival time. If the rule starts or ends
+// within that bucket, the cached result is wrong for the arrivals between the start of the bucket and the
+// boundary of the rule, so the error is less than one bucket size. For example, with 5-minute buckets a rule
+// that starts at 22:03 is reported as not applying for arrivals from 22:03 to 22:04:59.999.
+public class TimeRuleCache {
+
+    // Provides the current time. Can be replaced to evaluate rules against a fixed time.
+    public interface Clock {
+        long currentTimeMillis();
+    }
+
+    // Evaluates a single time rule. Wraps a TimeRule of the HERE SDK, but also allows custom rules.
+    public interface Rule {
+        boolean appliesTo(@NonNull Date date);
+    }
+
+    // The default size of a time bucket. Time rules are usually defined in minutes or hours.
+    public static final long DEFAULT_BUCKET_SIZE_IN_MILLISECONDS = 5 * 60 * 1000;
+
+    // Used to predict the arrival time when the truck stands still or the speed is unknown.
+    private static final double MIN_SPEED_IN_METERS_PER_SECOND = 1;
+    private static final double FALLBACK_SPEED_IN_METERS_PER_SECOND = 50 / 3.6; // 50 km/h
+
+    // The maximum number of cached rule and bucket pairs.
+    private static final int MAX_ENTRY_COUNT = 64;
+
+    // Identifies the result of a rule in a bucket.
+    private static final class Key {
+        String rule;
+        long bucket;
+
+        Key(String rule, long bucket) {
+            this.rule = rule;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return bucket == key.bucket && rule.equals(key.rule);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * rule.hashCode() + Long.hashCode(bucket);
+        }
+    }
+
+    private final Clock clock;
+    private final long bucketSizeInMilliseconds;
+    // In access order, so that the least recently used result is removed first.
+    private final LinkedHashMap<Key, Boolean> entries = new LinkedHashMap<Key, Boolean>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Boolean> eldest) {
+            return size() > MAX_ENTRY_COUNT;
+        }
+    };
+    // Reused to look up results without allocating a new key per lookup.
+    private final Key lookupKey = new Key("", 0);
+    // Reused to evaluate rules without allocating a new Date per evaluation.
+    private final Date bucketDate = new Date();
+    private int evaluationCount;
+    private int hitCount;
+
+    public TimeRuleCache() {
+        this(System::currentTimeMillis, DEFAULT_BUCKET_SIZE_IN_MILLISECONDS);
+    }
+
+    public TimeRuleCache(@NonNull Clock clock, long bucketSizeInMilliseconds) {
+        if (bucketSizeInMilliseconds <= 0) {
+            throw new IllegalArgumentException("Bucket size must be positive: " + bucketSizeInMilliseconds);
+        }
+        this.clock = clock;
+        this.bucketSizeInMilliseconds = bucketSizeInMilliseconds;
+    }
+
+    // Predicts when a restriction at the given distance ahead will be reached at the given driving speed.
+    public long predictArrivalTimeInMilliseconds(double distanceInMeters, @Nullable Double speedInMetersPerSecond) {
+        double speed = FALLBACK_SPEED_IN_METERS_PER_SECOND;
+        if (speedInMetersPerSecond != null && speedInMetersPerSecond >= MIN_SPEED_IN_METERS_PER_SECOND) {
+            speed = speedInMetersPerSecond;
+        }
+        long travelTimeInMilliseconds = (long) (Math.max(0, distanceInMeters) / speed * 1000);
+        return clock.currentTimeMillis() + travelTimeInMilliseconds;
+    }
+
+    // Checks if the given time rule applies when the truck arrives at a restriction at the given distance.
+    public boolean appliesAt(@NonNull TimeRule timeRule,
+                             double distanceInMeters,
+                             @Nullable Double speedInMetersPerSecond) {
+        long arrivalTimeInMilliseconds = predictArrivalTimeInMilliseconds(distanceInMeters, speedInMetersPerSecond);
+        return appliesAt(timeRule.getTimeRuleString(), timeRule::appliesTo, arrivalTimeInMilliseconds);
+    }
+
+    // Checks if a rule applies at the given arrival time. Rules with the same key must evaluate the same.
+    // The rule is evaluated at the start of the bucket that contains the arrival time, see the class comment
+    // for the resulting error.
+    public boolean appliesAt(@NonNull String key, @NonNull Rule rule, long arrivalTimeInMilliseconds) {
+        long bucket = Math.floorDiv(arrivalTimeInMilliseconds, bucketSizeInMilliseconds);
+        lookupKey.rule = key;
+        lookupKey.bucket = bucket;
+        Boolean cachedApplies = entries.get(lookupKey);
+        if (cachedApplies != null) {
+            hitCount++;
+            return cachedApplies;
+        }
+
+        bucketDate.setTime(bucket * bucketSizeInMilliseconds);
+        boolean applies = rule.appliesTo(bucketDate);
+        entries.put(new Key(key, bucket), applies);
+        evaluationCount++;
+        return applies;
+    }
+
+    // Drops all cached results, for example, when a new route was calculated.
+    public void clear() {
+        entries.clear();
+    }
+
+    public int getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+}
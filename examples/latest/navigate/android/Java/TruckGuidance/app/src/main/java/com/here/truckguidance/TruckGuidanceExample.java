@@ -35,6 +35,7 @@ import com.here.sdk.core.GeoCorridor;
 import com.here.sdk.core.GeoOrientationUpdate;
 import com.here.sdk.core.GeoPolyline;
 import com.here.sdk.core.LanguageCode;
+import com.here.sdk.core.Location;
 import com.here.sdk.core.PickedPlace;
 import com.here.sdk.core.Point2D;
 import com.here.sdk.core.Rectangle2D;
@@ -79,11 +80,7 @@ import com.here.sdk.routing.RoadFeatures;
 import com.here.sdk.routing.Route;
 import com.here.sdk.routing.RoutingEngine;
 import com.here.sdk.routing.RoutingError;
-import com.here.sdk.routing.Section;
-import com.here.sdk.routing.SectionNotice;
-import com.here.sdk.routing.Span;
 import com.here.sdk.routing.RoutingOptions;
-import com.here.sdk.routing.ViolatedRestriction;
 import com.here.sdk.routing.Waypoint;
 import com.here.sdk.routing.ZoneCategory;
 import com.here.sdk.search.CategoryQuery;
@@ -105,7 +102,6 @@ import com.here.time.Duration;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -132,9 +128,16 @@ public class TruckGuidanceExample {
     private final VisualNavigator visualNavigator;
     private final Navigator navigator;
     private final List<String> activeTruckRestrictionWarnings = new ArrayList<>();
+    private final TimeRuleCache timeRuleCache = new TimeRuleCache();
+    private Double lastDrivingSpeedInMetersPerSecond;
+    // The time spent by each navigator to process location updates. Logged when rendering stops.
+    private long locationUpdateCount;
+    private long visualNavigatorUpdateNanos;
+    private long navigatorUpdateNanos;
     private final HEREPositioningSimulator herePositioningSimulator;
     private double simulationSpeedFactor = 1;
     private Route lastCalculatedTruckRoute;
+    private RouteViolationReport lastCalculatedTruckRouteViolations;
     private boolean isGuidance = false;
     private boolean isTracking = false;
     private MainActivity.UICallback uiCallback;
@@ -173,6 +176,10 @@ public class TruckGuidanceExample {
             // A headless Navigator to receive car speed limits in parallel.
             // This instance is running in tracking mode for its entire lifetime.
             // By default, the navigator will receive car speed limits.
+            // A single navigator cannot provide both: Its speed limit events and the spans of the truck route
+            // only carry the limits for the transport mode of the truck, so car limits derived from them are
+            // truck limits. The second navigator costs one more map-matching per location update, which is
+            // logged when rendering stops, see logLocationUpdateCost().
             navigator = new Navigator();
         } catch (InstantiationErrorException e) {
             throw new RuntimeException("Initialization of Navigator failed: " + e.error.name());
@@ -384,6 +391,7 @@ public class TruckGuidanceExample {
             @Override
             public void onNavigableLocationUpdated(@NonNull NavigableLocation currentNavigableLocation) {
                 Double drivingSpeed = currentNavigableLocation.originalLocation.speedInMetersPerSecond;
+                lastDrivingSpeedInMetersPerSecond = drivingSpeed;
                 // Note that we ignore speedAccuracyInMetersPerSecond here for simplicity.
                 if (drivingSpeed == null) {
                     uiCallback.onDrivingSpeed("n/a");
@@ -419,19 +427,7 @@ public class TruckGuidanceExample {
         // Note that this navigator instance is running in tracking mode without following a route.
         // It receives the same location updates as the visual navigator.
         navigator.setSpeedLimitListener(speedLimit -> {
-            Double currentSpeedLimit = speedLimit.effectiveSpeedLimitInMetersPerSecond();
-            if (currentSpeedLimit == null) {
-                Log.d(TAG, "Warning: Car speed limits unknown, data could not be retrieved.");
-                uiCallback.onCarSpeedLimit("n/a");
-            } else if (currentSpeedLimit == 0) {
-                Log.d(TAG, "No speed limits for cars on this road! Drive as fast as you feel safe ...");
-                uiCallback.onCarSpeedLimit("NSL");
-            } else {
-                Log.d(TAG, "Current car speed limit (m/s):" + currentSpeedLimit);
-                // For this example, we keep it simple and show speed limits only km/h.
-                int kmh = (int) metersPerSecondToKilometersPerHour(currentSpeedLimit);
-                uiCallback.onCarSpeedLimit("" + kmh);
-            }
+            updateCarSpeedLimit(speedLimit.effectiveSpeedLimitInMetersPerSecond());
         });
 
         // Notifies truck drivers on road restrictions ahead. Called whenever there is a change.
@@ -445,12 +441,16 @@ public class TruckGuidanceExample {
             public void onTruckRestrictionsWarningUpdated(@NonNull List<TruckRestrictionWarning> list) {
                 // The list is guaranteed to be non-empty.
                 for (TruckRestrictionWarning truckRestrictionWarning : list) {
-                    if (truckRestrictionWarning.timeRule != null && !truckRestrictionWarning.timeRule.appliesTo(new Date())) {
-                        // For example, during a specific time period of a day, some truck restriction warnings do not apply.
-                        // If truckRestrictionWarning.timeRule is null, the warning applies at anytime.
+                    // For example, during a specific time period of a day, some truck restriction warnings do not apply.
+                    // If truckRestrictionWarning.timeRule is null, the warning applies at anytime.
+                    // The rule is checked for the time when the truck is expected to reach the restriction.
+                    if (truckRestrictionWarning.timeRule != null && !timeRuleCache.appliesAt(
+                            truckRestrictionWarning.timeRule,
+                            truckRestrictionWarning.distanceInMeters,
+                            lastDrivingSpeedInMetersPerSecond)) {
                         // Note: For this example, we do not skip any restriction.
                         // continue;
-                        Log.d(TAG, "Note that this truck restriction warning currently does not apply.");
+                        Log.d(TAG, "Note that this truck restriction warning does not apply at the estimated time of arrival.");
                     }
 
                     // The trailer count for which the current restriction applies.
@@ -522,6 +522,21 @@ public class TruckGuidanceExample {
         // For more warners and events during guidance, please check the Navigation example app, available on GitHub.
     }
 
+    private void updateCarSpeedLimit(Double currentSpeedLimit) {
+        if (currentSpeedLimit == null) {
+            Log.d(TAG, "Warning: Car speed limits unknown, data could not be retrieved.");
+            uiCallback.onCarSpeedLimit("n/a");
+        } else if (currentSpeedLimit == 0) {
+            Log.d(TAG, "No speed limits for cars on this road! Drive as fast as you feel safe ...");
+            uiCallback.onCarSpeedLimit("NSL");
+        } else {
+            Log.d(TAG, "Current car speed limit (m/s):" + currentSpeedLimit);
+            // For this example, we keep it simple and show speed limits only km/h.
+            int kmh = (int) metersPerSecondToKilometersPerHour(currentSpeedLimit);
+            uiCallback.onCarSpeedLimit("" + kmh);
+        }
+    }
+
     private void handleWeightTruckWarning(WeightRestriction weightRestriction, DistanceType distanceType) {
         WeightRestrictionType type = weightRestriction.type;
         int value = weightRestriction.valueInKilograms;
@@ -664,6 +679,12 @@ public class TruckGuidanceExample {
         return waypoints;
     }
 
+    // Returns the violations of the last calculated truck route, or null if no route was calculated yet.
+    @Nullable
+    public RouteViolationReport getRouteViolationReport() {
+        return lastCalculatedTruckRouteViolations;
+    }
+
     public void onShowRouteButtonClicked() {
         routingEngine.calculateRoute(getCurrentWaypoints(), createTruckOptions(), (routingError, list) -> {
             handleTruckRouteResults(routingError, list);
@@ -717,12 +738,37 @@ public class TruckGuidanceExample {
     private void startRendering() {
         visualNavigator.startRendering(mapView);
         herePositioningSimulator.setSpeedFactor(simulationSpeedFactor);
-        herePositioningSimulator.startLocating(visualNavigator, navigator, lastCalculatedTruckRoute);
+        herePositioningSimulator.startLocating(this::onLocationUpdated, lastCalculatedTruckRoute);
+    }
+
+    // Forwards the simulated locations to both navigators and measures the time each navigator
+    // spends per update. Replaying the same route shows the cost of the headless navigator.
+    private void onLocationUpdated(@NonNull Location location) {
+        long startTimeNanos = System.nanoTime();
+        visualNavigator.onLocationUpdated(location);
+        long visualNavigatorTimeNanos = System.nanoTime();
+        navigator.onLocationUpdated(location);
+        visualNavigatorUpdateNanos += visualNavigatorTimeNanos - startTimeNanos;
+        navigatorUpdateNanos += System.nanoTime() - visualNavigatorTimeNanos;
+        locationUpdateCount++;
+    }
+
+    // Logs the average time spent per location update by each navigator.
+    private void logLocationUpdateCost() {
+        if (locationUpdateCount > 0) {
+            Log.d(TAG, locationUpdateCount + " location updates, average in microseconds: visual navigator: "
+                    + visualNavigatorUpdateNanos / locationUpdateCount / 1000
+                    + ", headless navigator: " + navigatorUpdateNanos / locationUpdateCount / 1000);
+        }
+        locationUpdateCount = 0;
+        visualNavigatorUpdateNanos = 0;
+        navigatorUpdateNanos = 0;
     }
 
     private void stopRendering() {
         visualNavigator.stopRendering();
         herePositioningSimulator.stopLocating();
+        logLocationUpdateCost();
         uiCallback.onDrivingSpeed("n/a");
         uiCallback.onTruckSpeedLimit("n/a");
         uiCallback.onCarSpeedLimit("n/a");
@@ -755,14 +801,24 @@ public class TruckGuidanceExample {
 
         // When routingError is nil, routes is guaranteed to contain at least one route.
         lastCalculatedTruckRoute = routes.get(0);
+        // Time rules are evaluated anew for the restrictions along the new route.
+        timeRuleCache.clear();
+
+        // The violations are computed once per route. For the route that is used for guidance,
+        // they are compared with the previous route.
+        RouteViolationReport violationReport = RouteViolationReport.create(lastCalculatedTruckRoute);
+        announceRouteViolations(violationReport);
+        lastCalculatedTruckRouteViolations = violationReport;
+
+        // Log the violations of the alternative routes, if any.
+        for (int i = 1; i < routes.size(); i++) {
+            Log.d(TAG, "Violations of alternative route " + i + ":");
+            RouteViolationReport.create(routes.get(i)).log();
+        }
 
         // Search along the route for truck amenities.
         searchAlongARoute(lastCalculatedTruckRoute);
 
-        for (Route route : routes) {
-            logRouteViolations(route);
-        }
-
         Color truckRouteColor = Color.valueOf(0, 0.6f, 1, 1); // RGBA
         int truckRouteWidthInPixels = 30;
         showRouteOnMap(lastCalculatedTruckRoute, truckRouteColor, truckRouteWidthInPixels);
@@ -792,96 +848,14 @@ public class TruckGuidanceExample {
 
     // A route may contain several warnings, for example, when a certain route option could not be fulfilled.
     // An implementation may decide to reject a route if one or more violations are detected.
-    private void logRouteViolations(Route route) {
-        Log.d("RouteViolations", "Log route violations (if any).");
-        List<Section> sections = route.getSections();
-        int sectionNr = -1;
-        for (Section section : sections) {
-            sectionNr++;
-            for (Span span : section.getSpans()) {
-                List<GeoCoordinates> spanGeometryVertices = span.getGeometry().vertices;
-                // This route violation spreads across the whole span geometry.
-                GeoCoordinates violationStartPoint = spanGeometryVertices.get(0);
-                GeoCoordinates violationEndPoint = spanGeometryVertices.get(spanGeometryVertices.size() - 1);
-                for (int index : span.getNoticeIndexes()) {
-                    SectionNotice spanSectionNotice = section.getSectionNotices().get(index);
-                    // The violation code such as "VIOLATED_VEHICLE_RESTRICTION".
-                    // For example, if code is VIOLATED_AVOID_FERRY, then the route contains a ferry, although it
-                    // was requested to avoid ferries in RouteOptions.AvoidanceOptions.
-                    String violationCode = spanSectionNotice.code.toString();
-                    Log.d(TAG, "Section " + sectionNr + ": " + "The violation " + violationCode + " starts at " + toString(violationStartPoint) + " and ends at " + toString(violationEndPoint) + " .");
-                }
-            }
-            for (SectionNotice sectionNotice : section.getSectionNotices()) {
-                // Get violated truck vehicle restrictions.
-                for (ViolatedRestriction violatedRestriction : sectionNotice.violatedRestrictions) {
-                    // A human readable description of the violated restriction.
-                    String cause = violatedRestriction.cause;
-                    Log.d("ViolatedRestriction", "RouteViolation cause: " + cause);
-                    // If true, the violated restriction is time-dependent.
-                    boolean timeDependent = violatedRestriction.timeDependent;
-                    Log.d("ViolatedRestriction", "timeDependent: " + timeDependent);
-                    ViolatedRestriction.Details details = violatedRestriction.details;
-                    if (details == null) {
-                        // No details. This may happen when the route violates a time-dependent restriction,
-                        // for example, when trucks are not allowed on this section in the given time frame.
-                        continue;
-                    }
-                    // The provided VehicleSpecification or RoutingOptions are violated by the below values.
-                    if (details.maxWeight != null) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "Exceeded maxWeightInKilograms: " + details.maxWeight);
-                    }
-                    if (details.maxWeightPerAxleInKilograms != null) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "Exceeded maxWeightPerAxleInKilograms: " + details.maxWeightPerAxleInKilograms);
-                    }
-                    if (details.maxHeightInCentimeters != null) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "Exceeded maxHeightInCentimeters: " + details.maxHeightInCentimeters);
-                    }
-                    if (details.maxWidthInCentimeters != null) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "Exceeded maxWidthInCentimeters: " + details.maxWidthInCentimeters);
-                    }
-                    if (details.maxLengthInCentimeters != null) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "Exceeded maxLengthInCentimeters: " + details.maxLengthInCentimeters);
-                    }
-                    if (details.forbiddenAxleCount != null) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "Inside of forbiddenAxleCount range: " + details.forbiddenAxleCount.min
-                                + " - " + details.forbiddenAxleCount.max);
-                    }
-                    if (details.forbiddenTrailerCount != null) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "Inside of forbiddenTrailerCount range: " + details.forbiddenTrailerCount.min
-                                + " - " + details.forbiddenAxleCount.max);
-                    }
-                    if (details.maxTunnelCategory != null) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "Exceeded maxTunnelCategory: " + details.maxTunnelCategory.name());
-                    }
-                    if (details.forbiddenTruckCategory != null) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "ForbiddenTruckCategory is required: " + details.forbiddenTruckCategory.name());
-                    }
-                    if (details.timeRule != null) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "Violated time restriction: " + details.timeRule.getTimeRuleString());
-                    }
-
-                    for (HazardousMaterial hazardousMaterial : details.forbiddenHazardousGoods) {
-                        Log.d("ViolatedRestriction", "Section " + sectionNr + ": " +
-                                "Forbidden hazardousMaterial carried: " + hazardousMaterial.name());
-                    }
-                }
-            }
+    // Only violations that were not already part of the previously calculated route are announced.
+    private void announceRouteViolations(RouteViolationReport violationReport) {
+        List<RouteViolationReport.Violation> newViolations = violationReport.getNewViolations(lastCalculatedTruckRouteViolations);
+        if (lastCalculatedTruckRouteViolations != null && !violationReport.isEmpty()) {
+            Log.d(TAG, "The route contains " + violationReport.getViolations().size() + " violation(s), "
+                    + newViolations.size() + " of them are new.");
         }
-    }
-
-    private String toString(GeoCoordinates geoCoordinates) {
-        return geoCoordinates.latitude + ", " + geoCoordinates.longitude;
+        RouteViolationReport.log(newViolations);
     }
 
     private void searchAlongARoute(Route route) {
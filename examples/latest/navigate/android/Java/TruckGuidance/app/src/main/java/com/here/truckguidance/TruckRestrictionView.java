@@ -1,6 +1,7 @@
 package com.here.truckguidance;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -11,9 +12,12 @@ import android.util.TypedValue;
 import android.view.View;
 
 // A simple view to show the next TruckRestrictionWarning event.
+// The view is only redrawn when the shown description changes. The background rectangle does not
+// depend on the description, so it is rendered once into a bitmap that is reused for each draw.
 public class TruckRestrictionView extends View  {
 
-    private Paint paint;
+    private final Paint paint;
+    private final Paint textPaint;
     private String description = "";
 
     private int textSizeInDP = 15;
@@ -24,9 +28,19 @@ public class TruckRestrictionView extends View  {
     private int wInDP = 160;
     private int hInDP = 40;
 
+    // The pre-rendered background rectangle.
+    private Bitmap backgroundBitmap;
+    // The bounds of the description, updated only when the description changes.
+    private final Rect textBounds = new Rect();
+
     public TruckRestrictionView(Context context) {
         super(context);
         paint = new Paint();
+        textPaint = new Paint();
+        textPaint.setStyle(Paint.Style.FILL);
+        textPaint.setTextSize(getPixels(textSizeInDP));
+        textPaint.setColor(Color.BLACK);
+        textPaint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
     }
 
     public int getWidthInDP() {
@@ -43,11 +57,19 @@ public class TruckRestrictionView extends View  {
     }
 
     public void onTruckRestrictionWarning(String description) {
+        if (this.description.equals(description)) {
+            // The shown warning did not change, no redraw needed.
+            return;
+        }
         this.description = description;
+        textPaint.getTextBounds(description, 0, description.length(), textBounds);
         redraw();
     }
 
     public void onHideTruckRestrictionWarning() {
+        if (description.isEmpty()) {
+            return;
+        }
         description = "";
         redraw();
     }
@@ -56,60 +78,56 @@ public class TruckRestrictionView extends View  {
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
 
-        if (description == "") {
+        if (description.isEmpty()) {
             // Nothing to draw: Clear any previous content.
             return;
         }
 
-        RectF rect = drawBackgroundRectangle(canvas);
-        drawDescriptionInRect(rect, canvas);
-    }
-
-    private RectF drawBackgroundRectangle(Canvas canvas) {
-        paint.setColor(Color.WHITE);
         int left = getPixels(xInDP);
         int top = getPixels(yInDP);
-        int right = getPixels(xInDP) + getPixels(wInDP);
-        int bottom = getPixels(yInDP) + getPixels(hInDP);
-        RectF rectf = new RectF(left, top, right, bottom);
+        canvas.drawBitmap(getBackgroundBitmap(), left, top, null);
+        drawDescription(canvas, left + getPixels(wInDP) / 2f, top + getPixels(hInDP) / 2f);
+    }
+
+    // Renders the background rectangle into a bitmap once.
+    private Bitmap getBackgroundBitmap() {
+        if (backgroundBitmap != null) {
+            return backgroundBitmap;
+        }
+
+        int width = getPixels(wInDP);
+        int height = getPixels(hInDP);
+        backgroundBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        Canvas backgroundCanvas = new Canvas(backgroundBitmap);
 
         // Set the inner stroke color and width.
         paint.setStyle(Paint.Style.FILL);
         paint.setStrokeWidth(15);
 
         // Calculate the adjusted rectangle for the inner stroke.
-        float innerAdjustedLeft = left + paint.getStrokeWidth() / 2;
-        float innerAdjustedTop = top + paint.getStrokeWidth() / 2;
-        float innerAdjustedRight = right - paint.getStrokeWidth() / 2;
-        float innerAdjustedBottom = bottom - paint.getStrokeWidth() / 2;
-        RectF innerAdjustedRectF = new RectF(innerAdjustedLeft, innerAdjustedTop, innerAdjustedRight, innerAdjustedBottom);
+        float halfStrokeWidth = paint.getStrokeWidth() / 2;
+        RectF innerAdjustedRectF = new RectF(halfStrokeWidth, halfStrokeWidth,
+                width - halfStrokeWidth, height - halfStrokeWidth);
 
         // Draw the white background.
         paint.setColor(Color.WHITE);
-        canvas.drawRoundRect(innerAdjustedRectF, 10, 10, paint);
+        backgroundCanvas.drawRoundRect(innerAdjustedRectF, 10, 10, paint);
 
         // Set the inner stroke color.
         paint.setColor(Color.RED);
         paint.setStyle(Paint.Style.STROKE);
 
         // Draw the inner stroke.
-        canvas.drawRoundRect(innerAdjustedRectF, 10, 10, paint);
+        backgroundCanvas.drawRoundRect(innerAdjustedRectF, 10, 10, paint);
 
-        return rectf;
+        return backgroundBitmap;
     }
 
-    private void drawDescriptionInRect(RectF rect, Canvas canvas) {
-        paint.setStyle(Paint.Style.FILL);
-        paint.setTextSize(getPixels(textSizeInDP));
-        paint.setColor(Color.BLACK);
-        paint.setTypeface(Typeface.create(Typeface.DEFAULT, Typeface.BOLD));
-        Rect textBounds = new Rect();
-        paint.getTextBounds(description, 0, description.length(), textBounds);
-        float textX = rect.centerX() - textBounds.width() / 2;
-        float textY = rect.centerY() + textBounds.height() / 2;
-        canvas.drawText(description, textX, textY, paint);
+    private void drawDescription(Canvas canvas, float centerX, float centerY) {
+        float textX = centerX - textBounds.width() / 2;
+        float textY = centerY + textBounds.height() / 2;
+        canvas.drawText(description, textX, textY, textPaint);
     }
-
     // Get pixel size for this particular device based on its display metrics.
     // See https://developer.android.com/training/multiscreen/screendensities
     private int getPixels(int dp) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+
+package com.here.truckguidance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.here.sdk.core.GeoCoordinates;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class RouteViolationReportTest {
+
+    private static final String VEHICLE_RESTRICTION = "VIOLATED_VEHICLE_RESTRICTION";
+    private static final String BLOCKED_ROAD = "VIOLATED_BLOCKED_ROAD";
+
+    private final RouteViolationReport.Violation bridge =
+            createViolation(0, VEHICLE_RESTRICTION, 1000, 1100, 52.1, "Exceeded maxHeightInCentimeters: 280");
+    private final RouteViolationReport.Violation blockedRoad =
+            createViolation(1, BLOCKED_ROAD, 5000, 9000, 52.2);
+    private final RouteViolationReport.Violation weightLimit =
+            createViolation(1, VEHICLE_RESTRICTION, 6000, 6200, 52.3, "Exceeded maxWeightInKilograms: 7500");
+
+    @Test
+    public void violationsAreSortedByOffset() {
+        RouteViolationReport report = new RouteViolationReport(Arrays.asList(weightLimit, bridge, blockedRoad), 2);
+
+        assertFalse(report.isEmpty());
+        assertEquals(Arrays.asList(bridge, blockedRoad, weightLimit), report.getViolations());
+        assertTrue(new RouteViolationReport(Collections.emptyList(), 2).isEmpty());
+    }
+
+    @Test
+    public void getViolationsInSection() {
+        RouteViolationReport report = new RouteViolationReport(Arrays.asList(weightLimit, bridge, blockedRoad), 3);
+
+        assertEquals(Collections.singletonList(bridge), report.getViolationsInSection(0));
+        assertEquals(Arrays.asList(blockedRoad, weightLimit), report.getViolationsInSection(1));
+        assertEquals(Collections.emptyList(), report.getViolationsInSection(2));
+        assertEquals(Collections.emptyList(), report.getViolationsInSection(-1));
+        assertEquals(Collections.emptyList(), report.getViolationsInSection(3));
+    }
+
+    @Test
+    public void getViolationsBetween() {
+        RouteViolationReport report = new RouteViolationReport(Arrays.asList(weightLimit, bridge, blockedRoad), 2);
+
+        assertEquals(Collections.emptyList(), report.getViolationsBetween(0, 999));
+        // The range boundaries are inclusive.
+        assertEquals(Collections.singletonList(bridge), report.getViolationsBetween(0, 1000));
+        assertEquals(Collections.singletonList(bridge), report.getViolationsBetween(1100, 2000));
+        assertEquals(Collections.emptyList(), report.getViolationsBetween(1101, 4999));
+        // The blocked road starts long before the range and still overlaps it.
+        assertEquals(Collections.singletonList(blockedRoad), report.getViolationsBetween(8000, 8500));
+        assertEquals(Arrays.asList(blockedRoad, weightLimit), report.getViolationsBetween(6100, 6150));
+        assertEquals(Arrays.asList(bridge, blockedRoad, weightLimit), report.getViolationsBetween(0, 100000));
+        assertEquals(Collections.emptyList(), report.getViolationsBetween(9001, 100000));
+    }
+
+    @Test
+    public void violationAtAShiftedOffsetIsNotNew() {
+        RouteViolationReport previousReport = new RouteViolationReport(Arrays.asList(bridge, blockedRoad), 2);
+        // The recalculated route takes a detour before the bridge, so the same violation moves along the route.
+        RouteViolationReport.Violation shiftedBridge =
+                createViolation(1, VEHICLE_RESTRICTION, 2500, 2600, 52.1, "Exceeded maxHeightInCentimeters: 280");
+        RouteViolationReport report = new RouteViolationReport(Collections.singletonList(shiftedBridge), 2);
+
+        assertEquals(Collections.emptyList(), report.getNewViolations(previousReport));
+    }
+
+    @Test
+    public void newViolationIsReported() {
+        RouteViolationReport previousReport = new RouteViolationReport(Arrays.asList(bridge, blockedRoad), 2);
+        // The same location with different details is a different violation.
+        RouteViolationReport.Violation lowerBridge =
+                createViolation(0, VEHICLE_RESTRICTION, 1000, 1100, 52.1, "Exceeded maxHeightInCentimeters: 250");
+        RouteViolationReport report = new RouteViolationReport(Arrays.asList(lowerBridge, blockedRoad, weightLimit), 2);
+
+        assertEquals(Arrays.asList(lowerBridge, weightLimit), report.getNewViolations(previousReport));
+    }
+
+    @Test
+    public void allViolationsAreNewWithoutAPreviousReport() {
+        RouteViolationReport report = new RouteViolationReport(Arrays.asList(blockedRoad, bridge), 2);
+
+        List<RouteViolationReport.Violation> newViolations = report.getNewViolations(null);
+
+        assertSame(report.getViolations(), newViolations);
+        assertEquals(Arrays.asList(bridge, blockedRoad), newViolations);
+    }
+
+    // Creates a violation on a road segment running east from the given latitude.
+    private static RouteViolationReport.Violation createViolation(int sectionIndex, String code,
+                                                                 double startOffsetInMeters, double endOffsetInMeters,
+                                                                 double latitude, String... details) {
+        return new RouteViolationReport.Violation(sectionIndex, code, startOffsetInMeters, endOffsetInMeters,
+                new GeoCoordinates(latitude, 13.4), new GeoCoordinates(latitude, 13.401), Arrays.asList(details));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.truckguidance;
+
+import static org.junit.Assert.assertEquals;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Handler;
+import android.os.Looper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+@RunWith(RobolectricTestRunner.class)
+public class SpeedViewTest {
+
+    // Speed updates arrive at 10 Hz for one minute.
+    private static final long UPDATE_INTERVAL_IN_MILLISECONDS = 100;
+    private static final int UPDATE_COUNT = 600;
+
+    // Counts the requested redraws.
+    private static class CountingSpeedView extends SpeedView {
+        int invalidateCount;
+
+        CountingSpeedView(Context context) {
+            super(context);
+        }
+
+        @Override
+        public void invalidate() {
+            invalidateCount++;
+            super.invalidate();
+        }
+    }
+
+    private CountingSpeedView speedView;
+    private Handler handler;
+
+    @Before
+    public void setUp() {
+        speedView = new CountingSpeedView(RuntimeEnvironment.getApplication());
+        handler = new Handler(Looper.getMainLooper());
+    }
+
+    @Test
+    public void unchangedSpeedLimitIsDrawnOnce() {
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            postUpdate(i, "50");
+        }
+        runUpdates();
+
+        assertEquals(1, speedView.invalidateCount);
+    }
+
+    @Test
+    public void speedLimitIsRedrawnOnlyWhenItChanges() {
+        // The speed limit changes every 5 seconds, 12 times within the stream.
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            postUpdate(i, (i / 50) % 2 == 0 ? "50" : "80");
+        }
+        runUpdates();
+
+        assertEquals(12, speedView.invalidateCount);
+    }
+
+    @Test
+    public void unchangedLabelIsDrawnOnce() {
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            handler.postDelayed(() -> speedView.setLabel("Car"), i * UPDATE_INTERVAL_IN_MILLISECONDS);
+        }
+        runUpdates();
+
+        assertEquals(1, speedView.invalidateCount);
+    }
+
+    @Test
+    public void drawingDoesNotRequestRedraws() {
+        Canvas canvas = new Canvas(Bitmap.createBitmap(500, 500, Bitmap.Config.ARGB_8888));
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            final int update = i;
+            handler.postDelayed(() -> {
+                speedView.setSpeedLimit(update < UPDATE_COUNT / 2 ? "50" : "NSL");
+                speedView.draw(canvas);
+            }, i * UPDATE_INTERVAL_IN_MILLISECONDS);
+        }
+        runUpdates();
+
+        assertEquals(2, speedView.invalidateCount);
+    }
+
+    private void postUpdate(int update, String speedLimit) {
+        handler.postDelayed(() -> speedView.setSpeedLimit(speedLimit), update * UPDATE_INTERVAL_IN_MILLISECONDS);
+    }
+
+    private void runUpdates() {
+        shadowOf(Looper.getMainLooper()).idleFor(UPDATE_COUNT * UPDATE_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+}
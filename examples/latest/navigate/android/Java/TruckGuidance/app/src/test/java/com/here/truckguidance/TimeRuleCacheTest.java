@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.truckguidance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TimeRuleCacheTest {
+
+    private static final long MINUTE_IN_MILLISECONDS = 60 * 1000;
+    private static final long BUCKET_SIZE_IN_MILLISECONDS = TimeRuleCache.DEFAULT_BUCKET_SIZE_IN_MILLISECONDS;
+    // 2024-01-01 22:00 UTC, the start of a bucket.
+    private static final long NOW = 1704146400000L;
+
+    private final TimeRuleCache timeRuleCache = new TimeRuleCache(() -> NOW, BUCKET_SIZE_IN_MILLISECONDS);
+
+    @Test
+    public void ruleIsEvaluatedOncePerBucket() {
+        TimeRuleCache.Rule rule = date -> true;
+
+        for (int i = 0; i < 10; i++) {
+            timeRuleCache.appliesAt("rule", rule, NOW + i * 1000);
+        }
+
+        assertEquals(1, timeRuleCache.getEvaluationCount());
+        assertEquals(9, timeRuleCache.getHitCount());
+    }
+
+    @Test
+    public void arrivalMovingBetweenTwoBucketsIsEvaluatedOncePerBucket() {
+        TimeRuleCache.Rule rule = date -> true;
+
+        for (int i = 0; i < 100; i++) {
+            long arrivalTime = NOW + (i % 2 == 0 ? 4 : 6) * MINUTE_IN_MILLISECONDS;
+            timeRuleCache.appliesAt("rule", rule, arrivalTime);
+        }
+
+        assertEquals(2, timeRuleCache.getEvaluationCount());
+    }
+
+    @Test
+    public void rulesOfSeveralRestrictionsAreCachedIndependently() {
+        for (int round = 0; round < 3; round++) {
+            for (int restriction = 0; restriction < 10; restriction++) {
+                final boolean applies = restriction % 2 == 0;
+                long arrivalTime = NOW + restriction * BUCKET_SIZE_IN_MILLISECONDS;
+                assertEquals(applies, timeRuleCache.appliesAt("rule" + restriction, date -> applies, arrivalTime));
+            }
+        }
+
+        assertEquals(10, timeRuleCache.getEvaluationCount());
+    }
+
+    @Test
+    public void clearDropsCachedResults() {
+        TimeRuleCache.Rule rule = date -> true;
+        timeRuleCache.appliesAt("rule", rule, NOW);
+
+        timeRuleCache.clear();
+        timeRuleCache.appliesAt("rule", rule, NOW);
+
+        assertEquals(2, timeRuleCache.getEvaluationCount());
+    }
+
+    // The rule is evaluated at the start of each bucket. Only arrivals between a boundary of the rule and the end
+    // of the bucket that contains it can get a wrong result, so the error is less than one bucket size.
+    @Test
+    public void errorIsLimitedToTheBucketContainingTheRuleBoundary() {
+        final long ruleStart = NOW + 3 * MINUTE_IN_MILLISECONDS;
+        final long ruleEnd = NOW + 47 * MINUTE_IN_MILLISECONDS;
+        TimeRuleCache.Rule rule = date -> date.getTime() >= ruleStart && date.getTime() < ruleEnd;
+
+        long firstWrongArrival = Long.MAX_VALUE;
+        long lastWrongArrival = Long.MIN_VALUE;
+        int wrongCount = 0;
+        for (long arrivalTime = NOW - 30 * MINUTE_IN_MILLISECONDS; arrivalTime < ruleStart + 30 * MINUTE_IN_MILLISECONDS;
+             arrivalTime += 1000) {
+            boolean exact = arrivalTime >= ruleStart && arrivalTime < ruleEnd;
+            if (timeRuleCache.appliesAt("rule", rule, arrivalTime) != exact) {
+                firstWrongArrival = Math.min(firstWrongArrival, arrivalTime);
+                lastWrongArrival = Math.max(lastWrongArrival, arrivalTime);
+                wrongCount++;
+            }
+        }
+
+        assertEquals(ruleStart, firstWrongArrival);
+        assertTrue(lastWrongArrival < NOW + BUCKET_SIZE_IN_MILLISECONDS);
+        assertEquals(2 * 60, wrongCount);
+    }
+
+    @Test
+    public void arrivalIsPredictedFromDistanceAndSpeed() {
+        assertEquals(NOW + 100 * 1000, timeRuleCache.predictArrivalTimeInMilliseconds(2000, 20.0));
+        // Standing still or an unknown speed uses 50 km/h.
+        assertEquals(NOW + 72 * 1000, timeRuleCache.predictArrivalTimeInMilliseconds(1000, 0.0));
+        assertEquals(NOW + 72 * 1000, timeRuleCache.predictArrivalTimeInMilliseconds(1000, null));
+        assertFalse(timeRuleCache.predictArrivalTimeInMilliseconds(-10, 20.0) < NOW);
+    }
+}
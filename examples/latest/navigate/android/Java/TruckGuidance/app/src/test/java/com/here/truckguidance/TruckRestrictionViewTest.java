@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2019-2026 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * License-Filename: LICENSE
+ */
+
+package com.here.truckguidance;
+
+import static org.junit.Assert.assertEquals;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Handler;
+import android.os.Looper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.concurrent.TimeUnit;
+
+@RunWith(RobolectricTestRunner.class)
+public class TruckRestrictionViewTest {
+
+    // Warning updates arrive at 10 Hz for one minute.
+    private static final long UPDATE_INTERVAL_IN_MILLISECONDS = 100;
+    private static final int UPDATE_COUNT = 600;
+
+    // Counts the requested redraws.
+    private static class CountingTruckRestrictionView extends TruckRestrictionView {
+        int invalidateCount;
+
+        CountingTruckRestrictionView(Context context) {
+            super(context);
+        }
+
+        @Override
+        public void invalidate() {
+            invalidateCount++;
+            super.invalidate();
+        }
+    }
+
+    private CountingTruckRestrictionView truckRestrictionView;
+    private Handler handler;
+
+    @Before
+    public void setUp() {
+        truckRestrictionView = new CountingTruckRestrictionView(RuntimeEnvironment.getApplication());
+        handler = new Handler(Looper.getMainLooper());
+    }
+
+    @Test
+    public void unchangedWarningIsDrawnOnce() {
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            handler.postDelayed(() -> truckRestrictionView.onTruckRestrictionWarning("HEIGHT: 3m"),
+                    i * UPDATE_INTERVAL_IN_MILLISECONDS);
+        }
+        runUpdates();
+
+        assertEquals(1, truckRestrictionView.invalidateCount);
+    }
+
+    @Test
+    public void warningIsRedrawnOnlyWhenItChanges() {
+        // The warning changes every 10 seconds, 6 times within the stream.
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            String description = (i / 100) % 2 == 0 ? "HEIGHT: 3m" : "WEIGHT: 7t";
+            handler.postDelayed(() -> truckRestrictionView.onTruckRestrictionWarning(description),
+                    i * UPDATE_INTERVAL_IN_MILLISECONDS);
+        }
+        runUpdates();
+
+        assertEquals(6, truckRestrictionView.invalidateCount);
+    }
+
+    @Test
+    public void hidingIsDrawnOnlyWhenAWarningIsShown() {
+        // Hide requests for an empty view do not redraw. Each shown warning is hidden once.
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            final int update = i;
+            handler.postDelayed(() -> {
+                if ((update / 50) % 2 == 0) {
+                    truckRestrictionView.onHideTruckRestrictionWarning();
+                } else {
+                    truckRestrictionView.onTruckRestrictionWarning("LENGTH: 18m");
+                }
+            }, i * UPDATE_INTERVAL_IN_MILLISECONDS);
+        }
+        runUpdates();
+
+        // 6 warnings shown and 5 of them hidden again.
+        assertEquals(11, truckRestrictionView.invalidateCount);
+    }
+
+    @Test
+    public void drawingDoesNotRequestRedraws() {
+        Canvas canvas = new Canvas(Bitmap.createBitmap(500, 500, Bitmap.Config.ARGB_8888));
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            handler.postDelayed(() -> {
+                truckRestrictionView.onTruckRestrictionWarning("WIDTH: 2m");
+                truckRestrictionView.draw(canvas);
+            }, i * UPDATE_INTERVAL_IN_MILLISECONDS);
+        }
+        runUpdates();
+
+        assertEquals(1, truckRestrictionView.invalidateCount);
+    }
+
+    private void runUpdates() {
+        shadowOf(Looper.getMainLooper()).idleFor(UPDATE_COUNT * UPDATE_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+}